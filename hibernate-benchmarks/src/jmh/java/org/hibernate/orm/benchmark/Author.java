@@ -0,0 +1,54 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import org.hibernate.annotations.BatchSize;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Author side of the benchmark model; batch-fetchable so that lazy proxies are
+ * initialized through the batch loader.
+ */
+@Entity(name = "Author")
+@BatchSize(size = 32)
+public class Author {
+	@Id
+	private Long id;
+	private String name;
+	private int rating;
+
+	public Author() {
+	}
+
+	public Author(Long id, String name, int rating) {
+		this.id = id;
+		this.name = name;
+		this.rating = rating;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public int getRating() {
+		return rating;
+	}
+
+	public void setRating(int rating) {
+		this.rating = rating;
+	}
+}
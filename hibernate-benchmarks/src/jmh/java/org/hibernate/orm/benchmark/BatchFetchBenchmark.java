@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures initialization of lazy {@link Author} proxies through the batch loader,
+ * exercising {@code BatchFetchQueue} and the multi-key load path, as well as
+ * {@link Session#byMultipleIds multi id loading}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchFetchBenchmark {
+
+	@Param({ "100", "1000" })
+	public int bookCount;
+
+	private BenchmarkEnvironment environment;
+	private List<Long> authorIds;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		environment = new BenchmarkEnvironment( bookCount );
+		authorIds = environment.getSessionFactory().fromSession(
+				session -> session.createSelectionQuery( "select a.id from Author a", Long.class ).getResultList()
+		);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Benchmark
+	public void initializeBatchLoadableProxies(Blackhole blackhole) {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+			for ( Book book : books ) {
+				final Author author = book.getAuthor();
+				Hibernate.initialize( author );
+				blackhole.consume( author.getName() );
+			}
+		}
+	}
+
+	@Benchmark
+	public void multiLoad(Blackhole blackhole) {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			blackhole.consume( session.byMultipleIds( Author.class ).multiLoad( authorIds ) );
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.tool.schema.Action;
+
+/**
+ * Bootstraps a {@link SessionFactory} against a private in-memory H2 database
+ * and populates the benchmark model.
+ * <p>
+ * Each environment gets its own database so that benchmarks running with
+ * different settings (e.g. query plan cache on/off) do not share state.
+ */
+public final class BenchmarkEnvironment implements AutoCloseable {
+	public static final int AUTHOR_COUNT = 100;
+
+	private static final AtomicInteger DATABASE_COUNTER = new AtomicInteger();
+
+	private final StandardServiceRegistry serviceRegistry;
+	private final SessionFactoryImplementor sessionFactory;
+
+	public BenchmarkEnvironment(int bookCount) {
+		this( bookCount, Map.of() );
+	}
+
+	public BenchmarkEnvironment(int bookCount, Map<String, Object> settings) {
+		serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, "jdbc:h2:mem:bench" + DATABASE_COUNTER.incrementAndGet() + ";DB_CLOSE_DELAY=-1" )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.PASS, "" )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, Action.CREATE_DROP )
+				.applySetting( AvailableSettings.STATEMENT_BATCH_SIZE, 50 )
+				.applySetting( AvailableSettings.SHOW_SQL, false )
+				.applySettings( settings )
+				.build();
+		try {
+			sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.addAnnotatedClass( Edition.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+		populate( bookCount );
+	}
+
+	private void populate(int bookCount) {
+		sessionFactory.inTransaction( session -> {
+			final Author[] authors = new Author[AUTHOR_COUNT];
+			for ( int i = 0; i < AUTHOR_COUNT; i++ ) {
+				authors[i] = new Author( (long) i, "Author #" + i, i % 5 );
+				session.persist( authors[i] );
+			}
+			for ( int i = 0; i < bookCount; i++ ) {
+				session.persist( new Book( (long) i, "Book #" + i, authors[i % AUTHOR_COUNT] ) );
+				if ( i % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+
+	public SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	@Override
+	public void close() {
+		try {
+			sessionFactory.close();
+		}
+		finally {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+}
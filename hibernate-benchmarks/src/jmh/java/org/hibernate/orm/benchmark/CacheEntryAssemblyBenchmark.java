@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the second-level cache hit path of an entity, from the entry stored in the
+ * cache region to the initialized entity instance, for the standard and the
+ * {@linkplain CompactCacheEntry compact} entry formats.
+ * <p>
+ * The allocations per hit ({@code gc.alloc.rate.norm}) of the compact format should not
+ * exceed those of the standard format by more than the boxing of its packed values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheEntryAssemblyBenchmark {
+
+	@Param({ "standard", "compact" })
+	public String format;
+
+	private BenchmarkEnvironment environment;
+	private EventSource session;
+	private EntityPersister persister;
+	private CacheEntryStructure structure;
+	private Object cached;
+	private Long id;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		environment = new BenchmarkEnvironment( 1 );
+		final SessionFactoryImplementor sessionFactory = environment.getSessionFactory();
+		persister = sessionFactory.getMappingMetamodel().getEntityDescriptor( Book.class );
+		structure = "compact".equals( format )
+				? new CompactCacheEntry( persister )
+				: UnstructuredCacheEntry.INSTANCE;
+
+		session = sessionFactory.openSession().unwrap( EventSource.class );
+		final Book book = session.find( Book.class, 0L );
+		id = book.getId();
+		cached = structure.structure( new StandardCacheEntryImpl(
+				persister.getValues( book ),
+				persister,
+				null,
+				session,
+				book
+		) );
+		session.clear();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		session.close();
+		environment.close();
+	}
+
+	@Benchmark
+	public Object[] hit() {
+		final StandardCacheEntryImpl entry =
+				(StandardCacheEntryImpl) structure.destructure( cached, environment.getSessionFactory() );
+		final Object instance = persister.instantiate( id, session );
+		return entry.assemble( instance, id, persister, null, session );
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the built-in connection pool with HikariCP, with more threads than
+ * pooled connections, both when borrowing and returning connections only, and
+ * when loading an entity in a transaction.
+ * <p>
+ * The contention can be varied from the command line, e.g. with {@code -t 1}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(16)
+public class ConnectionPoolBenchmark {
+	private static final int POOL_SIZE = 8;
+
+	@Param({
+			"org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl",
+			"org.hibernate.hikaricp.internal.HikariCPConnectionProvider"
+	})
+	public String connectionProvider;
+
+	private BenchmarkEnvironment environment;
+	private ConnectionProvider provider;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		environment = new BenchmarkEnvironment(
+				0,
+				Map.of(
+						AvailableSettings.CONNECTION_PROVIDER, connectionProvider,
+						AvailableSettings.POOL_SIZE, POOL_SIZE,
+						DriverManagerConnectionProviderImpl.MIN_SIZE, POOL_SIZE,
+						DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, 30_000,
+						"hibernate.hikari.maximumPoolSize", POOL_SIZE,
+						"hibernate.hikari.minimumIdle", POOL_SIZE
+				)
+		);
+		provider = environment.getSessionFactory().getServiceRegistry().getService( ConnectionProvider.class );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Benchmark
+	public boolean acquireAndRelease() throws SQLException {
+		final Connection connection = provider.getConnection();
+		try {
+			return connection.getAutoCommit();
+		}
+		finally {
+			provider.closeConnection( connection );
+		}
+	}
+
+	@Benchmark
+	public Author loadInTransaction() {
+		final long id = ThreadLocalRandom.current().nextInt( BenchmarkEnvironment.AUTHOR_COUNT );
+		return environment.getSessionFactory().fromTransaction( session -> session.find( Author.class, id ) );
+	}
+}
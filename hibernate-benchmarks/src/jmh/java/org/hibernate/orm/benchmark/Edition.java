@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.SecondaryTable;
+
+/**
+ * Entity mapped to two tables, so that HQL mutations go through the
+ * multi-table mutation strategy. Not populated by {@link BenchmarkEnvironment}.
+ */
+@Entity(name = "Edition")
+@SecondaryTable(name = "Edition_stats")
+public class Edition {
+	@Id
+	private Long id;
+	private String title;
+	@Column(table = "Edition_stats")
+	private int printRun;
+
+	public Edition() {
+	}
+
+	public Edition(Long id, String title) {
+		this.id = id;
+		this.title = title;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public int getPrintRun() {
+		return printRun;
+	}
+}
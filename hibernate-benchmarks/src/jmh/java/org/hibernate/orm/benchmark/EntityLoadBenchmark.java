@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Session#find} by id, exercising the persistence context lookup
+ * ({@code StatefulPersistenceContext}), the single id loader and row hydration
+ * ({@code StandardRowReader}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityLoadBenchmark {
+	private static final int BOOK_COUNT = 1_000;
+
+	/**
+	 * Number of distinct entities loaded per session
+	 */
+	@Param({ "1", "100" })
+	public int loadsPerSession;
+
+	private BenchmarkEnvironment environment;
+	private long nextId;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		environment = new BenchmarkEnvironment( BOOK_COUNT );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Benchmark
+	public void findById(Blackhole blackhole) {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			for ( int i = 0; i < loadsPerSession; i++ ) {
+				blackhole.consume( session.find( Book.class, nextId() ) );
+			}
+		}
+	}
+
+	@Benchmark
+	public void findByIdFromPersistenceContext(Blackhole blackhole) {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			final long id = nextId();
+			session.find( Book.class, id );
+			for ( int i = 0; i < loadsPerSession; i++ ) {
+				blackhole.consume( session.find( Book.class, id ) );
+			}
+		}
+	}
+
+	private long nextId() {
+		final long id = nextId;
+		nextId = ( nextId + 1 ) % BOOK_COUNT;
+		return id;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the flush of a session containing {@link #entityCount} managed entities
+ * of which {@link #dirtyCount} are dirty, exercising {@code DefaultFlushEntityEventListener}
+ * dirty checking, the {@code ActionQueue} and JDBC batching.
+ * <p>
+ * The session is loaded per invocation and the transaction rolled back so that
+ * the database state is stable across iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FlushBenchmark {
+
+	@Param({ "1000" })
+	public int entityCount;
+
+	@Param({ "0", "10", "1000" })
+	public int dirtyCount;
+
+	private BenchmarkEnvironment environment;
+
+	private Session session;
+	private Transaction transaction;
+	private int round;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		environment = new BenchmarkEnvironment( entityCount );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void loadAndDirty() {
+		session = environment.getSessionFactory().openSession();
+		transaction = session.beginTransaction();
+		final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		round++;
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			books.get( i ).setPages( round );
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void rollback() {
+		transaction.rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.sqm.tree.SqmStatement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures HQL parsing (ANTLR + {@code SemanticQueryBuilder}) and the full
+ * HQL &rarr; SQM &rarr; SQL AST &rarr; SQL translation, with a cold
+ * (disabled) and a warm {@code QueryInterpretationCacheStandardImpl}.
+ * <p>
+ * The queries select by primary key against a tiny result, so that the execution
+ * part is negligible compared to the translation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HqlTranslationBenchmark {
+	private static final String SIMPLE = "from Book b where b.id = :id";
+	private static final String COMPLEX = "select b.title, a.name, b.price * 2 from Book b join b.author a"
+			+ " where b.id = :id and (a.rating > 2 or b.pages between 10 and 500) and b.title like 'Book%'"
+			+ " order by b.published desc, a.name";
+
+	@Param({ "simple", "complex" })
+	public String query;
+
+	private BenchmarkEnvironment cold;
+	private BenchmarkEnvironment warm;
+	private String hql;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		hql = "simple".equals( query ) ? SIMPLE : COMPLEX;
+		cold = new BenchmarkEnvironment( 10, Map.of( AvailableSettings.QUERY_PLAN_CACHE_ENABLED, false ) );
+		warm = new BenchmarkEnvironment( 10, Map.of( AvailableSettings.QUERY_PLAN_CACHE_ENABLED, true ) );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		cold.close();
+		warm.close();
+	}
+
+	@Benchmark
+	public SqmStatement<Object> parse() {
+		return cold.getSessionFactory().getQueryEngine().getHqlTranslator().translate( hql, Object.class );
+	}
+
+	@Benchmark
+	public Object translateAndExecuteCold() {
+		return execute( cold );
+	}
+
+	@Benchmark
+	public Object translateAndExecuteWarm() {
+		return execute( warm );
+	}
+
+	private Object execute(BenchmarkEnvironment environment) {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			return session.createQuery( hql, Object.class ).setParameter( "id", 1L ).getResultList();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures an HQL update of {@link #affectedRows} rows of an entity mapped to
+ * two tables, with the dialect's multi-table mutation strategy or with the
+ * {@linkplain AvailableSettings#QUERY_MULTI_TABLE_MUTATION_STRATEGY_ADAPTIVE
+ * adaptive} one.
+ * <p>
+ * The restriction is a range of ids, so the adaptive strategy chooses from the
+ * row counts of the previous executions of the query.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiTableMutationBenchmark {
+	private static final int EDITION_COUNT = 10_000;
+
+	@Param({ "false", "true" })
+	public boolean adaptive;
+
+	@Param({ "1", "50", "5000" })
+	public int affectedRows;
+
+	private BenchmarkEnvironment environment;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		environment = new BenchmarkEnvironment(
+				0,
+				Map.of( AvailableSettings.QUERY_MULTI_TABLE_MUTATION_STRATEGY_ADAPTIVE, adaptive )
+		);
+		environment.getSessionFactory().inTransaction( session -> {
+			for ( int i = 0; i < EDITION_COUNT; i++ ) {
+				session.persist( new Edition( (long) i, "Edition #" + i ) );
+				if ( i % 50 == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+		} );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Benchmark
+	public int update() {
+		return environment.getSessionFactory().fromTransaction(
+				session -> session.createMutationQuery(
+								"update Edition e set e.printRun = e.printRun + 1 where e.id < :limit" )
+						.setParameter( "limit", (long) affectedRows )
+						.executeUpdate()
+		);
+	}
+}
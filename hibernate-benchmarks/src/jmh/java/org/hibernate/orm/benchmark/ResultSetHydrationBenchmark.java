@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures result set hydration ({@code JdbcValuesResultSetImpl} and
+ * {@code StandardRowReader}) for managed entities, read-only stateless entities
+ * and scalar projections.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResultSetHydrationBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int rowCount;
+
+	private BenchmarkEnvironment environment;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		environment = new BenchmarkEnvironment( rowCount );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		environment.close();
+	}
+
+	@Benchmark
+	public List<Book> managedEntities() {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Book> statelessEntities() {
+		try ( StatelessSession session = environment.getSessionFactory().openStatelessSession() ) {
+			return session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> scalarProjection() {
+		try ( Session session = environment.getSessionFactory().openSession() ) {
+			return session.createSelectionQuery(
+					"select b.id, b.title, b.price, b.published, b.pages from Book b",
+					Object[].class
+			).getResultList();
+		}
+	}
+}
@@ -159,6 +159,11 @@ public class DB2zLegacyDialect extends DB2LegacyDialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsValuesListForInsert() {
+		return false;
+	}
+
 	@Override
 	public boolean supportsRecursiveCTE() {
 		return getVersion().isSameOrAfter( 11 );
@@ -399,6 +399,11 @@ public class InformixDialect extends Dialect {
 		return getVersion().isSameOrAfter( 12, 10 );
 	}
 
+	@Override
+	public boolean supportsValuesListForInsert() {
+		return false;
+	}
+
 	@Override
 	public ViolatedConstraintNameExtractor getViolatedConstraintNameExtractor() {
 		return EXTRACTOR;
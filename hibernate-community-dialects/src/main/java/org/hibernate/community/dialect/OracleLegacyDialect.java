@@ -1180,6 +1180,12 @@ public class OracleLegacyDialect extends Dialect {
 		return getVersion().isSameOrAfter( 12, 1 );
 	}
 
+	@Override
+	public boolean supportsValuesListForInsert() {
+		// multi-row values lists are only available as of 23c
+		return getVersion().isSameOrAfter( 23 );
+	}
+
 	@Override
 	public boolean supportsNoWait() {
 		return getVersion().isSameOrAfter( 9 );
@@ -153,6 +153,35 @@ public interface MultiIdentifierLoadAccess<T> {
 	 */
 	MultiIdentifierLoadAccess<T> enableOrderedReturn(boolean enabled);
 
+	/**
+	 * Specify the number of connections over which the entities may be
+	 * loaded concurrently, each one loading its own share of the ids in
+	 * a separate session and transaction. The loaded entities are then
+	 * associated with this session, as if they had been read from the
+	 * second-level cache.
+	 * <p>
+	 * Loading in parallel only happens when the loaded entities are
+	 * read-only, that is, when the entity is {@linkplain org.hibernate.annotations.Immutable
+	 * immutable}, or when this session is {@linkplain Session#setDefaultReadOnly
+	 * read-only by default}, and when no lock mode, filter, fetch profile
+	 * or entity graph applies. Otherwise, and when there are too few ids
+	 * to share, the entities are loaded by this session, as usual.
+	 * <p>
+	 * Since the entities are read in other transactions, they do not
+	 * reflect changes which were not yet committed by the transaction of
+	 * this session. Associations are resolved by this session, as they
+	 * would be for entities read from the second-level cache, so the
+	 * entities are best mapped with lazy associations.
+	 *
+	 * @param parallelism The largest number of connections to use
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	MultiIdentifierLoadAccess<T> withParallelism(int parallelism);
+
 	/**
 	 * Retrieve the entities with the given identifiers.
 	 * <p>
@@ -31,7 +31,6 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.internal.StatsHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.tuple.entity.EntityMetamodel;
-import org.hibernate.type.TypeHelper;
 
 import static org.hibernate.engine.internal.Versioning.getVersion;
 
@@ -235,13 +234,7 @@ public class EntityUpdateAction extends EntityAction {
 			// get the updated snapshot of the entity state by cloning current state;
 			// it is safe to copy in place, since by this time no-one else (should have)
 			// has a reference  to the array
-			TypeHelper.deepCopy(
-					state,
-					persister.getPropertyTypes(),
-					persister.getPropertyCheckability(),
-					state,
-					session
-			);
+			persister.deepCopyState( state, persister.getPropertyCheckability(), state, session );
 			if ( persister.hasUpdateGeneratedProperties() ) {
 				// this entity defines property generation, so process those generated
 				// values...
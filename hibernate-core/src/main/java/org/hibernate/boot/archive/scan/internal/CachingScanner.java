@@ -0,0 +1,332 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.archive.scan.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.PackageDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Scanner} which keeps the results of another scanner in a binary file
+ * within a cache directory, so that later boots can skip reading the classes of
+ * the scanned archives.
+ * <p>
+ * Only the scan results are cached: the managed classes and mapping files they
+ * name are still bound into the boot model, and the runtime model is still built
+ * from it, on every boot.
+ * <p>
+ * The file is keyed by a hash of the scan environment, the scan options and the
+ * size and modification time of the scanned archive files or, for exploded
+ * archives, of every file they contain. A change to any of them leads to a new
+ * scan. Environments which cannot be fingerprinted, because they refer to archives
+ * which are not files, are always scanned.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#SCANNER_CACHE_DIRECTORY
+ */
+public class CachingScanner implements Scanner {
+	private static final Logger log = Logger.getLogger( CachingScanner.class );
+
+	private static final int MAGIC = 0x48534352;
+	private static final int FORMAT_VERSION = 1;
+
+	private final Scanner delegate;
+	private final Path cacheDirectory;
+	private final ClassLoaderService classLoaderService;
+
+	public CachingScanner(Scanner delegate, Path cacheDirectory, ClassLoaderService classLoaderService) {
+		this.delegate = delegate;
+		this.cacheDirectory = cacheDirectory;
+		this.classLoaderService = classLoaderService;
+	}
+
+	@Override
+	public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters params) {
+		final String key = key( environment, options );
+		if ( key == null ) {
+			log.debugf( "Unable to fingerprint scan environment [%s], scan results are not cached", environment.getRootUrl() );
+			return delegate.scan( environment, options, params );
+		}
+
+		final Path cacheFile = cacheDirectory.resolve( "scan-" + key + ".bin" );
+		if ( Files.isRegularFile( cacheFile ) ) {
+			final ScanResult cached = read( cacheFile );
+			if ( cached != null ) {
+				log.debugf( "Using cached scan results [%s]", cacheFile );
+				return cached;
+			}
+		}
+
+		final ScanResult scanResult = delegate.scan( environment, options, params );
+		write( cacheFile, scanResult );
+		return scanResult;
+	}
+
+	// key ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private String key(ScanEnvironment environment, ScanOptions options) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to hash scan environment", e );
+		}
+
+		update( digest, Version.getVersionString() );
+		update( digest, delegate.getClass().getName() );
+		update( digest, options.canDetectUnlistedClassesInRoot() + "," + options.canDetectUnlistedClassesInNonRoot()
+				+ "," + options.canDetectHibernateMappingFiles() );
+		update( digest, String.valueOf( environment.getExplicitlyListedClassNames() ) );
+		update( digest, String.valueOf( environment.getExplicitlyListedMappingFiles() ) );
+		try {
+			if ( environment.getRootUrl() != null && !fingerprint( digest, environment.getRootUrl() ) ) {
+				return null;
+			}
+			if ( environment.getNonRootUrls() != null ) {
+				for ( URL url : environment.getNonRootUrls() ) {
+					if ( !fingerprint( digest, url ) ) {
+						return null;
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to fingerprint scan environment" );
+			return null;
+		}
+		return new BigInteger( 1, digest.digest() ).toString( 36 );
+	}
+
+	private static boolean fingerprint(MessageDigest digest, URL url) throws IOException {
+		update( digest, url.toExternalForm() );
+		final File file = toFile( url );
+		if ( file == null ) {
+			return false;
+		}
+		final Path path = file.toPath();
+		if ( Files.isDirectory( path ) ) {
+			fingerprintDirectory( digest, path, path );
+			return true;
+		}
+		else if ( Files.isRegularFile( path ) ) {
+			final BasicFileAttributes attributes = Files.readAttributes( path, BasicFileAttributes.class );
+			update( digest, attributes.size() + ":" + attributes.lastModifiedTime().toMillis() );
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
+	/**
+	 * Hash the relative path, size and modification time of every file within a
+	 * directory, in a stable order, so that a class file changed in place is noticed.
+	 */
+	private static void fingerprintDirectory(MessageDigest digest, Path root, Path directory) throws IOException {
+		final List<Path> entries = new ArrayList<>();
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( directory ) ) {
+			for ( Path entry : stream ) {
+				entries.add( entry );
+			}
+		}
+		entries.sort( null );
+		for ( Path entry : entries ) {
+			final BasicFileAttributes attributes = Files.readAttributes( entry, BasicFileAttributes.class );
+			if ( attributes.isDirectory() ) {
+				fingerprintDirectory( digest, root, entry );
+			}
+			else if ( attributes.isRegularFile() ) {
+				update( digest, root.relativize( entry ) + ":" + attributes.size()
+						+ ":" + attributes.lastModifiedTime().to( TimeUnit.NANOSECONDS ) );
+			}
+		}
+	}
+
+	private static File toFile(URL url) {
+		String spec = url.toExternalForm();
+		if ( "jar".equals( url.getProtocol() ) ) {
+			final int separator = spec.indexOf( "!/" );
+			if ( separator > 0 && separator != spec.length() - 2 ) {
+				// an entry within an archive
+				return null;
+			}
+			spec = spec.substring( 4, separator > 0 ? separator : spec.length() );
+		}
+		if ( !spec.startsWith( "file:" ) ) {
+			return null;
+		}
+		try {
+			return new File( new URL( spec ).toURI() );
+		}
+		catch (IOException | URISyntaxException | IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update( value.getBytes( StandardCharsets.UTF_8 ) );
+		digest.update( (byte) 0 );
+	}
+
+	// cache file ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	private ScanResult read(Path cacheFile) {
+		try ( DataInputStream in = new DataInputStream( new BufferedInputStream( Files.newInputStream( cacheFile ) ) ) ) {
+			if ( in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+					|| !Version.getVersionString().equals( in.readUTF() ) ) {
+				return null;
+			}
+
+			final int packageCount = in.readInt();
+			final Set<PackageDescriptor> packages = new HashSet<>( packageCount );
+			for ( int i = 0; i < packageCount; i++ ) {
+				final String name = in.readUTF();
+				packages.add( new PackageDescriptorImpl(
+						name,
+						new ResourceStreamAccess( name.replace( '.', '/' ) + "/package-info.class" )
+				) );
+			}
+
+			final int classCount = in.readInt();
+			final ClassDescriptor.Categorization[] categorizations = ClassDescriptor.Categorization.values();
+			final Set<ClassDescriptor> classes = new HashSet<>( classCount );
+			for ( int i = 0; i < classCount; i++ ) {
+				final String name = in.readUTF();
+				final ClassDescriptor.Categorization categorization = categorizations[in.readByte()];
+				classes.add( new ClassDescriptorImpl(
+						name,
+						categorization,
+						new ResourceStreamAccess( name.replace( '.', '/' ) + ".class" )
+				) );
+			}
+
+			final int mappingFileCount = in.readInt();
+			final Set<MappingFileDescriptor> mappingFiles = new HashSet<>( mappingFileCount );
+			for ( int i = 0; i < mappingFileCount; i++ ) {
+				final String name = in.readUTF();
+				final URL url = classLoaderService.locateResource( name );
+				if ( url == null ) {
+					// mapping files are bound right away, so they need to be resolvable
+					log.debugf( "Unable to resolve cached mapping file [%s], scanning again", name );
+					return null;
+				}
+				mappingFiles.add( new MappingFileDescriptorImpl( name, new UrlInputStreamAccess( url ) ) );
+			}
+			return new ScanResultImpl( packages, classes, mappingFiles );
+		}
+		catch (IOException | RuntimeException e) {
+			log.debugf( e, "Unable to read cached scan results [%s]", cacheFile );
+			return null;
+		}
+	}
+
+	private void write(Path cacheFile, ScanResult scanResult) {
+		try {
+			Files.createDirectories( cacheDirectory );
+			final Path tempFile = Files.createTempFile( cacheDirectory, "scan-", ".tmp" );
+			try {
+				try ( OutputStream stream = Files.newOutputStream( tempFile );
+						DataOutputStream out = new DataOutputStream( new BufferedOutputStream( stream ) ) ) {
+					out.writeInt( MAGIC );
+					out.writeInt( FORMAT_VERSION );
+					out.writeUTF( Version.getVersionString() );
+
+					out.writeInt( scanResult.getLocatedPackages().size() );
+					for ( PackageDescriptor packageDescriptor : scanResult.getLocatedPackages() ) {
+						out.writeUTF( packageDescriptor.getName() );
+					}
+
+					out.writeInt( scanResult.getLocatedClasses().size() );
+					for ( ClassDescriptor classDescriptor : scanResult.getLocatedClasses() ) {
+						out.writeUTF( classDescriptor.getName() );
+						out.writeByte( classDescriptor.getCategorization().ordinal() );
+					}
+
+					out.writeInt( scanResult.getLocatedMappingFiles().size() );
+					for ( MappingFileDescriptor mappingFileDescriptor : scanResult.getLocatedMappingFiles() ) {
+						out.writeUTF( mappingFileDescriptor.getName() );
+					}
+				}
+				try {
+					Files.move( tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE );
+				}
+				catch (AtomicMoveNotSupportedException e) {
+					Files.move( tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING );
+				}
+			}
+			finally {
+				Files.deleteIfExists( tempFile );
+			}
+		}
+		catch (IOException e) {
+			log.warnf( "Unable to cache scan results in [%s]: %s", cacheDirectory, e.getMessage() );
+		}
+	}
+
+	/**
+	 * Access to a class or package file of a cached scan result, located on demand.
+	 */
+	private class ResourceStreamAccess implements InputStreamAccess {
+		private final String resourceName;
+
+		private ResourceStreamAccess(String resourceName) {
+			this.resourceName = resourceName;
+		}
+
+		@Override
+		public String getStreamName() {
+			return resourceName;
+		}
+
+		@Override
+		public InputStream accessInputStream() {
+			final URL url = classLoaderService.locateResource( resourceName );
+			if ( url == null ) {
+				throw new HibernateException( "Could not locate resource : " + resourceName );
+			}
+			return new UrlInputStreamAccess( url ).accessInputStream();
+		}
+	}
+}
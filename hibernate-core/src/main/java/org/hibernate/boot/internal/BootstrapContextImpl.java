@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.internal;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -70,6 +72,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 	private ScanOptions scanOptions;
 	private ScanEnvironment scanEnvironment;
 	private Object scannerSetting;
+	private Path scanCacheDirectory;
 	private ArchiveDescriptorFactory archiveDescriptorFactory;
 
 	private IndexView jandexView;
@@ -101,6 +104,10 @@ public class BootstrapContextImpl implements BootstrapContext {
 
 		// ScanEnvironment must be set explicitly
 		this.scannerSetting = configService.getSettings().get( AvailableSettings.SCANNER );
+		this.scanCacheDirectory = configService.getSetting(
+				AvailableSettings.SCANNER_CACHE_DIRECTORY,
+				value -> value instanceof Path ? (Path) value : Paths.get( value.toString() )
+		);
 		this.archiveDescriptorFactory = strategySelector.resolveStrategy(
 				ArchiveDescriptorFactory.class,
 				configService.getSettings().get( AvailableSettings.SCANNER_ARCHIVE_INTERPRETER )
@@ -188,6 +195,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 		return scannerSetting;
 	}
 
+	@Override
+	public Path getScanCacheDirectory() {
+		return scanCacheDirectory;
+	}
+
 	@Override
 	public ReflectionManager getReflectionManager() {
 		return hcannReflectionManager;
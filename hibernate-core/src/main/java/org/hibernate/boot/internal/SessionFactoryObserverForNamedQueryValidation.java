@@ -10,6 +10,7 @@ import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
 
@@ -35,8 +36,16 @@ class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObs
 		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
 		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
 		queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
-		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		if ( options.isNamedQueryStartupCheckingEnabled() ) {
 			queryEngine.validateNamedQueries();
 		}
+		else if ( options.isQueryStartupWarmUpEnabled() && queryEngine.getInterpretationCache().isEnabled() ) {
+			// only populate the query plan cache, broken queries fail when they are used
+			queryEngine.getNamedObjectRepository().checkNamedQueries( queryEngine );
+		}
+		if ( options.isQueryStartupWarmUpEnabled() && queryEngine.getInterpretationCache().isEnabled() ) {
+			queryEngine.getNamedObjectRepository().translateNamedQueries( sessionFactory );
+		}
 	}
 }
@@ -71,6 +71,7 @@ import org.hibernate.type.format.jackson.JacksonIntegration;
 import org.hibernate.type.format.jakartajson.JakartaJsonIntegration;
 import org.hibernate.type.format.jaxb.JaxbXmlFormatMapper;
 
+import static org.hibernate.cfg.AvailableSettings.ADAPTIVE_LAZY_FETCH_GROUPS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_JTA_TRANSACTION_ACCESS;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_REFRESH_DETACHED_ENTITY;
 import static org.hibernate.cfg.AvailableSettings.ALLOW_UPDATE_OUTSIDE_TRANSACTION;
@@ -78,6 +79,7 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_OVERLAP;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
@@ -102,19 +104,25 @@ import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERT_SIZE;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_WARM_UP;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME_IS_JNDI;
 import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.SLOW_QUERY_EXPLAIN;
+import static org.hibernate.cfg.AvailableSettings.SLOW_QUERY_SAMPLE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_CACHE_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -196,9 +204,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private boolean subselectFetchEnabled;
+	private boolean adaptiveLazyFetchGroupsEnabled;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean jdbcBatchOverlapEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 
 	// JPA callbacks
@@ -216,6 +226,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final Boolean useOfJdbcNamedParametersEnabled;
 	private boolean namedQueryStartupCheckingEnabled;
+	private boolean queryStartupWarmUpEnabled;
 	private final int preferredSqlTypeCodeForBoolean;
 	private final int preferredSqlTypeCodeForDuration;
 	private final int preferredSqlTypeCodeForUuid;
@@ -230,6 +241,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -240,7 +252,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private int multiRowInsertSize;
 	private Integer jdbcFetchSize;
+	private int preparedStatementCacheSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
 	private PhysicalConnectionHandlingMode connectionHandlingMode;
@@ -264,6 +278,8 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private final boolean inClauseParameterPaddingEnabled;
 
 	private final int queryStatisticsMaxSize;
+	private final int slowQuerySampleSize;
+	private final boolean slowQueryExplainEnabled;
 
 
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
@@ -364,6 +380,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.delayBatchFetchLoaderCreations = configurationService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
 		this.defaultBatchFetchSize = getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.subselectFetchEnabled = getBoolean( USE_SUBSELECT_FETCH, configurationSettings );
+		this.adaptiveLazyFetchGroupsEnabled = getBoolean( ADAPTIVE_LAZY_FETCH_GROUPS, configurationSettings );
 		this.maximumFetchDepth = getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = getString(
 				AvailableSettings.DEFAULT_NULL_ORDERING, configurationSettings, "none", "first", "last"
@@ -371,6 +388,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = getBoolean( ORDER_INSERTS, configurationSettings );
+		this.jdbcBatchOverlapEnabled = getBoolean( BATCH_OVERLAP, configurationSettings );
 
 		this.callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -422,6 +440,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.useOfJdbcNamedParametersEnabled = configurationService.getSetting( CALLABLE_NAMED_PARAMS_ENABLED, BOOLEAN, true );
 
 		this.namedQueryStartupCheckingEnabled = configurationService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.queryStartupWarmUpEnabled = configurationService.getSetting( QUERY_STARTUP_WARM_UP, BOOLEAN, false );
 		this.preferredSqlTypeCodeForBoolean = ConfigurationHelper.getPreferredSqlTypeCodeForBoolean( serviceRegistry );
 		this.preferredSqlTypeCodeForDuration = ConfigurationHelper.getPreferredSqlTypeCodeForDuration( serviceRegistry );
 		this.preferredSqlTypeCodeForUuid = ConfigurationHelper.getPreferredSqlTypeCodeForUuid( serviceRegistry );
@@ -448,6 +467,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = configurationService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = configurationService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -462,6 +482,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -492,6 +513,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.multiRowInsertSize = jdbcServices.getDialect().supportsValuesListForInsert()
+				? Math.max( 1, getInt( MULTI_ROW_INSERT_SIZE, configurationSettings, 1 ) )
+				: 1;
 		this.scrollableResultSetsEnabled = getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -503,6 +527,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				meta.supportsGetGeneratedKeys()
 		);
 		this.jdbcFetchSize = getInteger( STATEMENT_FETCH_SIZE, configurationSettings );
+		this.preparedStatementCacheSize = Math.max( 0, getInt( STATEMENT_CACHE_SIZE, configurationSettings, 0 ) );
 
 		this.connectionHandlingMode = interpretConnectionHandlingMode( configurationSettings, serviceRegistry );
 		this.connectionProviderDisablesAutoCommit = getBoolean(
@@ -576,6 +601,13 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings,
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
+
+		this.slowQuerySampleSize = getInt(
+				SLOW_QUERY_SAMPLE_SIZE,
+				configurationSettings,
+				Statistics.DEFAULT_SLOW_QUERY_SAMPLE_SIZE
+		);
+		this.slowQueryExplainEnabled = getBoolean( SLOW_QUERY_EXPLAIN, configurationSettings );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -980,6 +1012,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return subselectFetchEnabled;
 	}
 
+	@Override
+	public boolean isAdaptiveLazyFetchGroupsEnabled() {
+		return adaptiveLazyFetchGroupsEnabled;
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return defaultNullPrecedence;
@@ -995,6 +1032,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isJdbcBatchOverlapEnabled() {
+		return jdbcBatchOverlapEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1015,6 +1057,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public boolean isQueryStartupWarmUpEnabled() {
+		return queryStartupWarmUpEnabled;
+	}
+
 	@Override
 	public boolean isSecondLevelCacheEnabled() {
 		return secondLevelCacheEnabled;
@@ -1045,6 +1092,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -1065,6 +1117,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchSize;
 	}
 
+	@Override
+	public int getMultiRowInsertSize() {
+		return multiRowInsertSize;
+	}
+
 	@Override
 	public boolean isJdbcBatchVersionedData() {
 		return jdbcBatchVersionedData;
@@ -1085,6 +1142,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcFetchSize;
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return preparedStatementCacheSize;
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return connectionHandlingMode;
@@ -1180,6 +1242,16 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return queryStatisticsMaxSize;
 	}
 
+	@Override
+	public int getSlowQuerySampleSize() {
+		return slowQuerySampleSize;
+	}
+
+	@Override
+	public boolean isSlowQueryExplainEnabled() {
+		return slowQueryExplainEnabled;
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return callbacksEnabled;
@@ -16,6 +16,7 @@ import java.util.Set;
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.archive.internal.StandardArchiveDescriptorFactory;
 import org.hibernate.boot.archive.internal.UrlInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.CachingScanner;
 import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
 import org.hibernate.boot.archive.scan.internal.StandardScanner;
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
@@ -71,7 +72,10 @@ public class ScanningCoordinator {
 
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
-		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+		Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
+		if ( bootstrapContext.getScanCacheDirectory() != null ) {
+			scanner = new CachingScanner( scanner, bootstrapContext.getScanCacheDirectory(), classLoaderService );
+		}
 		final ScanResult scanResult = scanner.scan(
 				bootstrapContext.getScanEnvironment(),
 				bootstrapContext.getScanOptions(),
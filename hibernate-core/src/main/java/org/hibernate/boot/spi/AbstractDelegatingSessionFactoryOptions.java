@@ -192,6 +192,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public boolean isAdaptiveLazyFetchGroupsEnabled() {
+		return delegate.isAdaptiveLazyFetchGroupsEnabled();
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -207,6 +212,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isOrderInsertsEnabled();
 	}
 
+	@Override
+	public boolean isJdbcBatchOverlapEnabled() {
+		return delegate.isJdbcBatchOverlapEnabled();
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return delegate.isMultiTenancyEnabled();
@@ -227,6 +237,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public boolean isQueryStartupWarmUpEnabled() {
+		return delegate.isQueryStartupWarmUpEnabled();
+	}
+
 	@Override
 	public boolean isAllowOutOfTransactionUpdateOperations() {
 		return delegate.isAllowOutOfTransactionUpdateOperations();
@@ -267,6 +282,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -287,6 +307,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcBatchSize();
 	}
 
+	@Override
+	public int getMultiRowInsertSize() {
+		return delegate.getMultiRowInsertSize();
+	}
+
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return delegate.getPreparedStatementCacheSize();
+	}
+
 	@Override
 	public boolean isJdbcBatchVersionedData() {
 		return delegate.isJdbcBatchVersionedData();
@@ -417,6 +447,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getSlowQuerySampleSize() {
+		return delegate.getSlowQuerySampleSize();
+	}
+
+	@Override
+	public boolean isSlowQueryExplainEnabled() {
+		return delegate.isSlowQueryExplainEnabled();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
@@ -6,6 +6,7 @@
  */
 package org.hibernate.boot.spi;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Map;
 
@@ -158,6 +159,17 @@ public interface BootstrapContext {
 	 */
 	Object getScanner();
 
+	/**
+	 * The directory in which the results of scanning are cached, if any.
+	 *
+	 * @return The cache directory, or {@code null} if scan results are not cached
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SCANNER_CACHE_DIRECTORY
+	 */
+	default Path getScanCacheDirectory() {
+		return null;
+	}
+
 	/**
 	 * Retrieve the Hibernate Commons Annotations {@link ReflectionManager}.
 	 *
@@ -146,12 +146,30 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * Whether lazy fetch groups usually accessed together are loaded together.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_LAZY_FETCH_GROUPS
+	 */
+	default boolean isAdaptiveLazyFetchGroupsEnabled() {
+		return false;
+	}
+
 	NullPrecedence getDefaultNullPrecedence();
 
 	boolean isOrderUpdatesEnabled();
 
 	boolean isOrderInsertsEnabled();
 
+	/**
+	 * Should JDBC batches for unrelated tables be allowed to stay open at the same time?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_OVERLAP
+	 */
+	default boolean isJdbcBatchOverlapEnabled() {
+		return false;
+	}
+
 	boolean isMultiTenancyEnabled();
 
 	CurrentTenantIdentifierResolver getCurrentTenantIdentifierResolver();
@@ -160,6 +178,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * Should named queries be interpreted and translated in parallel at startup?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_WARM_UP
+	 */
+	default boolean isQueryStartupWarmUpEnabled() {
+		return false;
+	}
+
 	boolean isSecondLevelCacheEnabled();
 
 	boolean isQueryCacheEnabled();
@@ -172,6 +199,15 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * Should entities be stored in the second-level cache in a compact form?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -182,6 +218,26 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * The maximum number of rows inserted by a single batched multi-row {@code insert}
+	 * statement, or {@code 1} if every row is inserted by its own statement.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+	 */
+	default int getMultiRowInsertSize() {
+		return 1;
+	}
+
+	/**
+	 * The maximum number of released prepared statements a session keeps open for
+	 * reuse, or {@code 0} if statements are closed as soon as they are released.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isGetGeneratedKeysEnabled();
@@ -267,6 +323,20 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_SAMPLE_SIZE
+	 */
+	default int getSlowQuerySampleSize() {
+		return Statistics.DEFAULT_SLOW_QUERY_SAMPLE_SIZE;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_EXPLAIN
+	 */
+	default boolean isSlowQueryExplainEnabled() {
+		return false;
+	}
+
 	default boolean areJPACallbacksEnabled() {
 		return true;
 	}
@@ -7,6 +7,7 @@
 
 package org.hibernate.bytecode.enhance.spi.interceptor;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -37,15 +38,31 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 	private final Set<String> lazyFields;
 	private Set<String> initializedLazyFields;
 
+	private final LazyFetchGroupCoAccessTracker coAccessTracker;
+	private BitSet accessedFetchGroups;
+
+	public LazyAttributeLoadingInterceptor(
+			String entityName,
+			Object identifier,
+			Set<String> lazyFields,
+			SharedSessionContractImplementor session) {
+		this( entityName, identifier, lazyFields, null, session );
+	}
+
+	/**
+	 * @param coAccessTracker Records the fetch groups accessed by the entity, or {@code null}
+	 */
 	public LazyAttributeLoadingInterceptor(
 			String entityName,
 			Object identifier,
 			Set<String> lazyFields,
+			LazyFetchGroupCoAccessTracker coAccessTracker,
 			SharedSessionContractImplementor session) {
 		super( entityName, session );
 		this.identifier = identifier;
 		//Important optimisation to not actually do a Map lookup for entities which don't have any lazy fields at all:
 		this.lazyFields = org.hibernate.internal.util.collections.CollectionHelper.toSmallSet( lazyFields );
+		this.coAccessTracker = coAccessTracker;
 	}
 
 	@Override
@@ -58,11 +75,22 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 		if ( !isAttributeLoaded( attributeName ) ) {
 			Object loadedValue = fetchAttribute( target, attributeName );
 			attributeInitialized( attributeName );
+			recordAccess( attributeName );
 			return loadedValue;
 		}
+		recordAccess( attributeName );
 		return value;
 	}
 
+	private void recordAccess(String attributeName) {
+		if ( coAccessTracker != null && isLazyAttribute( attributeName ) ) {
+			if ( accessedFetchGroups == null ) {
+				accessedFetchGroups = new BitSet();
+			}
+			coAccessTracker.recordAccess( attributeName, accessedFetchGroups );
+		}
+	}
+
 	@Override
 	protected Object handleWrite(Object target, String attributeName, Object oldValue, Object newValue) {
 		if ( !isAttributeLoaded( attributeName ) ) {
@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.enhance.spi.interceptor;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.hibernate.Incubating;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Learns which lazy fetch groups of an entity are accessed together, so that the
+ * fetch groups usually accessed along with a fetch group can be loaded in the same
+ * round trip.
+ * <p>
+ * Each entity instance reports the first access to each of its fetch groups. A fetch
+ * group {@code B} is considered co-accessed with a fetch group {@code A} once at least
+ * {@value #MIN_ACCESS_COUNT} instances accessed {@code A}, and at least
+ * {@value #CO_ACCESS_PERCENTAGE}% of them also accessed {@code B}. Accesses are
+ * recorded whether the accessed attribute was already loaded or not, so loading
+ * co-accessed fetch groups ahead does not skew the counts.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_LAZY_FETCH_GROUPS
+ */
+@Incubating
+public class LazyFetchGroupCoAccessTracker implements Serializable {
+	public static final int MIN_ACCESS_COUNT = 10;
+	public static final int CO_ACCESS_PERCENTAGE = 50;
+
+	private final String[] fetchGroupNames;
+	private final Map<String, Integer> fetchGroupIndexByName;
+	private final Map<String, Integer> fetchGroupIndexByAttributeName;
+
+	/**
+	 * The number of instances which accessed each fetch group
+	 */
+	private final AtomicLongArray accessCounts;
+
+	/**
+	 * The number of instances which accessed both the fetch groups {@code i} and
+	 * {@code j}, at index {@code i * fetchGroupCount + j}
+	 */
+	private final AtomicLongArray coAccessCounts;
+
+	public LazyFetchGroupCoAccessTracker(LazyAttributesMetadata lazyAttributesMetadata) {
+		this.fetchGroupNames = lazyAttributesMetadata.getFetchGroupNames().toArray( new String[0] );
+		this.fetchGroupIndexByName = new HashMap<>();
+		for ( int i = 0; i < fetchGroupNames.length; i++ ) {
+			fetchGroupIndexByName.put( fetchGroupNames[i], i );
+		}
+		this.fetchGroupIndexByAttributeName = new HashMap<>();
+		for ( String attributeName : lazyAttributesMetadata.getLazyAttributeNames() ) {
+			fetchGroupIndexByAttributeName.put(
+					attributeName,
+					fetchGroupIndexByName.get( lazyAttributesMetadata.getFetchGroupName( attributeName ) )
+			);
+		}
+		this.accessCounts = new AtomicLongArray( fetchGroupNames.length );
+		this.coAccessCounts = new AtomicLongArray( fetchGroupNames.length * fetchGroupNames.length );
+	}
+
+	/**
+	 * Record an access to a lazy attribute of an entity instance.
+	 *
+	 * @param attributeName The name of the accessed attribute
+	 * @param accessedFetchGroups The fetch groups accessed by the entity instance so
+	 * far, which is updated by this method
+	 */
+	public void recordAccess(String attributeName, BitSet accessedFetchGroups) {
+		final Integer fetchGroup = fetchGroupIndexByAttributeName.get( attributeName );
+		if ( fetchGroup == null || accessedFetchGroups.get( fetchGroup ) ) {
+			return;
+		}
+
+		accessCounts.incrementAndGet( fetchGroup );
+		for ( int i = accessedFetchGroups.nextSetBit( 0 ); i >= 0; i = accessedFetchGroups.nextSetBit( i + 1 ) ) {
+			coAccessCounts.incrementAndGet( fetchGroup * fetchGroupNames.length + i );
+			coAccessCounts.incrementAndGet( i * fetchGroupNames.length + fetchGroup );
+		}
+		accessedFetchGroups.set( fetchGroup );
+	}
+
+	/**
+	 * The fetch groups usually accessed along with the given fetch group.
+	 */
+	public List<String> getCoAccessedFetchGroupNames(String fetchGroupName) {
+		final Integer fetchGroup = fetchGroupIndexByName.get( fetchGroupName );
+		if ( fetchGroup == null ) {
+			return emptyList();
+		}
+		final long accessCount = accessCounts.get( fetchGroup );
+		if ( accessCount < MIN_ACCESS_COUNT ) {
+			return emptyList();
+		}
+
+		List<String> coAccessedFetchGroupNames = null;
+		for ( int i = 0; i < fetchGroupNames.length; i++ ) {
+			if ( i != fetchGroup
+					&& coAccessCounts.get( fetchGroup * fetchGroupNames.length + i ) * 100
+							>= accessCount * CO_ACCESS_PERCENTAGE ) {
+				if ( coAccessedFetchGroupNames == null ) {
+					coAccessedFetchGroupNames = new ArrayList<>();
+				}
+				coAccessedFetchGroupNames.add( fetchGroupNames[i] );
+			}
+		}
+		return coAccessedFetchGroupNames == null ? emptyList() : coAccessedFetchGroupNames;
+	}
+
+	/**
+	 * The fetch groups usually accessed along with each fetch group, for the fetch
+	 * groups which have any.
+	 */
+	public Map<String, Set<String>> getCoAccessedFetchGroupNames() {
+		final Map<String, Set<String>> coAccessedFetchGroupNames = new LinkedHashMap<>();
+		for ( String fetchGroupName : fetchGroupNames ) {
+			final List<String> names = getCoAccessedFetchGroupNames( fetchGroupName );
+			if ( !names.isEmpty() ) {
+				coAccessedFetchGroupNames.put( fetchGroupName, new LinkedHashSet<>( names ) );
+			}
+		}
+		return unmodifiableMap( coAccessedFetchGroupNames );
+	}
+}
@@ -14,6 +14,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInter
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyFetchGroupCoAccessTracker;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.bytecode.spi.NotInstrumentedException;
 import org.hibernate.engine.spi.EntityKey;
@@ -48,11 +49,35 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 			CompositeType nonAggregatedCidMapper,
 			boolean collectionsInDefaultFetchGroupEnabled,
 			Metadata metadata) {
+		return from(
+				persistentClass,
+				identifierAttributeNames,
+				nonAggregatedCidMapper,
+				collectionsInDefaultFetchGroupEnabled,
+				false,
+				metadata
+		);
+	}
+
+	/**
+	 * Static constructor
+	 */
+	public static BytecodeEnhancementMetadata from(
+			PersistentClass persistentClass,
+			Set<String> identifierAttributeNames,
+			CompositeType nonAggregatedCidMapper,
+			boolean collectionsInDefaultFetchGroupEnabled,
+			boolean adaptiveLazyFetchGroupsEnabled,
+			Metadata metadata) {
 		final Class<?> mappedClass = persistentClass.getMappedClass();
 		final boolean enhancedForLazyLoading = isPersistentAttributeInterceptableType( mappedClass );
 		final LazyAttributesMetadata lazyAttributesMetadata = enhancedForLazyLoading
 				? LazyAttributesMetadata.from( persistentClass, true, collectionsInDefaultFetchGroupEnabled, metadata )
 				: LazyAttributesMetadata.nonEnhanced( persistentClass.getEntityName() );
+		final LazyFetchGroupCoAccessTracker coAccessTracker =
+				adaptiveLazyFetchGroupsEnabled && lazyAttributesMetadata.getFetchGroupNames().size() > 1
+						? new LazyFetchGroupCoAccessTracker( lazyAttributesMetadata )
+						: null;
 
 		return new BytecodeEnhancementMetadataPojoImpl(
 				persistentClass.getEntityName(),
@@ -60,7 +85,8 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 				identifierAttributeNames,
 				nonAggregatedCidMapper,
 				enhancedForLazyLoading,
-				lazyAttributesMetadata
+				lazyAttributesMetadata,
+				coAccessTracker
 		);
 	}
 
@@ -70,6 +96,7 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 	private final CompositeType nonAggregatedCidMapper;
 	private final boolean enhancedForLazyLoading;
 	private final LazyAttributesMetadata lazyAttributesMetadata;
+	private final LazyFetchGroupCoAccessTracker lazyFetchGroupCoAccessTracker;
 
 	BytecodeEnhancementMetadataPojoImpl(
 			String entityName,
@@ -77,7 +104,8 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 			Set<String> identifierAttributeNames,
 			CompositeType nonAggregatedCidMapper,
 			boolean enhancedForLazyLoading,
-			LazyAttributesMetadata lazyAttributesMetadata) {
+			LazyAttributesMetadata lazyAttributesMetadata,
+			LazyFetchGroupCoAccessTracker lazyFetchGroupCoAccessTracker) {
 		this.nonAggregatedCidMapper = nonAggregatedCidMapper;
 		assert identifierAttributeNames != null;
 		assert !identifierAttributeNames.isEmpty();
@@ -87,6 +115,7 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 		this.identifierAttributeNames = identifierAttributeNames;
 		this.enhancedForLazyLoading = enhancedForLazyLoading;
 		this.lazyAttributesMetadata = lazyAttributesMetadata;
+		this.lazyFetchGroupCoAccessTracker = lazyFetchGroupCoAccessTracker;
 	}
 
 	@Override
@@ -104,6 +133,11 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 		return lazyAttributesMetadata;
 	}
 
+	@Override
+	public @Nullable LazyFetchGroupCoAccessTracker getLazyFetchGroupCoAccessTracker() {
+		return lazyFetchGroupCoAccessTracker;
+	}
+
 	@Override
 	public boolean hasUnFetchedAttributes(Object entity) {
 		if ( ! enhancedForLazyLoading ) {
@@ -210,6 +244,7 @@ public final class BytecodeEnhancementMetadataPojoImpl implements BytecodeEnhanc
 				getEntityName(),
 				identifier,
 				lazyAttributesMetadata.getLazyAttributeNames(),
+				lazyFetchGroupCoAccessTracker,
 				session
 		);
 
@@ -0,0 +1,72 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.spi.EntityStateOptimizer;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+/**
+ * The superclass of the generated {@link EntityStateOptimizer}s.
+ * <p>
+ * The generated methods unroll the loop over the properties, and handle the properties
+ * of common immutable basic types inline. They fall back to the methods of this class
+ * for all other properties.
+ */
+public abstract class AbstractEntityStateOptimizer implements EntityStateOptimizer {
+	private final Type[] propertyTypes;
+	private final boolean[][] includeColumns;
+
+	protected AbstractEntityStateOptimizer(Type[] propertyTypes, boolean[][] includeColumns) {
+		this.propertyTypes = propertyTypes;
+		this.includeColumns = includeColumns;
+	}
+
+	/**
+	 * Whether the dirty checkable property at the given index is dirty, where neither value
+	 * is {@linkplain LazyPropertyInitializer#UNFETCHED_PROPERTY unfetched}.
+	 */
+	protected boolean isDirty(int index, Object previous, Object current, SharedSessionContractImplementor session) {
+		return propertyTypes[index].isDirty( previous, current, includeColumns[index], session );
+	}
+
+	/**
+	 * Add the given index to the dirty properties, allocating the array for the first one.
+	 */
+	protected int[] markDirty(int[] results, int count, int index) {
+		if ( results == null ) {
+			results = new int[propertyTypes.length];
+		}
+		results[count] = index;
+		return results;
+	}
+
+	protected int[] trim(int[] results, int count) {
+		if ( count == 0 ) {
+			return null;
+		}
+		else if ( count == results.length ) {
+			return results;
+		}
+		else {
+			final int[] trimmed = new int[count];
+			System.arraycopy( results, 0, trimmed, 0, count );
+			return trimmed;
+		}
+	}
+
+	/**
+	 * Deep copy the value of the mutable property at the given index.
+	 */
+	protected Object copy(int index, Object value, SharedSessionContractImplementor session) {
+		return value == LazyPropertyInitializer.UNFETCHED_PROPERTY || value == PropertyAccessStrategyBackRefImpl.UNKNOWN
+				? value
+				: propertyTypes[index].deepCopy( value, session.getFactory() );
+	}
+}
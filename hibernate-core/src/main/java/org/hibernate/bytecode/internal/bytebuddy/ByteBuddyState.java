@@ -147,6 +147,40 @@ public final class ByteBuddyState {
 		.getLoaded();
 	}
 
+	/**
+	 * Load the class generated at build time for the given class, if there is one.
+	 *
+	 * @param referenceClass The class the generated class was generated for.
+	 * @param suffix The suffix of the name of the generated class.
+	 * @return The generated class, or {@code null} if none was generated at build time.
+	 *
+	 * @see #pregeneratedClassName(String, String)
+	 */
+	public Class<?> loadPregenerated(Class<?> referenceClass, String suffix) {
+		final ClassLoader classLoader = referenceClass.getClassLoader();
+		if ( classLoader == null ) {
+			return null;
+		}
+		try {
+			return Class.forName( pregeneratedClassName( referenceClass.getName(), suffix ), false, classLoader );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * The name of a class generated at build time for the given class. Unlike the
+	 * names of classes generated at runtime, it is fixed, so that it can be found
+	 * when it is needed.
+	 *
+	 * @param className The name of the class the generated class is generated for.
+	 * @param suffix The suffix distinguishing the kind of generated class.
+	 */
+	public static String pregeneratedClassName(String className, String suffix) {
+		return className + '$' + suffix;
+	}
+
 	/**
 	 * Rewrite a class, used by the enhancer.
 	 * <p>
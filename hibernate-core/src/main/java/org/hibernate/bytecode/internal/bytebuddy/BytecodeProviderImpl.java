@@ -7,6 +7,7 @@
 package org.hibernate.bytecode.internal.bytebuddy;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
@@ -28,6 +29,7 @@ import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.EntityStateOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.engine.spi.CompositeOwner;
@@ -35,6 +37,7 @@ import org.hibernate.engine.spi.CompositeTracker;
 import org.hibernate.engine.spi.Managed;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.ReflectHelper;
@@ -47,6 +50,16 @@ import org.hibernate.property.access.spi.Setter;
 import org.hibernate.property.access.spi.SetterFieldImpl;
 import org.hibernate.property.access.spi.SetterMethodImpl;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.descriptor.java.BooleanJavaType;
+import org.hibernate.type.descriptor.java.ByteJavaType;
+import org.hibernate.type.descriptor.java.CharacterJavaType;
+import org.hibernate.type.descriptor.java.DoubleJavaType;
+import org.hibernate.type.descriptor.java.FloatJavaType;
+import org.hibernate.type.descriptor.java.IntegerJavaType;
+import org.hibernate.type.descriptor.java.LongJavaType;
+import org.hibernate.type.descriptor.java.ShortJavaType;
+import org.hibernate.type.descriptor.java.StringJavaType;
 
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
@@ -67,6 +80,7 @@ import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.pool.TypePool;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 public class BytecodeProviderImpl implements BytecodeProvider {
@@ -74,6 +88,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BytecodeProviderImpl.class );
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String STATE_OPTIMIZER_NAMING_SUFFIX = "HibernateStateOptimizer";
 	private static final ElementMatcher.Junction<NamedElement> newInstanceMethodName = ElementMatchers.named(
 			"newInstance" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyValuesMethodName = ElementMatchers.named(
@@ -82,6 +97,22 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 			"setPropertyValues" );
 	private static final ElementMatcher.Junction<NamedElement> getPropertyNamesMethodName = ElementMatchers.named(
 			"getPropertyNames" );
+	private static final ElementMatcher.Junction<NamedElement> findDirtyMethodName = ElementMatchers.named(
+			"findDirty" );
+	private static final ElementMatcher.Junction<NamedElement> deepCopyMethodName = ElementMatchers.named(
+			"deepCopy" );
+	// the basic types whose values are compared inline, by the class of their JavaType
+	private static final Map<Class<?>, Class<?>> INLINE_EQUALITY_TYPES = Map.of(
+			BooleanJavaType.class, Boolean.class,
+			ByteJavaType.class, Byte.class,
+			CharacterJavaType.class, Character.class,
+			ShortJavaType.class, Short.class,
+			IntegerJavaType.class, Integer.class,
+			LongJavaType.class, Long.class,
+			FloatJavaType.class, Float.class,
+			DoubleJavaType.class, Double.class,
+			StringJavaType.class, String.class
+	);
 	private static final Member EMBEDDED_MEMBER = new Member() {
 		@Override
 		public Class<?> getDeclaringClass() {
@@ -147,15 +178,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				fastClass = null;
 			}
 			else {
-				fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-						.with( new NamingStrategy.SuffixingRandom(
-								INSTANTIATOR_PROXY_NAMING_SUFFIX,
-								new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
-						) )
-						.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
-						.method( newInstanceMethodName )
-						.intercept( MethodCall.construct( constructor ) )
-				);
+				fastClass = loadInstantiationOptimizer( clazz, constructor );
 			}
 		}
 		else {
@@ -211,15 +234,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				fastClass = null;
 			}
 			else {
-				fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-						.with( new NamingStrategy.SuffixingRandom(
-								INSTANTIATOR_PROXY_NAMING_SUFFIX,
-								new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
-						) )
-						.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
-						.method( newInstanceMethodName )
-						.intercept( MethodCall.construct( constructor ) )
-				);
+				fastClass = loadInstantiationOptimizer( clazz, constructor );
 			}
 		}
 		else {
@@ -265,6 +280,92 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private Class<?> loadInstantiationOptimizer(Class<?> clazz, Constructor<?> constructor) {
+		final Class<?> pregeneratedInstantiator = byteBuddyState.loadPregenerated( clazz, INSTANTIATOR_PROXY_NAMING_SUFFIX );
+		if ( pregeneratedInstantiator != null
+				&& ReflectionOptimizer.InstantiationOptimizer.class.isAssignableFrom( pregeneratedInstantiator ) ) {
+			return pregeneratedInstantiator;
+		}
+		return byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom(
+						INSTANTIATOR_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
+				) )
+				.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+				.method( newInstanceMethodName )
+				.intercept( MethodCall.construct( constructor ) )
+		);
+	}
+
+	/**
+	 * Build the instantiation optimizer of the given class at build time, when the class
+	 * is not loaded. It is used instead of generating one at runtime when it is found next
+	 * to the class.
+	 */
+	DynamicType.Unloaded<?> buildPregeneratedInstantiationOptimizer(
+			TypePool typePool,
+			TypeDescription clazz,
+			MethodDescription constructor) {
+		final String name = ByteBuddyState.pregeneratedClassName( clazz.getName(), INSTANTIATOR_PROXY_NAMING_SUFFIX );
+		return byteBuddyState.make( typePool, byteBuddy -> byteBuddy
+				.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+				.name( name )
+				.method( newInstanceMethodName )
+				.intercept( MethodCall.construct( constructor ) )
+		);
+	}
+
+	@Override
+	public @Nullable EntityStateOptimizer getEntityStateOptimizer(
+			Class<?> clazz,
+			org.hibernate.type.Type[] propertyTypes,
+			boolean[] propertyCheckability,
+			boolean[][] includeColumns) {
+		final Class<?> stateOptimizer = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom(
+						STATE_OPTIMIZER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
+				) )
+				.subclass( AbstractEntityStateOptimizer.class )
+				.method( findDirtyMethodName )
+				.intercept( new Implementation.Simple(
+						new FindDirty( propertyTypes, propertyCheckability, includeColumns )
+				) )
+				.method( deepCopyMethodName )
+				.intercept( new Implementation.Simple( new DeepCopy( propertyTypes ) ) )
+		);
+
+		try {
+			return (EntityStateOptimizer) stateOptimizer
+					.getDeclaredConstructor( org.hibernate.type.Type[].class, boolean[][].class )
+					.newInstance( propertyTypes, includeColumns );
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
+	/**
+	 * The wrapper class of the values of the given type, if they can be compared inline,
+	 * without calling {@link org.hibernate.type.Type#isDirty}, or {@code null}.
+	 */
+	private static Class<?> inlineEqualityType(org.hibernate.type.Type type) {
+		if ( type instanceof AbstractStandardBasicType<?> ) {
+			final Method isEqual;
+			try {
+				isEqual = type.getClass().getMethod( "isEqual", Object.class, Object.class );
+			}
+			catch (NoSuchMethodException e) {
+				return null;
+			}
+			// a converted type, for example, compares the converted values
+			if ( isEqual.getDeclaringClass() == AbstractStandardBasicType.class ) {
+				return INLINE_EQUALITY_TYPES.get( ( (AbstractStandardBasicType<?>) type ).getJavaTypeDescriptor().getClass() );
+			}
+		}
+		return null;
+	}
+
 	private static class ForeignPackageClassInfo {
 		final Class<?> clazz;
 		final List<Member> getters = new ArrayList<>();
@@ -1149,6 +1250,269 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	private static class FindDirty implements ByteCodeAppender {
+
+		private final org.hibernate.type.Type[] propertyTypes;
+		private final boolean[] propertyCheckability;
+		private final boolean[][] includeColumns;
+
+		public FindDirty(
+				org.hibernate.type.Type[] propertyTypes,
+				boolean[] propertyCheckability,
+				boolean[][] includeColumns) {
+			this.propertyTypes = propertyTypes;
+			this.propertyCheckability = propertyCheckability;
+			this.includeColumns = includeColumns;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// this, currentState, previousState, session, results, count, current value, previous value
+			final List<TypeDescription> locals = Arrays.asList(
+					implementationContext.getInstrumentedType(),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( SharedSessionContractImplementor.class ),
+					TypeDescription.ForLoadedType.of( int[].class ),
+					TypeDescription.ForLoadedType.of( int.class ),
+					TypeDescription.ForLoadedType.of( Object.class ),
+					TypeDescription.ForLoadedType.of( Object.class )
+			);
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, 4 );
+			methodVisitor.visitInsn( Opcodes.ICONST_0 );
+			methodVisitor.visitVarInsn( Opcodes.ISTORE, 5 );
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, 6 );
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, 7 );
+
+			for ( int index = 0; index < propertyTypes.length; index++ ) {
+				final Label dirtyLabel = new Label();
+				final Label cleanLabel = new Label();
+
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, 6 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, 7 );
+
+				// An unfetched current value is never dirty, an unfetched previous value always is
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 6 );
+				visitUnfetchedProperty( methodVisitor );
+				methodVisitor.visitJumpInsn( Opcodes.IF_ACMPEQ, cleanLabel );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 7 );
+				visitUnfetchedProperty( methodVisitor );
+				methodVisitor.visitJumpInsn( Opcodes.IF_ACMPEQ, dirtyLabel );
+
+				final Class<?> inlineEqualityType = inlineEqualityType( propertyTypes[index] );
+				if ( !propertyCheckability[index] ) {
+					methodVisitor.visitJumpInsn( Opcodes.GOTO, cleanLabel );
+				}
+				else if ( inlineEqualityType != null ) {
+					if ( includeColumns[index][0] ) {
+						visitEquality( methodVisitor, inlineEqualityType, dirtyLabel, cleanLabel );
+					}
+					else {
+						methodVisitor.visitJumpInsn( Opcodes.GOTO, cleanLabel );
+					}
+				}
+				else {
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 7 );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 6 );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( AbstractEntityStateOptimizer.class ),
+							"isDirty",
+							Type.getMethodDescriptor(
+									Type.getType( boolean.class ),
+									Type.getType( int.class ),
+									Type.getType( Object.class ),
+									Type.getType( Object.class ),
+									Type.getType( SharedSessionContractImplementor.class )
+							),
+							false
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IFEQ, cleanLabel );
+				}
+
+				methodVisitor.visitLabel( dirtyLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+				methodVisitor.visitVarInsn( Opcodes.ILOAD, 5 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEVIRTUAL,
+						Type.getInternalName( AbstractEntityStateOptimizer.class ),
+						"markDirty",
+						Type.getMethodDescriptor(
+								Type.getType( int[].class ),
+								Type.getType( int[].class ),
+								Type.getType( int.class ),
+								Type.getType( int.class )
+						),
+						false
+				);
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, 4 );
+				methodVisitor.visitIincInsn( 5, 1 );
+
+				methodVisitor.visitLabel( cleanLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+			}
+
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+			methodVisitor.visitVarInsn( Opcodes.ILOAD, 5 );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					Type.getInternalName( AbstractEntityStateOptimizer.class ),
+					"trim",
+					Type.getMethodDescriptor( Type.getType( int[].class ), Type.getType( int[].class ), Type.getType( int.class ) ),
+					false
+			);
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 5, instrumentedMethod.getStackSize() + 4 );
+		}
+
+		private static void visitUnfetchedProperty(MethodVisitor methodVisitor) {
+			methodVisitor.visitFieldInsn(
+					Opcodes.GETSTATIC,
+					Type.getInternalName( LazyPropertyInitializer.class ),
+					"UNFETCHED_PROPERTY",
+					Type.getDescriptor( Serializable.class )
+			);
+		}
+
+		/**
+		 * Compares the current and previous values like {@link java.util.Objects#equals},
+		 * comparing the primitive values of the wrappers of integral and boolean types.
+		 */
+		private static void visitEquality(MethodVisitor methodVisitor, Class<?> type, Label dirtyLabel, Label cleanLabel) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 6 );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 7 );
+			methodVisitor.visitJumpInsn( Opcodes.IF_ACMPEQ, cleanLabel );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 6 );
+			methodVisitor.visitJumpInsn( Opcodes.IFNULL, dirtyLabel );
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, 7 );
+			methodVisitor.visitJumpInsn( Opcodes.IFNULL, dirtyLabel );
+
+			if ( type == String.class || type == Float.class || type == Double.class ) {
+				// for floating point values, equals() differs from ==
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 6 );
+				methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( type ) );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 7 );
+				methodVisitor.visitMethodInsn(
+						Opcodes.INVOKEVIRTUAL,
+						Type.getInternalName( type ),
+						"equals",
+						Type.getMethodDescriptor( Type.getType( boolean.class ), Type.getType( Object.class ) ),
+						false
+				);
+				methodVisitor.visitJumpInsn( Opcodes.IFNE, cleanLabel );
+			}
+			else {
+				final Class<?> primitiveType = MethodType.methodType( type ).unwrap().returnType();
+				visitPrimitiveValue( methodVisitor, 6, type, primitiveType );
+				visitPrimitiveValue( methodVisitor, 7, type, primitiveType );
+				if ( primitiveType == long.class ) {
+					methodVisitor.visitInsn( Opcodes.LCMP );
+					methodVisitor.visitJumpInsn( Opcodes.IFEQ, cleanLabel );
+				}
+				else {
+					methodVisitor.visitJumpInsn( Opcodes.IF_ICMPEQ, cleanLabel );
+				}
+			}
+		}
+
+		private static void visitPrimitiveValue(MethodVisitor methodVisitor, int local, Class<?> type, Class<?> primitiveType) {
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, local );
+			methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, Type.getInternalName( type ) );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKEVIRTUAL,
+					Type.getInternalName( type ),
+					primitiveType.getName() + "Value",
+					Type.getMethodDescriptor( Type.getType( primitiveType ) ),
+					false
+			);
+		}
+	}
+
+	private static class DeepCopy implements ByteCodeAppender {
+
+		private final org.hibernate.type.Type[] propertyTypes;
+
+		public DeepCopy(org.hibernate.type.Type[] propertyTypes) {
+			this.propertyTypes = propertyTypes;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// this, values, include, target, session
+			final List<TypeDescription> locals = Arrays.asList(
+					implementationContext.getInstrumentedType(),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( boolean[].class ),
+					TypeDescription.ForLoadedType.of( Object[].class ),
+					TypeDescription.ForLoadedType.of( SharedSessionContractImplementor.class )
+			);
+			for ( int index = 0; index < propertyTypes.length; index++ ) {
+				final Label skipLabel = new Label();
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 2 );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.BALOAD );
+				methodVisitor.visitJumpInsn( Opcodes.IFEQ, skipLabel );
+
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 3 );
+				methodVisitor.visitLdcInsn( index );
+				if ( propertyTypes[index].isMutable() ) {
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 4 );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( AbstractEntityStateOptimizer.class ),
+							"copy",
+							Type.getMethodDescriptor(
+									Type.getType( Object.class ),
+									Type.getType( int.class ),
+									Type.getType( Object.class ),
+									Type.getType( SharedSessionContractImplementor.class )
+							),
+							false
+					);
+				}
+				else {
+					// Values of immutable types are shared, like Type#deepCopy would do
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+
+				methodVisitor.visitLabel( skipLabel );
+				implementationContext.getFrameGeneration().full( methodVisitor, Collections.emptyList(), locals );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 7, instrumentedMethod.getStackSize() );
+		}
+	}
+
 	private static void findAccessors(
 			Class<?> clazz,
 			String[] getterNames,
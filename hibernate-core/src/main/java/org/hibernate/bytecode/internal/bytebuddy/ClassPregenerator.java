@@ -0,0 +1,109 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import net.bytebuddy.description.annotation.AnnotationList;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.pool.TypePool;
+
+import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
+import static net.bytebuddy.matcher.ElementMatchers.isPrivate;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+import static net.bytebuddy.matcher.ElementMatchers.takesNoArguments;
+
+/**
+ * Generates, at build time, classes which {@link BytecodeProviderImpl} would otherwise
+ * generate at runtime, so that they can be packaged along with the application:
+ * <ul>
+ *     <li>the {@linkplain ByteBuddyProxyHelper#buildPregeneratedProxy proxy} of each
+ *     entity class, and</li>
+ *     <li>the {@linkplain org.hibernate.bytecode.spi.ReflectionOptimizer.InstantiationOptimizer
+ *     instantiation optimizer} of each entity and embeddable class.</li>
+ * </ul>
+ * At runtime, such a class is used whenever it is found next to the class it was
+ * generated for.
+ * <p>
+ * The property accessors of the reflection optimizer are still generated at runtime,
+ * since they depend on which attributes are mapped, and how they are accessed.
+ * <p>
+ * Used by the build-time enhancement plugins.
+ */
+public final class ClassPregenerator {
+	private final BytecodeProviderImpl bytecodeProvider;
+	private final ClassFileLocator classFileLocator;
+
+	/**
+	 * @param classLoader The class loader of the classes the processed classes depend on
+	 */
+	public ClassPregenerator(ClassLoader classLoader) {
+		this( new BytecodeProviderImpl(), classLoader );
+	}
+
+	public ClassPregenerator(BytecodeProviderImpl bytecodeProvider, ClassLoader classLoader) {
+		this.bytecodeProvider = bytecodeProvider;
+		this.classFileLocator = ClassFileLocator.ForClassLoader.of( classLoader );
+	}
+
+	/**
+	 * Generate the classes needed at runtime for the given class.
+	 *
+	 * @param className The name of the class
+	 * @param bytecode The bytecode of the class, after it was enhanced, if it is enhanced
+	 *
+	 * @return The bytecode of the generated classes, by class name, or an empty map if
+	 * the given class is neither an entity nor an embeddable
+	 */
+	public Map<String, byte[]> pregenerate(String className, byte[] bytecode) {
+		final TypePool typePool = TypePool.Default.of(
+				new ClassFileLocator.Compound( ClassFileLocator.Simple.of( className, bytecode ), classFileLocator )
+		);
+		final TypeDescription type = typePool.describe( className ).resolve();
+		final AnnotationList annotations = type.getDeclaredAnnotations();
+		final boolean entity = annotations.isAnnotationPresent( Entity.class );
+		if ( type.isInterface() || !entity && !annotations.isAnnotationPresent( Embeddable.class ) ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, byte[]> generatedClasses = new HashMap<>();
+		if ( entity && !type.isFinal() ) {
+			add(
+					generatedClasses,
+					bytecodeProvider.getByteBuddyProxyHelper().buildPregeneratedProxy( typePool, type )
+			);
+		}
+		if ( !type.isAbstract() ) {
+			final MethodList<MethodDescription.InDefinedShape> constructors = type.getDeclaredMethods()
+					.filter( isConstructor().and( takesNoArguments() ).and( not( isPrivate() ) ) );
+			if ( !constructors.isEmpty() ) {
+				add(
+						generatedClasses,
+						bytecodeProvider.buildPregeneratedInstantiationOptimizer( typePool, type, constructors.getOnly() )
+				);
+			}
+		}
+		return generatedClasses;
+	}
+
+	private static void add(Map<String, byte[]> generatedClasses, DynamicType.Unloaded<?> generatedClass) {
+		generatedClasses.put( generatedClass.getTypeDescription().getName(), generatedClass.getBytes() );
+		generatedClass.getAuxiliaryTypes().forEach(
+				(auxiliaryType, bytes) -> generatedClasses.put( auxiliaryType.getName(), bytes )
+		);
+	}
+}
@@ -9,6 +9,7 @@ package org.hibernate.bytecode.spi;
 import org.hibernate.bytecode.enhance.spi.interceptor.BytecodeLazyAttributeInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyFetchGroupCoAccessTracker;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
@@ -39,6 +40,18 @@ public interface BytecodeEnhancementMetadata {
 
 	LazyAttributesMetadata getLazyAttributesMetadata();
 
+	/**
+	 * Learns which lazy fetch groups of the entity are accessed together, if
+	 * adaptive lazy fetch groups are enabled and the entity has several.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_LAZY_FETCH_GROUPS
+	 *
+	 * @since 6.3
+	 */
+	default @Nullable LazyFetchGroupCoAccessTracker getLazyFetchGroupCoAccessTracker() {
+		return null;
+	}
+
 	/**
 	 * Create an "enhancement as proxy" instance for the given entity
 	 *
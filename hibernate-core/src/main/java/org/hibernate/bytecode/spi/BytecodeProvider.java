@@ -8,10 +8,12 @@ package org.hibernate.bytecode.spi;
 
 import java.util.Map;
 
+import org.hibernate.Incubating;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.property.access.spi.PropertyAccess;
 import org.hibernate.service.Service;
+import org.hibernate.type.Type;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -21,6 +23,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * Bytecode requirements break down into the following areas<ol>
  *     <li>proxy generation (both for runtime-lazy-loading and basic proxy generation) {@link #getProxyFactoryFactory()}</li>
  *     <li>bean reflection optimization {@link #getReflectionOptimizer}</li>
+ *     <li>entity state optimization {@link #getEntityStateOptimizer}</li>
  * </ol>
  *
  * @author Steve Ebersole
@@ -58,6 +61,27 @@ public interface BytecodeProvider extends Service {
 	 */
 	@Nullable ReflectionOptimizer getReflectionOptimizer(Class<?> clazz, Map<String, PropertyAccess> propertyAccessMap);
 
+	/**
+	 * Retrieve the EntityStateOptimizer delegate for this provider
+	 * capable of comparing and copying the state of the entities of the given class.
+	 *
+	 * @param clazz The entity class.
+	 * @param propertyTypes The types of the properties, in state array order.
+	 * @param propertyCheckability Which properties participate in dirty checking.
+	 * @param includeColumns Columns to be included in the dirty checking, per property.
+	 * @return The state optimization delegate, or {@code null} if this provider does not generate one.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default @Nullable EntityStateOptimizer getEntityStateOptimizer(
+			Class<?> clazz,
+			Type[] propertyTypes,
+			boolean[] propertyCheckability,
+			boolean[][] includeColumns) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
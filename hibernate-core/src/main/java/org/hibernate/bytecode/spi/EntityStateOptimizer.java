@@ -0,0 +1,42 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Represents optimized operations on the state arrays of the entities of a particular class,
+ * as produced by the {@linkplain ReflectionOptimizer.AccessOptimizer#getPropertyValues access optimizer}.
+ *
+ * @see BytecodeProvider#getEntityStateOptimizer
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface EntityStateOptimizer {
+	/**
+	 * Compare the current state of an entity to its loaded state.
+	 *
+	 * @param currentState The current state
+	 * @param previousState The loaded state
+	 * @param session The originating session
+	 *
+	 * @return The indices of the dirty properties, or {@code null} if no property is dirty
+	 */
+	int[] findDirty(Object[] currentState, Object[] previousState, SharedSessionContractImplementor session);
+
+	/**
+	 * Deep copy the included values of the given state into the target array.
+	 *
+	 * @param values The values to copy
+	 * @param include Which values to copy
+	 * @param target The array into which to copy the values, possibly {@code values} itself
+	 * @param session The originating session
+	 */
+	void deepCopy(Object[] values, boolean[] include, Object[] target, SharedSessionContractImplementor session);
+}
@@ -164,5 +164,9 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			this.timestamp = Long.valueOf( timestamp );
 			this.results = results;
 		}
+
+		public List<?> getResults() {
+			return results;
+		}
 	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.cache.internal;
 
 import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -30,6 +32,14 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 	private final TimestampsRegion timestampsRegion;
 
+	/**
+	 * The latest timestamp this node put into the region, by query space. One which
+	 * is not older than a cached query result proves the result stale without reading
+	 * the region. Other nodes may have put later timestamps into the region since, so
+	 * these never prove a result up-to-date.
+	 */
+	private final ConcurrentMap<String, Long> localTimestamps = new ConcurrentHashMap<>();
+
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
 		this.timestampsRegion = timestampsRegion;
 	}
@@ -65,6 +75,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 				//put() has nowait semantics, is this really appropriate?
 				//note that it needs to be async replication, never local or sync
 				timestampsRegion.putIntoCache( space, ts, session );
+				localTimestamps.put( space, ts );
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
@@ -95,6 +106,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			try {
 				eventListenerManager.cachePutStart();
 				timestampsRegion.putIntoCache( space, ts, session );
+				localTimestamps.put( space, ts );
 			}
 			finally {
 				eventListenerManager.cachePutEnd();
@@ -111,10 +123,33 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			String[] spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
+		if ( spaces.length == 0 ) {
+			return true;
+		}
+
 		final StatisticsImplementor statistics = session.getFactory().getStatistics();
 
 		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
+			final Long localTimestamp = localTimestamps.get( space );
+			if ( localTimestamp != null && localTimestamp >= timestamp ) {
+				if ( DEBUG_ENABLED ) {
+					log.debugf(
+							"[%s] local update timestamp: %s",
+							space,
+							localTimestamp + ", result set timestamp: " + timestamp
+					);
+				}
+				if ( statistics.isStatisticsEnabled() ) {
+					statistics.updateTimestampsCacheHit();
+				}
+				return false;
+			}
+		}
+
+		// read the timestamps of all spaces at once, to save round trips to remote caches
+		final Object[] lastUpdates = getLastUpdateTimestampsForSpaces( spaces, session );
+		for ( int i = 0; i < spaces.length; i++ ) {
+			if ( isSpaceOutOfDate( spaces[i], (Long) lastUpdates[i], timestamp, statistics ) ) {
 				return false;
 			}
 		}
@@ -124,10 +159,9 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 	private boolean isSpaceOutOfDate(
 			String space,
+			Long lastUpdate,
 			Long timestamp,
-			SharedSessionContractImplementor session,
 			StatisticsImplementor statistics) {
-		final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
 		if ( lastUpdate == null ) {
 			// the last update timestamp for the given space was evicted from the
 			// cache or there have been no writes to it since startup
@@ -162,27 +196,28 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			Collection<String> spaces,
 			Long timestamp,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-
-		for ( String space : spaces ) {
-			if ( isSpaceOutOfDate( space, timestamp, session, statistics ) ) {
-				return false;
-			}
-		}
-
-		return true;
+		return isUpToDate( spaces.toArray( new String[0] ), timestamp, session );
 	}
 
-	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
-		Long ts = null;
+	private Object[] getLastUpdateTimestampsForSpaces(String[] spaces, SharedSessionContractImplementor session) {
+		Object[] timestamps = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
-			ts = (Long) timestampsRegion.getFromCache( space, session );
+			timestamps = timestampsRegion.getAllFromCache( spaces, session );
 		}
 		finally {
-			session.getEventListenerManager().cacheGetEnd( ts != null );
+			session.getEventListenerManager().cacheGetEnd( timestamps != null && anyCached( timestamps ) );
 		}
-		return ts;
+		return timestamps;
+	}
+
+	private static boolean anyCached(Object[] timestamps) {
+		for ( Object timestamp : timestamps ) {
+			if ( timestamp != null ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
 /**
  * Defines the contract for a cache region that stores timestamps.
  * The timestamps are used to manage query results with respect to
@@ -15,4 +17,22 @@ package org.hibernate.cache.spi;
  * @author Steve Ebersole
  */
 public interface TimestampsRegion extends DirectAccessRegion {
+	/**
+	 * Get the timestamps of several query spaces at once.
+	 *
+	 * @return The timestamps, in the order of the given query spaces, with
+	 * {@code null} for every query space which is not cached
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each
+	 * query space
+	 *
+	 * @since 6.3
+	 */
+	default Object[] getAllFromCache(Object[] spaces, SharedSessionContractImplementor session) {
+		final Object[] timestamps = new Object[spaces.length];
+		for ( int i = 0; i < spaces.length; i++ ) {
+			timestamps[i] = getFromCache( spaces[i], session );
+		}
+		return timestamps;
+	}
 }
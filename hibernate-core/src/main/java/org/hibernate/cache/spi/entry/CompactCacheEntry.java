@@ -0,0 +1,283 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.Type;
+
+/**
+ * Compact CacheEntry format for entities.  Used to store the entry into the second-level cache
+ * with a smaller heap footprint than the plain disassembled state.
+ * <p>
+ * The disassembled values of attributes of primitive wrapper type ({@code Long}, {@code Integer},
+ * {@code Short}, {@code Byte}, {@code Boolean}, {@code Character}, {@code Double} and
+ * {@code Float}) are packed into a single {@code long[]}, instead of keeping one boxed object per
+ * value. All other values are kept as they are. The layout of the packed form is computed once
+ * per persister, and the packed form itself is immutable, so it may be shared freely by the cache.
+ * <p>
+ * On a cache hit, the entity state is assembled directly from the packed form, so a hit
+ * allocates no more than with the {@linkplain StandardCacheEntryImpl standard format}, apart
+ * from boxing the packed values again. Small values are boxed into the shared instances of
+ * {@link Long#valueOf(long)} and the like, while the standard format shares the boxed values
+ * kept in the cache between all hits: this is the price of the smaller footprint.
+ * <p>
+ * Entries whose values do not match the layout, for example because of custom
+ * {@linkplain org.hibernate.type.descriptor.java.MutabilityPlan mutability plans}, are stored
+ * as-is.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte REFERENCE = 0;
+	private static final byte LONG = 1;
+	private static final byte INTEGER = 2;
+	private static final byte SHORT = 3;
+	private static final byte BYTE = 4;
+	private static final byte BOOLEAN = 5;
+	private static final byte CHARACTER = 6;
+	private static final byte DOUBLE = 7;
+	private static final byte FLOAT = 8;
+
+	private final EntityPersister persister;
+	// per attribute, the kind of value and its index into either the packed or the reference values
+	private final byte[] kinds;
+	private final int[] slots;
+	private final int packedCount;
+	private final int referenceCount;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be packed.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+
+		final Type[] types = persister.getPropertyTypes();
+		final boolean[] laziness = persister.getPropertyLaziness();
+		this.kinds = new byte[types.length];
+		this.slots = new int[types.length];
+		int packedCount = 0;
+		int referenceCount = 0;
+		for ( int i = 0; i < types.length; i++ ) {
+			// lazy attributes may be represented by the "unfetched" marker
+			final byte kind = laziness[i] ? REFERENCE : kind( types[i] );
+			kinds[i] = kind;
+			slots[i] = kind == REFERENCE ? referenceCount++ : packedCount++;
+		}
+		this.packedCount = packedCount;
+		this.referenceCount = referenceCount;
+	}
+
+	private static byte kind(Type type) {
+		if ( !type.isComponentType() && !type.isAssociationType() && !type.isCollectionType() ) {
+			final Class<?> javaType = type.getReturnedClass();
+			if ( javaType == Long.class || javaType == long.class ) {
+				return LONG;
+			}
+			else if ( javaType == Integer.class || javaType == int.class ) {
+				return INTEGER;
+			}
+			else if ( javaType == Short.class || javaType == short.class ) {
+				return SHORT;
+			}
+			else if ( javaType == Byte.class || javaType == byte.class ) {
+				return BYTE;
+			}
+			else if ( javaType == Boolean.class || javaType == boolean.class ) {
+				return BOOLEAN;
+			}
+			else if ( javaType == Character.class || javaType == char.class ) {
+				return CHARACTER;
+			}
+			else if ( javaType == Double.class || javaType == double.class ) {
+				return DOUBLE;
+			}
+			else if ( javaType == Float.class || javaType == float.class ) {
+				return FLOAT;
+			}
+		}
+		return REFERENCE;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		if ( entry.isReferenceEntry() || !persister.getEntityName().equals( entry.getSubclass() ) ) {
+			return item;
+		}
+
+		final Serializable[] state = entry.getDisassembledState();
+		final long[] packedValues = new long[packedCount];
+		final Serializable[] references = new Serializable[referenceCount];
+		long[] nulls = null;
+		for ( int i = 0; i < kinds.length; i++ ) {
+			final byte kind = kinds[i];
+			final Serializable value = state[i];
+			if ( kind == REFERENCE ) {
+				references[slots[i]] = value;
+			}
+			else if ( value == null ) {
+				if ( nulls == null ) {
+					nulls = new long[( packedCount + 63 ) >>> 6];
+				}
+				nulls[slots[i] >>> 6] |= 1L << slots[i];
+			}
+			else if ( isOfKind( value, kind ) ) {
+				packedValues[slots[i]] = pack( value, kind );
+			}
+			else {
+				// not what the layout expects, keep the entry as it is
+				return item;
+			}
+		}
+		return new PackedEntry( entry.getSubclass(), entry.getVersion(), kinds, slots, packedValues, nulls, references );
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		// the packed entry is assembled directly, without unpacking it into a disassembled state first
+		return structured;
+	}
+
+	private static boolean isOfKind(Serializable value, byte kind) {
+		switch ( kind ) {
+			case LONG:
+				return value instanceof Long;
+			case INTEGER:
+				return value instanceof Integer;
+			case SHORT:
+				return value instanceof Short;
+			case BYTE:
+				return value instanceof Byte;
+			case BOOLEAN:
+				return value instanceof Boolean;
+			case CHARACTER:
+				return value instanceof Character;
+			case DOUBLE:
+				return value instanceof Double;
+			case FLOAT:
+				return value instanceof Float;
+			default:
+				return false;
+		}
+	}
+
+	private static long pack(Serializable value, byte kind) {
+		switch ( kind ) {
+			case BOOLEAN:
+				return (Boolean) value ? 1L : 0L;
+			case CHARACTER:
+				return (Character) value;
+			case DOUBLE:
+				return Double.doubleToRawLongBits( (Double) value );
+			case FLOAT:
+				return Float.floatToRawIntBits( (Float) value );
+			default:
+				return ( (Number) value ).longValue();
+		}
+	}
+
+	private static Serializable unpack(long packedValue, byte kind) {
+		switch ( kind ) {
+			case LONG:
+				return packedValue;
+			case INTEGER:
+				return (int) packedValue;
+			case SHORT:
+				return (short) packedValue;
+			case BYTE:
+				return (byte) packedValue;
+			case BOOLEAN:
+				return packedValue != 0L;
+			case CHARACTER:
+				return (char) packedValue;
+			case DOUBLE:
+				return Double.longBitsToDouble( packedValue );
+			case FLOAT:
+				return Float.intBitsToFloat( (int) packedValue );
+			default:
+				throw new IllegalArgumentException( "Unexpected kind of packed value: " + kind );
+		}
+	}
+
+	/**
+	 * The packed form of an entity's disassembled state, as stored in the cache.
+	 * <p>
+	 * The entry refers to the layout of the persister which packed it, shared by all
+	 * its entries, so that it can be assembled by itself, even if it was packed by the
+	 * persister of a subclass sharing the region.
+	 */
+	private static final class PackedEntry extends StandardCacheEntryImpl {
+		private final byte[] kinds;
+		private final int[] slots;
+		private final long[] packedValues;
+		private final long[] nulls;
+		private final Serializable[] references;
+
+		private PackedEntry(
+				String subclass,
+				Object version,
+				byte[] kinds,
+				int[] slots,
+				long[] packedValues,
+				long[] nulls,
+				Serializable[] references) {
+			super( null, subclass, version );
+			this.kinds = kinds;
+			this.slots = slots;
+			this.packedValues = packedValues;
+			this.nulls = nulls;
+			this.references = references;
+		}
+
+		private Serializable value(int index) {
+			final byte kind = kinds[index];
+			final int slot = slots[index];
+			if ( kind == REFERENCE ) {
+				return references[slot];
+			}
+			else if ( nulls != null && ( nulls[slot >>> 6] & ( 1L << slot ) ) != 0 ) {
+				return null;
+			}
+			else {
+				return unpack( packedValues[slot], kind );
+			}
+		}
+
+		@Override
+		public Serializable[] getDisassembledState() {
+			final Serializable[] state = new Serializable[kinds.length];
+			for ( int i = 0; i < kinds.length; i++ ) {
+				state[i] = value( i );
+			}
+			return state;
+		}
+
+		@Override
+		Object[] assembleState(Type[] types, SharedSessionContractImplementor session, Object owner) {
+			final Object[] state = new Object[kinds.length];
+			for ( int i = 0; i < kinds.length; i++ ) {
+				final Serializable value = value( i );
+				if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY
+						|| value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+					state[i] = value;
+				}
+				else {
+					state[i] = types[i].assemble( value, session, owner );
+				}
+			}
+			return state;
+		}
+	}
+}
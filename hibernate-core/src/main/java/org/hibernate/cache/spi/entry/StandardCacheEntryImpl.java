@@ -17,6 +17,7 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.event.spi.PreLoadEventListener;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
 
 /**
  * Standard representation of entity cached data using the "disassembled state".
@@ -129,11 +130,7 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		}
 
 		//assembled state gets put in a new array (we read from cache by value!)
-		final Object[] state = CacheEntryHelper.assemble(
-				disassembledState,
-				persister.getPropertyTypes(),
-				session, instance
-		);
+		final Object[] state = assembleState( persister.getPropertyTypes(), session, instance );
 
 		//persister.setIdentifier(instance, id); //before calling interceptor, for consistency with normal load
 
@@ -155,6 +152,15 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		return state;
 	}
 
+	/**
+	 * Assemble the disassembled state into a new array.
+	 *
+	 * @see CompactCacheEntry
+	 */
+	Object[] assembleState(Type[] types, SharedSessionContractImplementor session, Object owner) {
+		return CacheEntryHelper.assemble( disassembledState, types, session, owner );
+	}
+
 	@Override
 	public String toString() {
 		return "CacheEntry(" + subclass + ')';
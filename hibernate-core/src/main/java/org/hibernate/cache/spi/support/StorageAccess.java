@@ -23,6 +23,24 @@ public interface StorageAccess {
 	 */
 	Object getFromCache(Object key, SharedSessionContractImplementor session);
 
+	/**
+	 * Get several items from the cache at once.
+	 *
+	 * @return The items, in the order of the given keys, with {@code null}
+	 * for every key which is not cached
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each
+	 * key, implementations backed by a remote cache should read all of them
+	 * in a single round trip
+	 */
+	default Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+		final Object[] values = new Object[keys.length];
+		for ( int i = 0; i < keys.length; i++ ) {
+			values[i] = getFromCache( keys[i], session );
+		}
+		return values;
+	}
+
 	/**
 	 * Put an item into the cache
 	 */
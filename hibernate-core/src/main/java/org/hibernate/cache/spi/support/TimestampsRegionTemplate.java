@@ -8,6 +8,7 @@ package org.hibernate.cache.spi.support;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
  * @author Steve Ebersole
@@ -26,4 +27,9 @@ public class TimestampsRegionTemplate extends DirectAccessRegionTemplate impleme
 			StorageAccess storageAccess) {
 		super( name, regionFactory, storageAccess );
 	}
+
+	@Override
+	public Object[] getAllFromCache(Object[] spaces, SharedSessionContractImplementor session) {
+		return getStorageAccess().getAllFromCache( spaces, session );
+	}
 }
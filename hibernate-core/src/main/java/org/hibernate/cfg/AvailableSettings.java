@@ -823,6 +823,24 @@ public interface AvailableSettings {
 	 */
 	String SCANNER_DISCOVERY = "hibernate.archive.autodetection";
 
+	/**
+	 * Specifies a directory in which the results of scanning archives for managed
+	 * classes and mapping files are cached. When the scanned archives and the
+	 * scanning configuration are unchanged, later boots read the cached results
+	 * instead of scanning again.
+	 * <p>
+	 * Only the scanning step is skipped: the boot model is still built from the
+	 * located classes and mapping files on every boot.
+	 * <p>
+	 * By default, scan results are not cached.
+	 *
+	 * @see org.hibernate.boot.archive.scan.internal.CachingScanner
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String SCANNER_CACHE_DIRECTORY = "hibernate.archive.scan_cache_directory";
+
 	/**
 	 * Used to specify the {@link org.hibernate.boot.model.naming.ImplicitNamingStrategy}
 	 * class to use. The following shortcut names are defined for this setting:
@@ -1038,6 +1056,57 @@ public interface AvailableSettings {
 	 */
 	String DEFAULT_BATCH_FETCH_SIZE = "hibernate.default_batch_fetch_size";
 
+	/**
+	 * Specifies the smallest batch size an entity or collection which is batch
+	 * fetched may be narrowed to at runtime. Setting this, or
+	 * {@value #ADAPTIVE_BATCH_FETCH_MAX_SIZE}, enables adaptive batch fetching:
+	 * the batch size of every batch fetched entity and collection is widened
+	 * when sessions keep needing further batch fetches of it, and narrowed when
+	 * sessions keep leaving fetched batches unused.
+	 * <p>
+	 * Defaults to {@code 2}.
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MAX_SIZE
+	 * @see org.hibernate.stat.EntityStatistics#getBatchFetchSize()
+	 * @see org.hibernate.stat.CollectionStatistics#getBatchFetchSize()
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_MIN_SIZE = "hibernate.adaptive_batch_fetch_min_size";
+
+	/**
+	 * Specifies the largest batch size an entity or collection which is batch
+	 * fetched may be widened to at runtime, when adaptive batch fetching is
+	 * enabled. Batch fetching starts out with the configured batch size of the
+	 * entity or collection.
+	 * <p>
+	 * Defaults to the configured batch size of each entity or collection, in
+	 * which case batch sizes are only ever narrowed.
+	 *
+	 * @see #ADAPTIVE_BATCH_FETCH_MIN_SIZE
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String ADAPTIVE_BATCH_FETCH_MAX_SIZE = "hibernate.adaptive_batch_fetch_max_size";
+
+	/**
+	 * When enabled, Hibernate learns which {@linkplain org.hibernate.annotations.LazyGroup
+	 * lazy fetch groups} of each bytecode enhanced entity are usually accessed together,
+	 * and loads them in a single SQL statement when one of them is first accessed,
+	 * instead of loading one fetch group at a time.
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.bytecode.enhance.spi.interceptor.LazyFetchGroupCoAccessTracker
+	 * @see org.hibernate.stat.EntityStatistics#getCoAccessedLazyFetchGroups()
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String ADAPTIVE_LAZY_FETCH_GROUPS = "hibernate.adaptive_lazy_fetch_groups";
+
 	/**
 	 * When enabled, Hibernate will use subselect fetching, when possible, to
 	 * fetch any collection.
@@ -1093,6 +1162,27 @@ public interface AvailableSettings {
 	 */
 	String STATEMENT_BATCH_SIZE = "hibernate.jdbc.batch_size";
 
+	/**
+	 * Specifies the maximum number of prepared statements which a session keeps open
+	 * for reuse after they were released, keyed by their SQL. Statements are only kept
+	 * while the session holds its JDBC connection, and are closed along with the other
+	 * JDBC resources of the session, at the latest when the connection is released.
+	 * <p>
+	 * Only plain statements are cached: callable statements, statements returning
+	 * generated keys and statements for scrollable results are always closed. A cached
+	 * statement is cleaned up before it is reused, that is, its parameters, batch,
+	 * warnings, fetch size, maximum row count and query timeout are reset.
+	 * <p>
+	 * By default, or when set to {@code 0}, statements are closed as soon as they are
+	 * released, leaving statement caching to the JDBC driver or connection pool.
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Specifies a custom {@link BatchBuilder}.
 	 */
@@ -1106,6 +1196,47 @@ public interface AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * When enabled, allows JDBC batches for unrelated tables to be kept open at the
+	 * same time, so that a flush which interleaves mutations of many different entity
+	 * types needs fewer round trips to the database. Batches are only kept open side
+	 * by side when none of their tables are mapped by, or associated with, the same
+	 * entities or collections; any other batch is executed first.
+	 * <p>
+	 * This setting is disabled by default.
+	 *
+	 * @see #STATEMENT_BATCH_SIZE
+	 * @see #ORDER_INSERTS
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String BATCH_OVERLAP = "hibernate.jdbc.batch_overlap";
+
+	/**
+	 * Specifies the maximum number of rows which are inserted by a single batched
+	 * {@code insert} statement, using a multi-row {@code values} list of form
+	 * {@code insert into t (a,b) values (?,?),(?,?)}. Consecutive batched inserts into
+	 * the same table are folded into such statements, which are in turn added to the
+	 * JDBC batch. The number of rows is further limited by the JDBC batch size and the
+	 * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() parameter limit}
+	 * of the database.
+	 * <p>
+	 * Only takes effect when {@linkplain #STATEMENT_BATCH_SIZE JDBC batching} is enabled
+	 * and the {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert()
+	 * database supports} multi-row {@code values} lists. Inserts using custom SQL are
+	 * never folded.
+	 * <p>
+	 * By default, or when set to {@code 1} or less, every row is inserted by its own
+	 * statement.
+	 *
+	 * @see #STATEMENT_BATCH_SIZE
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String MULTI_ROW_INSERT_SIZE = "hibernate.jdbc.multi_row_insert_size";
+
 	/**
 	 * Specifies the {@linkplain java.util.TimeZone time zone} to use in the JDBC driver,
 	 * which is supposed to match the database timezone.
@@ -1233,6 +1364,22 @@ public interface AvailableSettings {
 	 */
 	String QUERY_MULTI_TABLE_MUTATION_STRATEGY = "hibernate.query.mutation_strategy";
 
+	/**
+	 * When enabled, and no {@linkplain #QUERY_MULTI_TABLE_MUTATION_STRATEGY global strategy}
+	 * is specified, HQL and Criteria mutation queries against entities mapped to multiple
+	 * tables choose, per statement, between inlining the matching ids, a single statement
+	 * using a CTE, and the default strategy of the dialect, based on the number of rows the
+	 * statement affects.
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.query.sqm.mutation.internal.AdaptiveMutationStrategy
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String QUERY_MULTI_TABLE_MUTATION_STRATEGY_ADAPTIVE = "hibernate.query.mutation_strategy.adaptive";
+
 	/**
 	 * Defines the "global" strategy to use for handling HQL and Criteria insert queries.
 	 * Specifies a {@link org.hibernate.query.sqm.mutation.spi.SqmMultiTableInsertStrategy}.
@@ -1250,6 +1397,29 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * When enabled, specifies that named HQL queries be interpreted in parallel while
+	 * the {@link org.hibernate.SessionFactory} is created, using one thread per available
+	 * processor. The interpretations are kept in the query plan cache, so that the first
+	 * execution of a named query does not have to parse it.
+	 * <p>
+	 * Named select queries are also translated to SQL, and their select plans are put
+	 * in the query plan cache. The translation is done with the options of the named
+	 * query and without an explicit result type, and is reused by executions matching
+	 * these.
+	 * <p>
+	 * If {@linkplain #QUERY_STARTUP_CHECKING startup checking} is disabled, the named
+	 * queries are still interpreted, but errors are only reported when a query is used.
+	 * <p>
+	 * This setting is disabled by default.
+	 *
+	 * @see #QUERY_PLAN_CACHE_ENABLED
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String QUERY_STARTUP_WARM_UP = "hibernate.query.startup_warm_up";
+
 	/**
 	 * Enable ordering of update statements by primary key value, for the purpose of more
 	 * efficient JDBC batching
@@ -1518,6 +1688,23 @@ public interface AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of compact second-level cache entries, which keep the values of
+	 * numeric, boolean and character attributes packed into a primitive array, instead
+	 * of one boxed object per value. This reduces the heap footprint of cached entities,
+	 * in particular of cache regions kept on the heap.
+	 * <p>
+	 * Has no effect if {@linkplain #USE_STRUCTURED_CACHE structured} or
+	 * {@linkplain #USE_DIRECT_REFERENCE_CACHE_ENTRIES direct reference} cache entries
+	 * are used.
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -2682,6 +2869,54 @@ public interface AvailableSettings {
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
 
+	/**
+	 * When enabled, and {@linkplain #GENERATE_STATISTICS statistics} are collected,
+	 * the time spent in each phase of a flush is measured per entity type, and
+	 * exposed by {@link org.hibernate.stat.Statistics#getFlushStatistics(String)}
+	 * and {@link org.hibernate.stat.SessionStatistics#getFlushStatistics()}.
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.stat.Statistics#setFlushProfilingEnabled(boolean)
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String FLUSH_PROFILING = "hibernate.statistics.flush_profiling";
+
+	/**
+	 * The number of the most recent executions of SQL queries slower than the
+	 * {@linkplain #LOG_SLOW_QUERY slow query threshold} which are sampled, along
+	 * with their parameter values, and exposed by
+	 * {@link org.hibernate.stat.Statistics#getSlowQuerySamples()}, when
+	 * {@linkplain #GENERATE_STATISTICS statistics} are collected.
+	 * <p>
+	 * The default value is {@value org.hibernate.stat.Statistics#DEFAULT_SLOW_QUERY_SAMPLE_SIZE}.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String SLOW_QUERY_SAMPLE_SIZE = "hibernate.statistics.slow_query_sample_size";
+
+	/**
+	 * When enabled, the execution plan of each sampled slow query is obtained
+	 * from the database, using a separate connection, if the dialect
+	 * {@linkplain org.hibernate.dialect.Dialect#getExplainSql(String) supports it}.
+	 * <p>
+	 * The plan is obtained by the thread which executed the query, right after
+	 * the execution, so this setting is meant for diagnosing performance issues,
+	 * rather than for production use. The plan of the same query is obtained at
+	 * most once per minute, and a failure to obtain it never fails the query.
+	 * <p>
+	 * The default value is {@code false}.
+	 *
+	 * @see #SLOW_QUERY_SAMPLE_SIZE
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	String SLOW_QUERY_EXPLAIN = "hibernate.statistics.slow_query_explain";
+
 	/**
 	 * This setting defines the {@link org.hibernate.id.SequenceMismatchStrategy} used
 	 * when Hibernate detects a mismatch between a sequence configuration in an entity
@@ -148,6 +148,11 @@ public class DB2zDialect extends DB2Dialect {
 		return true;
 	}
 
+	@Override
+	public boolean supportsValuesListForInsert() {
+		return false;
+	}
+
 	@Override
 	public boolean supportsRecursiveCTE() {
 		return true;
@@ -3926,6 +3926,26 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return query;
 	}
 
+	/**
+	 * The SQL statement which obtains the execution plan of the given
+	 * SQL query, with the same parameters, as a result set. Each row
+	 * of the result set is read as a line of the plan.
+	 * <p>
+	 * By default, execution plans are not supported, and this method
+	 * returns {@code null}.
+	 *
+	 * @param sql The SQL query
+	 * @return The SQL statement, or {@code null} if execution plans
+	 *         are not supported
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_EXPLAIN
+	 *
+	 * @since 6.3
+	 */
+	public String getExplainSql(String sql) {
+		return null;
+	}
+
 	/**
 	 * A default {@link ScrollMode} to be used by {@link Query#scroll()}.
 	 *
@@ -3937,6 +3957,20 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC fetch size to use when {@linkplain org.hibernate.jpa.HibernateHints#HINT_STREAMING
+	 * streaming} the results of a query which does not specify a fetch size itself. It should
+	 * make the driver read the results incrementally, usually through a server-side cursor,
+	 * instead of reading all of them when the query is executed.
+	 *
+	 * @see java.sql.Statement#setFetchSize(int)
+	 *
+	 * @since 6.3
+	 */
+	public int getDefaultStreamingFetchSize() {
+		return 1000;
+	}
+
 	/**
 	 * Does this dialect support {@code offset} in subqueries?
 	 * <p>
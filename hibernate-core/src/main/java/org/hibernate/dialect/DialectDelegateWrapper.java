@@ -1189,11 +1189,21 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.getQueryHintString( query, hints );
 	}
 
+	@Override
+	public String getExplainSql(String sql) {
+		return wrapped.getExplainSql( sql );
+	}
+
 	@Override
 	public ScrollMode defaultScrollMode() {
 		return wrapped.defaultScrollMode();
 	}
 
+	@Override
+	public int getDefaultStreamingFetchSize() {
+		return wrapped.getDefaultStreamingFetchSize();
+	}
+
 	@Override
 	public boolean supportsOffsetInSubquery() {
 		return wrapped.supportsOffsetInSubquery();
@@ -601,6 +601,11 @@ public class H2Dialect extends Dialect {
 		return OffsetFetchLimitHandler.INSTANCE;
 	}
 
+	@Override
+	public String getExplainSql(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public boolean supportsDistinctFromPredicate() {
 		return true;
@@ -351,6 +351,11 @@ public class HSQLDialect extends Dialect {
 		return OffsetFetchLimitHandler.INSTANCE;
 	}
 
+	@Override
+	public String getExplainSql(String sql) {
+		return "explain plan for " + sql;
+	}
+
 	// Note: HSQLDB actually supports IF EXISTS before AND after the table name.
 	// But as CASCADE has to be after IF EXISTS in case it's after the table name,
 	// we put the IF EXISTS before the table name to be able to add CASCADE after.
@@ -167,6 +167,12 @@ public class MariaDBDialect extends MySQLDialect {
 		return false;
 	}
 
+	@Override
+	public int getDefaultStreamingFetchSize() {
+		// the MariaDB driver streams results with any positive fetch size
+		return 1000;
+	}
+
 	@Override
 	public boolean supportsRecursiveCTE() {
 		return true;
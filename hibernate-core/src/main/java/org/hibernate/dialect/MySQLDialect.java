@@ -903,6 +903,11 @@ public class MySQLDialect extends Dialect {
 		return IndexQueryHintHandler.INSTANCE.addQueryHints( query, hints );
 	}
 
+	@Override
+	public String getExplainSql(String sql) {
+		return "explain " + sql;
+	}
+
 	/**
 	 * No support for sequences.
 	 */
@@ -1470,6 +1475,21 @@ public class MySQLDialect extends Dialect {
 		return getMySQLVersion().isSameOrAfter( 8 );
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @implNote Connector/J only reads the rows one by one, instead of all at once, with
+	 * this fetch size. While the results are read, no other statement can be executed on
+	 * the connection, so lazy loading, batch fetching and other queries fail until the
+	 * stream is closed. With {@code useCursorFetch=true} in the connection properties, a
+	 * positive {@linkplain org.hibernate.jpa.HibernateHints#HINT_FETCH_SIZE fetch size}
+	 * reads the rows through a server-side cursor instead, without this restriction.
+	 */
+	@Override
+	public int getDefaultStreamingFetchSize() {
+		return Integer.MIN_VALUE;
+	}
+
 	@Override
 	public boolean canDisableConstraints() {
 		return true;
@@ -757,6 +757,11 @@ public class PostgreSQLDialect extends Dialect {
 		return OffsetFetchLimitHandler.INSTANCE;
 	}
 
+	@Override
+	public String getExplainSql(String sql) {
+		return "explain " + sql;
+	}
+
 	@Override
 	public String getForUpdateString(String aliases) {
 		return getForUpdateString() + " of " + aliases;
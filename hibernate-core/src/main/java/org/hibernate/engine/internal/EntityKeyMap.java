@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.engine.internal;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+/**
+ * The storage of {@link StatefulPersistenceContext} for state indexed by {@link EntityKey}.
+ * <p>
+ * On top of the allocation free access provided by {@link OpenAddressingHashMap},
+ * the equality check is specialized for keys sharing the same persister and having
+ * a {@code Long} or {@code Integer} identifier: these are compared by their primitive
+ * value, skipping the dispatch through the identifier {@code Type}. Such keys are
+ * by far the most common, and for these types the comparison is equivalent.
+ */
+final class EntityKeyMap<V> extends OpenAddressingHashMap<EntityKey, V> {
+
+	EntityKeyMap() {
+	}
+
+	EntityKeyMap(int expectedSize) {
+		super( expectedSize );
+	}
+
+	@Override
+	protected boolean keysEqual(EntityKey storedKey, Object key) {
+		if ( storedKey == key ) {
+			return true;
+		}
+		if ( key instanceof EntityKey ) {
+			final EntityKey entityKey = (EntityKey) key;
+			if ( storedKey.getPersister() == entityKey.getPersister() ) {
+				final Object storedId = storedKey.getIdentifier();
+				final Object id = entityKey.getIdentifier();
+				if ( storedId instanceof Long && id instanceof Long ) {
+					return ( (Long) storedId ).longValue() == ( (Long) id ).longValue();
+				}
+				else if ( storedId instanceof Integer && id instanceof Integer ) {
+					return ( (Integer) storedId ).intValue() == ( (Integer) id ).intValue();
+				}
+			}
+		}
+		return storedKey.equals( key );
+	}
+}
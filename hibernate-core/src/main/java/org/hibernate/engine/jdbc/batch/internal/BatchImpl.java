@@ -8,7 +8,10 @@ package org.hibernate.engine.jdbc.batch.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
@@ -22,7 +25,10 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
+import org.hibernate.sql.model.TableMapping;
 
 import static org.hibernate.engine.jdbc.JdbcLogging.JDBC_MESSAGE_LOGGER;
 import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_DEBUG_ENABLED;
@@ -48,6 +54,9 @@ public class BatchImpl implements Batch {
 
 	private final LinkedHashSet<BatchObserver> observers = new LinkedHashSet<>();
 
+	private final SharedSessionContractImplementor session;
+	private final Map<String, MultiRowInsert> multiRowInserts;
+
 	private int batchPosition;
 	private boolean batchExecuted;
 
@@ -73,6 +82,26 @@ public class BatchImpl implements Batch {
 
 		this.batchSizeToUse = batchSizeToUse;
 
+		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
+		final int multiRowInsertSize = Math.min(
+				batchSizeToUse,
+				jdbcSessionOwner.getJdbcSessionContext().getSessionFactory()
+						.getSessionFactoryOptions()
+						.getMultiRowInsertSize()
+		);
+		if ( multiRowInsertSize > 1 && jdbcSessionOwner instanceof SharedSessionContractImplementor ) {
+			this.session = (SharedSessionContractImplementor) jdbcSessionOwner;
+			this.multiRowInserts = resolveMultiRowInserts(
+					statementGroup,
+					multiRowInsertSize,
+					jdbcServices.getDialect().getParameterCountLimit()
+			);
+		}
+		else {
+			this.session = null;
+			this.multiRowInserts = Collections.emptyMap();
+		}
+
 		if ( BATCH_TRACE_ENABLED ) {
 			BATCH_LOGGER.tracef(
 					"Created Batch (%s) - `%s`",
@@ -82,6 +111,24 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	private static Map<String, MultiRowInsert> resolveMultiRowInserts(
+			PreparedStatementGroup statementGroup,
+			int multiRowInsertSize,
+			int parameterCountLimit) {
+		final Map<String, MultiRowInsert> multiRowInserts = new HashMap<>();
+		statementGroup.forEachStatement( (tableName, statementDetails) -> {
+			final MultiRowInsert multiRowInsert = MultiRowInsert.from(
+					statementDetails,
+					multiRowInsertSize,
+					parameterCountLimit
+			);
+			if ( multiRowInsert != null ) {
+				multiRowInserts.put( tableName, multiRowInsert );
+			}
+		} );
+		return multiRowInserts.isEmpty() ? Collections.emptyMap() : multiRowInserts;
+	}
+
 	@Override
 	public final BatchKey getKey() {
 		return key;
@@ -120,6 +167,12 @@ public class BatchImpl implements Batch {
 					return;
 				}
 
+				final MultiRowInsert multiRowInsert = multiRowInserts.get( tableName );
+				if ( multiRowInsert != null ) {
+					addToMultiRowInsert( multiRowInsert, jdbcValueBindings, statementDetails.getMutatingTableDetails() );
+					return;
+				}
+
 				//noinspection resource
 				final PreparedStatement statement = statementDetails.resolveStatement();
 				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
@@ -155,6 +208,29 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	private void addToMultiRowInsert(
+			MultiRowInsert multiRowInsert,
+			JdbcValueBindings jdbcValueBindings,
+			TableMapping mutatingTable) {
+		try {
+			if ( multiRowInsert.addRow( jdbcValueBindings.getBindingGroup( mutatingTable.getTableName() ) ) ) {
+				sqlStatementLogger.logStatement( multiRowInsert.getSqlString() );
+				multiRowInsert.addBatch( jdbcCoordinator, session );
+			}
+		}
+		catch (SQLException e) {
+			BATCH_LOGGER.debug( "SQLException escaped proxy", e );
+			throw sqlExceptionHelper.convert(
+					e,
+					"Could not perform addBatch",
+					multiRowInsert.getSqlString()
+			);
+		}
+		finally {
+			jdbcValueBindings.afterStatement( mutatingTable );
+		}
+	}
+
 	protected void releaseStatements() {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
@@ -168,6 +244,9 @@ public class BatchImpl implements Batch {
 			clearBatch( statementDetails );
 		} );
 
+		for ( MultiRowInsert multiRowInsert : multiRowInserts.values() ) {
+			multiRowInsert.release( jdbcCoordinator );
+		}
 		statementGroup.release();
 		jdbcCoordinator.afterStatementExecution();
 	}
@@ -260,6 +339,11 @@ public class BatchImpl implements Batch {
 		final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
 		try {
 			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
+				final MultiRowInsert multiRowInsert = multiRowInserts.get( tableName );
+				if ( multiRowInsert != null ) {
+					executeMultiRowInsert( multiRowInsert, statementDetails, observer );
+				}
+
 				final String sql = statementDetails.getSqlString();
 				final PreparedStatement statement = statementDetails.getStatement();
 
@@ -277,7 +361,13 @@ public class BatchImpl implements Batch {
 						finally {
 							observer.jdbcExecuteBatchEnd();
 						}
-						checkRowCounts( rowCounts, statementDetails );
+						if ( multiRowInsert == null ) {
+							checkRowCounts( rowCounts, statementDetails );
+						}
+						else {
+							// only the rows left over by the multi-row statements were batched here
+							verifyOutcomes( rowCounts, statementDetails );
+						}
 					}
 					else {
 						statement.executeBatch();
@@ -300,6 +390,41 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	/**
+	 * Executes the multi-row statements batched for the given statement, after adding
+	 * the rows left over by them to the batch of the single-row statement.
+	 */
+	private void executeMultiRowInsert(
+			MultiRowInsert multiRowInsert,
+			PreparedStatementDetails statementDetails,
+			JdbcObserver observer) {
+		final String sql = multiRowInsert.getSqlString();
+		try {
+			if ( multiRowInsert.hasRemainingRows() ) {
+				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+				multiRowInsert.addRemainingRowsToBatch( session );
+			}
+			if ( multiRowInsert.hasBatchedStatements() ) {
+				if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+					multiRowInsert.executeBatch( observer );
+				}
+				else {
+					multiRowInsert.executeBatch();
+				}
+			}
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+			throw re;
+		}
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 ) {
@@ -313,7 +438,11 @@ public class BatchImpl implements Batch {
 			}
 		}
 
-		for ( int i = 0; i < numberOfRowCounts; i++ ) {
+		verifyOutcomes( rowCounts, statementDetails );
+	}
+
+	private static void verifyOutcomes(int[] rowCounts, PreparedStatementDetails statementDetails) throws SQLException {
+		for ( int i = 0; i < rowCounts.length; i++ ) {
 			statementDetails.getExpectation().verifyOutcome( rowCounts[i], statementDetails.getStatement(), i, statementDetails.getSqlString() );
 		}
 	}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.AnyType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Knows which mutated tables might depend on each other, to decide whether the
+ * JDBC batches for two tables may be kept open at the same time.
+ * <p>
+ * Two tables are considered related if they are mapped by the same entity
+ * (hierarchy) or collection, or if one of them belongs to an entity or collection
+ * which is associated with the entity or collection the other one belongs to. In
+ * other words, a foreign key can only exist between related tables, so statements
+ * against unrelated tables may be executed in any order.
+ * <p>
+ * Tables which are not known to the mapping model, or whose entity has an
+ * {@linkplain AnyType any-valued} association, are considered to be related to
+ * every other table.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#BATCH_OVERLAP
+ */
+public final class BatchTableDependencies {
+	private final Map<String, Set<String>> relatedTablesByTable;
+
+	private BatchTableDependencies(Map<String, Set<String>> relatedTablesByTable) {
+		this.relatedTablesByTable = relatedTablesByTable;
+	}
+
+	public static BatchTableDependencies from(MappingMetamodel mappingMetamodel) {
+		final Map<String, Set<String>> relatedTablesByTable = new HashMap<>();
+		final Set<String> unrestrictedTables = new HashSet<>();
+
+		mappingMetamodel.forEachEntityDescriptor( (persister) -> {
+			final Set<String> tables = new HashSet<>();
+			addSpaces( tables, persister.getQuerySpaces() );
+			final boolean unrestricted = addAssociatedSpaces( tables, persister.getIdentifierType(), mappingMetamodel )
+					| addAssociatedSpaces( tables, persister.getPropertyTypes(), mappingMetamodel );
+			relate( tables, relatedTablesByTable );
+			if ( unrestricted ) {
+				addSpaces( unrestrictedTables, persister.getQuerySpaces() );
+			}
+		} );
+
+		mappingMetamodel.forEachCollectionDescriptor( (persister) -> {
+			final Set<String> tables = new HashSet<>();
+			addSpaces( tables, persister.getCollectionSpaces() );
+			addSpaces( tables, persister.getOwnerEntityPersister().getQuerySpaces() );
+			boolean unrestricted = addAssociatedSpaces( tables, persister.getElementType(), mappingMetamodel );
+			if ( persister.hasIndex() ) {
+				unrestricted |= addAssociatedSpaces( tables, persister.getIndexType(), mappingMetamodel );
+			}
+			relate( tables, relatedTablesByTable );
+			if ( unrestricted ) {
+				addSpaces( unrestrictedTables, persister.getCollectionSpaces() );
+			}
+		} );
+
+		// unknown tables are related to every other table
+		relatedTablesByTable.keySet().removeAll( unrestrictedTables );
+		return new BatchTableDependencies( relatedTablesByTable );
+	}
+
+	private static void addSpaces(Set<String> tables, Serializable[] spaces) {
+		for ( Serializable space : spaces ) {
+			tables.add( (String) space );
+		}
+	}
+
+	private static boolean addAssociatedSpaces(Set<String> tables, Type[] types, MappingMetamodel mappingMetamodel) {
+		boolean unrestricted = false;
+		for ( Type type : types ) {
+			unrestricted |= addAssociatedSpaces( tables, type, mappingMetamodel );
+		}
+		return unrestricted;
+	}
+
+	/**
+	 * @return {@code true} if the type may reference tables which cannot be determined up front
+	 */
+	private static boolean addAssociatedSpaces(Set<String> tables, Type type, MappingMetamodel mappingMetamodel) {
+		if ( type instanceof EntityType ) {
+			final String entityName = ( (EntityType) type ).getAssociatedEntityName();
+			addSpaces( tables, mappingMetamodel.getEntityDescriptor( entityName ).getQuerySpaces() );
+			return false;
+		}
+		else if ( type instanceof CollectionType ) {
+			final String role = ( (CollectionType) type ).getRole();
+			addSpaces( tables, mappingMetamodel.getCollectionDescriptor( role ).getCollectionSpaces() );
+			return false;
+		}
+		else if ( type instanceof ComponentType ) {
+			return addAssociatedSpaces( tables, ( (ComponentType) type ).getSubtypes(), mappingMetamodel );
+		}
+		else {
+			return type instanceof AnyType;
+		}
+	}
+
+	private static void relate(Set<String> tables, Map<String, Set<String>> relatedTablesByTable) {
+		for ( String table : tables ) {
+			relatedTablesByTable.computeIfAbsent( table, (t) -> new HashSet<>() ).addAll( tables );
+		}
+	}
+
+	/**
+	 * Collects the names of the tables mutated by the given batch.
+	 */
+	public static Set<String> mutatedTables(Batch batch) {
+		final Set<String> tables = new HashSet<>();
+		batch.getStatementGroup().forEachStatement(
+				(tableName, statementDetails) -> tables.add( statementDetails.getMutatingTableDetails().getTableName() )
+		);
+		return tables;
+	}
+
+	/**
+	 * Whether the statements against the given two sets of tables may be executed
+	 * in any order.
+	 */
+	public boolean areIndependent(Set<String> tables, Set<String> otherTables) {
+		for ( String table : tables ) {
+			final Set<String> relatedTables = relatedTablesByTable.get( table );
+			if ( relatedTables == null ) {
+				return false;
+			}
+			for ( String otherTable : otherTables ) {
+				if ( relatedTables.contains( otherTable ) || !relatedTablesByTable.containsKey( otherTable ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.sql.model.TableMapping;
+
+/**
+ * Folds the rows added to a JDBC batch for a standard {@code insert} statement
+ * into multi-row statements of form {@code insert into t (a,b) values (?,?),(?,?)}.
+ * <p>
+ * The values of each row are kept until enough rows for a multi-row statement
+ * are collected, the multi-row statement is then added to the JDBC batch. Rows
+ * which are left over when the batch is executed are added to the batch of the
+ * original single-row statement.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#MULTI_ROW_INSERT_SIZE
+ */
+class MultiRowInsert {
+	private final PreparedStatementDetails statementDetails;
+	private final String sql;
+	private final int parameterCount;
+	private final int rowsPerStatement;
+
+	private final List<List<Binding>> rows;
+	private PreparedStatement statement;
+	private int batchedStatements;
+
+	private MultiRowInsert(
+			PreparedStatementDetails statementDetails,
+			String sql,
+			int parameterCount,
+			int rowsPerStatement) {
+		this.statementDetails = statementDetails;
+		this.sql = sql;
+		this.parameterCount = parameterCount;
+		this.rowsPerStatement = rowsPerStatement;
+		this.rows = new ArrayList<>( rowsPerStatement );
+	}
+
+	/**
+	 * Creates a {@code MultiRowInsert} for the given statement, or returns {@code null}
+	 * if the statement is not a standard single-row {@code insert} statement, ending
+	 * with its {@code values} list and having parameters only within that list.
+	 */
+	static MultiRowInsert from(PreparedStatementDetails statementDetails, int maxRows, int parameterCountLimit) {
+		if ( maxRows < 2 || statementDetails.isCallable() ) {
+			return null;
+		}
+		final TableMapping.MutationDetails insertDetails = statementDetails.getMutatingTableDetails().getInsertDetails();
+		if ( insertDetails == null || insertDetails.getCustomSql() != null ) {
+			return null;
+		}
+
+		final String singleRowSql = statementDetails.getSqlString();
+		final int valuesStart = singleRowSql.lastIndexOf( ") values (" );
+		if ( valuesStart < 0
+				|| !singleRowSql.regionMatches( true, skipComment( singleRowSql ), "insert into ", 0, 12 ) ) {
+			return null;
+		}
+		// the position of the opening parenthesis of the values tuple
+		final int tupleStart = valuesStart + 9;
+		final int parameterCount = countTupleParameters( singleRowSql, tupleStart );
+		if ( parameterCount < 0 || singleRowSql.lastIndexOf( '?', tupleStart ) >= 0 ) {
+			return null;
+		}
+
+		int rowsPerStatement = maxRows;
+		if ( parameterCountLimit > 0 && parameterCount > 0 ) {
+			rowsPerStatement = Math.min( rowsPerStatement, parameterCountLimit / parameterCount );
+		}
+		if ( rowsPerStatement < 2 ) {
+			return null;
+		}
+
+		final String tuple = singleRowSql.substring( tupleStart );
+		final StringBuilder sql = new StringBuilder( tupleStart + ( tuple.length() + 1 ) * rowsPerStatement );
+		sql.append( singleRowSql, 0, tupleStart ).append( tuple );
+		for ( int i = 1; i < rowsPerStatement; i++ ) {
+			sql.append( ',' ).append( tuple );
+		}
+		return new MultiRowInsert( statementDetails, sql.toString(), parameterCount, rowsPerStatement );
+	}
+
+	private static int skipComment(String sql) {
+		if ( sql.startsWith( "/*" ) ) {
+			final int end = sql.indexOf( "*/" );
+			if ( end > 0 ) {
+				int position = end + 2;
+				while ( position < sql.length() && Character.isWhitespace( sql.charAt( position ) ) ) {
+					position++;
+				}
+				return position;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Counts the parameters of the values tuple starting at the given position.
+	 *
+	 * @return the number of parameters, or {@code -1} if the tuple does not end the statement
+	 */
+	private static int countTupleParameters(String sql, int tupleStart) {
+		int depth = 0;
+		int parameterCount = 0;
+		boolean quoted = false;
+		for ( int i = tupleStart; i < sql.length(); i++ ) {
+			final char c = sql.charAt( i );
+			if ( c == '\'' ) {
+				quoted = !quoted;
+			}
+			else if ( !quoted ) {
+				if ( c == '(' ) {
+					depth++;
+				}
+				else if ( c == ')' ) {
+					depth--;
+					if ( depth == 0 ) {
+						return i == sql.length() - 1 ? parameterCount : -1;
+					}
+				}
+				else if ( c == '?' ) {
+					parameterCount++;
+				}
+			}
+		}
+		return -1;
+	}
+
+	String getSqlString() {
+		return sql;
+	}
+
+	boolean hasRemainingRows() {
+		return !rows.isEmpty();
+	}
+
+	/**
+	 * Keeps the values of another row.
+	 *
+	 * @return whether enough rows for a multi-row statement have been collected
+	 */
+	boolean addRow(BindingGroup bindingGroup) {
+		rows.add( bindingGroup == null ? List.of() : new ArrayList<>( bindingGroup.getBindings() ) );
+		return rows.size() == rowsPerStatement;
+	}
+
+	/**
+	 * Binds the collected rows to the multi-row statement and adds it to the JDBC batch.
+	 */
+	void addBatch(JdbcCoordinator jdbcCoordinator, SharedSessionContractImplementor session) throws SQLException {
+		assert rows.size() == rowsPerStatement;
+		if ( statement == null ) {
+			statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+			statementDetails.getExpectation().prepare( statement );
+		}
+		for ( int row = 0; row < rows.size(); row++ ) {
+			bind( statement, rows.get( row ), row * parameterCount, session );
+		}
+		statement.addBatch();
+		batchedStatements++;
+		rows.clear();
+	}
+
+	/**
+	 * Adds the rows not yet part of a multi-row statement to the JDBC batch of the
+	 * single-row statement.
+	 */
+	void addRemainingRowsToBatch(SharedSessionContractImplementor session) throws SQLException {
+		final PreparedStatement singleRowStatement = statementDetails.resolveStatement();
+		for ( List<Binding> row : rows ) {
+			bind( singleRowStatement, row, 0, session );
+			singleRowStatement.addBatch();
+		}
+		rows.clear();
+	}
+
+	private void bind(
+			PreparedStatement statement,
+			List<Binding> row,
+			int offset,
+			SharedSessionContractImplementor session) {
+		for ( Binding binding : row ) {
+			try {
+				binding.getValueBinder().bind( statement, binding.getValue(), binding.getPosition() + offset, session );
+			}
+			catch (SQLException e) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						String.format(
+								Locale.ROOT,
+								"Unable to bind parameter #%s - %s",
+								binding.getPosition() + offset,
+								binding.getValue()
+						),
+						sql
+				);
+			}
+		}
+	}
+
+	boolean hasBatchedStatements() {
+		return batchedStatements > 0;
+	}
+
+	/**
+	 * Executes the batched multi-row statements.
+	 */
+	void executeBatch() throws SQLException {
+		batchedStatements = 0;
+		statement.executeBatch();
+	}
+
+	/**
+	 * Executes the batched multi-row statements, verifying the outcome of each of
+	 * them against the expectation of the single-row statement.
+	 */
+	void executeBatch(JdbcObserver observer) throws SQLException {
+		final int[] rowCounts;
+		try {
+			observer.jdbcExecuteBatchStart();
+			rowCounts = statement.executeBatch();
+		}
+		finally {
+			observer.jdbcExecuteBatchEnd();
+		}
+		batchedStatements = 0;
+		for ( int i = 0; i < rowCounts.length; i++ ) {
+			// every row of a multi-row statement counts as one execution of the single-row statement
+			final int rowCount = rowCounts[i] == rowsPerStatement ? 1 : rowCounts[i];
+			statementDetails.getExpectation().verifyOutcome( rowCount, statement, i, sql );
+		}
+	}
+
+	/**
+	 * Discards the collected rows and releases the multi-row statement.
+	 */
+	void release(JdbcCoordinator jdbcCoordinator) {
+		rows.clear();
+		batchedStatements = 0;
+		if ( statement != null ) {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			statement = null;
+		}
+	}
+}
@@ -8,18 +8,25 @@ package org.hibernate.engine.jdbc.connections.internal;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -37,15 +44,24 @@ import org.hibernate.service.spi.ServiceException;
 import org.hibernate.service.spi.ServiceRegistryAwareService;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.Stoppable;
+import org.hibernate.stat.ConnectionPoolStatistics;
 
 import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_LOGGER;
 import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MESSAGE_LOGGER;
 
 /**
  * A connection provider that uses the {@link DriverManager} directly to open connections and provides
- * a very rudimentary connection pool.
+ * a simple connection pool.
+ * <p>
+ * The pool hands out idle connections without locking, waits for a connection to be returned for
+ * at most the {@linkplain #ACQUISITION_TIMEOUT acquisition timeout} once it has reached its maximum
+ * size, keeps idle connections alive, retires connections after their {@linkplain #MAX_LIFETIME
+ * maximum lifetime}, and reports {@linkplain #LEAK_DETECTION_THRESHOLD leaked} connections. Its
+ * {@linkplain #getConnectionPoolStatistics() statistics} are exposed via
+ * {@link org.hibernate.stat.Statistics#getConnectionPoolStatistics()}.
  *
- * @implNote Not intended for use in production systems!
+ * @implNote A dedicated connection pool, or a pooled {@link javax.sql.DataSource}, offers more
+ * options and monitoring, and is still recommended for production systems.
  *
  * @author Gavin King
  * @author Steve Ebersole
@@ -53,14 +69,16 @@ import static org.hibernate.internal.log.ConnectionPoolingLogger.CONNECTIONS_MES
 public class DriverManagerConnectionProviderImpl
 		implements ConnectionProvider, Configurable, Stoppable, ServiceRegistryAwareService, ConnectionValidator {
 
-	//Thanks to Oleg Varaksin and his article on object pooling using the {@link java.util.concurrent}
-	//package, from which much of the pooling code here is derived.
-	//See http://ovaraksin.blogspot.com/2013/08/simple-and-lightweight-pool.html
-
 	public static final String MIN_SIZE = "hibernate.connection.min_pool_size";
 	public static final String INITIAL_SIZE = "hibernate.connection.initial_pool_size";
 	// in TimeUnit.SECONDS
 	public static final String VALIDATION_INTERVAL = "hibernate.connection.pool_validation_interval";
+	// in TimeUnit.MILLISECONDS
+	public static final String ACQUISITION_TIMEOUT = "hibernate.connection.pool_acquisition_timeout";
+	// in TimeUnit.SECONDS
+	public static final String MAX_LIFETIME = "hibernate.connection.pool_max_lifetime";
+	// in TimeUnit.SECONDS
+	public static final String LEAK_DETECTION_THRESHOLD = "hibernate.connection.pool_leak_detection_threshold";
 	public static final String INIT_SQL ="hibernate.connection.init_sql";
 	public static final String CONNECTION_CREATOR_FACTORY ="hibernate.connection.creator_factory_class";
 
@@ -88,6 +106,10 @@ public class DriverManagerConnectionProviderImpl
 		final int minSize = ConfigurationHelper.getInt( MIN_SIZE, configurationValues, 1 );
 		final int maxSize = ConfigurationHelper.getInt( AvailableSettings.POOL_SIZE, configurationValues, 20 );
 		final int initialSize = ConfigurationHelper.getInt( INITIAL_SIZE, configurationValues, minSize );
+		final long acquisitionTimeout = ConfigurationHelper.getLong( ACQUISITION_TIMEOUT, configurationValues, 0 );
+		final long maxLifetime = ConfigurationHelper.getLong( MAX_LIFETIME, configurationValues, 0 );
+		final long leakDetectionThreshold = ConfigurationHelper.getLong( LEAK_DETECTION_THRESHOLD, configurationValues, 0 );
+		final long validationInterval = ConfigurationHelper.getLong( VALIDATION_INTERVAL, configurationValues, 30 );
 
 		ConnectionCreator connectionCreator = buildCreator( configurationValues, serviceRegistry );
 		PooledConnections.Builder pooledConnectionBuilder = new PooledConnections.Builder(
@@ -98,6 +120,10 @@ public class DriverManagerConnectionProviderImpl
 		pooledConnectionBuilder.minSize( minSize );
 		pooledConnectionBuilder.maxSize( maxSize );
 		pooledConnectionBuilder.validator( this );
+		pooledConnectionBuilder.acquisitionTimeout( acquisitionTimeout );
+		pooledConnectionBuilder.maxLifetime( TimeUnit.SECONDS.toMillis( maxLifetime ) );
+		pooledConnectionBuilder.leakDetectionThreshold( TimeUnit.SECONDS.toMillis( leakDetectionThreshold ) );
+		pooledConnectionBuilder.keepAliveInterval( TimeUnit.SECONDS.toMillis( validationInterval ) );
 		return pooledConnectionBuilder.build();
 	}
 
@@ -292,12 +318,22 @@ public class DriverManagerConnectionProviderImpl
 	}
 
 	protected void validateConnectionsReturned() {
-		int allocationCount = state.pool.allConnections.size() - state.pool.availableConnections.size();
+		int allocationCount = state.pool.getAllocationCount();
 		if ( allocationCount != 0 ) {
 			CONNECTIONS_MESSAGE_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections");
 		}
 	}
 
+	/**
+	 * The statistics of the connection pool.
+	 */
+	public ConnectionPoolStatistics getConnectionPoolStatistics() {
+		if ( state == null ) {
+			throw new IllegalStateException( "Cannot get the statistics as the driver manager is not properly initialized" );
+		}
+		return state.pool.getStatistics();
+	}
+
 	// destroy the pool ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override
@@ -336,16 +372,60 @@ public class DriverManagerConnectionProviderImpl
 		state.pool.releasePooledConnections();
 	}
 
+	/**
+	 * The pool of connections.
+	 * <p>
+	 * Obtaining and returning a connection never blocks while the pool has an idle
+	 * connection, or room for another one: idle connections are claimed by atomically
+	 * switching their state, starting with the last connection the current thread used.
+	 * Once the pool has reached its maximum size, threads wait, in order, for a
+	 * connection to be handed off to them as it is returned, for at most the
+	 * {@linkplain #ACQUISITION_TIMEOUT acquisition timeout}.
+	 * <p>
+	 * The {@linkplain #validate() periodic validation} retires connections which reached
+	 * their {@linkplain #MAX_LIFETIME maximum lifetime}, checks the connections which
+	 * stayed idle since the previous validation, reports connections in use for longer
+	 * than the {@linkplain #LEAK_DETECTION_THRESHOLD leak detection threshold}, and
+	 * maintains the minimum size of the pool.
+	 */
 	public static class PooledConnections {
-
-		private final ConcurrentLinkedQueue<Connection> allConnections = new ConcurrentLinkedQueue<>();
-		private final ConcurrentLinkedQueue<Connection> availableConnections = new ConcurrentLinkedQueue<>();
+		private static final int IDLE = 0;
+		private static final int IN_USE = 1;
+		private static final int REMOVED = -1;
+
+		/**
+		 * How long a waiting thread polls for a handed off connection before looking
+		 * for an idle connection itself, in case a connection was returned just before
+		 * the thread started waiting
+		 */
+		private static final long HANDOFF_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos( 10 );
+
+		/**
+		 * How long the validation waits for the database to confirm that an idle
+		 * connection is still valid, in seconds
+		 */
+		private static final int KEEP_ALIVE_TIMEOUT_SECONDS = 5;
+
+		private final CopyOnWriteArrayList<PooledConnection> allConnections = new CopyOnWriteArrayList<>();
+		private final AtomicInteger connectionCount = new AtomicInteger();
+		/**
+		 * Only weakly references the connection, since there is no way to clear the
+		 * value of every thread once the pool is stopped
+		 */
+		private final ThreadLocal<WeakReference<PooledConnection>> lastUsedConnection = new ThreadLocal<>();
+		private final SynchronousQueue<PooledConnection> handoffQueue = new SynchronousQueue<>( true );
+		private final AtomicInteger waitingThreadCount = new AtomicInteger();
+		private final PoolStatistics statistics = new PoolStatistics();
 
 		private final ConnectionCreator connectionCreator;
 		private final ConnectionValidator connectionValidator;
 		private final boolean autoCommit;
 		private final int minSize;
 		private final int maxSize;
+		private final long acquisitionTimeoutNanos;
+		private final long maxLifetimeNanos;
+		private final long leakDetectionThresholdNanos;
+		private final long keepAliveIntervalNanos;
 
 		private volatile boolean primed;
 
@@ -359,12 +439,45 @@ public class DriverManagerConnectionProviderImpl
 			autoCommit = builder.autoCommit;
 			maxSize = builder.maxSize;
 			minSize = builder.minSize;
+			acquisitionTimeoutNanos = TimeUnit.MILLISECONDS.toNanos( builder.acquisitionTimeout );
+			maxLifetimeNanos = TimeUnit.MILLISECONDS.toNanos( builder.maxLifetime );
+			leakDetectionThresholdNanos = TimeUnit.MILLISECONDS.toNanos( builder.leakDetectionThreshold );
+			keepAliveIntervalNanos = TimeUnit.MILLISECONDS.toNanos( builder.keepAliveInterval );
 			CONNECTIONS_MESSAGE_LOGGER.hibernateConnectionPoolSize( maxSize, minSize );
 			addConnections( builder.initialSize );
 		}
 
 		public void validate() {
-			final int size = size();
+			final long now = System.nanoTime();
+			for ( PooledConnection pooled : allConnections ) {
+				if ( pooled.reserve() ) {
+					if ( pooled.isExpired( now ) ) {
+						statistics.expiredConnectionCount.increment();
+						closeConnection( pooled.connection, null );
+					}
+					else if ( now - pooled.lastAccess >= keepAliveIntervalNanos ) {
+						// keep the idle connection alive, and make sure it still is
+						if ( keepAlive( pooled.connection ) != null ) {
+							makeAvailable( pooled, now );
+						}
+					}
+					else {
+						pooled.state.set( IDLE );
+						handOff( pooled );
+					}
+				}
+				else if ( pooled.isLeaked( now ) ) {
+					pooled.leakReported = true;
+					statistics.leakedConnectionCount.increment();
+					CONNECTIONS_LOGGER.warnf(
+							pooled.acquisitionTrace,
+							"Connection leak detected: a connection has been in use for more than %s ms",
+							TimeUnit.NANOSECONDS.toMillis( leakDetectionThresholdNanos )
+					);
+				}
+			}
+
+			final int size = connectionCount.get();
 
 			if ( !primed && size >= minSize ) {
 				// IMPL NOTE : the purpose of primed is to allow the pool to lazily reach its
@@ -386,9 +499,51 @@ public class DriverManagerConnectionProviderImpl
 		}
 
 		public void add(Connection conn) throws SQLException {
+			final PooledConnection pooled = findPooledConnection( conn );
+			if ( pooled == null || pooled.state.get() != IN_USE ) {
+				// the pool was released while the connection was in use
+				closeConnection( conn, null );
+				return;
+			}
 			final Connection connection = releaseConnection( conn );
 			if ( connection != null ) {
-				availableConnections.offer( connection );
+				final long now = System.nanoTime();
+				if ( pooled.isExpired( now ) ) {
+					statistics.expiredConnectionCount.increment();
+					closeConnection( connection, null );
+				}
+				else {
+					makeAvailable( pooled, now );
+				}
+			}
+		}
+
+		private PooledConnection findPooledConnection(Connection conn) {
+			final PooledConnection lastUsed = getLastUsedConnection();
+			if ( lastUsed != null && lastUsed.connection == conn ) {
+				return lastUsed;
+			}
+			for ( PooledConnection pooled : allConnections ) {
+				if ( pooled.connection == conn ) {
+					return pooled;
+				}
+			}
+			return null;
+		}
+
+		private void makeAvailable(PooledConnection pooled, long now) {
+			pooled.lastAccess = now;
+			pooled.acquisitionTrace = null;
+			pooled.leakReported = false;
+			pooled.state.set( IDLE );
+			handOff( pooled );
+		}
+
+		private void handOff(PooledConnection pooled) {
+			if ( waitingThreadCount.get() > 0 ) {
+				// succeeds only if a thread is waiting right now, otherwise
+				// the connection stays idle until some thread claims it
+				handoffQueue.offer( pooled );
 			}
 		}
 
@@ -409,23 +564,140 @@ public class DriverManagerConnectionProviderImpl
 			return null;
 		}
 
+		/**
+		 * Check that an idle connection still works by contacting the database, which
+		 * also prevents the database, or a firewall, from closing it for being idle.
+		 */
+		protected Connection keepAlive(Connection conn) {
+			Exception t = null;
+			try {
+				if ( isAlive( conn ) && connectionValidator.isValid( conn ) ) {
+					return conn;
+				}
+			}
+			catch (SQLException ex) {
+				t = ex;
+			}
+			closeConnection( conn, t );
+			CONNECTIONS_MESSAGE_LOGGER.debug( "Idle connection is no longer valid. Closing pooled connection", t );
+			return null;
+		}
+
+		private static boolean isAlive(Connection conn) throws SQLException {
+			try {
+				return conn.isValid( KEEP_ALIVE_TIMEOUT_SECONDS );
+			}
+			catch (SQLFeatureNotSupportedException e) {
+				// the driver cannot check the connection, leave it to the validator
+				return true;
+			}
+		}
+
 		public Connection poll() throws SQLException {
-			Connection conn;
-			do {
-				conn = availableConnections.poll();
-				if ( conn == null ) {
-					synchronized (allConnections) {
-						if ( allConnections.size() < maxSize ) {
-							addConnections( 1 );
-							return poll();
+			final long start = System.nanoTime();
+			while ( true ) {
+				PooledConnection pooled = claimIdleConnection();
+				if ( pooled == null ) {
+					pooled = createConnection();
+					if ( pooled == null ) {
+						pooled = awaitConnection( start );
+					}
+				}
+				if ( pooled.isExpired( System.nanoTime() ) ) {
+					statistics.expiredConnectionCount.increment();
+					closeConnection( pooled.connection, null );
+				}
+				else {
+					final Connection conn = prepareConnection( pooled.connection );
+					if ( conn != null ) {
+						final long now = System.nanoTime();
+						pooled.lastAccess = now;
+						if ( leakDetectionThresholdNanos > 0 ) {
+							pooled.acquisitionTrace = new Exception( "Connection acquired here" );
 						}
+						lastUsedConnection.set( pooled.reference );
+						statistics.acquired( now - start );
+						return conn;
 					}
-					throw new HibernateException(
-							"The internal connection pool has reached its maximum size and no connection is currently available" );
 				}
-				conn = prepareConnection( conn );
-			} while ( conn == null );
-			return conn;
+			}
+		}
+
+		private PooledConnection getLastUsedConnection() {
+			final WeakReference<PooledConnection> reference = lastUsedConnection.get();
+			return reference == null ? null : reference.get();
+		}
+
+		private PooledConnection claimIdleConnection() {
+			final PooledConnection lastUsed = getLastUsedConnection();
+			if ( lastUsed != null && lastUsed.reserve() ) {
+				return lastUsed;
+			}
+			for ( PooledConnection pooled : allConnections ) {
+				if ( pooled.reserve() ) {
+					return pooled;
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Create a connection in use, unless the pool has reached its maximum size.
+		 */
+		private PooledConnection createConnection() {
+			int size;
+			do {
+				size = connectionCount.get();
+				if ( size >= maxSize ) {
+					return null;
+				}
+			} while ( !connectionCount.compareAndSet( size, size + 1 ) );
+			return addConnection( IN_USE );
+		}
+
+		private PooledConnection addConnection(int state) {
+			final PooledConnection pooled;
+			try {
+				pooled = new PooledConnection( connectionCreator.createConnection(), state );
+			}
+			catch (RuntimeException e) {
+				connectionCount.decrementAndGet();
+				throw e;
+			}
+			allConnections.add( pooled );
+			return pooled;
+		}
+
+		private PooledConnection awaitConnection(long start) {
+			final long deadline = start + acquisitionTimeoutNanos;
+			waitingThreadCount.incrementAndGet();
+			try {
+				long remaining;
+				while ( ( remaining = deadline - System.nanoTime() ) > 0 ) {
+					final PooledConnection handedOff =
+							handoffQueue.poll( Math.min( remaining, HANDOFF_POLL_NANOS ), TimeUnit.NANOSECONDS );
+					if ( handedOff != null && handedOff.reserve() ) {
+						return handedOff;
+					}
+					PooledConnection pooled = claimIdleConnection();
+					if ( pooled == null ) {
+						pooled = createConnection();
+					}
+					if ( pooled != null ) {
+						return pooled;
+					}
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new HibernateException( "Interrupted while waiting for a connection from the internal connection pool", e );
+			}
+			finally {
+				waitingThreadCount.decrementAndGet();
+			}
+			statistics.acquisitionTimeoutCount.increment();
+			throw new HibernateException(
+					"The internal connection pool has reached its maximum size and no connection is currently available" );
 		}
 
 		protected Connection prepareConnection(Connection conn) {
@@ -455,48 +727,65 @@ public class DriverManagerConnectionProviderImpl
 				}
 			}
 			finally {
-				allConnections.remove( conn );
+				final PooledConnection pooled = findPooledConnection( conn );
+				if ( pooled != null && pooled.state.getAndSet( REMOVED ) != REMOVED ) {
+					allConnections.remove( pooled );
+					connectionCount.decrementAndGet();
+				}
 			}
 		}
 
 		public void close() throws SQLException {
 			try {
-				int allocationCount = allConnections.size() - availableConnections.size();
+				int allocationCount = getAllocationCount();
 				if(allocationCount > 0) {
 					CONNECTIONS_LOGGER.error( "Connection leak detected: there are " + allocationCount + " unclosed connections upon shutting down pool " + getUrl());
 				}
 			}
 			finally {
-				for ( Connection connection : allConnections ) {
-					connection.close();
+				for ( PooledConnection pooled : allConnections ) {
+					pooled.connection.close();
 				}
 			}
 		}
 
+		/**
+		 * The number of idle connections.
+		 */
 		public int size() {
-			return availableConnections.size();
+			int size = 0;
+			for ( PooledConnection pooled : allConnections ) {
+				if ( pooled.state.get() == IDLE ) {
+					size++;
+				}
+			}
+			return size;
+		}
+
+		int getAllocationCount() {
+			int allocationCount = 0;
+			for ( PooledConnection pooled : allConnections ) {
+				if ( pooled.state.get() == IN_USE ) {
+					allocationCount++;
+				}
+			}
+			return allocationCount;
 		}
 
 		protected void removeConnections(int numberToBeRemoved) {
 			for ( int i = 0; i < numberToBeRemoved; i++ ) {
-				Connection connection = availableConnections.poll();
-				try {
-					if ( connection != null ) {
-						connection.close();
-					}
-					allConnections.remove( connection );
-				}
-				catch (SQLException e) {
-					CONNECTIONS_MESSAGE_LOGGER.unableToCloseConnection( e );
+				final PooledConnection pooled = claimIdleConnection();
+				if ( pooled == null ) {
+					return;
 				}
+				closeConnection( pooled.connection, null );
 			}
 		}
 
 		protected void addConnections(int numberOfConnections) {
 			for ( int i = 0; i < numberOfConnections; i++ ) {
-				Connection connection = connectionCreator.createConnection();
-				allConnections.add( connection );
-				availableConnections.add( connection );
+				connectionCount.incrementAndGet();
+				handOff( addConnection( IDLE ) );
 			}
 		}
 
@@ -504,10 +793,140 @@ public class DriverManagerConnectionProviderImpl
 			return connectionCreator.getUrl();
 		}
 
+		public ConnectionPoolStatistics getStatistics() {
+			return statistics;
+		}
+
 		@Internal
 		public void releasePooledConnections() {
-			for ( Connection connection : allConnections ) {
-				closeConnection( connection, null );
+			for ( PooledConnection pooled : allConnections ) {
+				closeConnection( pooled.connection, null );
+			}
+		}
+
+		private final class PooledConnection {
+			private final Connection connection;
+			private final AtomicInteger state;
+			private final long creationTime;
+			private final WeakReference<PooledConnection> reference = new WeakReference<>( this );
+			private volatile long lastAccess;
+			private volatile Exception acquisitionTrace;
+			private volatile boolean leakReported;
+
+			private PooledConnection(Connection connection, int state) {
+				this.connection = connection;
+				this.state = new AtomicInteger( state );
+				this.creationTime = System.nanoTime();
+				this.lastAccess = creationTime;
+			}
+
+			private boolean reserve() {
+				return state.get() == IDLE && state.compareAndSet( IDLE, IN_USE );
+			}
+
+			private boolean isExpired(long now) {
+				return maxLifetimeNanos > 0 && now - creationTime >= maxLifetimeNanos;
+			}
+
+			private boolean isLeaked(long now) {
+				return leakDetectionThresholdNanos > 0
+						&& state.get() == IN_USE
+						&& !leakReported
+						&& now - lastAccess >= leakDetectionThresholdNanos;
+			}
+		}
+
+		private final class PoolStatistics implements ConnectionPoolStatistics {
+			private final LongAdder acquisitionCount = new LongAdder();
+			private final LongAdder acquisitionTimeoutCount = new LongAdder();
+			private final AtomicLong maxAcquisitionTime = new AtomicLong();
+			private final LongAdder[] acquisitionTimeHistogram = new LongAdder[7];
+			private final LongAdder leakedConnectionCount = new LongAdder();
+			private final LongAdder expiredConnectionCount = new LongAdder();
+
+			private PoolStatistics() {
+				for ( int i = 0; i < acquisitionTimeHistogram.length; i++ ) {
+					acquisitionTimeHistogram[i] = new LongAdder();
+				}
+			}
+
+			private void acquired(long nanos) {
+				final long micros = TimeUnit.NANOSECONDS.toMicros( nanos );
+				acquisitionCount.increment();
+				int bucket = 0;
+				for ( long bound = 10; micros >= bound && bucket < acquisitionTimeHistogram.length - 1; bound *= 10 ) {
+					bucket++;
+				}
+				acquisitionTimeHistogram[bucket].increment();
+				long max;
+				while ( micros > ( max = maxAcquisitionTime.get() ) ) {
+					if ( maxAcquisitionTime.compareAndSet( max, micros ) ) {
+						break;
+					}
+				}
+			}
+
+			@Override
+			public int getConnectionCount() {
+				return connectionCount.get();
+			}
+
+			@Override
+			public int getIdleConnectionCount() {
+				return size();
+			}
+
+			@Override
+			public int getPendingAcquisitionCount() {
+				return waitingThreadCount.get();
+			}
+
+			@Override
+			public long getAcquisitionCount() {
+				return acquisitionCount.sum();
+			}
+
+			@Override
+			public long getAcquisitionTimeoutCount() {
+				return acquisitionTimeoutCount.sum();
+			}
+
+			@Override
+			public long getMaxAcquisitionTime() {
+				return maxAcquisitionTime.get();
+			}
+
+			@Override
+			public long[] getAcquisitionTimeHistogram() {
+				final long[] histogram = new long[acquisitionTimeHistogram.length];
+				for ( int i = 0; i < histogram.length; i++ ) {
+					histogram[i] = acquisitionTimeHistogram[i].sum();
+				}
+				return histogram;
+			}
+
+			@Override
+			public long getLeakedConnectionCount() {
+				return leakedConnectionCount.sum();
+			}
+
+			@Override
+			public long getExpiredConnectionCount() {
+				return expiredConnectionCount.sum();
+			}
+
+			@Override
+			public String toString() {
+				return "ConnectionPoolStatistics[connectionCount=" + getConnectionCount()
+						+ ",idleConnectionCount=" + getIdleConnectionCount()
+						+ ",pendingAcquisitionCount=" + getPendingAcquisitionCount()
+						+ ",acquisitionCount=" + getAcquisitionCount()
+						+ ",acquisitionTimeoutCount=" + getAcquisitionTimeoutCount()
+						+ ",maxAcquisitionTime=" + getMaxAcquisitionTime()
+						+ ",acquisitionTimeHistogram=" + Arrays.toString( getAcquisitionTimeHistogram() )
+						+ ",leakedConnectionCount=" + getLeakedConnectionCount()
+						+ ",expiredConnectionCount=" + getExpiredConnectionCount()
+						+ ']';
 			}
 		}
 
@@ -518,6 +937,10 @@ public class DriverManagerConnectionProviderImpl
 			private int initialSize = 1;
 			private int minSize = 1;
 			private int maxSize = 20;
+			private long acquisitionTimeout;
+			private long maxLifetime;
+			private long leakDetectionThreshold;
+			private long keepAliveInterval = TimeUnit.SECONDS.toMillis( 30 );
 
 			public Builder(ConnectionCreator connectionCreator, boolean autoCommit) {
 				this.connectionCreator = connectionCreator;
@@ -544,6 +967,42 @@ public class DriverManagerConnectionProviderImpl
 				return this;
 			}
 
+			/**
+			 * @param acquisitionTimeout How long to wait for a connection once the pool
+			 * has reached its maximum size, in milliseconds
+			 */
+			public Builder acquisitionTimeout(long acquisitionTimeout) {
+				this.acquisitionTimeout = acquisitionTimeout;
+				return this;
+			}
+
+			/**
+			 * @param maxLifetime How long a connection may be used, in milliseconds,
+			 * or {@code 0} if there is no limit
+			 */
+			public Builder maxLifetime(long maxLifetime) {
+				this.maxLifetime = maxLifetime;
+				return this;
+			}
+
+			/**
+			 * @param leakDetectionThreshold How long a connection may be in use before it
+			 * is reported as leaked, in milliseconds, or {@code 0} to disable the detection
+			 */
+			public Builder leakDetectionThreshold(long leakDetectionThreshold) {
+				this.leakDetectionThreshold = leakDetectionThreshold;
+				return this;
+			}
+
+			/**
+			 * @param keepAliveInterval How long a connection may stay idle before the
+			 * validation checks it, in milliseconds
+			 */
+			public Builder keepAliveInterval(long keepAliveInterval) {
+				this.keepAliveInterval = keepAliveInterval;
+				return this;
+			}
+
 			public PooledConnections build() {
 				return new PooledConnections( this );
 			}
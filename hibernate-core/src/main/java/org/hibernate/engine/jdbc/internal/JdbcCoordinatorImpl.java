@@ -13,12 +13,15 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.ConnectionReleaseMode;
 import org.hibernate.HibernateException;
 import org.hibernate.TransactionException;
 import org.hibernate.engine.jdbc.batch.JdbcBatchLogging;
+import org.hibernate.engine.jdbc.batch.internal.BatchTableDependencies;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
@@ -30,6 +33,7 @@ import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.jdbc.WorkExecutor;
@@ -61,6 +65,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	/**
+	 * Only available when {@link org.hibernate.cfg.AvailableSettings#BATCH_OVERLAP} is enabled, in which case
+	 * the batches are tracked in {@link #openBatches} instead of {@link #currentBatch}.
+	 */
+	private transient final BatchTableDependencies batchTableDependencies;
+	private transient LinkedHashMap<BatchKey, OpenBatch> openBatches;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -83,7 +94,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				owner.getJdbcSessionContext().getPreparedStatementCacheSize()
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -98,6 +110,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		}
 		this.owner = owner;
 		this.jdbcServices = jdbcServices;
+		this.batchTableDependencies = batchTableDependencies( owner );
 	}
 
 	private JdbcCoordinatorImpl(
@@ -108,6 +121,12 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
+		this.batchTableDependencies = batchTableDependencies( owner );
+	}
+
+	private static BatchTableDependencies batchTableDependencies(JdbcSessionOwner owner) {
+		final SessionFactoryImplementor factory = owner.getJdbcSessionContext().getSessionFactory();
+		return factory == null ? null : factory.getFastSessionServices().batchTableDependencies;
 	}
 
 	@Override
@@ -156,6 +175,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
+			if ( openBatches != null && !openBatches.isEmpty() ) {
+				LOG.closingUnreleasedBatch();
+				releaseOpenBatches();
+			}
 		}
 		finally {
 			connection = logicalConnection.close();
@@ -165,6 +188,10 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		if ( batchTableDependencies != null ) {
+			return getOpenBatch( key, batchSize, statementGroupSupplier );
+		}
+
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -181,8 +208,81 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return currentBatch;
 	}
 
+	/**
+	 * Variant of {@link #getBatch} keeping the batches for independent tables open
+	 * side by side, so that interleaved mutations of unrelated entities do not force
+	 * each other's batch to be executed.
+	 */
+	private Batch getOpenBatch(BatchKey key, Integer batchSize, Supplier<PreparedStatementGroup> statementGroupSupplier) {
+		if ( openBatches == null ) {
+			openBatches = new LinkedHashMap<>();
+		}
+		else {
+			final OpenBatch existing = openBatches.get( key );
+			if ( existing != null ) {
+				return existing.batch;
+			}
+		}
+
+		final Batch batch = owner.getJdbcSessionContext().getBatchBuilder()
+				.buildBatch( key, batchSize, statementGroupSupplier, this );
+		final Set<String> tables = BatchTableDependencies.mutatedTables( batch );
+		for ( OpenBatch openBatch : openBatches.values() ) {
+			if ( !batchTableDependencies.areIndependent( tables, openBatch.tables ) ) {
+				if ( JdbcBatchLogging.BATCH_DEBUG_ENABLED ) {
+					JdbcBatchLogging.BATCH_LOGGER.debugf(
+							"Executing open batches - `%s` depends on `%s`",
+							key.toLoggableString(),
+							openBatch.batch.getKey().toLoggableString()
+					);
+				}
+				executeOpenBatches();
+				break;
+			}
+		}
+		openBatches.put( key, new OpenBatch( batch, tables ) );
+		return batch;
+	}
+
+	private void executeOpenBatches() {
+		// detach the batches first, a failing batch aborts (and so releases) all batches
+		final OpenBatch[] batches = openBatches.values().toArray( new OpenBatch[0] );
+		openBatches.clear();
+		try {
+			for ( OpenBatch openBatch : batches ) {
+				openBatch.batch.execute();
+			}
+		}
+		finally {
+			for ( OpenBatch openBatch : batches ) {
+				openBatch.batch.release();
+			}
+		}
+	}
+
+	private void releaseOpenBatches() {
+		final OpenBatch[] batches = openBatches.values().toArray( new OpenBatch[0] );
+		openBatches.clear();
+		for ( OpenBatch openBatch : batches ) {
+			openBatch.batch.release();
+		}
+	}
+
+	private static final class OpenBatch {
+		private final Batch batch;
+		private final Set<String> tables;
+
+		private OpenBatch(Batch batch, Set<String> tables) {
+			this.batch = batch;
+			this.tables = tables;
+		}
+	}
+
 	@Override
 	public void executeBatch() {
+		if ( openBatches != null ) {
+			executeOpenBatches();
+		}
 		if ( currentBatch != null ) {
 			try {
 				currentBatch.execute();
@@ -195,6 +295,16 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void conditionallyExecuteBatch(BatchKey key) {
+		if ( openBatches != null ) {
+			for ( OpenBatch openBatch : openBatches.values().toArray( new OpenBatch[0] ) ) {
+				if ( !openBatch.batch.getKey().equals( key ) ) {
+					JdbcBatchLogging.BATCH_LOGGER.debugf( "Conditionally executing batch - %s", openBatch.batch.getKey() );
+					openBatch.batch.execute();
+				}
+			}
+			return;
+		}
+
 		if ( currentBatch == null ) {
 			return;
 		}
@@ -207,6 +317,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void abortBatch() {
+		if ( openBatches != null ) {
+			releaseOpenBatches();
+		}
 		if ( currentBatch != null ) {
 			currentBatch.release();
 		}
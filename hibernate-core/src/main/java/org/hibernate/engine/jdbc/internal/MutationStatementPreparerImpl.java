@@ -14,9 +14,11 @@ import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -36,7 +38,7 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, !isCallable ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				//noinspection resource
@@ -79,17 +81,34 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final boolean reusable;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, false );
+		}
+
+		/**
+		 * @param reusable whether the statement may be kept open for reuse once released
+		 */
+		protected StatementPreparationTemplate(String incomingSql, boolean reusable) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.reusable = reusable && settings().getPreparedStatementCacheSize() > 0;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
+				if ( reusable ) {
+					final PreparedStatement reusedStatement = reuseStatement();
+					if ( reusedStatement != null ) {
+						setStatementTimeout( reusedStatement );
+						return reusedStatement;
+					}
+				}
+
 				final PreparedStatement preparedStatement;
 				//noinspection deprecation
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
@@ -114,10 +133,33 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
+			final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+			if ( reusable ) {
+				resourceRegistry.registerReusable( preparedStatement, sql );
+			}
+			else {
+				resourceRegistry.register( preparedStatement, true );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
 		}
 
+		private PreparedStatement reuseStatement() {
+			final PreparedStatement reusedStatement = jdbcCoordinator.getLogicalConnection()
+					.getResourceRegistry()
+					.reuseStatement( sql );
+			//noinspection deprecation
+			final StatisticsImplementor statistics = settings().getSessionFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( reusedStatement != null ) {
+					statistics.preparedStatementCacheHit();
+				}
+				else {
+					statistics.preparedStatementCacheMiss();
+				}
+			}
+			return reusedStatement;
+		}
+
 		private void setStatementTimeout(PreparedStatement preparedStatement) throws SQLException {
 			final int remainingTransactionTimeOutPeriod = jdbcCoordinator.determineRemainingTransactionTimeOutPeriod();
 			if ( remainingTransactionTimeOutPeriod > 0 ) {
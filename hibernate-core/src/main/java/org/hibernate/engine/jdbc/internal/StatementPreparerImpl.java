@@ -17,9 +17,11 @@ import org.hibernate.ScrollMode;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.StatementPreparer;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Standard implementation of {@link StatementPreparer}.
@@ -58,6 +60,11 @@ class StatementPreparerImpl implements StatementPreparer {
 	protected final SqlExceptionHelper sqlExceptionHelper() {
 		return jdbcServices.getSqlExceptionHelper();
 	}
+
+	private StatisticsImplementor statistics() {
+		//noinspection deprecation
+		return settings().getSessionFactory().getStatistics();
+	}
 	
 	@Override
 	public Statement createStatement() {
@@ -83,7 +90,7 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
-		return new StatementPreparationTemplate( sql ) {
+		return new StatementPreparationTemplate( sql, !isCallable ) {
 			@Override
 			protected PreparedStatement doPrepare() throws SQLException {
 				return isCallable
@@ -132,7 +139,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			if ( ! settings().isScrollableResultSetsEnabled() ) {
 				throw new AssertionFailure("scrollable result sets are not enabled");
 			}
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, false ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql, scrollMode.toResultSetType(), ResultSet.CONCUR_READ_ONLY )
@@ -143,7 +150,7 @@ class StatementPreparerImpl implements StatementPreparer {
 			return ps;
 		}
 		else {
-			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql ) {
+			final PreparedStatement ps = new QueryStatementPreparationTemplate( sql, !isCallable ) {
 				public PreparedStatement doPrepare() throws SQLException {
 						return isCallable
 								? connection().prepareCall( sql )
@@ -157,19 +164,37 @@ class StatementPreparerImpl implements StatementPreparer {
 
 	private abstract class StatementPreparationTemplate {
 		protected final String sql;
+		private final boolean reusable;
 
 		protected StatementPreparationTemplate(String incomingSql) {
+			this( incomingSql, false );
+		}
+
+		/**
+		 * @param reusable whether the statement may be kept open for reuse once released
+		 */
+		protected StatementPreparationTemplate(String incomingSql, boolean reusable) {
 			final String inspectedSql = jdbcCoordinator.getJdbcSessionOwner()
 					.getJdbcSessionContext()
 					.getStatementInspector()
 					.inspect( incomingSql );
 			this.sql = inspectedSql == null ? incomingSql : inspectedSql;
+			this.reusable = reusable && settings().getPreparedStatementCacheSize() > 0;
 		}
 
 		public PreparedStatement prepareStatement() {
 			try {
 				jdbcServices.getSqlStatementLogger().logStatement( sql );
 
+				if ( reusable ) {
+					final PreparedStatement reusedStatement = reuseStatement();
+					if ( reusedStatement != null ) {
+						setStatementTimeout( reusedStatement );
+						configure( reusedStatement );
+						return reusedStatement;
+					}
+				}
+
 				final PreparedStatement preparedStatement;
 				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver();
 				try {
@@ -191,8 +216,34 @@ class StatementPreparerImpl implements StatementPreparer {
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
+			final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+			if ( reusable ) {
+				resourceRegistry.registerReusable( preparedStatement, sql );
+			}
+			else {
+				resourceRegistry.register( preparedStatement, true );
+			}
 //			logicalConnection().notifyObserversStatementPrepared();
+			configure( preparedStatement );
+		}
+
+		protected void configure(PreparedStatement preparedStatement) throws SQLException {
+		}
+
+		private PreparedStatement reuseStatement() {
+			final PreparedStatement reusedStatement = jdbcCoordinator.getLogicalConnection()
+					.getResourceRegistry()
+					.reuseStatement( sql );
+			final StatisticsImplementor statistics = statistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( reusedStatement != null ) {
+					statistics.preparedStatementCacheHit();
+				}
+				else {
+					statistics.preparedStatementCacheMiss();
+				}
+			}
+			return reusedStatement;
 		}
 
 		private void setStatementTimeout(PreparedStatement preparedStatement) throws SQLException {
@@ -204,12 +255,12 @@ class StatementPreparerImpl implements StatementPreparer {
 	}
 
 	private abstract class QueryStatementPreparationTemplate extends StatementPreparationTemplate {
-		protected QueryStatementPreparationTemplate(String sql) {
-			super( sql );
+		protected QueryStatementPreparationTemplate(String sql, boolean reusable) {
+			super( sql, reusable );
 		}
 
-		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
-			super.postProcess( preparedStatement );
+		@Override
+		protected void configure(PreparedStatement preparedStatement) throws SQLException {
 			setStatementFetchSize( preparedStatement );
 		}
 	}
@@ -27,9 +27,11 @@ import org.hibernate.HibernateException;
 import org.hibernate.PropertyValueException;
 import org.hibernate.action.internal.AbstractEntityInsertAction;
 import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.action.internal.CollectionAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -52,6 +54,8 @@ import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.stat.internal.FlushProfiler;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
@@ -104,6 +108,8 @@ public class ActionQueue {
 	private AfterTransactionCompletionProcessQueue afterTransactionProcesses;
 	private BeforeTransactionCompletionProcessQueue beforeTransactionProcesses;
 
+	private transient FlushProfiler flushProfiler;
+
 	//Extract this as a constant to perform efficient iterations:
 	//method values() otherwise allocates a new array on each invocation.
 	private static final OrderedActions[] ORDERED_OPERATIONS = OrderedActions.values();
@@ -224,6 +230,25 @@ public class ActionQueue {
 		isTransactionCoordinatorShared = false;
 	}
 
+	/**
+	 * The profiler measuring the flushes of the session, or {@code null} unless
+	 * both {@linkplain org.hibernate.stat.Statistics#isStatisticsEnabled() statistics}
+	 * and {@linkplain org.hibernate.stat.Statistics#isFlushProfilingEnabled() flush profiling}
+	 * are enabled.
+	 */
+	public FlushProfiler getFlushProfiler() {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() && statistics.isFlushProfilingEnabled() ) {
+			if ( flushProfiler == null ) {
+				flushProfiler = new FlushProfiler( statistics );
+			}
+			return flushProfiler;
+		}
+		else {
+			return null;
+		}
+	}
+
 	public void clear() {
 		for ( OrderedActions value : ORDERED_OPERATIONS ) {
 			final ExecutableList<?> list = value.getActions( this );
@@ -600,12 +625,22 @@ public class ActionQueue {
 		// todo : consider ways to improve the double iteration of Executables here:
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
+		final FlushProfiler profiler = getFlushProfiler();
+		String profiledEntityName = null;
 		try {
 			for ( ComparableExecutable e : list ) {
+				final long start = profiler == null ? 0L : System.nanoTime();
 				try {
 					e.execute();
 				}
 				finally {
+					if ( profiler != null ) {
+						final String entityName = profiledEntityName( e );
+						profiler.executed( entityName, start, true );
+						if ( entityName != null ) {
+							profiledEntityName = entityName;
+						}
+					}
 					if ( e.getBeforeTransactionCompletionProcess() != null ) {
 						if ( beforeTransactionProcesses == null ) {
 							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
@@ -632,7 +667,38 @@ public class ActionQueue {
 		}
 
 		list.clear();
-		session.getJdbcCoordinator().executeBatch();
+		if ( profiler == null || profiledEntityName == null ) {
+			session.getJdbcCoordinator().executeBatch();
+		}
+		else {
+			// the pending batch counts towards the last action added to it
+			final long start = System.nanoTime();
+			try {
+				session.getJdbcCoordinator().executeBatch();
+			}
+			finally {
+				profiler.executed( profiledEntityName, start, false );
+			}
+		}
+	}
+
+	/**
+	 * The entity name under which the execution of the given action is profiled:
+	 * the owning entity for collection actions.
+	 */
+	private String profiledEntityName(ComparableExecutable executable) {
+		if ( executable instanceof EntityAction ) {
+			return ( (EntityAction) executable ).getEntityName();
+		}
+		else if ( executable instanceof CollectionAction ) {
+			return session.getFactory().getMappingMetamodel()
+					.getCollectionDescriptor( executable.getPrimarySortClassifier() )
+					.getOwnerEntityPersister()
+					.getEntityName();
+		}
+		else {
+			return null;
+		}
 	}
 
 	private static String[] convertTimestampSpaces(Set<String> spaces) {
@@ -6,10 +6,7 @@
  */
 package org.hibernate.engine.spi;
 
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -18,7 +15,7 @@ import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.util.IndexedConsumer;
 import org.hibernate.internal.util.collections.CollectionHelper;
-import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.internal.util.collections.LinkedOpenAddressingIndex;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -54,13 +51,19 @@ public class BatchFetchQueue {
 	 * A Map structure is used to segment the keys by entity type since loading can only be done for a particular entity
 	 * type at a time.
 	 */
-	private Map <String,LinkedHashSet<EntityKey>> batchLoadableEntityKeys;
+	private Map<String, EntityKeys> batchLoadableEntityKeys;
 
 	/**
 	 * Used to hold information about the collections that are currently eligible for batch-fetching.  Ultimately
 	 * used by {@link #getCollectionBatch} to build collection load batches.
 	 */
-	private Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
+	private Map<String, CollectionEntries> batchLoadableCollections;
+
+	/**
+	 * Listeners to notify about the outcome of the latest batch fetch performed by a
+	 * loader, keyed by the loader.
+	 */
+	private Map<Object, BatchFetchListener> batchFetchListeners;
 
 	/**
 	 * Constructs a queue for the given context.
@@ -80,6 +83,52 @@ public class BatchFetchQueue {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		if ( batchFetchListeners != null ) {
+			final Map<Object, BatchFetchListener> listeners = batchFetchListeners;
+			batchFetchListeners = null;
+			for ( BatchFetchListener listener : listeners.values() ) {
+				listener.batchFetchCompleted( false );
+			}
+		}
+	}
+
+	/**
+	 * Notified about the outcome of a batch fetch.
+	 *
+	 * @see #registerBatchFetch(Object, BatchFetchListener)
+	 */
+	@FunctionalInterface
+	public interface BatchFetchListener {
+		/**
+		 * @param fetchedAgain Whether the loader performed another batch fetch before
+		 * the queue was cleared
+		 */
+		void batchFetchCompleted(boolean fetchedAgain);
+	}
+
+	/**
+	 * Registers a batch fetch performed by the given loader.  The listener registered
+	 * with the previous batch fetch of the loader, if any, is notified that the loader
+	 * fetched again.  The given listener is notified either by the next batch fetch of
+	 * the loader, or when this queue is cleared.
+	 *
+	 * @param loader The loader which performed the batch fetch
+	 * @param listener The listener to notify about the outcome of the batch fetch, may be {@code null}
+	 */
+	public void registerBatchFetch(Object loader, BatchFetchListener listener) {
+		final BatchFetchListener previous;
+		if ( listener != null ) {
+			if ( batchFetchListeners == null ) {
+				batchFetchListeners = CollectionHelper.mapOfSize( 4 );
+			}
+			previous = batchFetchListeners.put( loader, listener );
+		}
+		else {
+			previous = batchFetchListeners == null ? null : batchFetchListeners.remove( loader );
+		}
+		if ( previous != null ) {
+			previous.batchFetchCompleted( true );
+		}
 	}
 
 
@@ -149,12 +198,12 @@ public class BatchFetchQueue {
 			if ( batchLoadableEntityKeys == null ) {
 				batchLoadableEntityKeys = CollectionHelper.mapOfSize( 12 );
 			}
-			final LinkedHashSet<EntityKey> keysForEntity = batchLoadableEntityKeys.computeIfAbsent(
+			final EntityKeys keysForEntity = batchLoadableEntityKeys.computeIfAbsent(
 					key.getEntityName(),
-					k -> CollectionHelper.linkedSetOfSize( 8 )
+					k -> new EntityKeys()
 			);
 
-			keysForEntity.add( key );
+			keysForEntity.put( key, null, key.hashCode() );
 		}
 	}
 
@@ -167,22 +216,33 @@ public class BatchFetchQueue {
 	public void removeBatchLoadableEntityKey(EntityKey key) {
 		if ( batchLoadableEntityKeys != null
 				&& key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() ) ) {
-			final LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( key.getEntityName() );
-			if ( set != null ) {
-				set.remove( key );
+			final EntityKeys keysForEntity = batchLoadableEntityKeys.get( key.getEntityName() );
+			if ( keysForEntity != null ) {
+				keysForEntity.remove( key.hashCode(), key );
 			}
 		}
 	}
 
+	/**
+	 * Whether any keys of the given entity are queued for batch fetching.
+	 */
+	public boolean hasBatchLoadableEntityKeys(EntityMappingType entityDescriptor) {
+		if ( batchLoadableEntityKeys == null ) {
+			return false;
+		}
+		final EntityKeys keysForEntity = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		return keysForEntity != null && !keysForEntity.isEmpty();
+	}
+
 	/**
 	 * Intended for test usage.  Really has no use-case in Hibernate proper.
 	 */
 	public boolean containsEntityKey(EntityKey key) {
 		if ( batchLoadableEntityKeys != null
 				&& key.isBatchLoadable( context.getSession().getLoadQueryInfluencers() ) ) {
-			LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( key.getEntityName() );
-			if ( set != null ) {
-				return set.contains( key );
+			final EntityKeys keysForEntity = batchLoadableEntityKeys.get( key.getEntityName() );
+			if ( keysForEntity != null ) {
+				return keysForEntity.indexOf( key.hashCode(), key ) >= 0;
 			}
 		}
 		return false;
@@ -193,6 +253,9 @@ public class BatchFetchQueue {
 	 * in cases where we want a specially created array/container - allows
 	 * creation of concretely typed array for ARRAY param binding to ensure
 	 * the driver does not need to cast/copy the values array.
+	 * <p>
+	 * The batch is made of the ids queued right after the given id, and, if
+	 * there are not enough of them, of the ids queued right before it.
 	 */
 	public <T> void collectBatchLoadableEntityIds(
 			final int domainBatchSize,
@@ -206,41 +269,41 @@ public class BatchFetchQueue {
 			return;
 		}
 
-		final LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
-		if ( set == null ) {
+		final EntityKeys keysForEntity = batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
+		if ( keysForEntity == null ) {
 			return;
 		}
 
-		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final EntityPersister persister = entityDescriptor.getEntityPersister();
+		final EntityKey loadingKey = context.getSession().generateEntityKey( loadingId, persister );
+		final int loadingPosition = keysForEntity.indexOf( loadingKey.hashCode(), loadingKey );
 
 		int batchPosition = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		for ( EntityKey key : set ) {
-			if ( checkForEnd && batchPosition == end ) {
-				// the first id found after the given id
-				return;
-			}
-
-			if ( identifierMapping.areEqual( loadingId, key.getIdentifier(), context.getSession() ) ) {
-				end = batchPosition;
-			}
-			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
-					//noinspection unchecked
-					collector.accept( batchPosition++, (T) key.getIdentifier() );
-				}
+		if ( loadingPosition >= 0 ) {
+			for ( int position = loadingPosition + 1;
+					position < keysForEntity.end() && batchPosition < domainBatchSize;
+					position++ ) {
+				batchPosition = collectEntityId( keysForEntity.keyAt( position ), persister, collector, batchPosition );
 			}
+		}
+		for ( int position = ( loadingPosition >= 0 ? loadingPosition : keysForEntity.end() ) - 1;
+				position >= keysForEntity.start() && batchPosition < domainBatchSize;
+				position-- ) {
+			batchPosition = collectEntityId( keysForEntity.keyAt( position ), persister, collector, batchPosition );
+		}
+	}
 
-			if ( batchPosition == domainBatchSize ) {
-				// end of array, start filling again from start
-				batchPosition = 1;
-				if ( end != -1 ) {
-					checkForEnd = true;
-				}
-			}
+	private <T> int collectEntityId(
+			EntityKey key,
+			EntityPersister persister,
+			IndexedConsumer<T> collector,
+			int batchPosition) {
+		if ( key == null || isCached( key, persister ) ) {
+			return batchPosition;
 		}
+		//noinspection unchecked
+		collector.accept( batchPosition, (T) key.getIdentifier() );
+		return batchPosition + 1;
 	}
 
 	/**
@@ -252,50 +315,8 @@ public class BatchFetchQueue {
 			final EntityMappingType entityDescriptor,
 			final Object loadingId,
 			final int maxBatchSize) {
-
 		final Object[] ids = new Object[maxBatchSize];
-		// make sure we load the id being loaded in the batch!
-		ids[0] = loadingId;
-
-		if ( batchLoadableEntityKeys == null ) {
-			return ids;
-		}
-
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		// TODO: this needn't exclude subclasses...
-
-		final LinkedHashSet<EntityKey> set =
-				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
-		if ( set != null ) {
-			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					// the first id found after the given id
-					return ids;
-				}
-
-				if ( entityDescriptor.getEntityPersister().getIdentifierType()
-						.isEqual( loadingId, key.getIdentifier() ) ) {
-					end = i;
-				}
-				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
-						ids[i++] = key.getIdentifier();
-					}
-				}
-
-				if ( i == maxBatchSize ) {
-					i = 1; // end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
-				}
-			}
-		}
-
-		//we ran out of ids to try
+		collectBatchLoadableEntityIds( maxBatchSize, (index, id) -> ids[index] = id, loadingId, entityDescriptor );
 		return ids;
 	}
 
@@ -328,13 +349,12 @@ public class BatchFetchQueue {
 			batchLoadableCollections = CollectionHelper.mapOfSize( 12 );
 		}
 
-		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
-				batchLoadableCollections.computeIfAbsent(
-						persister.getRole(),
-						k -> CollectionHelper.linkedMapOfSize( 16 )
-				);
+		final CollectionEntries entries = batchLoadableCollections.computeIfAbsent(
+				persister.getRole(),
+				k -> new CollectionEntries( persister )
+		);
 
-		map.put( ce, collection );
+		entries.put( ce, collection, entries.hash( ce.getLoadedKey() ) );
 	}
 
 	/**
@@ -346,94 +366,115 @@ public class BatchFetchQueue {
 		if ( batchLoadableCollections == null ) {
 			return;
 		}
-		LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
-				batchLoadableCollections.get( ce.getLoadedPersister().getRole() );
-		if ( map != null ) {
-			map.remove( ce );
+		final CollectionEntries entries = batchLoadableCollections.get( ce.getLoadedPersister().getRole() );
+		if ( entries != null ) {
+			entries.remove( ce );
 		}
 	}
 
 
+	/**
+	 * Whether any collections of the given role are queued for batch fetching.
+	 */
+	public boolean hasBatchLoadableCollections(PluralAttributeMapping pluralAttributeMapping) {
+		if ( batchLoadableCollections == null ) {
+			return false;
+		}
+		final CollectionEntries entries =
+				batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
+		return entries != null && !entries.isEmpty();
+	}
+
 	/**
 	 * A "collector" form of {@link #getCollectionBatch}.  Useful
 	 * in cases where we want a specially created array/container - allows
 	 * creation of concretely typed array for ARRAY param binding to ensure
 	 * the driver does not need to cast/copy the values array.
+	 * <p>
+	 * The batch is made of the keys queued right after the given key, and, if
+	 * there are not enough of them, of the keys queued right before it.
 	 */
 	public <T> void collectBatchLoadableCollectionKeys(
 			int batchSize,
 			IndexedConsumer<T> collector,
 			T keyBeingLoaded,
 			PluralAttributeMapping pluralAttributeMapping) {
+		collectBatchLoadableCollectionKeys(
+				batchSize,
+				collector,
+				keyBeingLoaded,
+				pluralAttributeMapping.getNavigableRole().getFullPath(),
+				pluralAttributeMapping.getCollectionDescriptor()
+		);
+	}
+
+	private <T> void collectBatchLoadableCollectionKeys(
+			int batchSize,
+			IndexedConsumer<T> collector,
+			T keyBeingLoaded,
+			String role,
+			CollectionPersister persister) {
 		collector.accept( 0, keyBeingLoaded );
 
 		if ( batchLoadableCollections == null ) {
 			return;
 		}
 
-		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
-				batchLoadableCollections.get( pluralAttributeMapping.getNavigableRole().getFullPath() );
-		if ( map == null ) {
+		final CollectionEntries entries = batchLoadableCollections.get( role );
+		if ( entries == null ) {
 			return;
 		}
 
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
-			final CollectionEntry ce = me.getKey();
-			final PersistentCollection<?> collection = me.getValue();
+		final int loadingPosition = entries.indexOf( entries.hash( keyBeingLoaded ), keyBeingLoaded );
 
-			if ( ce.getLoadedKey() == null ) {
-				// the loadedKey of the collectionEntry might be null as it might have been reset to null
-				// (see for example Collections.processDereferencedCollection()
-				// and CollectionEntry.afterAction())
-				// though we clear the queue on flush, it seems like a good idea to guard
-				// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-				continue;
+		int batchPosition = 1;
+		if ( loadingPosition >= 0 ) {
+			for ( int position = loadingPosition + 1;
+					position < entries.end() && batchPosition < batchSize;
+					position++ ) {
+				batchPosition = collectCollectionKey( entries, position, persister, collector, batchPosition );
 			}
+		}
+		for ( int position = ( loadingPosition >= 0 ? loadingPosition : entries.end() ) - 1;
+				position >= entries.start() && batchPosition < batchSize;
+				position-- ) {
+			batchPosition = collectCollectionKey( entries, position, persister, collector, batchPosition );
+		}
+	}
 
-			if ( collection.wasInitialized() ) {
-				// should never happen
-				LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
-				continue;
-			}
+	private <T> int collectCollectionKey(
+			CollectionEntries entries,
+			int position,
+			CollectionPersister persister,
+			IndexedConsumer<T> collector,
+			int batchPosition) {
+		final CollectionEntry ce = entries.keyAt( position );
+		if ( ce == null ) {
+			return batchPosition;
+		}
 
-			if ( checkForEnd && i == end ) {
-				// the first key found after the given key
-				return;
-			}
+		if ( ce.getLoadedKey() == null ) {
+			// the loadedKey of the collectionEntry might be null as it might have been reset to null
+			// (see for example Collections.processDereferencedCollection()
+			// and CollectionEntry.afterAction())
+			// though we clear the queue on flush, it seems like a good idea to guard
+			// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
+			return batchPosition;
+		}
 
-			final boolean isEqual = pluralAttributeMapping.getKeyDescriptor().areEqual(
-					keyBeingLoaded,
-					ce.getLoadedKey(),
-					context.getSession()
-			);
-//			final boolean isEqual = collectionPersister.getKeyType().isEqual(
-//					id,
-//					ce.getLoadedKey(),
-//					collectionPersister.getFactory()
-//			);
-
-			if ( isEqual ) {
-				end = i;
-			}
-			else if ( !isCached( ce.getLoadedKey(), pluralAttributeMapping.getCollectionDescriptor() ) ) {
-				//noinspection unchecked
-				collector.accept( i++, (T) ce.getLoadedKey() );
-			}
+		if ( entries.valueAt( position ).wasInitialized() ) {
+			// should never happen
+			LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
+			return batchPosition;
+		}
 
-			if ( i == batchSize ) {
-				//end of array, start filling again from start
-				i = 1;
-				if ( end != -1 ) {
-					checkForEnd = true;
-				}
-			}
+		if ( isCached( ce.getLoadedKey(), persister ) ) {
+			return batchPosition;
 		}
 
-		//we ran out of keys to try
+		//noinspection unchecked
+		collector.accept( batchPosition, (T) ce.getLoadedKey() );
+		return batchPosition + 1;
 	}
 
 	/**
@@ -448,68 +489,15 @@ public class BatchFetchQueue {
 			final CollectionPersister collectionPersister,
 			final Object id,
 			final int batchSize) {
-
 		final Object[] keys = new Object[batchSize];
-		keys[0] = id;
-
-		if ( batchLoadableCollections == null ) {
-			return keys;
-		}
-
-		int i = 1;
-		int end = -1;
-		boolean checkForEnd = false;
-
-		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
-				batchLoadableCollections.get( collectionPersister.getRole() );
-		if ( map != null ) {
-			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
-				final CollectionEntry ce = me.getKey();
-				final PersistentCollection<?> collection = me.getValue();
-
-				if ( ce.getLoadedKey() == null ) {
-					// the loadedKey of the collectionEntry might be null as it might have been reset to null
-					// (see for example Collections.processDereferencedCollection()
-					// and CollectionEntry.afterAction())
-					// though we clear the queue on flush, it seems like a good idea to guard
-					// against potentially null loadedKeys (which leads to various NPEs as demonstrated in HHH-7821).
-					continue;
-				}
-
-				if ( collection.wasInitialized() ) {
-					// should never happen
-					LOG.warn( "Encountered initialized collection in BatchFetchQueue, this should not happen." );
-					continue;
-				}
-
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
-
-				final boolean isEqual = collectionPersister.getKeyType().isEqual(
-						id,
-						ce.getLoadedKey(),
-						collectionPersister.getFactory()
-				);
-
-				if ( isEqual ) {
-					end = i;
-					//checkForEnd = false;
-				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
-					keys[i++] = ce.getLoadedKey();
-					//count++;
-				}
-
-				if ( i == batchSize ) {
-					i = 1; //end of array, start filling again from start
-					if ( end != -1 ) {
-						checkForEnd = true;
-					}
-				}
-			}
-		}
-		return keys; //we ran out of keys to try
+		collectBatchLoadableCollectionKeys(
+				batchSize,
+				(index, key) -> keys[index] = key,
+				id,
+				collectionPersister.getRole(),
+				collectionPersister
+		);
+		return keys;
 	}
 
 	private boolean isCached(Object collectionKey, CollectionPersister persister) {
@@ -527,6 +515,60 @@ public class BatchFetchQueue {
 		return false;
 	}
 
+	/**
+	 * The keys of an entity queued for batch fetching, in the order they were queued.
+	 */
+	private static class EntityKeys extends LinkedOpenAddressingIndex<EntityKey, Object> {
+		@Override
+		protected boolean matches(EntityKey storedKey, Object probe) {
+			return storedKey == probe || storedKey.equals( probe );
+		}
+	}
+
+	/**
+	 * The collections of a role queued for batch fetching, in the order they were queued,
+	 * indexed by their loaded key.
+	 */
+	private static class CollectionEntries extends LinkedOpenAddressingIndex<CollectionEntry, PersistentCollection<?>> {
+		private final CollectionPersister persister;
+
+		private CollectionEntries(CollectionPersister persister) {
+			this.persister = persister;
+		}
+
+		int hash(Object collectionKey) {
+			return collectionKey == null ? 0 : persister.getKeyType().getHashCode( collectionKey, persister.getFactory() );
+		}
+
+		/**
+		 * A probe is either a queued {@link CollectionEntry}, or a collection key.
+		 */
+		@Override
+		protected boolean matches(CollectionEntry storedKey, Object probe) {
+			if ( probe instanceof CollectionEntry ) {
+				return storedKey == probe;
+			}
+			final Object loadedKey = storedKey.getLoadedKey();
+			return loadedKey != null && persister.getKeyType().isEqual( loadedKey, probe, persister.getFactory() );
+		}
+
+		void remove(CollectionEntry ce) {
+			final int position = indexOf( hash( ce.getLoadedKey() ), ce );
+			if ( position >= 0 ) {
+				removeAt( position );
+			}
+			else {
+				// the loaded key was changed or reset since the collection was queued
+				for ( int i = start(); i < end(); i++ ) {
+					if ( keyAt( i ) == ce ) {
+						removeAt( i );
+						return;
+					}
+				}
+			}
+		}
+	}
+
 	public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
@@ -21,6 +21,7 @@ import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
@@ -35,7 +36,9 @@ import org.hibernate.event.spi.FlushEvent;
 import org.hibernate.event.spi.PersistContext;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.EntityPrinter;
+import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.internal.FlushProfiler;
 
 import org.jboss.logging.Logger;
 
@@ -99,6 +102,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		//some statistics
 		logFlushResults( event );
+		final FlushProfiler profiler = session.getActionQueue().getFlushProfiler();
+		if ( profiler != null ) {
+			profiler.flushEnded();
+		}
 	}
 
 	protected void logFlushResults(FlushEvent event) {
@@ -136,12 +143,17 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.debug( "Processing flush-time cascades" );
 
 		final PersistContext context = getContext();
+		final FlushProfiler profiler = session.getActionQueue().getFlushProfiler();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			final EntityEntry entry = me.getValue();
 			if ( flushable( entry ) ) {
+				final long start = profiler == null ? 0L : System.nanoTime();
 				cascadeOnFlush( session, entry.getPersister(), me.getKey(), context );
+				if ( profiler != null ) {
+					profiler.cascaded( entry.getPersister().getEntityName(), start );
+				}
 			}
 		}
 	}
@@ -211,6 +223,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		FlushEntityEvent entityEvent = null; //allow reuse of the event as it's heavily allocated in certain use cases
 		int eventGenerationId = 0; //Used to double-check the instance reuse won't cause problems
+		final FlushProfiler profiler = source.getActionQueue().getFlushProfiler();
 
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 			// Update the status of the object and if necessary, schedule an update
@@ -223,7 +236,11 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 				entityEvent.setInstanceGenerationId( ++eventGenerationId );
 
+				final long start = profiler == null ? 0L : System.nanoTime();
 				flushListeners.fireEventOnEachListener( entityEvent, FlushEntityEventListener::onFlushEntity );
+				if ( profiler != null ) {
+					profiler.dirtyChecked( entry.getPersister().getEntityName(), start );
+				}
 				entityEvent.setAllowedToReuse( true );
 				assert entityEvent.getInstanceGenerationId() == eventGenerationId;
 			}
@@ -263,11 +280,16 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.trace( "Processing unreferenced collections" );
 
 		final int count = persistenceContext.getCollectionEntriesSize();
+		final FlushProfiler profiler = session.getActionQueue().getFlushProfiler();
 
 		persistenceContext.forEachCollectionEntry(
 				(persistentCollection, collectionEntry) -> {
 					if ( !collectionEntry.isReached() && !collectionEntry.isIgnore() ) {
+						final long start = profiler == null ? 0L : System.nanoTime();
 						Collections.processUnreachableCollection( persistentCollection, session );
+						if ( profiler != null ) {
+							profiler.collectionFlushed( ownerEntityName( collectionEntry ), start, false );
+						}
 					}
 				}, true );
 
@@ -279,6 +301,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Interceptor interceptor = session.getInterceptor();
 		persistenceContext.forEachCollectionEntry(
 				(coll, ce) -> {
+					final long start = profiler == null ? 0L : System.nanoTime();
 					if ( ce.isDorecreate() ) {
 						interceptor.onCollectionRecreate( coll, ce.getCurrentKey() );
 						actionQueue.addAction(
@@ -325,6 +348,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 								)
 						);
 					}
+					if ( profiler != null ) {
+						profiler.collectionFlushed( ownerEntityName( ce ), start, true );
+					}
 				}, true );
 
 		actionQueue.sortCollectionActions();
@@ -332,6 +358,13 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	private static String ownerEntityName(CollectionEntry collectionEntry) {
+		final CollectionPersister persister = collectionEntry.getCurrentPersister() != null
+				? collectionEntry.getCurrentPersister()
+				: collectionEntry.getLoadedPersister();
+		return persister == null ? null : persister.getOwnerEntityPersister().getEntityName();
+	}
+
 	/**
 	 * Execute all SQL (and second-level cache updates) in a special order so that foreign-key constraints cannot
 	 * be violated: <ol>
@@ -365,6 +398,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		finally {
 			persistenceContext.setFlushing( false );
 			jdbcCoordinator.flushEnding();
+			final FlushProfiler profiler = session.getActionQueue().getFlushProfiler();
+			if ( profiler != null ) {
+				profiler.flushEnded();
+			}
 		}
 	}
 
@@ -16,7 +16,6 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
-import org.hibernate.type.TypeHelper;
 
 import org.jboss.logging.Logger;
 
@@ -59,13 +58,7 @@ public abstract class AbstractReassociateEventListener {
 
 		//get a snapshot
 		Object[] values = persister.getValues( object );
-		TypeHelper.deepCopy(
-				values,
-				persister.getPropertyTypes(),
-				persister.getPropertyUpdateability(),
-				values,
-				source
-		);
+		persister.deepCopyState( values, persister.getPropertyUpdateability(), values, source );
 		Object version = getVersion( values, persister );
 
 		EntityEntry newEntry = persistenceContext.addEntity(
@@ -34,7 +34,6 @@ import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.generator.Generator;
 import org.hibernate.generator.BeforeExecutionGenerator;
 import org.hibernate.type.Type;
-import org.hibernate.type.TypeHelper;
 
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfSelfDirtinessTracker;
 import static org.hibernate.engine.internal.Versioning.getVersion;
@@ -334,13 +333,7 @@ public abstract class AbstractSaveEventListener<C>
 			persister.setValues( entity, values );
 		}
 
-		TypeHelper.deepCopy(
-				values,
-				types,
-				persister.getPropertyUpdateability(),
-				values,
-				source
-		);
+		persister.deepCopyState( values, persister.getPropertyUpdateability(), values, source );
 		return values;
 	}
 
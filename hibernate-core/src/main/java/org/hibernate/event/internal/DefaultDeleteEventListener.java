@@ -49,7 +49,6 @@ import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.Type;
-import org.hibernate.type.TypeHelper;
 
 /**
  * Defines the default delete event listener used by hibernate for deleting entities
@@ -449,7 +448,7 @@ public class DefaultDeleteEventListener implements DeleteEventListener,	Callback
 		if ( !persister.hasCollections() || !persister.hasUninitializedLazyProperties( parent ) ) {
 			boolean[] copyability = new boolean[types.length];
 			java.util.Arrays.fill( copyability, true );
-			TypeHelper.deepCopy( currentState, types, copyability, deletedState, eventSource );
+			persister.deepCopyState( currentState, copyability, deletedState, eventSource );
 			return deletedState;
 		}
 
@@ -27,8 +27,11 @@ public interface Optimizer {
 	/**
 	 * Generate an identifier value accounting for this specific optimization.
 	 *
-	 * All known implementors are synchronized. Consider carefully if a new
-	 * implementation could drop this requirement.
+	 * All known implementors are thread-safe. An implementation with shared
+	 * mutable state should guard it using a {@link java.util.concurrent.locks.Lock}
+	 * rather than {@code synchronized} if the underlying source is accessed while
+	 * holding it, since blocking inside a monitor pins the carrier thread of a
+	 * virtual thread.
 	 *
 	 * @param callback Callback to access the underlying value source.
 	 * @return The generated identifier value.
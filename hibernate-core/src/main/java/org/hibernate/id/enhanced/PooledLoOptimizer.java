@@ -9,6 +9,7 @@ package org.hibernate.id.enhanced;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.HibernateException;
 import org.hibernate.id.IntegralDataTypeHolder;
@@ -38,6 +39,8 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 		private IntegralDataTypeHolder upperLimitValue;
 	}
 
+	private final ReentrantLock lock = new ReentrantLock();
+
 	/**
 	 * Constructs a {@code PooledLoOptimizer}.
 	 *
@@ -53,20 +56,26 @@ public class PooledLoOptimizer extends AbstractOptimizer {
 	}
 
 	@Override
-	public synchronized Serializable generate(AccessCallback callback) {
-		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+	public Serializable generate(AccessCallback callback) {
+		lock.lock();
+		try {
+			final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
 
-		if ( generationState.lastSourceValue == null
-				|| ! generationState.value.lt( generationState.upperLimitValue ) ) {
-			generationState.lastSourceValue = callback.getNextValue();
-			generationState.upperLimitValue = generationState.lastSourceValue.copy().add( incrementSize );
-			generationState.value = generationState.lastSourceValue.copy();
-			// handle cases where initial-value is less that one (hsqldb for instance).
-			while ( generationState.value.lt( 1 ) ) {
-				generationState.value.increment();
+			if ( generationState.lastSourceValue == null
+					|| ! generationState.value.lt( generationState.upperLimitValue ) ) {
+				generationState.lastSourceValue = callback.getNextValue();
+				generationState.upperLimitValue = generationState.lastSourceValue.copy().add( incrementSize );
+				generationState.value = generationState.lastSourceValue.copy();
+				// handle cases where initial-value is less that one (hsqldb for instance).
+				while ( generationState.value.lt( 1 ) ) {
+					generationState.value.increment();
+				}
 			}
+			return generationState.value.makeValueThenIncrement();
+		}
+		finally {
+			lock.unlock();
 		}
-		return generationState.value.makeValueThenIncrement();
 	}
 
 	private GenerationState noTenantState;
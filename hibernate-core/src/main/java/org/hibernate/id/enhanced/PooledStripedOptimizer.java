@@ -0,0 +1,261 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Optimizer which, like the {@link PooledOptimizer}, stores the hi value of the
+ * current range of values in the database, but which hands out the values of the
+ * range without any locking.
+ * <p>
+ * The range obtained from the database is split into stripes, one per available
+ * processor, and each thread draws values from "its" stripe using atomic increments,
+ * falling back to the other stripes once its own stripe is exhausted. Contrary to
+ * the other optimizers, the generated values are therefore unique, but not
+ * generated in ascending order.
+ * <p>
+ * As soon as a stripe is half used, the next range is obtained from the database
+ * ahead of time by the thread which happened to observe this, while all other
+ * threads continue to draw from the current range. So usually no thread has to
+ * wait for a database round trip when the current range is exhausted. The price is
+ * that a prefetched range is lost if the application is stopped before using it,
+ * which is no different from an only partially used range.
+ * <p>
+ * Only values within the range of a {@code long} are supported.
+ *
+ * @see PooledOptimizer
+ */
+public class PooledStripedOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PooledStripedOptimizer.class.getName()
+	);
+
+	// the next values of the stripes are kept 64 bytes apart, so that they do not share a cache line
+	private static final int STRIDE = 8;
+	private static final long EXHAUSTED = Long.MIN_VALUE;
+
+	private final int maxStripes;
+	private long initialValue = -1;
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String, GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PooledStripedOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PooledStripedOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		this.maxStripes = Math.max( 1, Math.min( Runtime.getRuntime().availableProcessors(), incrementSize ) );
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating striped pooled optimizer with [incrementSize={0}; returnClass={1}; stripes={2}]",
+					incrementSize,
+					returnClass.getName(),
+					maxStripes
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState state = locateGenerationState( callback.getTenantIdentifier() );
+		final int probe = (int) Thread.currentThread().getId();
+		while ( true ) {
+			final Range range = state.current;
+			if ( range != null ) {
+				final long value = range.claim( probe );
+				if ( value != EXHAUSTED ) {
+					if ( range.isPrefetchPoint( value ) ) {
+						prefetch( state, range, callback );
+					}
+					return toIdentifier( value );
+				}
+			}
+			nextRange( state, range, callback );
+		}
+	}
+
+	private void prefetch(GenerationState state, Range range, AccessCallback callback) {
+		// never wait for a concurrent fetch here, the current range still has values
+		if ( state.fetchLock.tryLock() ) {
+			try {
+				if ( state.current == range && state.prefetched == null ) {
+					state.prefetched = fetchRange( state, callback );
+				}
+			}
+			finally {
+				state.fetchLock.unlock();
+			}
+		}
+	}
+
+	private void nextRange(GenerationState state, Range exhausted, AccessCallback callback) {
+		state.fetchLock.lock();
+		try {
+			// some other thread might have switched the range already
+			if ( state.current == exhausted ) {
+				final Range prefetched = state.prefetched;
+				state.prefetched = null;
+				state.current = prefetched != null ? prefetched : fetchRange( state, callback );
+			}
+		}
+		finally {
+			state.fetchLock.unlock();
+		}
+	}
+
+	/**
+	 * Obtains the next range from the database; only ever called holding the fetch lock.
+	 */
+	private Range fetchRange(GenerationState state, AccessCallback callback) {
+		final IntegralDataTypeHolder sourceValue = callback.getNextValue();
+		final long hi = IdentifierGeneratorHelper.extractLong( sourceValue );
+		final long lo;
+		if ( state.lastSourceValue == null ) {
+			// see PooledOptimizer: the first call to obtain the next value might just give us the initialValue
+			if ( hi < 1 ) {
+				log.pooledOptimizerReportedInitialValue( sourceValue );
+			}
+			lo = ( initialValue == -1 && hi < incrementSize ) || hi == initialValue
+					? hi
+					: hi - incrementSize + 1;
+		}
+		else {
+			lo = hi - incrementSize + 1;
+		}
+		state.lastSourceValue = sourceValue;
+		return new Range( lo, hi, maxStripes );
+	}
+
+	private Serializable toIdentifier(long value) {
+		if ( returnClass == Long.class ) {
+			return value;
+		}
+		else if ( returnClass == Integer.class ) {
+			return (int) value;
+		}
+		else if ( returnClass == Short.class ) {
+			return (short) value;
+		}
+		else {
+			return (Serializable) IdentifierGeneratorHelper.getIntegralDataTypeHolder( returnClass )
+					.initialize( value )
+					.makeValue();
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, (tenant) -> new GenerationState() );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		final IntegralDataTypeHolder lastSourceValue = noTenantState.lastSourceValue;
+		if ( lastSourceValue == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return lastSourceValue;
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+
+	private static class GenerationState {
+		private final ReentrantLock fetchLock = new ReentrantLock();
+		private volatile Range current;
+		private volatile Range prefetched;
+		private volatile IntegralDataTypeHolder lastSourceValue;
+	}
+
+	/**
+	 * A range of values obtained from the database, split into stripes.
+	 */
+	private static final class Range {
+		private final long lo;
+		private final long hi;
+		private final int stripes;
+		private final long stripeSize;
+		private final AtomicLongArray nextValues;
+
+		private Range(long lo, long hi, int maxStripes) {
+			this.lo = lo;
+			this.hi = hi;
+			final long size = hi - lo + 1;
+			this.stripes = (int) Math.min( maxStripes, size );
+			this.stripeSize = ( size + stripes - 1 ) / stripes;
+			this.nextValues = new AtomicLongArray( stripes * STRIDE );
+			for ( int i = 0; i < stripes; i++ ) {
+				nextValues.set( i * STRIDE, stripeStart( i ) );
+			}
+		}
+
+		private long stripeStart(int stripe) {
+			return lo + stripe * stripeSize;
+		}
+
+		private long stripeEnd(int stripe) {
+			return Math.min( stripeStart( stripe ) + stripeSize - 1, hi );
+		}
+
+		/**
+		 * @return the claimed value, or {@link #EXHAUSTED} if all stripes are exhausted
+		 */
+		private long claim(int probe) {
+			final int first = ( probe & Integer.MAX_VALUE ) % stripes;
+			int stripe = first;
+			do {
+				final int index = stripe * STRIDE;
+				final long end = stripeEnd( stripe );
+				// read first, to not push the exhausted stripes any further
+				if ( nextValues.get( index ) <= end ) {
+					final long value = nextValues.getAndIncrement( index );
+					if ( value <= end ) {
+						return value;
+					}
+				}
+				stripe = stripe + 1 == stripes ? 0 : stripe + 1;
+			} while ( stripe != first );
+			return EXHAUSTED;
+		}
+
+		/**
+		 * Whether obtaining the given value should trigger obtaining the next range,
+		 * which is the case whenever a stripe gets half used.
+		 */
+		private boolean isPrefetchPoint(long value) {
+			return ( value - lo ) % stripeSize == stripeSize / 2;
+		}
+	}
+}
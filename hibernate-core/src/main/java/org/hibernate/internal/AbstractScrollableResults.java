@@ -7,7 +7,13 @@
 package org.hibernate.internal;
 
 import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.internal.EvictVisitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.sql.results.jdbc.internal.JdbcValuesSourceProcessingStateStandardImpl;
 import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
@@ -30,6 +36,7 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 	private final SharedSessionContractImplementor persistenceContext;
 
 	private boolean closed;
+	private boolean rowEviction;
 
 	public AbstractScrollableResults(
 			JdbcValues jdbcValues,
@@ -81,6 +88,46 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 		return persistenceContext;
 	}
 
+	@Override
+	public void enableRowEviction() {
+		if ( persistenceContext.isEventSource() ) {
+			jdbcValuesSourceProcessingState.collectLoadedEntities();
+			rowEviction = true;
+		}
+	}
+
+	/**
+	 * Evicts the entities loaded for the previous row, if {@linkplain #enableRowEviction() enabled}.
+	 * Unlike {@link org.hibernate.Session#evict(Object)}, the eviction does not cascade, since
+	 * associated entities might have been managed before the row was read.
+	 */
+	protected void evictPreviousRow() {
+		if ( rowEviction ) {
+			final EventSource session = persistenceContext.asEventSource();
+			for ( Object entity : jdbcValuesSourceProcessingState.drainLoadedEntities() ) {
+				evict( entity, session );
+			}
+		}
+	}
+
+	private static void evict(Object entity, EventSource session) {
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final EntityEntry entry = persistenceContext.getEntry( entity );
+		if ( entry != null ) {
+			final EntityPersister persister = entry.getPersister();
+			final EntityKey key = entry.getEntityKey();
+			if ( persister.hasNaturalIdentifier() ) {
+				persistenceContext.getNaturalIdResolutions().handleEviction( key.getIdentifier(), entity, persister );
+			}
+			// remove the collections of the entity, but not the entities they contain
+			if ( persister.hasCollections() ) {
+				new EvictVisitor( session, entity ).process( entity, persister );
+			}
+			persistenceContext.removeEntity( key );
+			persistenceContext.removeEntry( entity );
+		}
+	}
+
 	protected void afterScrollOperation() {
 		getPersistenceContext().afterScrollOperation();
 	}
@@ -97,8 +144,12 @@ public abstract class AbstractScrollableResults<R> implements ScrollableResultsI
 			return;
 		}
 
+		evictPreviousRow();
+
 		rowReader.finishUp( jdbcValuesSourceProcessingState );
 		jdbcValues.finishUp( persistenceContext );
+		persistenceContext.getPersistenceContextInternal().getLoadContexts()
+				.deregisterIfCurrent( jdbcValuesSourceProcessingState );
 
 		getPersistenceContext().getJdbcCoordinator().afterStatementExecution();
 
@@ -18,6 +18,7 @@ import org.hibernate.TimeZoneStorageStrategy;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.batch.internal.BatchTableDependencies;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
@@ -172,6 +173,7 @@ public final class FastSessionServices {
 	//Some fields are handy as public - still considered internal.
 	public final EntityCopyObserverFactory entityCopyObserverFactory;
 	public final BatchBuilder batchBuilder;
+	public final BatchTableDependencies batchTableDependencies; //null unless batch overlap is enabled
 	public final Dialect dialect;
 	public final ParameterMarkerStrategy parameterMarkerStrategy;
 
@@ -265,6 +267,9 @@ public final class FastSessionServices {
 		this.jsonFormatMapper = sessionFactoryOptions.getJsonFormatMapper();
 		this.xmlFormatMapper = sessionFactoryOptions.getXmlFormatMapper();
 		this.batchBuilder = serviceRegistry.getService( BatchBuilder.class );
+		this.batchTableDependencies = sessionFactoryOptions.isJdbcBatchOverlapEnabled()
+				? BatchTableDependencies.from( sessionFactory.getMappingMetamodel() )
+				: null;
 	}
 
 	private static FlushMode initializeDefaultFlushMode(Map<String, Object> defaultSessionProperties) {
@@ -299,6 +299,8 @@ public class FetchingScrollableResultsImpl<R> extends AbstractScrollableResults<
 	}
 
 	private boolean prepareCurrentRow() {
+		evictPreviousRow();
+
 		if ( getRowProcessingState().isBeforeFirst() ) {
 			getRowProcessingState().next();
 		}
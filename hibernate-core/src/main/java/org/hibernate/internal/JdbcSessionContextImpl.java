@@ -68,6 +68,11 @@ public class JdbcSessionContextImpl implements JdbcSessionContext {
 		return settings().getJdbcFetchSize();
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return settings().getPreparedStatementCacheSize();
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return settings().getJpaCompliance();
@@ -35,6 +35,7 @@ class MultiIdentifierLoadAccessImpl<T> implements MultiIdentifierLoadAccess<T>,
 	private boolean sessionCheckingEnabled;
 	private boolean returnOfDeletedEntitiesEnabled;
 	private boolean orderedReturnEnabled = true;
+	private int parallelism = 1;
 
 	public MultiIdentifierLoadAccessImpl(SessionImpl session, EntityPersister entityPersister) {
 		this.session = session;
@@ -119,6 +120,17 @@ class MultiIdentifierLoadAccessImpl<T> implements MultiIdentifierLoadAccess<T>,
 		return this;
 	}
 
+	@Override
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	@Override
+	public MultiIdentifierLoadAccess<T> withParallelism(int parallelism) {
+		this.parallelism = Math.max( 1, parallelism );
+		return this;
+	}
+
 	@Override
 	@SuppressWarnings( "unchecked" )
 	public <K> List<T> multiLoad(K... ids) {
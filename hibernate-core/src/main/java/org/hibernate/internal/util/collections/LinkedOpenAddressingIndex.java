@@ -0,0 +1,249 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.Arrays;
+
+/**
+ * Keys with an associated value, in the order they were added, and indexed by their hash code.
+ * <p>
+ * The keys and values are kept in parallel arrays, at consecutive positions in the order they
+ * were added. A removed key leaves an empty position behind, which is reclaimed when the arrays
+ * are compacted. An open addressing table with linear probing maps hash codes to positions, so
+ * that no node needs to be allocated per key, and so that the neighbours of a key in insertion
+ * order can be reached from it directly.
+ * <p>
+ * The hash code of a key is supplied by the caller, and is fixed when the key is added. Lookups
+ * are done with a hash code and a probe, which {@link #matches} compares to the stored keys.
+ * <p>
+ * This class is not thread-safe.
+ */
+public abstract class LinkedOpenAddressingIndex<K, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	// golden ratio, used to spread the hash codes over the table (Fibonacci hashing)
+	private static final int SPREAD = 0x9E3779B9;
+
+	private K[] keys;
+	private V[] values;
+	private int[] hashes;
+	private int start;
+	private int end;
+	private int size;
+
+	// position + 1 of the keys, 0 for a free slot; twice as large as the arrays
+	private int[] table;
+	private int shift;
+
+	protected LinkedOpenAddressingIndex() {
+		allocate( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * Whether the given probe designates the given stored key.
+	 */
+	protected abstract boolean matches(K storedKey, Object probe);
+
+	@SuppressWarnings("unchecked")
+	private void allocate(int capacity) {
+		keys = (K[]) new Object[capacity];
+		values = (V[]) new Object[capacity];
+		hashes = new int[capacity];
+		table = new int[capacity << 1];
+		shift = Integer.numberOfLeadingZeros( table.length ) + 1;
+	}
+
+	private int slot(int hash) {
+		return ( hash * SPREAD ) >>> shift;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * The first position which may hold a key.
+	 */
+	public int start() {
+		return start;
+	}
+
+	/**
+	 * The position following the last one which may hold a key.
+	 */
+	public int end() {
+		return end;
+	}
+
+	/**
+	 * The key at the given position, or {@code null} if it was removed.
+	 */
+	public K keyAt(int position) {
+		return keys[position];
+	}
+
+	/**
+	 * The value at the given position, or {@code null} if it was removed.
+	 */
+	public V valueAt(int position) {
+		return values[position];
+	}
+
+	/**
+	 * The position of the key designated by the given probe, or {@code -1}.
+	 */
+	public int indexOf(int hash, Object probe) {
+		final int[] table = this.table;
+		final int mask = table.length - 1;
+		int slot = slot( hash );
+		int entry;
+		while ( ( entry = table[slot] ) != 0 ) {
+			final int position = entry - 1;
+			if ( hashes[position] == hash && matches( keys[position], probe ) ) {
+				return position;
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds the given key after all others, unless it is already present, in which case
+	 * only its value is replaced.
+	 */
+	public void put(K key, V value, int hash) {
+		final int existing = indexOf( hash, key );
+		if ( existing >= 0 ) {
+			values[existing] = value;
+			return;
+		}
+
+		if ( end == keys.length ) {
+			if ( size <= keys.length >> 1 ) {
+				compact();
+			}
+			else {
+				grow();
+			}
+		}
+		final int position = end++;
+		keys[position] = key;
+		values[position] = value;
+		hashes[position] = hash;
+		insertSlot( position );
+		size++;
+	}
+
+	/**
+	 * Removes the key designated by the given probe, if present.
+	 */
+	public void remove(int hash, Object probe) {
+		final int position = indexOf( hash, probe );
+		if ( position >= 0 ) {
+			removeAt( position );
+		}
+	}
+
+	/**
+	 * Removes the key at the given position.
+	 */
+	public void removeAt(int position) {
+		removeSlot( position );
+		keys[position] = null;
+		values[position] = null;
+		hashes[position] = 0;
+		if ( --size == 0 ) {
+			start = 0;
+			end = 0;
+		}
+		else {
+			while ( keys[start] == null ) {
+				start++;
+			}
+			while ( keys[end - 1] == null ) {
+				end--;
+			}
+		}
+	}
+
+	private void insertSlot(int position) {
+		final int mask = table.length - 1;
+		int slot = slot( hashes[position] );
+		while ( table[slot] != 0 ) {
+			slot = ( slot + 1 ) & mask;
+		}
+		table[slot] = position + 1;
+	}
+
+	private void removeSlot(int position) {
+		final int[] table = this.table;
+		final int mask = table.length - 1;
+		int hole = slot( hashes[position] );
+		while ( table[hole] != position + 1 ) {
+			hole = ( hole + 1 ) & mask;
+		}
+		int next = ( hole + 1 ) & mask;
+		int entry;
+		// shift back the following entries of the cluster which would no longer be reachable
+		while ( ( entry = table[next] ) != 0 ) {
+			final int ideal = slot( hashes[entry - 1] );
+			// move the entry if its ideal slot is not cyclically within (hole, next]
+			if ( ( ( next - ideal ) & mask ) >= ( ( next - hole ) & mask ) ) {
+				table[hole] = entry;
+				hole = next;
+			}
+			next = ( next + 1 ) & mask;
+		}
+		table[hole] = 0;
+	}
+
+	private void compact() {
+		int target = 0;
+		for ( int position = start; position < end; position++ ) {
+			if ( keys[position] != null ) {
+				keys[target] = keys[position];
+				values[target] = values[position];
+				hashes[target] = hashes[position];
+				target++;
+			}
+		}
+		Arrays.fill( keys, target, keys.length, null );
+		Arrays.fill( values, target, values.length, null );
+		start = 0;
+		end = target;
+		rebuildTable();
+	}
+
+	private void grow() {
+		final K[] oldKeys = keys;
+		final V[] oldValues = values;
+		final int[] oldHashes = hashes;
+		allocate( oldKeys.length << 1 );
+		int target = 0;
+		for ( int position = start; position < end; position++ ) {
+			if ( oldKeys[position] != null ) {
+				keys[target] = oldKeys[position];
+				values[target] = oldValues[position];
+				hashes[target] = oldHashes[position];
+				target++;
+			}
+		}
+		start = 0;
+		end = target;
+		rebuildTable();
+	}
+
+	private void rebuildTable() {
+		Arrays.fill( table, 0 );
+		for ( int position = start; position < end; position++ ) {
+			insertSlot( position );
+		}
+	}
+}
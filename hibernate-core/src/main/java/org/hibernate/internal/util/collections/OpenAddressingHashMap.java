@@ -0,0 +1,364 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link Map} implementation based on open addressing with linear probing.
+ * <p>
+ * Keys, values and (spread) hash codes are kept in three parallel arrays, so that
+ * contrary to {@link java.util.HashMap} no node needs to be allocated per entry:
+ * a {@link #put} into a table which does not need to grow and any {@link #get}
+ * are allocation free. Removal uses backward shift deletion, so no tombstones are
+ * ever left behind.
+ * <p>
+ * Subclasses may specialize {@link #keysEqual} when a cheaper equality check than
+ * {@link Object#equals} is available for some of the keys.
+ * <p>
+ * Null keys are not supported. The {@link #keySet()}, {@link #values()} and
+ * {@link #entrySet()} views are unmodifiable and only meant for iteration; the
+ * iterators are fail-fast.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class OpenAddressingHashMap<K, V> extends AbstractMap<K, V> {
+	private static final int MINIMUM_CAPACITY = 8;
+	// golden ratio, used to spread the hash codes over the table (Fibonacci hashing)
+	private static final int SPREAD = 0x9E3779B9;
+
+	private K[] keys;
+	private V[] values;
+	private int[] hashes;
+	private int shift;
+	private int size;
+	private int resizeThreshold;
+	private int modCount;
+
+	private Set<K> keySet;
+	private Collection<V> valuesView;
+	private Set<Entry<K, V>> entrySet;
+
+	public OpenAddressingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * @param expectedSize The number of entries the map should be able to hold without growing
+	 */
+	public OpenAddressingHashMap(int expectedSize) {
+		allocate( tableSizeFor( expectedSize ) );
+	}
+
+	private static int tableSizeFor(int expectedSize) {
+		// keep the load factor at or below 2/3
+		final int minimumCapacity = Math.max( MINIMUM_CAPACITY, expectedSize + ( expectedSize >> 1 ) + 1 );
+		final int capacity = Integer.highestOneBit( minimumCapacity - 1 ) << 1;
+		if ( capacity <= 0 ) {
+			throw new IllegalArgumentException( "Map too large: " + expectedSize );
+		}
+		return capacity;
+	}
+
+	@SuppressWarnings("unchecked")
+	private void allocate(int capacity) {
+		keys = (K[]) new Object[capacity];
+		values = (V[]) new Object[capacity];
+		hashes = new int[capacity];
+		shift = Integer.numberOfLeadingZeros( capacity ) + 1;
+		resizeThreshold = capacity / 3 * 2;
+	}
+
+	private int slot(int hash) {
+		return ( hash * SPREAD ) >>> shift;
+	}
+
+	/**
+	 * Equality of two keys having the same hash code; the first argument is the
+	 * key stored in the map.
+	 */
+	protected boolean keysEqual(K storedKey, Object key) {
+		return storedKey == key || storedKey.equals( key );
+	}
+
+	private int indexOf(Object key) {
+		if ( key == null ) {
+			return -1;
+		}
+		final int hash = key.hashCode();
+		final K[] keys = this.keys;
+		final int mask = keys.length - 1;
+		int index = slot( hash );
+		K candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( hashes[index] == hash && keysEqual( candidate, key ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		return -1;
+	}
+
+	@Override
+	public V get(Object key) {
+		final int index = indexOf( key );
+		return index < 0 ? null : values[index];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf( key ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null && Objects.equals( values[i], value ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "Null keys are not supported" );
+		}
+		final int hash = key.hashCode();
+		final int mask = keys.length - 1;
+		int index = slot( hash );
+		K candidate;
+		while ( ( candidate = keys[index] ) != null ) {
+			if ( hashes[index] == hash && keysEqual( candidate, key ) ) {
+				final V previous = values[index];
+				values[index] = value;
+				return previous;
+			}
+			index = ( index + 1 ) & mask;
+		}
+		keys[index] = key;
+		values[index] = value;
+		hashes[index] = hash;
+		modCount++;
+		if ( ++size > resizeThreshold ) {
+			resize( keys.length << 1 );
+		}
+		return null;
+	}
+
+	private void resize(int newCapacity) {
+		final K[] oldKeys = keys;
+		final V[] oldValues = values;
+		final int[] oldHashes = hashes;
+		allocate( newCapacity );
+		final int mask = newCapacity - 1;
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			final K key = oldKeys[i];
+			if ( key != null ) {
+				int index = slot( oldHashes[i] );
+				while ( keys[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	@Override
+	public V remove(Object key) {
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V previous = values[index];
+		removeAt( index );
+		return previous;
+	}
+
+	private void removeAt(int index) {
+		final K[] keys = this.keys;
+		final int mask = keys.length - 1;
+		int hole = index;
+		int next = ( index + 1 ) & mask;
+		K key;
+		// shift back the following entries of the cluster which would no longer be reachable
+		while ( ( key = keys[next] ) != null ) {
+			final int ideal = slot( hashes[next] );
+			// move the entry if its ideal slot is not cyclically within (hole, next]
+			if ( ( ( next - ideal ) & mask ) >= ( ( next - hole ) & mask ) ) {
+				keys[hole] = key;
+				values[hole] = values[next];
+				hashes[hole] = hashes[next];
+				hole = next;
+			}
+			next = ( next + 1 ) & mask;
+		}
+		keys[hole] = null;
+		values[hole] = null;
+		hashes[hole] = 0;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			Arrays.fill( hashes, 0 );
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final int expectedModCount = modCount;
+		final K[] keys = this.keys;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( keys[i] != null ) {
+				action.accept( keys[i], values[i] );
+			}
+		}
+		if ( modCount != expectedModCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		if ( keySet == null ) {
+			keySet = new AbstractSet<>() {
+				@Override
+				public Iterator<K> iterator() {
+					return new TableIterator<>() {
+						@Override
+						K element(int index) {
+							return keys[index];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+
+				@Override
+				public boolean contains(Object o) {
+					return containsKey( o );
+				}
+			};
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( valuesView == null ) {
+			valuesView = new AbstractCollection<>() {
+				@Override
+				public Iterator<V> iterator() {
+					return new TableIterator<>() {
+						@Override
+						V element(int index) {
+							return values[index];
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return valuesView;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<K, V>> iterator() {
+					return new TableIterator<>() {
+						@Override
+						Entry<K, V> element(int index) {
+							return new SimpleImmutableEntry<>( keys[index], values[index] );
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return entrySet;
+	}
+
+	private abstract class TableIterator<E> implements Iterator<E> {
+		private final int expectedModCount = modCount;
+		private int next = advance( 0 );
+
+		abstract E element(int index);
+
+		private int advance(int from) {
+			final K[] keys = OpenAddressingHashMap.this.keys;
+			for ( int i = from; i < keys.length; i++ ) {
+				if ( keys[i] != null ) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next >= 0;
+		}
+
+		@Override
+		public E next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next < 0 ) {
+				throw new NoSuchElementException();
+			}
+			final E element = element( next );
+			next = advance( next + 1 );
+			return element;
+		}
+	}
+}
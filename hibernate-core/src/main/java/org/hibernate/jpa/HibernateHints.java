@@ -63,6 +63,33 @@ public interface HibernateHints {
 	 */
 	String HINT_FETCH_SIZE = "org.hibernate.fetchSize";
 
+	/**
+	 * Hint for streaming the results of a query with
+	 * {@link org.hibernate.query.SelectionQuery#stream()}, keeping the
+	 * memory used by the session flat however many results are read:
+	 * <ul>
+	 *     <li>unless a {@linkplain #HINT_FETCH_SIZE fetch size} is given,
+	 *     the {@linkplain org.hibernate.dialect.Dialect#getDefaultStreamingFetchSize()
+	 *     default streaming fetch size} of the dialect is used, and
+	 *     <li>the entities loaded for a result, and their collections, are
+	 *     evicted from the persistence context once the next result is read,
+	 *     or the stream is closed.
+	 * </ul>
+	 * <p>
+	 * Changes made to evicted entities are not flushed, and entities which
+	 * are loaded again for a later result are new instances. Entities which
+	 * were already associated with the session are never evicted.
+	 * <p>
+	 * On MySQL, the default fetch size makes the driver read the rows one by
+	 * one, and no other statement can be executed on the connection until the
+	 * stream is closed. Lazy loading, batch fetching and other queries then
+	 * fail while the results are processed. See
+	 * {@link org.hibernate.dialect.MySQLDialect#getDefaultStreamingFetchSize()}.
+	 *
+	 * @since 6.3
+	 */
+	String HINT_STREAMING = "org.hibernate.streaming";
+
 	/**
 	 * Hint for specifying whether results from a query should be 
 	 * stored in the query cache.
@@ -7,6 +7,7 @@
 package org.hibernate.loader.ast.internal;
 
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
@@ -16,9 +17,11 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.CollectionBatchLoader;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
 import org.hibernate.sql.results.internal.ResultsHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import java.lang.reflect.Array;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.trimIdBatch;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_DEBUG_ENABLED;
@@ -35,6 +38,8 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 
 	private final int keyJdbcCount;
 
+	private final AdaptiveBatchSize adaptiveBatchSize;
+
 	final CollectionLoaderSingleKey singleKeyLoader;
 
 	public AbstractCollectionBatchLoader(
@@ -42,7 +47,17 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 			LoadQueryInfluencers influencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
+		this( domainBatchSize, null, influencers, attributeMapping, sessionFactory );
+	}
+
+	public AbstractCollectionBatchLoader(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
 		this.domainBatchSize = domainBatchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 		this.attributeMapping = attributeMapping;
 
 		this.keyJdbcCount = attributeMapping.getJdbcTypeCount();
@@ -57,6 +72,14 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 		return domainBatchSize;
 	}
 
+	/**
+	 * The number of collections to initialize with the next load, at most the
+	 * {@linkplain #getDomainBatchSize() domain batch size}.
+	 */
+	protected int getEffectiveBatchSize() {
+		return adaptiveBatchSize == null ? domainBatchSize : adaptiveBatchSize.getBatchSize();
+	}
+
 	@Override
 	public PluralAttributeMapping getLoadable() {
 		return attributeMapping;
@@ -93,6 +116,8 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 
 		finishInitializingKeys( keys, session );
 
+		batchFetched( keys, session );
+
 		final CollectionKey collectionKey = new CollectionKey( getLoadable().getCollectionDescriptor(), key );
 		return session.getPersistenceContext().getCollection( collectionKey );
 	}
@@ -126,8 +151,23 @@ public abstract class AbstractCollectionBatchLoader implements CollectionBatchLo
 
 	}
 
+	void batchFetched(Object[] keys, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = sessionFactory.getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.batchFetchCollection( attributeMapping.getNavigableRole().getFullPath(), getEffectiveBatchSize() );
+		}
+		if ( adaptiveBatchSize != null ) {
+			final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+			adaptiveBatchSize.batchFetched(
+					countIds( keys ) + 1,
+					batchFetchQueue.hasBatchLoadableCollections( attributeMapping ),
+					batchFetchQueue
+			);
+		}
+	}
+
 	Object[] resolveKeysToInitialize(Object keyBeingLoaded, SharedSessionContractImplementor session) {
-		final int length = getDomainBatchSize();
+		final int length = getEffectiveBatchSize();
 		final Class<?> keyType = getLoadable().getKeyDescriptor().getJavaType().getJavaTypeClass();
 		final Object[] keysToInitialize = (Object[]) Array.newInstance( keyType, length );
 		session.getPersistenceContextInternal().getBatchFetchQueue()
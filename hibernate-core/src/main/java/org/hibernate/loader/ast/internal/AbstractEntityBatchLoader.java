@@ -8,12 +8,15 @@ package org.hibernate.loader.ast.internal;
 
 import org.hibernate.Hibernate;
 import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.EntityBatchLoader;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
+import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.countIds;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.hasSingleId;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_DEBUG_ENABLED;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadLogging.MULTI_KEY_LOAD_LOGGER;
@@ -23,10 +26,27 @@ public abstract class AbstractEntityBatchLoader<T>
 		implements EntityBatchLoader<T> {
 
 	private final SingleIdEntityLoaderStandardImpl<T> singleIdLoader;
+	private final AdaptiveBatchSize adaptiveBatchSize;
 
 	public AbstractEntityBatchLoader(EntityMappingType entityDescriptor, SessionFactoryImplementor sessionFactory) {
+		this( entityDescriptor, null, sessionFactory );
+	}
+
+	public AbstractEntityBatchLoader(
+			EntityMappingType entityDescriptor,
+			AdaptiveBatchSize adaptiveBatchSize,
+			SessionFactoryImplementor sessionFactory) {
 		super( entityDescriptor, sessionFactory );
 		singleIdLoader = new SingleIdEntityLoaderStandardImpl<>( entityDescriptor, sessionFactory );
+		this.adaptiveBatchSize = adaptiveBatchSize;
+	}
+
+	/**
+	 * The number of entities to initialize with the next load, at most the
+	 * {@linkplain #getDomainBatchSize() domain batch size}.
+	 */
+	protected int getEffectiveBatchSize() {
+		return adaptiveBatchSize == null ? getDomainBatchSize() : adaptiveBatchSize.getBatchSize();
 	}
 
 	protected abstract void initializeEntities(
@@ -94,9 +114,25 @@ public abstract class AbstractEntityBatchLoader<T>
 		}
 
 		initializeEntities( ids, id, entityInstance, lockOptions, readOnly, session );
+		batchFetched( ids, session );
 
 		final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
 		//noinspection unchecked
 		return (T) session.getPersistenceContext().getEntity( entityKey );
 	}
+
+	private void batchFetched(Object[] ids, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.batchFetchEntity( getLoadable().getEntityName(), getEffectiveBatchSize() );
+		}
+		if ( adaptiveBatchSize != null ) {
+			final BatchFetchQueue batchFetchQueue = session.getPersistenceContextInternal().getBatchFetchQueue();
+			adaptiveBatchSize.batchFetched(
+					countIds( ids ) + 1,
+					batchFetchQueue.hasBatchLoadableEntityKeys( getLoadable() ),
+					batchFetchQueue
+			);
+		}
+	}
 }
@@ -51,7 +51,10 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 	@Override
 	public final <K> List<T> load(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
 		assert ids != null;
-		if ( loadOptions.isOrderReturnEnabled() ) {
+		if ( ParallelMultiIdLoadHelper.isParallelLoadApplicable( ids, getLoadable(), loadOptions, session ) ) {
+			return ParallelMultiIdLoadHelper.load( ids, getLoadable(), loadOptions, session );
+		}
+		else if ( loadOptions.isOrderReturnEnabled() ) {
 			return performOrderedMultiLoad( ids, loadOptions, session );
 		}
 		else {
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.engine.spi.BatchFetchQueue;
+
+/**
+ * The batch size of an entity or collection, tuned at runtime between configured bounds.
+ * <p>
+ * The outcome of a batch fetch which used up the whole batch, and left further keys
+ * in the {@link BatchFetchQueue}, tells whether the batch size fit the access pattern
+ * of the session:
+ * <ul>
+ *     <li>if the session went on to batch fetch again, the batch was too small, and it
+ *     took an extra round trip to the database, while
+ *     <li>if the session did not, the keys left in the queue were never needed, and the
+ *     batch was likely wider than needed.
+ * </ul>
+ * Every {@value #SAMPLE_SIZE} batch fetches, the batch size is doubled if most of them
+ * were too small, or narrowed by a quarter if most of them were too wide.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MIN_SIZE
+ * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_BATCH_FETCH_MAX_SIZE
+ */
+public class AdaptiveBatchSize {
+	static final int SAMPLE_SIZE = 32;
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private volatile int batchSize;
+
+	private final AtomicInteger batchFetchCount = new AtomicInteger();
+	private final LongAdder tooSmallCount = new LongAdder();
+	private final LongAdder tooWideCount = new LongAdder();
+
+	public AdaptiveBatchSize(int minBatchSize, int maxBatchSize, int initialBatchSize) {
+		this.minBatchSize = Math.max( 2, minBatchSize );
+		this.maxBatchSize = Math.max( this.minBatchSize, maxBatchSize );
+		this.batchSize = Math.min( Math.max( initialBatchSize, this.minBatchSize ), this.maxBatchSize );
+	}
+
+	/**
+	 * The number of entities or collections to fetch with the next batch fetch.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * The largest batch size this may be tuned to.
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Registers a batch fetch with the batch fetch queue of the session, which
+	 * reports its outcome.
+	 *
+	 * @param fetchedCount The number of entities or collections which were fetched
+	 * @param keysLeft Whether the queue still holds keys for the fetched entity or collection
+	 */
+	void batchFetched(int fetchedCount, boolean keysLeft, BatchFetchQueue batchFetchQueue) {
+		if ( fetchedCount >= batchSize && keysLeft ) {
+			// the outcome is known once the session batch fetches again, or clears the queue
+			batchFetchQueue.registerBatchFetch( this, this::fullBatchCompleted );
+		}
+		else {
+			// the queue was drained, so the batch size did not matter
+			batchFetchQueue.registerBatchFetch( this, null );
+			sampled();
+		}
+	}
+
+	private void fullBatchCompleted(boolean fetchedAgain) {
+		if ( fetchedAgain ) {
+			tooSmallCount.increment();
+		}
+		else {
+			tooWideCount.increment();
+		}
+		sampled();
+	}
+
+	private void sampled() {
+		if ( batchFetchCount.incrementAndGet() % SAMPLE_SIZE == 0 ) {
+			adjust();
+		}
+	}
+
+	private void adjust() {
+		final long tooSmall = tooSmallCount.sumThenReset();
+		final long tooWide = tooWideCount.sumThenReset();
+		final int current = batchSize;
+		if ( tooSmall * 2 > SAMPLE_SIZE ) {
+			batchSize = Math.min( maxBatchSize, current * 2 );
+		}
+		else if ( tooWide * 2 > SAMPLE_SIZE ) {
+			batchSize = Math.max( minBatchSize, current - current / 4 );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveBatchSize(" + batchSize + " [" + minBatchSize + ", " + maxBatchSize + "])";
+	}
+}
@@ -259,6 +259,43 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Associates an entity with the session, assembling its state from the given
+	 * entry in the same way as an entity read from the second-level cache.
+	 *
+	 * @param entry The disassembled state of the entity
+	 * @param source The source
+	 * @param persister The persister for the entity being requested for load
+	 * @param entityKey The entity key
+	 * @param readOnly Whether the entity is read-only in the session
+	 *
+	 * @return The entity
+	 */
+	public Object loadFromCacheEntry(
+			final CacheEntry entry,
+			final EventSource source,
+			final EntityPersister persister,
+			final EntityKey entityKey,
+			final boolean readOnly) {
+		final Object entity = convertCacheEntryToEntity(
+				entry,
+				entityKey.getIdentifier(),
+				source,
+				persister,
+				null,
+				entityKey,
+				readOnly
+		);
+
+		final PostLoadEvent postLoadEvent = new PostLoadEvent( source )
+				.setEntity( entity )
+				.setId( entityKey.getIdentifier() )
+				.setPersister( persister );
+		source.getFactory().getFastSessionServices().firePostLoadEvent( postLoadEvent );
+
+		return entity;
+	}
+
 	private Object getFromSharedCache(
 			final Object entityId,
 			final EntityPersister persister,
@@ -314,7 +351,15 @@ public class CacheEntityLoaderHelper {
 			}
 		}
 		else {
-			Object entity = convertCacheEntryToEntity( entry, entityKey.getIdentifier(), source, persister, instanceToLoad, entityKey );
+			Object entity = convertCacheEntryToEntity(
+					entry,
+					entityKey.getIdentifier(),
+					source,
+					persister,
+					instanceToLoad,
+					entityKey,
+					source.isDefaultReadOnly()
+			);
 
 			if ( !persister.isInstance( entity ) ) {
 				// Cleanup the inconsistent return class entity from the persistence context
@@ -380,7 +425,8 @@ public class CacheEntityLoaderHelper {
 			EventSource source,
 			EntityPersister persister,
 			Object instanceToLoad,
-			EntityKey entityKey) {
+			EntityKey entityKey,
+			boolean readOnly) {
 
 		final SessionFactoryImplementor factory = source.getFactory();
 		final EntityPersister subclassPersister;
@@ -457,7 +503,7 @@ public class CacheEntityLoaderHelper {
 			isReadOnly = HibernateProxy.extractLazyInitializer( proxy ).isReadOnly();
 		}
 		else {
-			isReadOnly = source.isDefaultReadOnly();
+			isReadOnly = readOnly;
 		}
 
 		persistenceContext.addEntry(
@@ -56,7 +56,16 @@ public class CollectionBatchLoaderArrayParam
 			LoadQueryInfluencers loadQueryInfluencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
-		super( domainBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
+		this( domainBatchSize, null, loadQueryInfluencers, attributeMapping, sessionFactory );
+	}
+
+	public CollectionBatchLoaderArrayParam(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			LoadQueryInfluencers loadQueryInfluencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
+		super( domainBatchSize, adaptiveBatchSize, loadQueryInfluencers, attributeMapping, sessionFactory );
 
 		if ( MULTI_KEY_LOAD_DEBUG_ENABLED ) {
 			MULTI_KEY_LOAD_LOGGER.debugf(
@@ -121,7 +130,7 @@ public class CollectionBatchLoaderArrayParam
 			);
 		}
 
-		final int length = getDomainBatchSize();
+		final int length = getEffectiveBatchSize();
 		final Object[] keysToInitialize = (Object[]) Array.newInstance(
 				keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(),
 				length
@@ -156,6 +165,9 @@ public class CollectionBatchLoaderArrayParam
 				finishInitializingKey( initializedKey, session );
 			}
 		}
+
+		batchFetched( keys, session );
+
 		final CollectionKey collectionKey = new CollectionKey(
 				getLoadable().getCollectionDescriptor(),
 				keysToInitialize
@@ -214,7 +226,7 @@ public class CollectionBatchLoaderArrayParam
 		final ForeignKeyDescriptor keyDescriptor = getLoadable().getKeyDescriptor();
 		if( keyDescriptor.isEmbedded()){
 			assert keyDescriptor.getJdbcTypeCount() == 1;
-			final int length = getDomainBatchSize();
+			final int length = getEffectiveBatchSize();
 			final Object[] keysToInitialize = (Object[]) Array.newInstance( keyDescriptor.getSingleJdbcMapping().getJdbcJavaType().getJavaTypeClass(), length );
 			session.getPersistenceContextInternal().getBatchFetchQueue()
 					.collectBatchLoadableCollectionKeys(
@@ -44,7 +44,16 @@ public class CollectionBatchLoaderInPredicate
 			LoadQueryInfluencers influencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor sessionFactory) {
-		super( domainBatchSize, influencers, attributeMapping, sessionFactory );
+		this( domainBatchSize, null, influencers, attributeMapping, sessionFactory );
+	}
+
+	public CollectionBatchLoaderInPredicate(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			LoadQueryInfluencers influencers,
+			PluralAttributeMapping attributeMapping,
+			SessionFactoryImplementor sessionFactory) {
+		super( domainBatchSize, adaptiveBatchSize, influencers, attributeMapping, sessionFactory );
 
 		keyColumnCount = attributeMapping.getKeyDescriptor().getJdbcTypeCount();
 		sqlBatchSize = sessionFactory.getJdbcServices()
@@ -65,7 +65,21 @@ public class EntityBatchLoaderArrayParam<T>
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			SessionFactoryImplementor sessionFactory) {
-		super( entityDescriptor, sessionFactory );
+		this( domainBatchSize, null, entityDescriptor, sessionFactory );
+	}
+
+	/**
+	 * Instantiates the loader
+	 *
+	 * @param domainBatchSize The number of domain model parts (up to)
+	 * @param adaptiveBatchSize The tuned number of domain model parts per load, or {@code null}
+	 */
+	public EntityBatchLoaderArrayParam(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			EntityMappingType entityDescriptor,
+			SessionFactoryImplementor sessionFactory) {
+		super( entityDescriptor, adaptiveBatchSize, sessionFactory );
 		this.domainBatchSize = domainBatchSize;
 
 		if ( MULTI_KEY_LOAD_DEBUG_ENABLED ) {
@@ -111,15 +125,16 @@ public class EntityBatchLoaderArrayParam<T>
 	protected Object[] resolveIdsToInitialize(Object pkValue, SharedSessionContractImplementor session) {
 		//TODO: should this really be different to EntityBatchLoaderInPredicate impl?
 		final Class<?> idType = identifierMapping.getJavaType().getJavaTypeClass();
-		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, domainBatchSize );
+		final int batchSize = getEffectiveBatchSize();
+		final Object[] idsToLoad = (Object[]) Array.newInstance( idType, batchSize );
 		session.getPersistenceContextInternal().getBatchFetchQueue()
 				.collectBatchLoadableEntityIds(
-						domainBatchSize,
+						batchSize,
 						(index, value) -> idsToLoad[index] = value,
 						pkValue,
 						getLoadable()
 				);
-		return trimIdBatch( domainBatchSize, idsToLoad );
+		return trimIdBatch( batchSize, idsToLoad );
 	}
 
 	@Override
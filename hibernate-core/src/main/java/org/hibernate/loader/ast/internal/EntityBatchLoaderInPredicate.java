@@ -58,7 +58,19 @@ public class EntityBatchLoaderInPredicate<T>
 			int domainBatchSize,
 			EntityMappingType entityDescriptor,
 			SessionFactoryImplementor sessionFactory) {
-		super( entityDescriptor, sessionFactory );
+		this( domainBatchSize, null, entityDescriptor, sessionFactory );
+	}
+
+	/**
+	 * @param domainBatchSize The maximum number of entities we will initialize for each {@link #load load}
+	 * @param adaptiveBatchSize The tuned number of entities to initialize for each load, or {@code null}
+	 */
+	public EntityBatchLoaderInPredicate(
+			int domainBatchSize,
+			AdaptiveBatchSize adaptiveBatchSize,
+			EntityMappingType entityDescriptor,
+			SessionFactoryImplementor sessionFactory) {
+		super( entityDescriptor, adaptiveBatchSize, sessionFactory );
 		this.domainBatchSize = domainBatchSize;
 		int idColumnCount = entityDescriptor.getEntityPersister().getIdentifierType().getColumnSpan( sessionFactory );
 		this.sqlBatchSize = sessionFactory.getJdbcServices()
@@ -118,7 +130,7 @@ public class EntityBatchLoaderInPredicate<T>
 
 	protected Object[] resolveIdsToInitialize(Object id, SharedSessionContractImplementor session) {
 		return session.getPersistenceContextInternal().getBatchFetchQueue()
-				.getBatchLoadableEntityIds( getLoadable(), id, domainBatchSize );
+				.getBatchLoadableEntityIds( getLoadable(), id, getEffectiveBatchSize() );
 	}
 
 	@Override
@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.service.Service;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * The threads on which {@link ParallelMultiIdLoadHelper} loads its slices, shared
+ * by all the sessions of a {@link org.hibernate.SessionFactory}.
+ * <p>
+ * The threads are only started by the first parallel load, are reused by later
+ * loads, and are shut down when the {@code SessionFactory} is closed.
+ */
+public class ParallelMultiIdLoadExecutor implements Service, Stoppable, Executor {
+	private final AtomicInteger threadCount = new AtomicInteger();
+	private volatile ExecutorService executor;
+	private volatile boolean stopped;
+
+	@Override
+	public void execute(Runnable command) {
+		getExecutor().execute( command );
+	}
+
+	private ExecutorService getExecutor() {
+		ExecutorService localCopy = executor;
+		if ( localCopy == null ) {
+			synchronized ( this ) {
+				if ( stopped ) {
+					throw new IllegalStateException( "The SessionFactory is closed" );
+				}
+				localCopy = executor;
+				if ( localCopy == null ) {
+					localCopy = Executors.newCachedThreadPool( runnable -> {
+						final Thread thread = new Thread(
+								runnable,
+								"hibernate-parallel-load-" + threadCount.incrementAndGet()
+						);
+						thread.setDaemon( true );
+						return thread;
+					} );
+					executor = localCopy;
+				}
+			}
+		}
+		return localCopy;
+	}
+
+	@Override
+	public synchronized void stop() {
+		stopped = true;
+		if ( executor != null ) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+}
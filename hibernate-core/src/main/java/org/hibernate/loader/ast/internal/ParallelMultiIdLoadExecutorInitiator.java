@@ -0,0 +1,30 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Initiator for the {@link ParallelMultiIdLoadExecutor}
+ */
+public class ParallelMultiIdLoadExecutorInitiator implements SessionFactoryServiceInitiator<ParallelMultiIdLoadExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final ParallelMultiIdLoadExecutorInitiator INSTANCE = new ParallelMultiIdLoadExecutorInitiator();
+
+	@Override
+	public ParallelMultiIdLoadExecutor initiateService(SessionFactoryServiceInitiatorContext context) {
+		return new ParallelMultiIdLoadExecutor();
+	}
+
+	@Override
+	public Class<ParallelMultiIdLoadExecutor> getServiceInitiated() {
+		return ParallelMultiIdLoadExecutor.class;
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.loader.ast.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.hibernate.CacheMode;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.MultiIdentifierLoadAccess;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Loads entities by id over several connections at once, for
+ * {@linkplain MultiIdentifierLoadAccess#withParallelism(int) parallel} multi-id loads.
+ * <p>
+ * The ids are split into slices, and each slice is loaded by its own session, on its
+ * own thread and connection. The state of the loaded entities is then disassembled,
+ * and assembled into the calling session in the same way as state read from the
+ * second-level cache.
+ */
+public class ParallelMultiIdLoadHelper {
+	/**
+	 * The smallest number of ids worth loading over another connection.
+	 */
+	static final int MIN_SLICE_SIZE = 64;
+
+	private ParallelMultiIdLoadHelper() {
+	}
+
+	/**
+	 * Whether the entities may be loaded in parallel. Only loads which leave the
+	 * entities read-only qualify, and only when the calling session does not
+	 * influence the SQL with filters, fetch profiles or entity graphs.
+	 */
+	public static boolean isParallelLoadApplicable(
+			Object[] ids,
+			EntityMappingType entityDescriptor,
+			MultiIdLoadOptions loadOptions,
+			EventSource session) {
+		if ( loadOptions.getParallelism() < 2 || ids.length < MIN_SLICE_SIZE * 2 ) {
+			return false;
+		}
+
+		final LockOptions lockOptions = loadOptions.getLockOptions();
+		if ( lockOptions != null && lockOptions.getLockMode() != LockMode.NONE ) {
+			return false;
+		}
+
+		final LoadQueryInfluencers influencers = session.getLoadQueryInfluencers();
+		if ( influencers.hasEnabledFilters()
+				|| influencers.hasEnabledFetchProfiles()
+				|| influencers.getEffectiveEntityGraph().getSemantic() != null ) {
+			return false;
+		}
+
+		return !entityDescriptor.getEntityPersister().isMutable() || isReadOnly( session );
+	}
+
+	/**
+	 * Whether the loaded entities are read-only in the session, as requested by the
+	 * load query influencers, or else by the session default.
+	 */
+	private static boolean isReadOnly(EventSource session) {
+		final Boolean readOnly = LoaderHelper.getReadOnlyFromLoadQueryInfluencers( session );
+		return readOnly == null ? session.isDefaultReadOnly() : readOnly;
+	}
+
+	public static <T> List<T> load(
+			Object[] ids,
+			EntityMappingType entityDescriptor,
+			MultiIdLoadOptions loadOptions,
+			EventSource session) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		final EntityPersister persister = entityDescriptor.getEntityPersister();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final boolean coerce = !factory.getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+
+		final Object[] coercedIds = new Object[ids.length];
+		final Set<Object> idsToLoad = new LinkedHashSet<>();
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object id = coerce
+					? persister.getIdentifierMapping().getJavaType().coerce( ids[i], session )
+					: ids[i];
+			coercedIds[i] = id;
+			if ( persistenceContext.getEntity( new EntityKey( id, persister ) ) == null ) {
+				idsToLoad.add( id );
+			}
+		}
+
+		if ( !idsToLoad.isEmpty() ) {
+			final boolean readOnly = isReadOnly( session );
+			final Map<Object, CacheEntry> loadedEntries = loadSlices(
+					new ArrayList<>( idsToLoad ),
+					entityDescriptor.getEntityName(),
+					loadOptions,
+					session
+			);
+			for ( Object id : idsToLoad ) {
+				final EntityKey entityKey = new EntityKey( id, persister );
+				final CacheEntry entry = loadedEntries.get( id );
+				// assembling an earlier entity might have loaded this one already
+				if ( entry != null && persistenceContext.getEntity( entityKey ) == null ) {
+					CacheEntityLoaderHelper.INSTANCE.loadFromCacheEntry( entry, session, persister, entityKey, readOnly );
+				}
+				BatchFetchQueueHelper.removeBatchLoadableEntityKey( entityKey, session );
+			}
+		}
+
+		final List<T> result = new ArrayList<>( ids.length );
+		for ( Object id : coercedIds ) {
+			final T entity = resolveLoadedEntity( id, persister, loadOptions, persistenceContext );
+			if ( entity != null || loadOptions.isOrderReturnEnabled() ) {
+				result.add( entity );
+			}
+		}
+		return result;
+	}
+
+	private static <T> T resolveLoadedEntity(
+			Object id,
+			EntityPersister persister,
+			MultiIdLoadOptions loadOptions,
+			PersistenceContext persistenceContext) {
+		final Object entity = persistenceContext.getEntity( new EntityKey( id, persister ) );
+		if ( entity == null ) {
+			return null;
+		}
+		if ( !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
+			final EntityEntry entry = persistenceContext.getEntry( entity );
+			if ( entry.getStatus().isDeletedOrGone() ) {
+				return null;
+			}
+		}
+		//noinspection unchecked
+		return (T) entity;
+	}
+
+	private static Map<Object, CacheEntry> loadSlices(
+			List<Object> ids,
+			String entityName,
+			MultiIdLoadOptions loadOptions,
+			EventSource session) {
+		final int sliceCount = Math.max( 1, Math.min( loadOptions.getParallelism(), ids.size() / MIN_SLICE_SIZE ) );
+		final int sliceSize = ( ids.size() + sliceCount - 1 ) / sliceCount;
+
+		final SessionFactoryImplementor factory = session.getFactory();
+		final Executor executor = factory.getServiceRegistry().getService( ParallelMultiIdLoadExecutor.class );
+		// the session is not thread-safe, so it must not be accessed by the slices
+		final String tenantIdentifier = session.getTenantIdentifier();
+		final CacheMode cacheMode = session.getCacheMode();
+		final List<CompletableFuture<Map<Object, CacheEntry>>> slices = new ArrayList<>( sliceCount );
+		for ( int start = 0; start < ids.size(); start += sliceSize ) {
+			final List<Object> slice = ids.subList( start, Math.min( start + sliceSize, ids.size() ) );
+			slices.add( CompletableFuture.supplyAsync(
+					() -> loadSlice( slice, entityName, loadOptions, factory, tenantIdentifier, cacheMode ),
+					executor
+			) );
+		}
+
+		try {
+			final Map<Object, CacheEntry> entries = new HashMap<>( ids.size() );
+			for ( CompletableFuture<Map<Object, CacheEntry>> slice : slices ) {
+				entries.putAll( slice.join() );
+			}
+			return entries;
+		}
+		catch (CompletionException e) {
+			// let the other slices finish, their sessions are closed once they do
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	private static Map<Object, CacheEntry> loadSlice(
+			List<Object> ids,
+			String entityName,
+			MultiIdLoadOptions loadOptions,
+			SessionFactoryImplementor factory,
+			String tenantIdentifier,
+			CacheMode cacheMode) {
+		try ( Session worker = factory.withOptions()
+				.tenantIdentifier( tenantIdentifier )
+				.openSession() ) {
+			worker.setDefaultReadOnly( true );
+			worker.setCacheMode( cacheMode );
+
+			final Transaction transaction = worker.beginTransaction();
+			try {
+				final MultiIdentifierLoadAccess<Object> loadAccess = worker.byMultipleIds( entityName )
+						.enableOrderedReturn( false );
+				if ( loadOptions.getBatchSize() != null ) {
+					loadAccess.withBatchSize( loadOptions.getBatchSize() );
+				}
+
+				final SessionImplementor workerSession = (SessionImplementor) worker;
+				final Map<Object, CacheEntry> entries = new HashMap<>( ids.size() );
+				for ( Object entity : loadAccess.multiLoad( ids ) ) {
+					final EntityEntry entry = workerSession.getPersistenceContextInternal().getEntry( entity );
+					final EntityPersister persister = entry.getPersister();
+					entries.put(
+							entry.getId(),
+							new StandardCacheEntryImpl(
+									persister.getValues( entity ),
+									persister,
+									entry.getVersion(),
+									workerSession,
+									entity
+							)
+					);
+				}
+				return entries;
+			}
+			finally {
+				// nothing was written
+				transaction.rollback();
+			}
+		}
+	}
+}
@@ -7,7 +7,9 @@
 package org.hibernate.loader.ast.internal;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.loader.ast.spi.BatchLoaderFactory;
@@ -19,6 +21,8 @@ import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
 
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 
 /**
@@ -27,8 +31,22 @@ import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlAr
  * @author Steve Ebersole
  */
 public class StandardBatchLoaderFactory implements BatchLoaderFactory {
+	private final boolean adaptive;
+	private final int adaptiveMinBatchSize;
+	private final Integer adaptiveMaxBatchSize;
+
+	/**
+	 * The adaptive batch sizes by entity name or collection role, shared by all loaders
+	 * created for the same entity or collection
+	 */
+	private final Map<String, AdaptiveBatchSize> adaptiveBatchSizes = new ConcurrentHashMap<>();
+
 	@SuppressWarnings("unused")
 	public StandardBatchLoaderFactory(Map<String, Object> configurationValues, ServiceRegistryImplementor registry) {
+		adaptiveMaxBatchSize = getInteger( AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, configurationValues );
+		adaptive = adaptiveMaxBatchSize != null
+				|| configurationValues.get( AvailableSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE ) != null;
+		adaptiveMinBatchSize = getInt( AvailableSettings.ADAPTIVE_BATCH_FETCH_MIN_SIZE, configurationValues, 2 );
 	}
 
 	@Override
@@ -36,16 +54,21 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 			int domainBatchSize, EntityMappingType entityDescriptor,
 			SessionFactoryImplementor factory) {
 
+		final AdaptiveBatchSize adaptiveBatchSize = adaptiveBatchSize( entityDescriptor.getEntityName(), domainBatchSize );
+		if ( adaptiveBatchSize != null ) {
+			domainBatchSize = Math.max( domainBatchSize, adaptiveBatchSize.getMaxBatchSize() );
+		}
+
 		// NOTE : don't use the EntityIdentifierMapping here because it will not be known until later
 		final Type identifierType = entityDescriptor.getEntityPersister().getIdentifierType();
 		if ( identifierType.getColumnSpan( factory ) == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() )
 				&& identifierType instanceof BasicType ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new EntityBatchLoaderArrayParam<>( domainBatchSize, entityDescriptor, factory );
+			return new EntityBatchLoaderArrayParam<>( domainBatchSize, adaptiveBatchSize, entityDescriptor, factory );
 		}
 		else {
-			return new EntityBatchLoaderInPredicate<>( domainBatchSize, entityDescriptor, factory );
+			return new EntityBatchLoaderInPredicate<>( domainBatchSize, adaptiveBatchSize, entityDescriptor, factory );
 		}
 	}
 
@@ -55,13 +78,45 @@ public class StandardBatchLoaderFactory implements BatchLoaderFactory {
 			LoadQueryInfluencers influencers,
 			PluralAttributeMapping attributeMapping,
 			SessionFactoryImplementor factory) {
+		final AdaptiveBatchSize adaptiveBatchSize =
+				adaptiveBatchSize( attributeMapping.getNavigableRole().getFullPath(), domainBatchSize );
+		if ( adaptiveBatchSize != null ) {
+			domainBatchSize = Math.max( domainBatchSize, adaptiveBatchSize.getMaxBatchSize() );
+		}
+
 		if ( attributeMapping.getKeyDescriptor().getJdbcTypeCount() == 1
 				&& supportsSqlArrayType( factory.getJdbcServices().getDialect() ) ) {
 			// we can use a single ARRAY parameter to send all the ids
-			return new CollectionBatchLoaderArrayParam( domainBatchSize, influencers, attributeMapping, factory );
+			return new CollectionBatchLoaderArrayParam(
+					domainBatchSize,
+					adaptiveBatchSize,
+					influencers,
+					attributeMapping,
+					factory
+			);
 		}
 		else {
-			return new CollectionBatchLoaderInPredicate( domainBatchSize, influencers, attributeMapping, factory );
+			return new CollectionBatchLoaderInPredicate(
+					domainBatchSize,
+					adaptiveBatchSize,
+					influencers,
+					attributeMapping,
+					factory
+			);
+		}
+	}
+
+	private AdaptiveBatchSize adaptiveBatchSize(String name, int domainBatchSize) {
+		if ( !adaptive ) {
+			return null;
 		}
+		return adaptiveBatchSizes.computeIfAbsent(
+				name,
+				(key) -> new AdaptiveBatchSize(
+						adaptiveMinBatchSize,
+						adaptiveMaxBatchSize == null ? domainBatchSize : adaptiveMaxBatchSize,
+						domainBatchSize
+				)
+		);
 	}
 }
@@ -25,4 +25,15 @@ public interface MultiIdLoadOptions extends MultiLoadOptions {
 	 * @return the session factory cache is checked first
 	 */
 	boolean isSecondLevelCacheCheckingEnabled();
+
+	/**
+	 * The number of connections over which the entities may be loaded concurrently.
+	 *
+	 * @see org.hibernate.MultiIdentifierLoadAccess#withParallelism(int)
+	 *
+	 * @since 6.3
+	 */
+	default int getParallelism() {
+		return 1;
+	}
 }
@@ -25,6 +25,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -54,12 +55,16 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementHelper;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyFetchGroupCoAccessTracker;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.EntityStateOptimizer;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -275,6 +280,7 @@ import org.hibernate.type.CollectionType;
 import org.hibernate.type.CompositeType;
 import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
+import org.hibernate.type.TypeHelper;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.java.MutabilityPlan;
 import org.hibernate.type.descriptor.java.spi.JavaTypeRegistry;
@@ -384,6 +390,7 @@ public abstract class AbstractEntityPersister
 	private final CascadeStyle[] subclassPropertyCascadeStyleClosure;
 
 	private Map<String, SingleIdArrayLoadPlan> lazyLoadPlanByFetchGroup;
+	private final Map<List<String>, SingleIdArrayLoadPlan> lazyLoadPlanByFetchGroups = new ConcurrentHashMap<>();
 	private final LockModeEnumMap<LockingStrategy> lockers = new LockModeEnumMap<>();
 	private String sqlVersionSelectString;
 
@@ -440,6 +447,7 @@ public abstract class AbstractEntityPersister
 	private BeforeExecutionGenerator versionGenerator;
 
 	protected ReflectionOptimizer.AccessOptimizer accessOptimizer;
+	private EntityStateOptimizer entityStateOptimizer;
 
 	protected final String[] fullDiscriminatorSQLValues;
 	private final Object[] fullDiscriminatorValues;
@@ -1147,9 +1155,12 @@ public abstract class AbstractEntityPersister
 			// todo : do we also need to unset proxy factory?
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isStructuredCacheEntriesEnabled() ) {
+			return new StructuredCacheEntryHelper( this );
+		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
+			return options.isCompactCacheEntriesEnabled()
+					? new CompactCacheEntryHelper( this )
 					: new StandardCacheEntryHelper( this );
 		}
 	}
@@ -1533,16 +1544,37 @@ public abstract class AbstractEntityPersister
 
 		LOG.tracef( "Initializing lazy properties from datastore (triggered for `%s`)", fieldName );
 
-		final String fetchGroup = getEntityMetamodel().getBytecodeEnhancementMetadata()
-				.getLazyAttributesMetadata()
-				.getFetchGroupName( fieldName );
-		final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors = getEntityMetamodel().getBytecodeEnhancementMetadata()
-				.getLazyAttributesMetadata()
-				.getFetchGroupAttributeDescriptors( fetchGroup );
+		final LazyAttributesMetadata lazyAttributesMetadata = getEntityMetamodel().getBytecodeEnhancementMetadata()
+				.getLazyAttributesMetadata();
+		final String fetchGroup = lazyAttributesMetadata.getFetchGroupName( fieldName );
+		final List<LazyAttributeDescriptor> fetchGroupAttributeDescriptors;
 
 		final Set<String> initializedLazyAttributeNames = interceptor.getInitializedLazyAttributeNames();
 
-		final SingleIdArrayLoadPlan lazySelect = getSQLLazySelectLoadPlan( fetchGroup );
+		final List<String> prefetchedFetchGroups = getPrefetchedFetchGroups( fetchGroup, initializedLazyAttributeNames );
+		final SingleIdArrayLoadPlan lazySelect;
+		if ( prefetchedFetchGroups.isEmpty() ) {
+			fetchGroupAttributeDescriptors = lazyAttributesMetadata.getFetchGroupAttributeDescriptors( fetchGroup );
+			lazySelect = getSQLLazySelectLoadPlan( fetchGroup );
+		}
+		else {
+			final List<String> fetchGroups = new ArrayList<>( prefetchedFetchGroups.size() + 1 );
+			fetchGroups.add( fetchGroup );
+			fetchGroups.addAll( prefetchedFetchGroups );
+			final List<LazyAttributeDescriptor> attributeDescriptors = new ArrayList<>();
+			for ( String group : fetchGroups ) {
+				attributeDescriptors.addAll( lazyAttributesMetadata.getFetchGroupAttributeDescriptors( group ) );
+			}
+			fetchGroupAttributeDescriptors = attributeDescriptors;
+			lazySelect = lazyLoadPlanByFetchGroups.computeIfAbsent(
+					fetchGroups,
+					key -> createLazyLoadPlan( attributeDescriptors )
+			);
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.prefetchLazyFetchGroups( getEntityName(), prefetchedFetchGroups.size() );
+			}
+		}
 
 		try {
 			Object result = null;
@@ -1595,6 +1627,42 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * The fetch groups usually accessed along with the given fetch group, which have
+	 * attributes left to initialize, and can be selected along with it.
+	 */
+	private List<String> getPrefetchedFetchGroups(String fetchGroup, Set<String> initializedLazyAttributeNames) {
+		final LazyFetchGroupCoAccessTracker coAccessTracker =
+				getEntityMetamodel().getBytecodeEnhancementMetadata().getLazyFetchGroupCoAccessTracker();
+		if ( coAccessTracker == null ) {
+			return emptyList();
+		}
+
+		final List<String> coAccessedFetchGroups = coAccessTracker.getCoAccessedFetchGroupNames( fetchGroup );
+		if ( coAccessedFetchGroups.isEmpty() ) {
+			return coAccessedFetchGroups;
+		}
+		final LazyAttributesMetadata lazyAttributesMetadata =
+				getEntityMetamodel().getBytecodeEnhancementMetadata().getLazyAttributesMetadata();
+		final List<String> prefetchedFetchGroups = new ArrayList<>( coAccessedFetchGroups.size() );
+		for ( String coAccessedFetchGroup : coAccessedFetchGroups ) {
+			if ( lazyLoadPlanByFetchGroup.containsKey( coAccessedFetchGroup ) ) {
+				boolean selectable = true;
+				boolean initialized = true;
+				for ( LazyAttributeDescriptor descriptor :
+						lazyAttributesMetadata.getFetchGroupAttributeDescriptors( coAccessedFetchGroup ) ) {
+					// collections are initialized on access, rather than with their fetch group
+					selectable = selectable && !descriptor.getType().isCollectionType();
+					initialized = initialized && initializedLazyAttributeNames.contains( descriptor.getName() );
+				}
+				if ( selectable && !initialized ) {
+					prefetchedFetchGroups.add( coAccessedFetchGroup );
+				}
+			}
+		}
+		return prefetchedFetchGroups;
+	}
+
 	protected Object initializeLazyPropertiesFromCache(
 			final String fieldName,
 			final Object entity,
@@ -3675,13 +3743,15 @@ public abstract class AbstractEntityPersister
 	@Override
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = DirtyHelper.findDirty(
-				entityMetamodel.getProperties(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		int[] props = entityStateOptimizer != null
+				? entityStateOptimizer.findDirty( currentState, previousState, session )
+				: DirtyHelper.findDirty(
+						entityMetamodel.getProperties(),
+						currentState,
+						previousState,
+						propertyColumnUpdateable,
+						session
+				);
 		if ( props == null ) {
 			return null;
 		}
@@ -3691,6 +3761,16 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public void deepCopyState(Object[] values, boolean[] include, Object[] target, SharedSessionContractImplementor session) {
+		if ( entityStateOptimizer != null ) {
+			entityStateOptimizer.deepCopy( values, include, target, session );
+		}
+		else {
+			TypeHelper.deepCopy( values, getPropertyTypes(), include, target, session );
+		}
+	}
+
 	/**
 	 * Locate the property-indices of all properties considered to be dirty.
 	 *
@@ -4683,6 +4763,26 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -4785,6 +4885,9 @@ public abstract class AbstractEntityPersister
 
 		final ReflectionOptimizer reflectionOptimizer = representationStrategy.getReflectionOptimizer();
 		accessOptimizer = reflectionOptimizer != null ? reflectionOptimizer.getAccessOptimizer() : null;
+		if ( accessOptimizer != null ) {
+			entityStateOptimizer = createEntityStateOptimizer( creationProcess );
+		}
 
 		// register a callback for after all `#prepareMappingModel` calls have finished.  here we want to delay the
 		// generation of `staticFetchableList` because we need to wait until after all subclasses have had their
@@ -4919,6 +5022,19 @@ public abstract class AbstractEntityPersister
 		discriminatorMapping = generateDiscriminatorMapping( bootEntityDescriptor, creationProcess );
 	}
 
+	private EntityStateOptimizer createEntityStateOptimizer(MappingModelCreationProcess creationProcess) {
+		final NonIdentifierAttribute[] properties = entityMetamodel.getProperties();
+		final Type[] propertyTypes = new Type[properties.length];
+		final boolean[] propertyCheckability = new boolean[properties.length];
+		for ( int i = 0; i < properties.length; i++ ) {
+			propertyTypes[i] = properties[i].getType();
+			propertyCheckability[i] = properties[i].isDirtyCheckable();
+		}
+		return creationProcess.getCreationContext().getServiceRegistry()
+				.getService( BytecodeProvider.class )
+				.getEntityStateOptimizer( getMappedClass(), propertyTypes, propertyCheckability, propertyColumnUpdateable );
+	}
+
 	private void postProcessAttributeMappings(MappingModelCreationProcess creationProcess, PersistentClass bootEntityDescriptor) {
 		if ( superMappingType != null ) {
 			naturalIdMapping = superMappingType.getNaturalIdMapping();
@@ -51,6 +51,7 @@ import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.type.BasicType;
 import org.hibernate.type.Type;
+import org.hibernate.type.TypeHelper;
 import org.hibernate.type.descriptor.java.VersionJavaType;
 
 /**
@@ -386,6 +387,22 @@ public interface EntityPersister extends EntityMappingType, RootTableGroupProduc
 	 */
 	int[] findModified(Object[] old, Object[] current, Object object, SharedSessionContractImplementor session);
 
+	/**
+	 * Deep copy a snapshot of the state of an entity, for use as its loaded state.
+	 *
+	 * @param values The values to copy
+	 * @param include Which values to copy
+	 * @param target The array into which to copy the values, possibly {@code values} itself
+	 * @param session The originating session
+	 *
+	 * @see TypeHelper#deepCopy
+	 *
+	 * @since 6.3
+	 */
+	default void deepCopyState(Object[] values, boolean[] include, Object[] target, SharedSessionContractImplementor session) {
+		TypeHelper.deepCopy( values, getPropertyTypes(), include, target, session );
+	}
+
 	/**
 	 * Determine whether the entity has a particular property holding
 	 * the identifier value.
@@ -13,6 +13,7 @@ import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.function.Function;
@@ -54,6 +55,13 @@ public class ByteBuddyProxyHelper implements Serializable {
 			final Class<?>[] interfaces) {
 		Set<Class<?>> key = new HashSet<>();
 		if ( interfaces.length == 1 ) {
+			final Class<?> pregeneratedProxy = byteBuddyState.loadPregenerated( persistentClass, PROXY_NAMING_SUFFIX );
+			if ( pregeneratedProxy != null
+					&& pregeneratedProxy.getSuperclass() == persistentClass
+					&& interfaces[0].isAssignableFrom( pregeneratedProxy )
+					&& ProxyConfiguration.class.isAssignableFrom( pregeneratedProxy ) ) {
+				return pregeneratedProxy;
+			}
 			key.add( persistentClass );
 		}
 		Collections.addAll( key, interfaces );
@@ -79,6 +87,20 @@ public class ByteBuddyProxyHelper implements Serializable {
 		return byteBuddyState.make( typePool, proxyBuilder( persistentClass, interfaces ) );
 	}
 
+	/**
+	 * Build the proxy of the given entity class at build time, when the entity class is
+	 * not loaded. It is used by {@link #buildProxy(Class, Class[])} instead of generating
+	 * a proxy at runtime when it is found next to the entity class.
+	 */
+	public DynamicType.Unloaded<?> buildPregeneratedProxy(TypePool typePool, TypeDefinition persistentClass) {
+		final Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder = proxyBuilder(
+				persistentClass,
+				List.of( TypeDescription.ForLoadedType.of( HibernateProxy.class ) )
+		);
+		final String proxyName = ByteBuddyState.pregeneratedClassName( persistentClass.getTypeName(), PROXY_NAMING_SUFFIX );
+		return byteBuddyState.make( typePool, byteBuddy -> proxyBuilder.apply( byteBuddy ).name( proxyName ) );
+	}
+
 	private Function<ByteBuddy, DynamicType.Builder<?>> proxyBuilder(TypeDefinition persistentClass,
 			Collection<? extends TypeDefinition> interfaces) {
 		ByteBuddyState.ProxyDefinitionHelpers helpers = byteBuddyState.getProxyDefinitionHelpers();
@@ -6,12 +6,15 @@
  */
 package org.hibernate.query.internal;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 
 import org.hibernate.HibernateException;
 import org.hibernate.QueryException;
+import org.hibernate.Session;
 import org.hibernate.boot.Metadata;
 import org.hibernate.boot.query.NamedHqlQueryDefinition;
 import org.hibernate.boot.query.NamedNativeQueryDefinition;
@@ -21,17 +24,19 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.procedure.spi.NamedCallableQueryMemento;
 import org.hibernate.query.sqm.EntityTypeException;
 import org.hibernate.query.NamedQueryValidationException;
+import org.hibernate.query.Query;
 import org.hibernate.query.sqm.PathElementException;
 import org.hibernate.query.sqm.TerminalPathException;
 import org.hibernate.query.named.NamedObjectRepository;
 import org.hibernate.query.named.NamedQueryMemento;
 import org.hibernate.query.named.NamedResultSetMappingMemento;
 import org.hibernate.query.spi.QueryEngine;
-import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.sql.spi.NamedNativeQueryMemento;
 import org.hibernate.query.sqm.UnknownEntityException;
 import org.hibernate.query.sqm.UnknownPathException;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
 import org.hibernate.query.sqm.spi.NamedSqmQueryMemento;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
 
 import org.jboss.logging.Logger;
 
@@ -48,6 +53,8 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 	private final Map<String, NamedCallableQueryMemento> callableMementoMap;
 	private final Map<String, NamedResultSetMappingMemento> resultSetMappingMementoMap;
 
+	private int checkingParallelism = 1;
+
 	public NamedObjectRepositoryImpl(
 			Map<String,NamedSqmQueryMemento> sqmMementoMap,
 			Map<String,NamedNativeQueryMemento> sqlMementoMap,
@@ -180,6 +187,10 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public void prepare(SessionFactoryImplementor sessionFactory, Metadata bootMetamodel) {
+		if ( sessionFactory.getSessionFactoryOptions().isQueryStartupWarmUpEnabled() ) {
+			checkingParallelism = Runtime.getRuntime().availableProcessors();
+		}
+
 		bootMetamodel.visitNamedHqlQueryDefinitions(
 				namedHqlQueryDefinition -> {
 					final NamedSqmQueryMemento resolved = namedHqlQueryDefinition.resolve( sessionFactory );
@@ -235,31 +246,16 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 
 	@Override
 	public Map<String, HibernateException> checkNamedQueries(QueryEngine queryEngine) {
-		Map<String,HibernateException> errors = new HashMap<>();
-
-		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		Map<String,HibernateException> errors = new ConcurrentHashMap<>();
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
-		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
-			final String queryString = hqlMemento.getHqlString();
-			final String registrationName = hqlMemento.getRegistrationName();
-			try {
-				log.debugf( "Checking named HQL query: %s", registrationName );
-				interpretationCache.resolveHqlInterpretation(
-						queryString,
-						null,
-						s -> queryEngine.getHqlTranslator().translate( queryString, null )
-				);
-			}
-			catch ( QueryException e ) {
-				errors.put( registrationName, e );
-			}
-			catch ( PathElementException | TerminalPathException e ) {
-				errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
-			}
-			catch ( EntityTypeException e ) {
-				errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		if ( checkingParallelism > 1 && sqmMementoMap.size() > 1 ) {
+			checkNamedHqlQueriesInParallel( queryEngine, errors );
+		}
+		else {
+			for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+				checkNamedHqlQuery( hqlMemento, queryEngine, errors );
 			}
 		}
 
@@ -301,6 +297,102 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		return errors;
 	}
 
+	/**
+	 * Interprets the named HQL queries on a dedicated pool of threads, which populates
+	 * the HQL interpretation cache before the first query is executed.
+	 */
+	private void checkNamedHqlQueriesInParallel(QueryEngine queryEngine, Map<String, HibernateException> errors) {
+		forEachNamedHqlQueryInParallel( hqlMemento -> checkNamedHqlQuery( hqlMemento, queryEngine, errors ) );
+	}
+
+	private void forEachNamedHqlQueryInParallel(Consumer<NamedSqmQueryMemento> action) {
+		// the workers need to see the same classes as the thread building the SessionFactory
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool(
+				Math.min( checkingParallelism, sqmMementoMap.size() ),
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+		try {
+			pool.submit( () -> sqmMementoMap.values().parallelStream().forEach( action ) ).join();
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static void checkNamedHqlQuery(
+			NamedSqmQueryMemento hqlMemento,
+			QueryEngine queryEngine,
+			Map<String, HibernateException> errors) {
+		final String queryString = hqlMemento.getHqlString();
+		final String registrationName = hqlMemento.getRegistrationName();
+		try {
+			log.debugf( "Checking named HQL query: %s", registrationName );
+			queryEngine.getInterpretationCache().resolveHqlInterpretation(
+					queryString,
+					null,
+					s -> queryEngine.getHqlTranslator().translate( queryString, null )
+			);
+		}
+		catch ( QueryException e ) {
+			errors.put( registrationName, e );
+		}
+		catch ( PathElementException | TerminalPathException e ) {
+			errors.put( registrationName, new UnknownPathException( e.getMessage(), queryString, e ) );
+		}
+		catch ( EntityTypeException e ) {
+			errors.put( registrationName, new UnknownEntityException( e.getMessage(), e.getReference(), e ) );
+		}
+	}
+
+	/**
+	 * Translates the named HQL select queries in a single session on the calling
+	 * thread, since the query plans are shared but a session is not.
+	 */
+	@Override
+	public void translateNamedQueries(SessionFactoryImplementor sessionFactory) {
+		if ( sqmMementoMap.isEmpty() ) {
+			return;
+		}
+		log.debugf( "Translating %s named HQL queries", sqmMementoMap.size() );
+		try ( Session session = sessionFactory.openSession() ) {
+			for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
+				translateNamedHqlQuery( hqlMemento, session );
+			}
+		}
+		catch ( RuntimeException e ) {
+			// e.g. no tenant identifier is available outside a request
+			log.warnf( e, "Unable to open a session to translate the named HQL queries" );
+		}
+	}
+
+	/**
+	 * Translates a named HQL select query to SQL the same way its first execution
+	 * would, with the options of the named query and no explicit result type. The
+	 * translation is kept by the cached select query plan.
+	 */
+	private static void translateNamedHqlQuery(NamedSqmQueryMemento hqlMemento, Session session) {
+		final String registrationName = hqlMemento.getRegistrationName();
+		try {
+			final Query<?> query = session.createNamedQuery( registrationName );
+			if ( query instanceof QuerySqmImpl
+					&& ( (QuerySqmImpl<?>) query ).getSqmStatement() instanceof SqmSelectStatement ) {
+				log.debugf( "Translating named HQL query: %s", registrationName );
+				( (QuerySqmImpl<?>) query ).prepareSelectQueryPlan();
+			}
+		}
+		catch ( RuntimeException e ) {
+			// a broken query fails when it is used
+			log.warnf( e, "Unable to translate named HQL query: %s", registrationName );
+		}
+	}
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Shutdown
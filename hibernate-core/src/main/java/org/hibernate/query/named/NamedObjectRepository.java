@@ -76,6 +76,15 @@ public interface NamedObjectRepository {
 	 */
 	void validateNamedQueries(QueryEngine queryEngine);
 
+	/**
+	 * Translate the named HQL select queries to SQL, populating the query plan
+	 * cache before their first execution
+	 *
+	 * @since 6.3
+	 */
+	default void translateNamedQueries(SessionFactoryImplementor sessionFactory) {
+	}
+
 	/**
 	 * Resolve the named query with the given name.
 	 */
@@ -80,12 +80,14 @@ import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_RETRIEVE_
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_RETRIEVE_MODE;
 import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_STREAMING;
 import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
 import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.QueryHints.HINT_FOLLOW_ON_LOCKING;
 import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+import static org.hibernate.jpa.internal.util.ConfigurationHelper.getBoolean;
 
 /**
  * @author Steve Ebersole
@@ -99,6 +101,7 @@ public abstract class AbstractSelectionQuery<R>
 	public static final String CRITERIA_HQL_STRING = "<criteria>";
 
 	private Callback callback;
+	private boolean streaming;
 
 	public AbstractSelectionQuery(SharedSessionContractImplementor session) {
 		super( session );
@@ -517,7 +520,14 @@ public abstract class AbstractSelectionQuery<R>
 	@SuppressWarnings( {"unchecked", "rawtypes"} )
 	@Override
 	public Stream stream() {
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		final ScrollableResultsImplementor scrollableResults;
+		if ( streaming ) {
+			scrollableResults = scrollStreaming();
+			scrollableResults.enableRowEviction();
+		}
+		else {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		}
 		final ScrollableResultsIterator iterator = new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
@@ -525,6 +535,25 @@ public abstract class AbstractSelectionQuery<R>
 		return (Stream) stream.onClose( scrollableResults::close );
 	}
 
+	/**
+	 * Scroll the results with the default streaming fetch size of the dialect, unless a
+	 * fetch size was given. The default only applies to this execution of the query.
+	 */
+	private ScrollableResultsImplementor<R> scrollStreaming() {
+		final Integer fetchSize = getQueryOptions().getFetchSize();
+		if ( fetchSize != null ) {
+			return scroll( ScrollMode.FORWARD_ONLY );
+		}
+		getQueryOptions().setFetchSize( getSession().getJdbcServices().getDialect().getDefaultStreamingFetchSize() );
+		try {
+			return scroll( ScrollMode.FORWARD_ONLY );
+		}
+		finally {
+			// the statement was created with the fetch size already
+			getQueryOptions().setFetchSize( null );
+		}
+	}
+
 	@Override
 	public R uniqueResult() {
 		return uniqueElement( list() );
@@ -737,6 +766,19 @@ public abstract class AbstractSelectionQuery<R>
 		}
 
 		putIfNotNull( hints, HINT_FOLLOW_ON_LOCKING, getQueryOptions().getLockOptions().getFollowOnLocking() );
+
+		if ( streaming ) {
+			hints.put( HINT_STREAMING, true );
+		}
+	}
+
+	@Override
+	protected boolean applyAdditionalPossibleHints(String hintName, Object value) {
+		if ( HINT_STREAMING.equals( hintName ) ) {
+			streaming = getBoolean( value );
+			return true;
+		}
+		return super.applyAdditionalPossibleHints( hintName, value );
 	}
 
 	@Override
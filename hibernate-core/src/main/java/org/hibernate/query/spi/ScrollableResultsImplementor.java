@@ -17,4 +17,15 @@ import org.hibernate.ScrollableResults;
 @Incubating
 public interface ScrollableResultsImplementor<R> extends ScrollableResults<R> {
 	boolean isClosed();
+
+	/**
+	 * Evict the entities loaded for a row, and their collections, from the
+	 * persistence context once the next row is read, or the results are closed.
+	 *
+	 * @see org.hibernate.jpa.HibernateHints#HINT_STREAMING
+	 *
+	 * @since 6.3
+	 */
+	default void enableRowEviction() {
+	}
 }
@@ -42,4 +42,13 @@ public interface SelectQueryPlan<R> extends QueryPlan {
 	 */
 	ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext);
 
+	/**
+	 * Translate the query to SQL ahead of its first execution, for plans which
+	 * keep their translation for subsequent executions.
+	 *
+	 * @since 6.3
+	 */
+	default void prepare(DomainQueryExecutionContext executionContext) {
+	}
+
 }
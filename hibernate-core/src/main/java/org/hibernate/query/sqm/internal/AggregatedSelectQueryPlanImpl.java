@@ -76,4 +76,11 @@ public class AggregatedSelectQueryPlanImpl<R> implements SelectQueryPlan<R> {
 		}
 		throw new UnsupportedOperationException();
 	}
+
+	@Override
+	public void prepare(DomainQueryExecutionContext executionContext) {
+		for ( SelectQueryPlan<R> aggregatedQueryPlan : aggregatedQueryPlans ) {
+			aggregatedQueryPlan.prepare( executionContext );
+		}
+	}
 }
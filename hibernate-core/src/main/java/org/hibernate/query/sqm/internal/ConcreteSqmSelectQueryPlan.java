@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 import org.hibernate.AssertionFailure;
@@ -73,6 +75,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
 	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	private final Lock interpretationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -254,17 +257,42 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return withCacheableSqmInterpretation( executionContext, scrollMode, scrollInterpreter );
 	}
 
+	@Override
+	public void prepare(DomainQueryExecutionContext executionContext) {
+		if ( cacheableSqmInterpretation == null ) {
+			interpretationLock.lock();
+			try {
+				if ( cacheableSqmInterpretation == null ) {
+					final CacheableSqmInterpretation interpretation = buildCacheableSqmInterpretation(
+							sqm,
+							domainParameterXref,
+							executionContext
+					);
+					// the bindings were built for the parameters as they are bound now,
+					// the first execution creates its own
+					interpretation.firstParameterBindings = null;
+					cacheableSqmInterpretation = interpretation;
+				}
+			}
+			finally {
+				interpretationLock.unlock();
+			}
+		}
+	}
+
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		//		to protect access.  However, a simple lock is enough here.  We use a `Lock`
+		// 		rather than synchronized, as threads blocked on a monitor pin their carrier
+		//		thread when running as virtual threads
 
 		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
 		JdbcParameterBindings jdbcParameterBindings = null;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
+			interpretationLock.lock();
+			try {
 				localCopy = cacheableSqmInterpretation;
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
@@ -277,6 +305,9 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					cacheableSqmInterpretation = localCopy;
 				}
 			}
+			finally {
+				interpretationLock.unlock();
+			}
 		}
 		else {
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
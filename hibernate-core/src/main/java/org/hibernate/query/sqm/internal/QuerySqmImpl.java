@@ -546,6 +546,29 @@ public class QuerySqmImpl<R>
 
 	}
 
+	/**
+	 * Resolve the cached select query plan and translate it to SQL, without
+	 * executing the query. Queries which are not eligible for query plan
+	 * caching are left untouched.
+	 */
+	public void prepareSelectQueryPlan() {
+		verifySelect();
+
+		final QueryInterpretationCache.Key cacheKey = SqmInterpretationsKey.createInterpretationsKey( this );
+		if ( cacheKey != null ) {
+			final SqmSelectStatement<?> sqmStatement = (SqmSelectStatement<?>) getSqmStatement();
+			final boolean containsCollectionFetches = sqmStatement.containsCollectionFetches() || AppliedGraphs.containsCollectionFetches(
+					getQueryOptions() );
+			final boolean hasLimit = hasLimit( sqmStatement, getQueryOptions() );
+			final boolean needsDistinct = containsCollectionFetches
+					&& ( sqmStatement.usesDistinct() || hasAppliedGraph( getQueryOptions() ) || hasLimit );
+
+			getSession().getFactory().getQueryEngine().getInterpretationCache()
+					.resolveSelectQueryPlan( cacheKey, this::buildSelectQueryPlan )
+					.prepare( executionContextFordoList( containsCollectionFetches, hasLimit, needsDistinct ) );
+		}
+	}
+
 	protected DomainQueryExecutionContext executionContextFordoList(boolean containsCollectionFetches, boolean hasLimit, boolean needsDistinct) {
 		final DomainQueryExecutionContext executionContextToUse;
 		if ( hasLimit && containsCollectionFetches ) {
@@ -0,0 +1,389 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.sqm.mutation.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
+import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.QueryParameterBinding;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.ComparisonOperator;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmInterpretationsKey;
+import org.hibernate.query.sqm.mutation.internal.cte.CteMutationStrategy;
+import org.hibernate.query.sqm.mutation.internal.inline.InlineMutationStrategy;
+import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
+import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
+import org.hibernate.query.sqm.tree.delete.SqmDeleteStatement;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.expression.SqmExpression;
+import org.hibernate.query.sqm.tree.expression.SqmLiteral;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.predicate.SqmBetweenPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmGroupedPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmInListPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmJunctionPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmPredicate;
+import org.hibernate.query.sqm.tree.predicate.SqmWhereClause;
+import org.hibernate.query.sqm.tree.update.SqmUpdateStatement;
+
+import jakarta.persistence.criteria.Predicate;
+
+import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
+
+/**
+ * {@link SqmMultiTableMutationStrategy} which chooses, for each statement, between
+ * <ul>
+ *     <li>the {@linkplain InlineMutationStrategy inline strategy}, for statements
+ *     affecting at most {@value #INLINE_THRESHOLD} rows, since it selects the matching
+ *     ids into memory,</li>
+ *     <li>the {@linkplain CteMutationStrategy CTE strategy}, if the dialect supports it,
+ *     for statements affecting at most {@value #CTE_THRESHOLD} rows, since it executes
+ *     a single statement, and</li>
+ *     <li>the strategy the dialect would use otherwise, typically based on temporary
+ *     tables, for all other statements.</li>
+ * </ul>
+ * <p>
+ * The number of affected rows is bounded by the restriction of the statement, with
+ * the current parameter bindings, if it restricts the identifier: statements
+ * restricted to a list of ids affect at most as many rows as there are ids, counting
+ * the values bound to a multi-valued parameter, and statements restricted to a range
+ * of integral ids affect at most as many rows as the range holds. Otherwise, the
+ * number of affected rows is estimated from the rows affected by the previous
+ * executions of the same HQL statement. Before the first execution, and for criteria
+ * statements, unrestricted statements affect all rows, and statements with any other
+ * restriction use the strategy of the dialect.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_MULTI_TABLE_MUTATION_STRATEGY_ADAPTIVE
+ */
+public class AdaptiveMutationStrategy implements SqmMultiTableMutationStrategy {
+	public static final int INLINE_THRESHOLD = 100;
+	public static final int CTE_THRESHOLD = 10_000;
+
+	/**
+	 * The number of HQL statements whose row counts are tracked
+	 */
+	private static final int TRACKED_STATEMENTS = 512;
+
+	/**
+	 * The weight of the latest row count in the estimate
+	 */
+	private static final double ROW_COUNT_WEIGHT = 0.25;
+
+	private static final long UNKNOWN = -1;
+	private static final long UNBOUNDED = Long.MAX_VALUE;
+
+	private final SqmMultiTableMutationStrategy inlineStrategy;
+	private final SqmMultiTableMutationStrategy cteStrategy;
+	private final SqmMultiTableMutationStrategy fallbackStrategy;
+	private final String identifierName;
+
+	private final Map<String, RowCountEstimate> rowCountEstimates =
+			new BoundedConcurrentHashMap<>( TRACKED_STATEMENTS, 20, BoundedConcurrentHashMap.Eviction.LRU );
+
+	public AdaptiveMutationStrategy(
+			EntityMappingType rootEntityDescriptor,
+			SqmMultiTableMutationStrategy fallbackStrategy,
+			RuntimeModelCreationContext creationContext) {
+		final Dialect dialect = creationContext.getDialect();
+		this.fallbackStrategy = fallbackStrategy;
+		this.inlineStrategy = new InlineMutationStrategy( dialect );
+		if ( fallbackStrategy instanceof CteMutationStrategy ) {
+			this.cteStrategy = fallbackStrategy;
+		}
+		else if ( dialect.supportsNonQueryWithCTE() && dialect.supportsValuesList() ) {
+			this.cteStrategy = new CteMutationStrategy( rootEntityDescriptor, creationContext );
+		}
+		else {
+			this.cteStrategy = null;
+		}
+
+		final String identifierAttributeName = rootEntityDescriptor.getIdentifierMapping().getAttributeName();
+		this.identifierName = identifierAttributeName == null
+				? EntityIdentifierMapping.ROLE_LOCAL_NAME
+				: identifierAttributeName;
+	}
+
+	@Override
+	public void prepare(
+			MappingModelCreationProcess mappingModelCreationProcess,
+			JdbcConnectionAccess connectionAccess) {
+		fallbackStrategy.prepare( mappingModelCreationProcess, connectionAccess );
+		if ( cteStrategy != null && cteStrategy != fallbackStrategy ) {
+			cteStrategy.prepare( mappingModelCreationProcess, connectionAccess );
+		}
+		inlineStrategy.prepare( mappingModelCreationProcess, connectionAccess );
+	}
+
+	@Override
+	public void release(SessionFactoryImplementor sessionFactory, JdbcConnectionAccess connectionAccess) {
+		fallbackStrategy.release( sessionFactory, connectionAccess );
+		if ( cteStrategy != null && cteStrategy != fallbackStrategy ) {
+			cteStrategy.release( sessionFactory, connectionAccess );
+		}
+		inlineStrategy.release( sessionFactory, connectionAccess );
+	}
+
+	@Override
+	public int executeUpdate(
+			SqmUpdateStatement<?> sqmUpdateStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final int rowCount = resolveStrategy( sqmUpdateStatement, domainParameterXref, context )
+				.executeUpdate( sqmUpdateStatement, domainParameterXref, context );
+		observe( context, rowCount );
+		return rowCount;
+	}
+
+	@Override
+	public int executeDelete(
+			SqmDeleteStatement<?> sqmDeleteStatement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final int rowCount = resolveStrategy( sqmDeleteStatement, domainParameterXref, context )
+				.executeDelete( sqmDeleteStatement, domainParameterXref, context );
+		observe( context, rowCount );
+		return rowCount;
+	}
+
+	/**
+	 * The strategy to use for the given statement, executed with the parameter
+	 * bindings of the given context.
+	 */
+	public SqmMultiTableMutationStrategy resolveStrategy(
+			SqmDeleteOrUpdateStatement<?> statement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		long rowCount = estimateRowCount( statement, domainParameterXref, context );
+		if ( rowCount == UNKNOWN || rowCount == UNBOUNDED ) {
+			// the restriction does not bound the affected rows, rely on the previous executions
+			final String key = rowCountEstimateKey( context );
+			final RowCountEstimate estimate = key == null ? null : rowCountEstimates.get( key );
+			if ( estimate != null ) {
+				rowCount = estimate.getRowCount();
+			}
+		}
+		if ( rowCount == UNKNOWN ) {
+			return fallbackStrategy;
+		}
+		else if ( rowCount <= INLINE_THRESHOLD ) {
+			return inlineStrategy;
+		}
+		else if ( rowCount <= CTE_THRESHOLD && cteStrategy != null ) {
+			return cteStrategy;
+		}
+		else {
+			return fallbackStrategy;
+		}
+	}
+
+	private void observe(DomainQueryExecutionContext context, int rowCount) {
+		final String key = rowCountEstimateKey( context );
+		if ( key != null ) {
+			final RowCountEstimate estimate = rowCountEstimates.get( key );
+			if ( estimate == null ) {
+				rowCountEstimates.put( key, new RowCountEstimate( rowCount ) );
+			}
+			else {
+				estimate.observe( rowCount );
+			}
+		}
+	}
+
+	/**
+	 * The HQL string of the executed statement, which is also the key of its
+	 * interpretation in the query plan cache. Criteria statements are not tracked,
+	 * since each query has its own copy of the statement.
+	 */
+	private static String rowCountEstimateKey(DomainQueryExecutionContext context) {
+		if ( context instanceof SqmInterpretationsKey.CacheabilityInfluencers ) {
+			final String queryString = ( (SqmInterpretationsKey.CacheabilityInfluencers) context ).getQueryString();
+			return CRITERIA_HQL_STRING.equals( queryString ) ? null : queryString;
+		}
+		return null;
+	}
+
+	private long estimateRowCount(
+			SqmDeleteOrUpdateStatement<?> statement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		final SqmWhereClause whereClause = statement.getWhereClause();
+		if ( whereClause == null || whereClause.getPredicate() == null ) {
+			return UNBOUNDED;
+		}
+		return estimateRowCount( whereClause.getPredicate(), statement, domainParameterXref, context );
+	}
+
+	/**
+	 * The maximum number of rows matching the given predicate, if it restricts the
+	 * identifier of the target to a list of values or to a range of integral values.
+	 */
+	private long estimateRowCount(
+			SqmPredicate predicate,
+			SqmDeleteOrUpdateStatement<?> statement,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		if ( predicate instanceof SqmGroupedPredicate ) {
+			return estimateRowCount(
+					( (SqmGroupedPredicate) predicate ).getSubPredicate(),
+					statement,
+					domainParameterXref,
+					context
+			);
+		}
+		else if ( predicate instanceof SqmComparisonPredicate ) {
+			final SqmComparisonPredicate comparison = (SqmComparisonPredicate) predicate;
+			return comparison.getSqmOperator() == ComparisonOperator.EQUAL
+					&& ( isIdentifier( comparison.getLeftHandExpression(), statement )
+							|| isIdentifier( comparison.getRightHandExpression(), statement ) )
+					? 1
+					: UNKNOWN;
+		}
+		else if ( predicate instanceof SqmInListPredicate ) {
+			final SqmInListPredicate<?> inList = (SqmInListPredicate<?>) predicate;
+			return !inList.isNegated() && isIdentifier( inList.getTestExpression(), statement )
+					? countValues( inList.getListExpressions(), domainParameterXref, context )
+					: UNKNOWN;
+		}
+		else if ( predicate instanceof SqmBetweenPredicate ) {
+			final SqmBetweenPredicate between = (SqmBetweenPredicate) predicate;
+			return !between.isNegated() && isIdentifier( between.getExpression(), statement )
+					? countRange(
+							value( between.getLowerBound(), domainParameterXref, context ),
+							value( between.getUpperBound(), domainParameterXref, context )
+					)
+					: UNKNOWN;
+		}
+		else if ( predicate instanceof SqmJunctionPredicate ) {
+			final SqmJunctionPredicate junction = (SqmJunctionPredicate) predicate;
+			if ( junction.getOperator() != Predicate.BooleanOperator.AND ) {
+				return UNKNOWN;
+			}
+			long rowCount = UNKNOWN;
+			for ( SqmPredicate conjunct : junction.getPredicates() ) {
+				final long conjunctRowCount = estimateRowCount( conjunct, statement, domainParameterXref, context );
+				if ( conjunctRowCount != UNKNOWN && ( rowCount == UNKNOWN || conjunctRowCount < rowCount ) ) {
+					rowCount = conjunctRowCount;
+				}
+			}
+			return rowCount;
+		}
+		else {
+			return UNKNOWN;
+		}
+	}
+
+	/**
+	 * The number of values in the given list, where a multi-valued parameter counts
+	 * as many values as are bound to it.
+	 */
+	private static long countValues(
+			List<? extends SqmExpression<?>> listExpressions,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		long count = 0;
+		for ( SqmExpression<?> expression : listExpressions ) {
+			if ( expression instanceof SqmParameter ) {
+				final QueryParameterImplementor<?> parameter =
+						domainParameterXref.getQueryParameter( (SqmParameter<?>) expression );
+				final QueryParameterBinding<?> binding = parameter == null
+						? null
+						: context.getQueryParameterBindings().getBinding( parameter );
+				if ( binding == null ) {
+					return UNKNOWN;
+				}
+				count += binding.isMultiValued() ? binding.getBindValues().size() : 1;
+			}
+			else {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * The number of integral values within the given bounds.
+	 */
+	private static long countRange(Object lowerBound, Object upperBound) {
+		if ( !isIntegral( lowerBound ) || !isIntegral( upperBound ) ) {
+			return UNKNOWN;
+		}
+		try {
+			final long span = Math.subtractExact( ( (Number) upperBound ).longValue(), ( (Number) lowerBound ).longValue() );
+			return span < 0 ? 0 : Math.addExact( span, 1 );
+		}
+		catch (ArithmeticException e) {
+			return UNBOUNDED;
+		}
+	}
+
+	private static boolean isIntegral(Object value) {
+		return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+	}
+
+	/**
+	 * The value of a literal, or the value bound to a single-valued parameter.
+	 */
+	private static Object value(
+			SqmExpression<?> expression,
+			DomainParameterXref domainParameterXref,
+			DomainQueryExecutionContext context) {
+		if ( expression instanceof SqmLiteral ) {
+			return ( (SqmLiteral<?>) expression ).getLiteralValue();
+		}
+		else if ( expression instanceof SqmParameter ) {
+			final QueryParameterImplementor<?> parameter =
+					domainParameterXref.getQueryParameter( (SqmParameter<?>) expression );
+			final QueryParameterBinding<?> binding = parameter == null
+					? null
+					: context.getQueryParameterBindings().getBinding( parameter );
+			return binding == null || binding.isMultiValued() ? null : binding.getBindValue();
+		}
+		else {
+			return null;
+		}
+	}
+
+	private boolean isIdentifier(SqmExpression<?> expression, SqmDeleteOrUpdateStatement<?> statement) {
+		if ( expression instanceof SqmPath ) {
+			final SqmPath<?> path = (SqmPath<?>) expression;
+			return path.getLhs() == statement.getTarget()
+					&& identifierName.equals( path.getReferencedPathSource().getPathName() );
+		}
+		return false;
+	}
+
+	/**
+	 * Exponentially weighted average of the row counts of a statement. Updated without
+	 * synchronization, since a lost update only delays the adaptation.
+	 */
+	private static class RowCountEstimate {
+		private volatile double rowCount;
+
+		private RowCountEstimate(int rowCount) {
+			this.rowCount = rowCount;
+		}
+
+		private long getRowCount() {
+			return Math.round( rowCount );
+		}
+
+		private void observe(int rowCount) {
+			this.rowCount += ROW_COUNT_WEIGHT * ( rowCount - this.rowCount );
+		}
+	}
+}
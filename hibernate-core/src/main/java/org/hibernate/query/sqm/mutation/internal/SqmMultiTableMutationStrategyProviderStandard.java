@@ -7,6 +7,8 @@
 package org.hibernate.query.sqm.mutation.internal;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.internal.MappingModelCreationProcess;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
@@ -35,7 +37,12 @@ public class SqmMultiTableMutationStrategyProviderStandard implements SqmMultiTa
 			return specifiedStrategy;
 		}
 
-		return creationContext.getDialect().getFallbackSqmMutationStrategy( rootEntityDescriptor, creationContext );
+		final SqmMultiTableMutationStrategy fallbackStrategy =
+				creationContext.getDialect().getFallbackSqmMutationStrategy( rootEntityDescriptor, creationContext );
+		if ( ConfigurationHelper.getBoolean( AvailableSettings.QUERY_MULTI_TABLE_MUTATION_STRATEGY_ADAPTIVE, creationContext.getSettings() ) ) {
+			return new AdaptiveMutationStrategy( rootEntityDescriptor, fallbackStrategy, creationContext );
+		}
+		return fallbackStrategy;
 	}
 
 	@Override
@@ -9,9 +9,12 @@ package org.hibernate.resource.jdbc;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 
+import org.hibernate.Incubating;
+
 /**
  * A registry for tracking JDBC resources.
  *
@@ -43,6 +46,39 @@ public interface ResourceRegistry {
 	 */
 	void release(Statement statement);
 
+	/**
+	 * Register a JDBC statement which may be kept open once it is
+	 * {@linkplain #release(Statement) released}, so that it can be
+	 * {@linkplain #reuseStatement(String) reused} for the same SQL.
+	 *
+	 * @param statement The statement to register.
+	 * @param sql The SQL of the statement.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default void registerReusable(PreparedStatement statement, String sql) {
+		register( statement, true );
+	}
+
+	/**
+	 * Obtain a previously released statement for the given SQL, and
+	 * register it again.
+	 *
+	 * @param sql The SQL of the statement.
+	 *
+	 * @return The registered statement, or {@code null} if no statement
+	 * for the given SQL is kept open.
+	 *
+	 * @see #registerReusable(PreparedStatement, String)
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default PreparedStatement reuseStatement(String sql) {
+		return null;
+	}
+
 	/**
 	 * Register a JDBC result set.
 	 * <p>
@@ -100,7 +100,7 @@ public class LogicalConnectionManagedImpl extends AbstractLogicalConnectionImple
 		this(
 				jdbcConnectionAccess,
 				jdbcSessionContext,
-				new ResourceRegistryStandardImpl(),
+				new ResourceRegistryStandardImpl( null, jdbcSessionContext.getPreparedStatementCacheSize() ),
 				jdbcSessionContext.getJdbcServices()
 		);
 		this.closed = closed;
@@ -9,11 +9,14 @@ package org.hibernate.resource.jdbc.internal;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.JDBCException;
@@ -33,6 +36,11 @@ import org.hibernate.resource.jdbc.spi.JdbcObserver;
  * Iterators on HashMap and ArrayList, but not on HashSet (at least on JDK8 and 11).
  * Therefore some types which should ideally be modelled as a Set have
  * been implemented using HashMap.
+ * <p>
+ * When a {@linkplain org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE statement cache size}
+ * is given, statements registered as {@linkplain #registerReusable(PreparedStatement, String) reusable}
+ * are cleaned up and kept open when they are released, up to that number of statements, evicting
+ * the least recently released ones. They are closed along with all other resources.
  *
  * @author Steve Ebersole
  * @author Sanne Grinovero
@@ -50,6 +58,7 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private static final HashMap<ResultSet,Object> EMPTY = new HashMap<>( 1, 0.2f );
 
 	private final JdbcObserver jdbcObserver;
+	private final int statementCacheSize;
 
 	private final HashMap<Statement, HashMap<ResultSet,Object>> xref = new HashMap<>();
 	private HashMap<ResultSet,Object> unassociatedResultSets;
@@ -58,6 +67,11 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private ArrayList<Clob> clobs;
 	private ArrayList<NClob> nclobs;
 
+	//Registered statements which may be kept open once released
+	private HashMap<Statement, ReusableStatement> reusableStatements;
+	//Released statements kept open, by SQL, least recently released first
+	private LinkedHashMap<String, ReusableStatement> statementCache;
+
 	private Statement lastQuery;
 
 	public ResourceRegistryStandardImpl() {
@@ -65,7 +79,12 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	}
 
 	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver) {
+		this( jdbcObserver, 0 );
+	}
+
+	public ResourceRegistryStandardImpl(JdbcObserver jdbcObserver, int statementCacheSize) {
 		this.jdbcObserver = jdbcObserver;
+		this.statementCacheSize = statementCacheSize;
 	}
 
 	@Override
@@ -105,13 +124,106 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 			log.unregisteredStatement();
 		}
 
-		close( statement );
+		if ( !keepForReuse( statement ) ) {
+			close( statement );
+		}
 
 		if ( lastQuery == statement ) {
 			lastQuery = null;
 		}
 	}
 
+	@Override
+	public void registerReusable(PreparedStatement statement, String sql) {
+		register( statement, true );
+
+		if ( statementCacheSize > 0 ) {
+			final int fetchSize;
+			try {
+				fetchSize = statement.getFetchSize();
+			}
+			catch (SQLException e) {
+				log.debugf( "Unable to access JDBC statement fetch size [%s]", e.getMessage() );
+				return;
+			}
+			if ( reusableStatements == null ) {
+				reusableStatements = new HashMap<>();
+			}
+			reusableStatements.put( statement, new ReusableStatement( statement, sql, fetchSize ) );
+		}
+	}
+
+	@Override
+	public PreparedStatement reuseStatement(String sql) {
+		if ( statementCache == null ) {
+			return null;
+		}
+
+		final ReusableStatement reusable = statementCache.remove( sql );
+		if ( reusable == null ) {
+			return null;
+		}
+		log.tracef( "Reusing statement [%s]", reusable.statement );
+		register( reusable.statement, true );
+		reusableStatements.put( reusable.statement, reusable );
+		return reusable.statement;
+	}
+
+	/**
+	 * Clean up the given statement and move it to the statement cache, if it is reusable.
+	 *
+	 * @return {@code false} if the statement needs to be closed
+	 */
+	private boolean keepForReuse(Statement statement) {
+		final ReusableStatement reusable = reusableStatements == null ? null : reusableStatements.remove( statement );
+		if ( reusable == null ) {
+			return false;
+		}
+
+		final PreparedStatement preparedStatement = reusable.statement;
+		try {
+			if ( preparedStatement.isClosed() ) {
+				return false;
+			}
+			preparedStatement.clearParameters();
+			preparedStatement.clearBatch();
+			preparedStatement.clearWarnings();
+			if ( preparedStatement.getMaxRows() != 0 ) {
+				preparedStatement.setMaxRows( 0 );
+			}
+			if ( preparedStatement.getQueryTimeout() != 0 ) {
+				preparedStatement.setQueryTimeout( 0 );
+			}
+			if ( preparedStatement.getFetchSize() != reusable.fetchSize ) {
+				preparedStatement.setFetchSize( reusable.fetchSize );
+			}
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to clean up JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+
+		if ( statementCache == null ) {
+			statementCache = new LinkedHashMap<>() {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, ReusableStatement> eldest) {
+					if ( size() > statementCacheSize ) {
+						close( eldest.getValue().statement );
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+		// replace any statement for the same SQL, so that the most recently released one survives
+		final ReusableStatement replaced = statementCache.remove( reusable.sql );
+		if ( replaced != null ) {
+			close( replaced.statement );
+		}
+		statementCache.put( reusable.sql, reusable );
+		return true;
+	}
+
 	@Override
 	public void release(ResultSet resultSet, Statement statement) {
 		log.tracef( "Releasing result set [%s]", resultSet );
@@ -335,6 +447,14 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 		xref.forEach( ResourceRegistryStandardImpl::releaseXref );
 		xref.clear();
 
+		if ( reusableStatements != null ) {
+			reusableStatements.clear();
+		}
+		if ( statementCache != null ) {
+			statementCache.forEach( (sql, reusable) -> close( reusable.statement ) );
+			statementCache.clear();
+		}
+
 		closeAll( unassociatedResultSets );
 
 		if ( blobs != null ) {
@@ -382,4 +502,17 @@ public final class ResourceRegistryStandardImpl implements ResourceRegistry {
 	private boolean hasRegistered(final ArrayList resource) {
 		return resource != null && !resource.isEmpty();
 	}
+
+	private static final class ReusableStatement {
+		private final PreparedStatement statement;
+		private final String sql;
+		//The fetch size the statement had when it was prepared
+		private final int fetchSize;
+
+		private ReusableStatement(PreparedStatement statement, String sql, int fetchSize) {
+			this.statement = statement;
+			this.sql = sql;
+			this.fetchSize = fetchSize;
+		}
+	}
 }
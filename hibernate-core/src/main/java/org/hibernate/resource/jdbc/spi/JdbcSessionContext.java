@@ -39,6 +39,13 @@ public interface JdbcSessionContext {
 	@Deprecated(since = "6.2", forRemoval = true)
 	int getFetchSize();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @see org.hibernate.cfg.AvailableSettings#CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT
 	 */
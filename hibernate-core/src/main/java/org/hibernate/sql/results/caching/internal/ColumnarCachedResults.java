@@ -0,0 +1,269 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.sql.results.caching.internal;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JDBC values of a cached query result, laid out column by column.
+ * <p>
+ * Columns holding only {@link Integer}, {@link Long}, {@link Double} or {@link Boolean}
+ * values are kept in primitive arrays, and columns holding only {@link String} values
+ * are dictionary encoded when they repeat values. All other columns keep their values
+ * as they are.
+ *
+ * @see org.hibernate.sql.results.jdbc.internal.JdbcValuesCacheHit
+ */
+public class ColumnarCachedResults implements Serializable {
+	private final int rowCount;
+	private final Column[] columns;
+
+	private ColumnarCachedResults(int rowCount, Column[] columns) {
+		this.rowCount = rowCount;
+		this.columns = columns;
+	}
+
+	/**
+	 * Lays out the given rows column by column.
+	 */
+	public static ColumnarCachedResults from(List<Object[]> rows, int columnCount) {
+		final Column[] columns = new Column[columnCount];
+		for ( int i = 0; i < columnCount; i++ ) {
+			columns[i] = column( rows, i );
+		}
+		return new ColumnarCachedResults( rows.size(), columns );
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * The value of the given column in the given row.
+	 */
+	public Object getValue(int row, int column) {
+		return columns[column].get( row );
+	}
+
+	/**
+	 * The values of the given row, in a new array.
+	 */
+	public Object[] getRow(int row) {
+		final Object[] values = new Object[columns.length];
+		for ( int i = 0; i < columns.length; i++ ) {
+			values[i] = columns[i].get( row );
+		}
+		return values;
+	}
+
+	private static Column column(List<Object[]> rows, int index) {
+		Class<?> type = null;
+		for ( Object[] row : rows ) {
+			final Object value = row[index];
+			if ( value != null ) {
+				if ( type == null ) {
+					type = value.getClass();
+				}
+				else if ( type != value.getClass() ) {
+					return new ObjectColumn( rows, index );
+				}
+			}
+		}
+
+		if ( type == Integer.class ) {
+			return new IntColumn( rows, index );
+		}
+		else if ( type == Long.class ) {
+			return new LongColumn( rows, index );
+		}
+		else if ( type == Double.class ) {
+			return new DoubleColumn( rows, index );
+		}
+		else if ( type == Boolean.class ) {
+			return new BooleanColumn( rows, index );
+		}
+		else if ( type == String.class ) {
+			return StringDictionaryColumn.from( rows, index );
+		}
+		else {
+			return new ObjectColumn( rows, index );
+		}
+	}
+
+	private abstract static class Column implements Serializable {
+		abstract Object get(int row);
+	}
+
+	/**
+	 * A column of values which have a primitive representation, with a bit for every {@code null}.
+	 */
+	private abstract static class PrimitiveColumn extends Column {
+		private final BitSet nulls = new BitSet();
+
+		PrimitiveColumn(List<Object[]> rows, int index) {
+			for ( int row = 0; row < rows.size(); row++ ) {
+				if ( rows.get( row )[index] == null ) {
+					nulls.set( row );
+				}
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return nulls.get( row ) ? null : getNonNull( row );
+		}
+
+		abstract Object getNonNull(int row);
+	}
+
+	private static class IntColumn extends PrimitiveColumn {
+		private final int[] values;
+
+		IntColumn(List<Object[]> rows, int index) {
+			super( rows, index );
+			values = new int[rows.size()];
+			for ( int row = 0; row < values.length; row++ ) {
+				final Object value = rows.get( row )[index];
+				if ( value != null ) {
+					values[row] = (Integer) value;
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+	}
+
+	private static class LongColumn extends PrimitiveColumn {
+		private final long[] values;
+
+		LongColumn(List<Object[]> rows, int index) {
+			super( rows, index );
+			values = new long[rows.size()];
+			for ( int row = 0; row < values.length; row++ ) {
+				final Object value = rows.get( row )[index];
+				if ( value != null ) {
+					values[row] = (Long) value;
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+	}
+
+	private static class DoubleColumn extends PrimitiveColumn {
+		private final double[] values;
+
+		DoubleColumn(List<Object[]> rows, int index) {
+			super( rows, index );
+			values = new double[rows.size()];
+			for ( int row = 0; row < values.length; row++ ) {
+				final Object value = rows.get( row )[index];
+				if ( value != null ) {
+					values[row] = (Double) value;
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values[row];
+		}
+	}
+
+	private static class BooleanColumn extends PrimitiveColumn {
+		private final BitSet values = new BitSet();
+
+		BooleanColumn(List<Object[]> rows, int index) {
+			super( rows, index );
+			for ( int row = 0; row < rows.size(); row++ ) {
+				if ( Boolean.TRUE.equals( rows.get( row )[index] ) ) {
+					values.set( row );
+				}
+			}
+		}
+
+		@Override
+		Object getNonNull(int row) {
+			return values.get( row );
+		}
+	}
+
+	/**
+	 * A column of strings, each of which is kept once, and referred to by its index.
+	 */
+	private static class StringDictionaryColumn extends Column {
+		private final String[] dictionary;
+		private final int[] codes;
+
+		private StringDictionaryColumn(String[] dictionary, int[] codes) {
+			this.dictionary = dictionary;
+			this.codes = codes;
+		}
+
+		static Column from(List<Object[]> rows, int index) {
+			final Map<String, Integer> codesByValue = new HashMap<>();
+			final int[] codes = new int[rows.size()];
+			for ( int row = 0; row < codes.length; row++ ) {
+				final String value = (String) rows.get( row )[index];
+				if ( value == null ) {
+					codes[row] = -1;
+				}
+				else {
+					final Integer code = codesByValue.putIfAbsent( value, codesByValue.size() );
+					codes[row] = code == null ? codesByValue.size() - 1 : code;
+				}
+			}
+
+			if ( codesByValue.size() * 2 > codes.length ) {
+				// the values hardly repeat, so the dictionary would not save anything
+				return new ObjectColumn( rows, index );
+			}
+
+			final String[] dictionary = new String[codesByValue.size()];
+			for ( Map.Entry<String, Integer> entry : codesByValue.entrySet() ) {
+				dictionary[entry.getValue()] = entry.getKey();
+			}
+			return new StringDictionaryColumn( dictionary, codes );
+		}
+
+		@Override
+		Object get(int row) {
+			final int code = codes[row];
+			return code < 0 ? null : dictionary[code];
+		}
+	}
+
+	private static class ObjectColumn extends Column {
+		private final Object[] values;
+
+		ObjectColumn(List<Object[]> rows, int index) {
+			values = new Object[rows.size()];
+			for ( int row = 0; row < values.length; row++ ) {
+				values[row] = rows.get( row )[index];
+			}
+		}
+
+		@Override
+		Object get(int row) {
+			return values[row];
+		}
+	}
+}
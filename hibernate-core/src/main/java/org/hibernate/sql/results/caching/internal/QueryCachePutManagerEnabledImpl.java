@@ -20,6 +20,9 @@ import org.hibernate.stat.spi.StatisticsImplementor;
 /**
  * QueryCachePutManager implementation for cases where we will be putting
  * Query results into the cache.
+ * <p>
+ * The rows are cached as {@link ColumnarCachedResults}, following the
+ * {@link JdbcValuesMetadata}, if any.
  *
  * @author Steve Ebersole
  */
@@ -28,7 +31,8 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 	private final StatisticsImplementor statistics;
 	private final QueryKey queryKey;
 	private final String queryIdentifier;
-	private final List<Object> dataToCache = new ArrayList<>();
+	private final JdbcValuesMetadata metadataForCache;
+	private final List<Object[]> rowsToCache = new ArrayList<>();
 
 	public QueryCachePutManagerEnabledImpl(
 			QueryResultsCache queryCache,
@@ -40,9 +44,7 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		this.statistics = statistics;
 		this.queryKey = queryKey;
 		this.queryIdentifier = queryIdentifier;
-		if ( metadataForCache != null ) {
-			dataToCache.add( metadataForCache );
-		}
+		this.metadataForCache = metadataForCache;
 	}
 
 	@Override
@@ -51,13 +53,20 @@ public class QueryCachePutManagerEnabledImpl implements QueryCachePutManager {
 		// todo (6.0) : verify whether we really need to copy these..
 		//		`RowProcessingStateStandardImpl` (see `#finishRowProcessing`) already creates new array
 		//		instances for each row
-//		dataToCache.add( values );
-		dataToCache.add( Arrays.copyOf( values, values.length ) );
+//		rowsToCache.add( values );
+		rowsToCache.add( Arrays.copyOf( values, values.length ) );
 	}
 
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		if ( queryKey != null ) {
+			final List<Object> dataToCache = new ArrayList<>( 2 );
+			if ( metadataForCache != null ) {
+				dataToCache.add( metadataForCache );
+			}
+			if ( !rowsToCache.isEmpty() ) {
+				dataToCache.add( ColumnarCachedResults.from( rowsToCache, rowsToCache.get( 0 ).length ) );
+			}
 			final boolean put = queryCache.put(
 					queryKey,
 					dataToCache,
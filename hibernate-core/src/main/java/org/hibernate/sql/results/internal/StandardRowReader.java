@@ -28,11 +28,16 @@ import org.hibernate.type.descriptor.java.JavaType;
 @SuppressWarnings("rawtypes")
 public class StandardRowReader<T> implements RowReader<T> {
 	private final List<DomainResultAssembler<?>> resultAssemblers;
+	private final DomainResultAssembler<?>[] resultAssemblersArray;
 	private final InitializersList initializers;
 	private final RowTransformer<T> rowTransformer;
 	private final Class<T> domainResultJavaType;
 
 	private final int assemblerCount;
+	// Plain scalar/DTO projections have no initializers to coordinate
+	private final boolean hasInitializers;
+	// Single results which the transformer would just unwrap from the row array
+	private final boolean unwrapSingleResult;
 
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
@@ -43,6 +48,11 @@ public class StandardRowReader<T> implements RowReader<T> {
 		this.initializers = initializers;
 		this.rowTransformer = rowTransformer;
 		this.assemblerCount = resultAssemblers.size();
+		this.resultAssemblersArray = resultAssemblers.toArray( new DomainResultAssembler[0] );
+		this.hasInitializers = !initializers.isEmpty();
+		this.unwrapSingleResult = assemblerCount == 1
+				&& ( rowTransformer == RowTransformerStandardImpl.INSTANCE
+						|| rowTransformer == RowTransformerSingularReturnImpl.INSTANCE );
 		this.domainResultJavaType = domainResultJavaType;
 	}
 
@@ -83,17 +93,33 @@ public class StandardRowReader<T> implements RowReader<T> {
 	@Override
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
-		coordinateInitializers( rowProcessingState );
+		if ( hasInitializers ) {
+			coordinateInitializers( rowProcessingState );
+		}
 
-		final Object[] resultRow = new Object[ assemblerCount ];
+		if ( unwrapSingleResult ) {
+			// avoid allocating a row array only for the transformer to unwrap it
+			//noinspection unchecked
+			final T result = (T) resultAssemblersArray[0].assemble( rowProcessingState, options );
+			if ( hasInitializers ) {
+				afterRow( rowProcessingState );
+			}
+			return result;
+		}
 
+		final boolean debugEnabled = LoadingLogger.DEBUG_ENABLED;
+		final Object[] resultRow = new Object[ assemblerCount ];
 		for ( int i = 0; i < assemblerCount; i++ ) {
-			final DomainResultAssembler assembler = resultAssemblers.get( i );
-			LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			final DomainResultAssembler assembler = resultAssemblersArray[i];
+			if ( debugEnabled ) {
+				LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			}
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
 
-		afterRow( rowProcessingState );
+		if ( hasInitializers ) {
+			afterRow( rowProcessingState );
+		}
 
 		return rowTransformer.transformRow( resultRow );
 	}
@@ -6,10 +6,14 @@
  */
 package org.hibernate.sql.results.jdbc.internal;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.hibernate.LockMode;
@@ -17,6 +21,7 @@ import org.hibernate.LockOptions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -26,10 +31,13 @@ import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
 import org.hibernate.sql.exec.spi.ExecutionContext;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * @author Steve Ebersole
@@ -242,6 +250,9 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 				eventListenerManager.jdbcExecuteStatementEnd();
 				sqlStatementLogger.logSlowQuery( preparedStatement, executeStartNanos );
 			}
+			if ( executeStartNanos > 0 ) {
+				sampleSlowQuery( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - executeStartNanos ) );
+			}
 
 			skipRows( resultSet );
 			logicalConnection.getResourceRegistry().register( resultSet, preparedStatement );
@@ -264,6 +275,71 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		}
 	}
 
+	private void sampleSlowQuery(long executionMillis) {
+		final SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( executionMillis <= sqlStatementLogger.getLogSlowQuery() || !statistics.isStatisticsEnabled() ) {
+			return;
+		}
+
+		final List<String> parameterValues = new ArrayList<>();
+		for ( JdbcParameterBinder parameterBinder : jdbcSelect.getParameterBinders() ) {
+			if ( parameterBinder instanceof JdbcParameter ) {
+				final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( (JdbcParameter) parameterBinder );
+				parameterValues.add( String.valueOf( binding == null ? null : binding.getBindValue() ) );
+			}
+		}
+
+		String executionPlan = null;
+		if ( factory.getSessionFactoryOptions().isSlowQueryExplainEnabled()
+				&& statistics.isSlowQueryExplainDue( finalSql ) ) {
+			final String explainSql = factory.getJdbcServices().getDialect().getExplainSql( finalSql );
+			if ( explainSql != null ) {
+				executionPlan = explain( explainSql );
+			}
+		}
+
+		statistics.slowQueryExecuted( finalSql, parameterValues, executionMillis, executionPlan );
+	}
+
+	/**
+	 * Obtain the execution plan of the query using a separate connection,
+	 * so that the state of the connection of the session is left untouched.
+	 */
+	private String explain(String explainSql) {
+		final JdbcConnectionAccess connectionAccess = executionContext.getSession().getJdbcConnectionAccess();
+		try {
+			final Connection connection = connectionAccess.obtainConnection();
+			try ( PreparedStatement statement = connection.prepareStatement( explainSql ) ) {
+				bindParameters( statement );
+				try ( ResultSet planResultSet = statement.executeQuery() ) {
+					final int columnCount = planResultSet.getMetaData().getColumnCount();
+					final StringBuilder plan = new StringBuilder();
+					while ( planResultSet.next() ) {
+						if ( plan.length() > 0 ) {
+							plan.append( '\n' );
+						}
+						for ( int i = 1; i <= columnCount; i++ ) {
+							if ( i > 1 ) {
+								plan.append( '\t' );
+							}
+							plan.append( planResultSet.getString( i ) );
+						}
+					}
+					return plan.toString();
+				}
+			}
+			finally {
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException | RuntimeException e) {
+			// the query itself succeeded, so it must not fail because of its plan
+			LOG.debugf( e, "Unable to obtain the execution plan of the query [%s]", finalSql );
+			return null;
+		}
+	}
+
 	protected void skipRows(ResultSet resultSet) throws SQLException {
 		// For dialects that don't support an offset clause
 		final int rowsToSkip;
@@ -11,12 +11,15 @@ import java.util.List;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.sql.results.ResultsLogger;
+import org.hibernate.sql.results.caching.internal.ColumnarCachedResults;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
 
 /**
  * An {@link AbstractJdbcValues} implementation for cases where we had a cache hit.
+ * <p>
+ * Values cached as {@link ColumnarCachedResults} are read from their columns directly.
  *
  * @author Steve Ebersole
  */
@@ -24,24 +27,48 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	private static final Object[][] NO_DATA = new Object[0][];
 
 	private Object[][] cachedData;
+	private ColumnarCachedResults columnarData;
 	private final int numberOfRows;
 	private final JdbcValuesMapping resolvedMapping;
 	private int position = -1;
 
 	public JdbcValuesCacheHit(Object[][] cachedData, JdbcValuesMapping resolvedMapping) {
+		this( cachedData, null, resolvedMapping );
+	}
+
+	public JdbcValuesCacheHit(ColumnarCachedResults columnarData, JdbcValuesMapping resolvedMapping) {
+		this( null, columnarData, resolvedMapping );
+	}
+
+	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
+		this( extractData( cachedResults ), extractColumnarData( cachedResults ), resolvedMapping );
+	}
+
+	private JdbcValuesCacheHit(
+			Object[][] cachedData,
+			ColumnarCachedResults columnarData,
+			JdbcValuesMapping resolvedMapping) {
 		this.cachedData = cachedData;
-		this.numberOfRows = cachedData.length;
+		this.columnarData = columnarData;
+		this.numberOfRows = columnarData == null ? cachedData.length : columnarData.getRowCount();
 		this.resolvedMapping = resolvedMapping;
 	}
 
-	public JdbcValuesCacheHit(List<?> cachedResults, JdbcValuesMapping resolvedMapping) {
-		this( extractData( cachedResults ), resolvedMapping );
+	private static ColumnarCachedResults extractColumnarData(List<?> cachedResults) {
+		if ( CollectionHelper.isEmpty( cachedResults ) ) {
+			return null;
+		}
+		final Object last = cachedResults.get( cachedResults.size() - 1 );
+		return last instanceof ColumnarCachedResults ? (ColumnarCachedResults) last : null;
 	}
 
 	private static Object[][] extractData(List<?> cachedResults) {
 		if ( CollectionHelper.isEmpty( cachedResults ) ) {
 			return NO_DATA;
 		}
+		if ( cachedResults.get( cachedResults.size() - 1 ) instanceof ColumnarCachedResults ) {
+			return null;
+		}
 
 		final Object[][] data;
 		if ( cachedResults.get( 0 ) instanceof JdbcValuesMetadata ) {
@@ -227,6 +254,9 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( columnarData != null ) {
+			return columnarData.getRow( position );
+		}
 		return cachedData[position];
 	}
 
@@ -235,6 +265,9 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 		if ( position >= numberOfRows ) {
 			return null;
 		}
+		if ( columnarData != null ) {
+			return columnarData.getValue( position, valueIndex );
+		}
 		return cachedData[position][valueIndex];
 	}
 
@@ -245,6 +278,7 @@ public class JdbcValuesCacheHit extends AbstractJdbcValues {
 	@Override
 	public void finishUp(SharedSessionContractImplementor session) {
 		cachedData = null;
+		columnarData = null;
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import org.hibernate.sql.results.caching.internal.QueryCachePutManagerEnabledImp
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.type.descriptor.ValueExtractor;
 
 /**
  * {@link AbstractJdbcValues} implementation for a JDBC {@link ResultSet} as the source
@@ -39,10 +40,17 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private final ExecutionContext executionContext;
 
 	private final SqlSelection[] sqlSelections;
-	private final SqlSelection[] eagerSqlSelections;
 	private final BitSet initializedIndexes;
 	private final Object[] currentRowJdbcValues;
 
+	// The eager selections, laid out "column-wise" so that reading a row
+	// doesn't need to go through the SqlSelection for each of its values
+	private final ValueExtractor<?>[] eagerValueExtractors;
+	private final int[] eagerJdbcResultSetIndexes;
+	private final int[] eagerValuesArrayPositions;
+	// null if all the selections are eager
+	private final BitSet eagerIndexes;
+
 	public JdbcValuesResultSetImpl(
 			ResultSetAccess resultSetAccess,
 			QueryKey queryCacheKey,
@@ -63,9 +71,29 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 		this.executionContext = executionContext;
 
 		this.sqlSelections = valuesMapping.getSqlSelections().toArray( new SqlSelection[0] );
-		this.eagerSqlSelections = extractEagerSqlSelections( sqlSelections );
-		this.initializedIndexes = new BitSet( valuesMapping.getRowSize() );
 		this.currentRowJdbcValues = new Object[ valuesMapping.getRowSize() ];
+
+		final SqlSelection[] eagerSqlSelections = extractEagerSqlSelections( sqlSelections );
+		this.eagerValueExtractors = new ValueExtractor[eagerSqlSelections.length];
+		this.eagerJdbcResultSetIndexes = new int[eagerSqlSelections.length];
+		this.eagerValuesArrayPositions = new int[eagerSqlSelections.length];
+		for ( int i = 0; i < eagerSqlSelections.length; i++ ) {
+			eagerValueExtractors[i] = eagerSqlSelections[i].getJdbcValueExtractor();
+			eagerJdbcResultSetIndexes[i] = eagerSqlSelections[i].getJdbcResultSetIndex();
+			eagerValuesArrayPositions[i] = eagerSqlSelections[i].getValuesArrayPosition();
+		}
+		if ( eagerSqlSelections == sqlSelections ) {
+			// no lazy extraction, so no need to track which values were already extracted
+			this.eagerIndexes = null;
+			this.initializedIndexes = null;
+		}
+		else {
+			this.eagerIndexes = new BitSet( valuesMapping.getRowSize() );
+			for ( int position : eagerValuesArrayPositions ) {
+				eagerIndexes.set( position );
+			}
+			this.initializedIndexes = new BitSet( valuesMapping.getRowSize() );
+		}
 	}
 
 	/**
@@ -307,23 +335,29 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 	private void readCurrentRowValues() {
 		final ResultSet resultSet = resultSetAccess.getResultSet();
 		final SharedSessionContractImplementor session = executionContext.getSession();
-		initializedIndexes.clear();
-		for ( final SqlSelection sqlSelection : eagerSqlSelections ) {
-			initializedIndexes.set( sqlSelection.getValuesArrayPosition() );
-			try {
-				currentRowJdbcValues[ sqlSelection.getValuesArrayPosition() ] = sqlSelection.getJdbcValueExtractor().extract(
+		if ( initializedIndexes != null ) {
+			initializedIndexes.clear();
+			initializedIndexes.or( eagerIndexes );
+		}
+		final ValueExtractor<?>[] extractors = eagerValueExtractors;
+		final int[] jdbcResultSetIndexes = eagerJdbcResultSetIndexes;
+		final int[] valuesArrayPositions = eagerValuesArrayPositions;
+		int i = 0;
+		try {
+			for ( ; i < extractors.length; i++ ) {
+				currentRowJdbcValues[ valuesArrayPositions[i] ] = extractors[i].extract(
 						resultSet,
-						sqlSelection.getJdbcResultSetIndex(),
+						jdbcResultSetIndexes[i],
 						session
 				);
 			}
-			catch ( SQLException e ) {
-				// do not want to wrap in ExecutionException here
-				throw executionContext.getSession().getJdbcServices().getSqlExceptionHelper().convert(
-						e,
-						"Could not extract column [" + sqlSelection.getJdbcResultSetIndex() + "] from JDBC ResultSet"
-				);
-			}
+		}
+		catch ( SQLException e ) {
+			// do not want to wrap in ExecutionException here
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					e,
+					"Could not extract column [" + jdbcResultSetIndexes[i] + "] from JDBC ResultSet"
+			);
 		}
 	}
 
@@ -350,7 +384,7 @@ public class JdbcValuesResultSetImpl extends AbstractJdbcValues {
 
 	@Override
 	public Object getCurrentRowValue(int valueIndex) {
-		if ( !initializedIndexes.get( valueIndex ) ) {
+		if ( initializedIndexes != null && !initializedIndexes.get( valueIndex ) ) {
 			initializedIndexes.set( valueIndex );
 			final SqlSelection sqlSelection = sqlSelections[valueIndex];
 			try {
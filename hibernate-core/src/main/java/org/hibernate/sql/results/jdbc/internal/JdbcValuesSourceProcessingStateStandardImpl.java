@@ -7,6 +7,7 @@
 package org.hibernate.sql.results.jdbc.internal;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +49,7 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 	private Map<EntityUniqueKey, Initializer> initializerByUniquKeyMap;
 	private Map<CollectionKey, LoadingCollectionEntry> loadingCollectionMap;
 	private List<CollectionInitializer> arrayInitializers;
+	private List<Object> loadedEntities;
 
 	private final PreLoadEvent preLoadEvent;
 	private final PostLoadEvent postLoadEvent;
@@ -171,6 +173,29 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 		}
 	}
 
+	/**
+	 * Keep the instances of the entities loaded from now on, until they are
+	 * {@linkplain #drainLoadedEntities() drained}.
+	 */
+	public void collectLoadedEntities() {
+		if ( loadedEntities == null ) {
+			loadedEntities = new ArrayList<>();
+		}
+	}
+
+	/**
+	 * The instances of the entities loaded since the last call, if they are
+	 * {@linkplain #collectLoadedEntities() collected}.
+	 */
+	public List<Object> drainLoadedEntities() {
+		if ( loadedEntities == null || loadedEntities.isEmpty() ) {
+			return Collections.emptyList();
+		}
+		final List<Object> drained = loadedEntities;
+		loadedEntities = new ArrayList<>();
+		return drained;
+	}
+
 	@Override
 	public SharedSessionContractImplementor getSession() {
 		return executionContext.getSession();
@@ -194,6 +219,9 @@ public class JdbcValuesSourceProcessingStateStandardImpl implements JdbcValuesSo
 			loadingEntityMap.forEach(
 					(entityKey, loadingEntityEntry) -> {
 						if ( loadingEntityEntry.getEntityInstance() != null ) {
+							if ( loadedEntities != null ) {
+								loadedEntities.add( loadingEntityEntry.getEntityInstance() );
+							}
 							if ( postLoadEvent != null ) {
 								postLoadEvent.reset();
 								postLoadEvent.setEntity( loadingEntityEntry.getEntityInstance() )
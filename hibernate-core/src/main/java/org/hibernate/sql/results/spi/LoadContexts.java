@@ -47,6 +47,15 @@ public class LoadContexts {
 		}
 	}
 
+	/**
+	 * Deregisters the given state, unless states registered after it are still registered.
+	 */
+	public void deregisterIfCurrent(JdbcValuesSourceProcessingState state) {
+		if ( jdbcValuesSourceProcessingStateStack.getCurrent() == state ) {
+			jdbcValuesSourceProcessingStateStack.pop();
+		}
+	}
+
 	public boolean isLoadingFinished() {
 		return jdbcValuesSourceProcessingStateStack.getRoot() == null;
 	}
@@ -44,4 +44,15 @@ public interface CollectionStatistics extends CacheableDataStatistics, Serializa
 	 * has been updated
 	 */
 	long getUpdateCount();
+
+	/**
+	 * The batch size used by the most recent batch fetch of this
+	 * collection, or {@code 0} if it has not been batch fetched
+	 * (since last Statistics clearing).
+	 *
+	 * @since 6.3
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
 }
@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import org.hibernate.Incubating;
+
+/**
+ * Statistics of Hibernate's built-in connection pool, accumulated since
+ * the pool was started.
+ *
+ * @see Statistics#getConnectionPoolStatistics()
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface ConnectionPoolStatistics {
+	/**
+	 * The number of connections currently held by the pool, whether
+	 * in use or idle
+	 */
+	int getConnectionCount();
+
+	/**
+	 * The number of connections currently idle in the pool
+	 */
+	int getIdleConnectionCount();
+
+	/**
+	 * The number of threads currently waiting for a connection
+	 */
+	int getPendingAcquisitionCount();
+
+	/**
+	 * The number of connections obtained from the pool
+	 */
+	long getAcquisitionCount();
+
+	/**
+	 * The number of attempts to obtain a connection which failed
+	 * because none became available in time
+	 */
+	long getAcquisitionTimeoutCount();
+
+	/**
+	 * The longest time it took to obtain a connection, in microseconds
+	 */
+	long getMaxAcquisitionTime();
+
+	/**
+	 * The distribution of the time it took to obtain connections from
+	 * the pool. The element {@code i} of the returned array counts the
+	 * connections obtained in less than {@code 10^(i+1)} microseconds,
+	 * which are not counted by any previous element. The last element
+	 * counts the connections which took a second or more.
+	 *
+	 * @return The number of connections obtained in less than 10&micro;s,
+	 * 100&micro;s, 1ms, 10ms, 100ms, 1s, and in a second or more
+	 */
+	long[] getAcquisitionTimeHistogram();
+
+	/**
+	 * The number of connections which were held longer than the leak
+	 * detection threshold
+	 */
+	long getLeakedConnectionCount();
+
+	/**
+	 * The number of connections which were closed because they reached
+	 * their maximum lifetime
+	 */
+	long getExpiredConnectionCount();
+}
@@ -7,6 +7,10 @@
 package org.hibernate.stat;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyMap;
 
 /**
  * Entity-related statistics.
@@ -50,4 +54,42 @@ public interface EntityStatistics extends CacheableDataStatistics, Serializable
 	 * has experienced an optimistic lock failure.
 	 */
 	long getOptimisticFailureCount();
+
+	/**
+	 * The batch size used by the most recent batch fetch of this
+	 * entity, or {@code 0} if it has not been batch fetched (since
+	 * last Statistics clearing).
+	 *
+	 * @since 6.3
+	 */
+	default int getBatchFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Number of lazy fetch groups of this entity which were loaded
+	 * along with another fetch group, because they are usually
+	 * accessed together (since last Statistics clearing).
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_LAZY_FETCH_GROUPS
+	 *
+	 * @since 6.3
+	 */
+	default long getLazyFetchGroupPrefetchCount() {
+		return 0;
+	}
+
+	/**
+	 * The lazy fetch groups of this entity which are loaded along
+	 * with each lazy fetch group, as learned from how its instances
+	 * were accessed, or an empty map if adaptive lazy fetch groups
+	 * are disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#ADAPTIVE_LAZY_FETCH_GROUPS
+	 *
+	 * @since 6.3
+	 */
+	default Map<String, Set<String>> getCoAccessedLazyFetchGroups() {
+		return emptyMap();
+	}
 }
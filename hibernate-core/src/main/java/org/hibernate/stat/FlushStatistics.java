@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+
+import org.hibernate.Incubating;
+
+/**
+ * The cost of flushing the instances of a particular entity type, broken
+ * down by the phases of a flush. Only collected when
+ * {@linkplain Statistics#isFlushProfilingEnabled() flush profiling} is
+ * enabled.
+ * <p>
+ * All times are measured in nanoseconds.
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface FlushStatistics extends Serializable {
+	/**
+	 * Number of entity instances whose cascades were processed before
+	 * flushing them
+	 */
+	long getCascadeCount();
+
+	/**
+	 * Time spent cascading from the entity instances, in nanoseconds
+	 */
+	long getCascadeTime();
+
+	/**
+	 * Number of entity instances which were dirty checked
+	 */
+	long getDirtyCheckCount();
+
+	/**
+	 * Time spent dirty checking the entity instances and scheduling their
+	 * updates, in nanoseconds
+	 */
+	long getDirtyCheckTime();
+
+	/**
+	 * Number of collections owned by the entity type which were flushed
+	 */
+	long getCollectionFlushCount();
+
+	/**
+	 * Time spent checking the collections owned by the entity type and
+	 * scheduling their updates, in nanoseconds
+	 */
+	long getCollectionFlushTime();
+
+	/**
+	 * Number of actions executed against the entity type or the
+	 * collections it owns
+	 */
+	long getExecutionCount();
+
+	/**
+	 * Time spent executing the actions, in nanoseconds. When JDBC batching
+	 * is enabled, the execution of a batch counts towards the action which
+	 * caused it to be executed.
+	 */
+	long getExecutionTime();
+}
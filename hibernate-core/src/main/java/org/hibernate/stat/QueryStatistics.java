@@ -8,6 +8,8 @@ package org.hibernate.stat;
 
 import java.io.Serializable;
 
+import org.hibernate.Incubating;
+
 /**
  * Statistics relating to a particular query written in HQL or SQL.
  * <p>
@@ -53,6 +55,21 @@ public interface QueryStatistics extends Serializable {
 
 	double getExecutionAvgTimeAsDouble();
 
+	/**
+	 * The number of executions of this query by execution time, in
+	 * milliseconds: the element {@code i} counts the executions which
+	 * took less than {@code 10^i} milliseconds, and were not counted by
+	 * any previous element, and the last element counts the remaining
+	 * executions.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default long[] getExecutionTimeHistogram() {
+		//For backward compatibility
+		return new long[0];
+	}
+
 	/**
 	 * The number of cache hits for this query.
 	 *
@@ -6,8 +6,12 @@
  */
 package org.hibernate.stat;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.Incubating;
+
 /**
  * Information about the first-level (session) cache for a particular
  * instance of {@link org.hibernate.Session}.
@@ -34,5 +38,16 @@ public interface SessionStatistics {
 	 * currently held within the persistence context.
 	 */
 	Set<?> getCollectionKeys();
-	
+
+	/**
+	 * The cost of the flushes of the session, keyed by entity name,
+	 * if {@linkplain Statistics#isFlushProfilingEnabled() flush profiling}
+	 * is enabled.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default Map<String, FlushStatistics> getFlushStatistics() {
+		return Collections.emptyMap();
+	}
 }
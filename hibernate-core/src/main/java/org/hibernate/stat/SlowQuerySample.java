@@ -0,0 +1,55 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An execution of a SQL query which took longer than the
+ * {@linkplain org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY slow query threshold}.
+ *
+ * @see Statistics#getSlowQuerySamples()
+ *
+ * @since 6.3
+ */
+@Incubating
+public interface SlowQuerySample extends Serializable {
+	/**
+	 * The SQL query, as sent to the database.
+	 */
+	String getSql();
+
+	/**
+	 * The values bound to the parameters of the query, in order,
+	 * not including the parameters of the limit and offset.
+	 */
+	List<String> getParameterValues();
+
+	/**
+	 * When the query was executed.
+	 */
+	Instant getExecutionTimestamp();
+
+	/**
+	 * How long the query took to execute, in milliseconds.
+	 */
+	long getExecutionTime();
+
+	/**
+	 * The execution plan of the query, as reported by the database,
+	 * or {@code null} if it was not obtained.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_EXPLAIN
+	 */
+	@Nullable String getExecutionPlan();
+}
@@ -7,6 +7,9 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.Incubating;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -29,6 +32,12 @@ public interface Statistics {
 	 */
 	int DEFAULT_QUERY_STATISTICS_MAX_SIZE = 5000;
 
+	/**
+	 * The default value of the configuration property
+	 * {@value org.hibernate.cfg.AvailableSettings#SLOW_QUERY_SAMPLE_SIZE}.
+	 */
+	int DEFAULT_SLOW_QUERY_SAMPLE_SIZE = 100;
+
 	/**
 	 * Is collection of statistics enabled?
 	 */
@@ -39,6 +48,30 @@ public interface Statistics {
 	 */
 	void setStatisticsEnabled(boolean enabled);
 
+	/**
+	 * Is profiling of flushes enabled? Flushes are only profiled while
+	 * {@linkplain #isStatisticsEnabled() statistics} are enabled, too.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_PROFILING
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default boolean isFlushProfilingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Enable or disable profiling of flushes. Implementations which
+	 * do not profile flushes ignore this.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default void setFlushProfilingEnabled(boolean enabled) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Reset all statistics.
 	 */
@@ -57,6 +90,21 @@ public interface Statistics {
 	 */
 	EntityStatistics getEntityStatistics(String entityName);
 
+	/**
+	 * Obtain the flush profile of the entity with the given name,
+	 * as collected while {@linkplain #isFlushProfilingEnabled()
+	 * flush profiling} was enabled, or {@code null} if this
+	 * implementation does not profile flushes.
+	 *
+	 * @param entityName the entity name
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default FlushStatistics getFlushStatistics(String entityName) {
+		return null;
+	}
+
 	/**
 	 * Obtain the statistics for the collection with the given role.
 	 *
@@ -366,6 +414,90 @@ public interface Statistics {
 	 */
 	long getCloseStatementCount();
 
+	/**
+	 * The number of prepared statements which were reused from the
+	 * statement cache of a session instead of being prepared again.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.3
+	 */
+	default long getPreparedStatementCacheHitCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of prepared statements which were looked up in, but
+	 * <em>not</em> found in the statement cache of a session.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.3
+	 */
+	default long getPreparedStatementCacheMissCount() {
+		return 0;
+	}
+
+	/**
+	 * The statistics of Hibernate's built-in connection pool, or
+	 * {@code null} if connections are obtained from some other
+	 * {@link org.hibernate.engine.jdbc.connections.spi.ConnectionProvider}.
+	 * <p>
+	 * These statistics belong to the pool, and so they are not
+	 * reset by {@link #clear()}.
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default @Nullable ConnectionPoolStatistics getConnectionPoolStatistics() {
+		return null;
+	}
+
+	/**
+	 * The SQL queries which took longer than the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY
+	 * slow query threshold} to execute. Lists of parameters are
+	 * collapsed, so that executions of a query with a different
+	 * number of parameters share the same statistics.
+	 *
+	 * @see #getSlowQueryStatistics(String)
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default String[] getSlowQueries() {
+		return new String[0];
+	}
+
+	/**
+	 * Obtain the statistics of the executions of the given SQL query
+	 * which took longer than the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY
+	 * slow query threshold}, or {@code null} if there was none.
+	 *
+	 * @param sql one of the {@linkplain #getSlowQueries() slow queries}
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default @Nullable QueryStatistics getSlowQueryStatistics(String sql) {
+		return null;
+	}
+
+	/**
+	 * The most recent executions of SQL queries which took longer
+	 * than the {@linkplain org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY
+	 * slow query threshold}, oldest first.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_SAMPLE_SIZE
+	 *
+	 * @since 6.3
+	 */
+	@Incubating
+	default List<SlowQuerySample> getSlowQuerySamples() {
+		return List.of();
+	}
+
 	/**
 	 * The number of Hibernate {@code StaleObjectStateException}s or JPA
 	 * {@code OptimisticLockException}s that have occurred.
@@ -25,6 +25,7 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 	private final LongAdder updateCount = new LongAdder();
 	private final LongAdder removeCount = new LongAdder();
 	private final LongAdder recreateCount = new LongAdder();
+	private volatile int batchFetchSize;
 
 	CollectionStatisticsImpl(CollectionPersister persister) {
 		super(
@@ -44,6 +45,10 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		return fetchCount.sum();
 	}
 
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	public long getRecreateCount() {
 		return recreateCount.sum();
 	}
@@ -64,6 +69,10 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 		fetchCount.increment();
 	}
 
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
@@ -84,7 +93,8 @@ public class CollectionStatisticsImpl extends AbstractCacheableDataStatistics im
 				.append( ",fetchCount=" ).append( this.fetchCount )
 				.append( ",recreateCount=" ).append( this.recreateCount )
 				.append( ",removeCount=" ).append( this.removeCount )
-				.append( ",updateCount=" ).append( this.updateCount );
+				.append( ",updateCount=" ).append( this.updateCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize );
 		appendCacheStats( buffer );
 		return buffer.append(']').toString();
 	}
@@ -7,8 +7,11 @@
 package org.hibernate.stat.internal;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.LongAdder;
 
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyFetchGroupCoAccessTracker;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.EntityStatistics;
 
@@ -26,6 +29,9 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 	private final LongAdder deleteCount = new LongAdder();
 	private final LongAdder fetchCount = new LongAdder();
 	private final LongAdder optimisticFailureCount = new LongAdder();
+	private volatile int batchFetchSize;
+	private final LongAdder lazyFetchGroupPrefetchCount = new LongAdder();
+	private final LazyFetchGroupCoAccessTracker lazyFetchGroupCoAccessTracker;
 
 	EntityStatisticsImpl(EntityPersister rootEntityDescriptor) {
 		super(
@@ -34,6 +40,8 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 						: null
 		);
 		this.rootEntityName = rootEntityDescriptor.getRootEntityName();
+		this.lazyFetchGroupCoAccessTracker = rootEntityDescriptor.getBytecodeEnhancementMetadata()
+				.getLazyFetchGroupCoAccessTracker();
 	}
 
 	public long getDeleteCount() {
@@ -56,10 +64,24 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		return fetchCount.sum();
 	}
 
+	public int getBatchFetchSize() {
+		return batchFetchSize;
+	}
+
 	public long getOptimisticFailureCount() {
 		return optimisticFailureCount.sum();
 	}
 
+	public long getLazyFetchGroupPrefetchCount() {
+		return lazyFetchGroupPrefetchCount.sum();
+	}
+
+	public Map<String, Set<String>> getCoAccessedLazyFetchGroups() {
+		return lazyFetchGroupCoAccessTracker == null
+				? EntityStatistics.super.getCoAccessedLazyFetchGroups()
+				: lazyFetchGroupCoAccessTracker.getCoAccessedFetchGroupNames();
+	}
+
 	void incrementLoadCount() {
 		loadCount.increment();
 	}
@@ -68,6 +90,14 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 		fetchCount.increment();
 	}
 
+	void setBatchFetchSize(int batchFetchSize) {
+		this.batchFetchSize = batchFetchSize;
+	}
+
+	void incrementLazyFetchGroupPrefetchCount(int fetchGroupCount) {
+		lazyFetchGroupPrefetchCount.add( fetchGroupCount );
+	}
+
 	void incrementUpdateCount() {
 		updateCount.increment();
 	}
@@ -93,7 +123,9 @@ public class EntityStatisticsImpl extends AbstractCacheableDataStatistics implem
 				.append( ",insertCount=" ).append( this.insertCount )
 				.append( ",deleteCount=" ).append( this.deleteCount )
 				.append( ",fetchCount=" ).append( this.fetchCount )
-				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount );
+				.append( ",optimisticLockFailureCount=" ).append( this.optimisticFailureCount )
+				.append( ",batchFetchSize=" ).append( this.batchFetchSize )
+				.append( ",lazyFetchGroupPrefetchCount=" ).append( this.lazyFetchGroupPrefetchCount );
 		appendCacheStats( buffer );
 		return buffer.append( ']' ).toString();
 	}
@@ -0,0 +1,101 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.stat.FlushStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Measures the flushes of a single session per entity type. The measurements of
+ * a flush are reported to the {@link StatisticsImplementor} when it
+ * {@linkplain #flushEnded() ends}, and accumulated for the
+ * {@linkplain org.hibernate.stat.SessionStatistics#getFlushStatistics() session}.
+ * <p>
+ * Measurements which cannot be attributed to an entity type, passed with a
+ * {@code null} entity name, are ignored. Not thread-safe, like the session itself.
+ */
+public final class FlushProfiler {
+	private final StatisticsImplementor statistics;
+	private final Map<String, FlushStatisticsImpl> currentFlush = new HashMap<>();
+	private final Map<String, FlushStatisticsImpl> sessionFlushes = new HashMap<>();
+
+	public FlushProfiler(StatisticsImplementor statistics) {
+		this.statistics = statistics;
+	}
+
+	/**
+	 * The cascades from an instance of the given entity type, started at the
+	 * given {@link System#nanoTime()}, have been processed.
+	 */
+	public void cascaded(String entityName, long startNanos) {
+		if ( entityName != null ) {
+			statisticsOf( entityName ).cascaded( 1, System.nanoTime() - startNanos );
+		}
+	}
+
+	/**
+	 * An instance of the given entity type has been dirty checked, starting at
+	 * the given {@link System#nanoTime()}.
+	 */
+	public void dirtyChecked(String entityName, long startNanos) {
+		if ( entityName != null ) {
+			statisticsOf( entityName ).dirtyChecked( 1, System.nanoTime() - startNanos );
+		}
+	}
+
+	/**
+	 * A collection owned by the given entity type has been flushed, starting at
+	 * the given {@link System#nanoTime()}. Processing which precedes the flush of
+	 * the collection is counted by passing {@code false} for {@code countFlush}.
+	 */
+	public void collectionFlushed(String entityName, long startNanos, boolean countFlush) {
+		if ( entityName != null ) {
+			statisticsOf( entityName ).collectionsFlushed( countFlush ? 1 : 0, System.nanoTime() - startNanos );
+		}
+	}
+
+	/**
+	 * An action against the given entity type, or against a collection it owns,
+	 * has been executed, starting at the given {@link System#nanoTime()}. The
+	 * execution of a JDBC batch following the actions is counted by passing
+	 * {@code false} for {@code countAction}.
+	 */
+	public void executed(String entityName, long startNanos, boolean countAction) {
+		if ( entityName != null ) {
+			statisticsOf( entityName ).executed( countAction ? 1 : 0, System.nanoTime() - startNanos );
+		}
+	}
+
+	/**
+	 * Report the measurements of the current flush, or of its executions.
+	 */
+	public void flushEnded() {
+		if ( !currentFlush.isEmpty() ) {
+			for ( Map.Entry<String, FlushStatisticsImpl> entry : currentFlush.entrySet() ) {
+				statistics.flushProfiled( entry.getKey(), entry.getValue() );
+				sessionFlushes.computeIfAbsent( entry.getKey(), name -> new FlushStatisticsImpl() )
+						.add( entry.getValue() );
+			}
+			currentFlush.clear();
+		}
+	}
+
+	/**
+	 * The accumulated measurements of all flushes of the session, keyed by entity name.
+	 */
+	public Map<String, FlushStatistics> getSessionStatistics() {
+		return Collections.unmodifiableMap( sessionFlushes );
+	}
+
+	private FlushStatisticsImpl statisticsOf(String entityName) {
+		return currentFlush.computeIfAbsent( entityName, name -> new FlushStatisticsImpl() );
+	}
+}
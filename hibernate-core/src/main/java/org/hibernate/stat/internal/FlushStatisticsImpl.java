@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.stat.FlushStatistics;
+
+/**
+ * Flush related statistics of an entity type
+ */
+public class FlushStatisticsImpl implements FlushStatistics {
+	private final LongAdder cascadeCount = new LongAdder();
+	private final LongAdder cascadeTime = new LongAdder();
+	private final LongAdder dirtyCheckCount = new LongAdder();
+	private final LongAdder dirtyCheckTime = new LongAdder();
+	private final LongAdder collectionFlushCount = new LongAdder();
+	private final LongAdder collectionFlushTime = new LongAdder();
+	private final LongAdder executionCount = new LongAdder();
+	private final LongAdder executionTime = new LongAdder();
+
+	@Override
+	public long getCascadeCount() {
+		return cascadeCount.sum();
+	}
+
+	@Override
+	public long getCascadeTime() {
+		return cascadeTime.sum();
+	}
+
+	@Override
+	public long getDirtyCheckCount() {
+		return dirtyCheckCount.sum();
+	}
+
+	@Override
+	public long getDirtyCheckTime() {
+		return dirtyCheckTime.sum();
+	}
+
+	@Override
+	public long getCollectionFlushCount() {
+		return collectionFlushCount.sum();
+	}
+
+	@Override
+	public long getCollectionFlushTime() {
+		return collectionFlushTime.sum();
+	}
+
+	@Override
+	public long getExecutionCount() {
+		return executionCount.sum();
+	}
+
+	@Override
+	public long getExecutionTime() {
+		return executionTime.sum();
+	}
+
+	void cascaded(long count, long nanos) {
+		cascadeCount.add( count );
+		cascadeTime.add( nanos );
+	}
+
+	void dirtyChecked(long count, long nanos) {
+		dirtyCheckCount.add( count );
+		dirtyCheckTime.add( nanos );
+	}
+
+	void collectionsFlushed(long count, long nanos) {
+		collectionFlushCount.add( count );
+		collectionFlushTime.add( nanos );
+	}
+
+	void executed(long count, long nanos) {
+		executionCount.add( count );
+		executionTime.add( nanos );
+	}
+
+	void add(FlushStatistics statistics) {
+		cascaded( statistics.getCascadeCount(), statistics.getCascadeTime() );
+		dirtyChecked( statistics.getDirtyCheckCount(), statistics.getDirtyCheckTime() );
+		collectionsFlushed( statistics.getCollectionFlushCount(), statistics.getCollectionFlushTime() );
+		executed( statistics.getExecutionCount(), statistics.getExecutionTime() );
+	}
+
+	@Override
+	public String toString() {
+		return "FlushStatistics"
+				+ "[cascadeCount=" + cascadeCount
+				+ ",cascadeTime=" + cascadeTime
+				+ ",dirtyCheckCount=" + dirtyCheckCount
+				+ ",dirtyCheckTime=" + dirtyCheckTime
+				+ ",collectionFlushCount=" + collectionFlushCount
+				+ ",collectionFlushTime=" + collectionFlushTime
+				+ ",executionCount=" + executionCount
+				+ ",executionTime=" + executionTime
+				+ ']';
+	}
+}
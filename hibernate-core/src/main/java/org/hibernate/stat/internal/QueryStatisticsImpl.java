@@ -33,6 +33,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 	private final AtomicLong executionMaxTime = new AtomicLong();
 	private final AtomicLong executionMinTime = new AtomicLong(Long.MAX_VALUE);
 	private final AtomicLong totalExecutionTime = new AtomicLong();
+	private final LongAdder[] executionTimeHistogram = new LongAdder[6];
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
@@ -47,6 +48,9 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		ReadWriteLock lock = new ReentrantReadWriteLock();
 		this.readLock = lock.readLock();
 		this.writeLock = lock.writeLock();
+		for ( int i = 0; i < executionTimeHistogram.length; i++ ) {
+			executionTimeHistogram[i] = new LongAdder();
+		}
 	}
 
 	/**
@@ -133,6 +137,15 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return totalExecutionTime.get();
 	}
 
+	@Override
+	public long[] getExecutionTimeHistogram() {
+		final long[] histogram = new long[executionTimeHistogram.length];
+		for ( int i = 0; i < histogram.length; i++ ) {
+			histogram[i] = executionTimeHistogram[i].sum();
+		}
+		return histogram;
+	}
+
 	/**
 	 * Query plan successfully fetched from the cache
 	 */
@@ -171,6 +184,11 @@ public class QueryStatisticsImpl implements QueryStatistics {
 			executionCount.increment();
 			executionRowCount.add( rows );
 			totalExecutionTime.addAndGet( time );
+			int bucket = 0;
+			for ( long bound = 1; time >= bound && bucket < executionTimeHistogram.length - 1; bound *= 10 ) {
+				bucket++;
+			}
+			executionTimeHistogram[bucket].increment();
 		}
 		finally {
 			readLock.unlock();
@@ -7,9 +7,11 @@
 package org.hibernate.stat.internal;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.stat.FlushStatistics;
 import org.hibernate.stat.SessionStatistics;
 
 /**
@@ -39,6 +41,12 @@ public class SessionStatisticsImpl implements SessionStatistics {
 		return Collections.unmodifiableSet( session.getPersistenceContextInternal().getCollectionsByKey().keySet() );
 	}
 	
+	@Override
+	public Map<String, FlushStatistics> getFlushStatistics() {
+		final FlushProfiler profiler = session.getActionQueue().getFlushProfiler();
+		return profiler == null ? Collections.emptyMap() : profiler.getSessionStatistics();
+	}
+
 	public String toString() {
 		return new StringBuilder()
 			.append("SessionStatistics[")
@@ -0,0 +1,73 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.stat.SlowQuerySample;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Immutable {@link SlowQuerySample}.
+ */
+final class SlowQuerySampleImpl implements SlowQuerySample {
+	private final String sql;
+	private final List<String> parameterValues;
+	private final Instant executionTimestamp;
+	private final long executionTime;
+	private final @Nullable String executionPlan;
+
+	SlowQuerySampleImpl(
+			String sql,
+			List<String> parameterValues,
+			Instant executionTimestamp,
+			long executionTime,
+			@Nullable String executionPlan) {
+		this.sql = sql;
+		this.parameterValues = List.copyOf( parameterValues );
+		this.executionTimestamp = executionTimestamp;
+		this.executionTime = executionTime;
+		this.executionPlan = executionPlan;
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public List<String> getParameterValues() {
+		return parameterValues;
+	}
+
+	@Override
+	public Instant getExecutionTimestamp() {
+		return executionTimestamp;
+	}
+
+	@Override
+	public long getExecutionTime() {
+		return executionTime;
+	}
+
+	@Override
+	public @Nullable String getExecutionPlan() {
+		return executionPlan;
+	}
+
+	@Override
+	public String toString() {
+		return "SlowQuerySample"
+				+ "[sql=" + sql
+				+ ",parameterValues=" + parameterValues
+				+ ",executionTimestamp=" + executionTimestamp
+				+ ",executionTime=" + executionTime
+				+ ']';
+	}
+}
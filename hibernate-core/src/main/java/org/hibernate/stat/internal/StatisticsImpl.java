@@ -10,15 +10,20 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.NullnessUtil;
@@ -26,6 +31,9 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.ConnectionPoolStatistics;
+import org.hibernate.stat.FlushStatistics;
+import org.hibernate.stat.SlowQuerySample;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -44,8 +52,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private static final CoreMessageLogger LOG = messageLogger( StatisticsImpl.class );
 
+	private static final Pattern PARAMETER_LIST = Pattern.compile( "\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)" );
+
+	/**
+	 * The minimum time between two execution plans obtained for the same slow query
+	 */
+	private static final long SLOW_QUERY_EXPLAIN_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos( 1 );
+
 	private final MappingMetamodelImplementor metamodel;
 	private final CacheImplementor cache;
+	private final @Nullable ConnectionProvider connectionProvider;
 
 	private final String[] allEntityNames;
 	private final String[] allCollectionRoles;
@@ -54,6 +70,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final boolean queryCacheEnabled;
 
 	private volatile boolean isStatisticsEnabled;
+	private volatile boolean isFlushProfilingEnabled;
 	private volatile Instant startTime;
 
 	private final LongAdder sessionOpenCount = new LongAdder();
@@ -63,6 +80,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 	private final LongAdder prepareStatementCount = new LongAdder();
 	private final LongAdder closeStatementCount = new LongAdder();
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
 
 	private final LongAdder entityLoadCount = new LongAdder();
 	private final LongAdder entityUpdateCount = new LongAdder();
@@ -109,12 +128,31 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final StatsNamedContainer<EntityStatisticsImpl> entityStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<NaturalIdStatisticsImpl> naturalIdQueryStatsMap = new StatsNamedContainer<>();
 	private final StatsNamedContainer<CollectionStatisticsImpl> collectionStatsMap = new StatsNamedContainer<>();
+	private final StatsNamedContainer<FlushStatisticsImpl> flushStatsMap = new StatsNamedContainer<>();
 
 	/**
 	 * Keyed by query string
 	 */
 	private final StatsNamedContainer<QueryStatisticsImpl> queryStatsMap;
 
+	/**
+	 * Keyed by SQL query, with lists of parameters collapsed
+	 */
+	private final StatsNamedContainer<QueryStatisticsImpl> slowQueryStatsMap;
+
+	/**
+	 * The most recent slow queries, the sample number {@code n} being at the
+	 * index {@code n % slowQuerySamples.length()}
+	 */
+	private final AtomicReferenceArray<SlowQuerySample> slowQuerySamples;
+	private final AtomicLong slowQuerySampleCount = new AtomicLong();
+
+	/**
+	 * Keyed by SQL query, with lists of parameters collapsed, the {@link System#nanoTime()}
+	 * at which its execution plan was last obtained
+	 */
+	private final StatsNamedContainer<AtomicLong> slowQueryExplainNanos;
+
 	/**
 	 * Keyed by region name
 	 */
@@ -127,11 +165,23 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				sessionFactoryOptions.getQueryStatisticsMaxSize(),
 				20
 		);
+		this.slowQueryStatsMap = new StatsNamedContainer<>(
+				sessionFactoryOptions.getQueryStatisticsMaxSize(),
+				20
+		);
+		this.slowQueryExplainNanos = new StatsNamedContainer<>(
+				sessionFactoryOptions.getQueryStatisticsMaxSize(),
+				20
+		);
+		this.slowQuerySamples = new AtomicReferenceArray<>( Math.max( sessionFactoryOptions.getSlowQuerySampleSize(), 0 ) );
 		resetStart();
 		metamodel = sessionFactory.getRuntimeMetamodels().getMappingMetamodel();
 		cache = sessionFactory.getCache();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
+		connectionProvider = sessionFactoryOptions.isMultiTenancyEnabled()
+				? null
+				: sessionFactory.getServiceRegistry().getService( ConnectionProvider.class );
 
 		final List<String> entityNames = new ArrayList<>();
 		metamodel.forEachEntityDescriptor( (entityDescriptor) -> entityNames.add( entityDescriptor.getEntityName() ) );
@@ -165,6 +215,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 
 		prepareStatementCount.reset();
 		closeStatementCount.reset();
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
 
 		entityDeleteCount.reset();
 		entityInsertCount.reset();
@@ -197,8 +249,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		entityStatsMap.clear();
 		collectionStatsMap.clear();
 		naturalIdQueryStatsMap.clear();
+		flushStatsMap.clear();
 		l2CacheStatsMap.clear();
 		queryStatsMap.clear();
+		slowQueryStatsMap.clear();
+		for ( int i = 0; i < slowQuerySamples.length(); i++ ) {
+			slowQuerySamples.set( i, null );
+		}
+		slowQuerySampleCount.set( 0L );
+		slowQueryExplainNanos.clear();
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
@@ -230,6 +289,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		isStatisticsEnabled = enabled;
 	}
 
+	@Override
+	public boolean isFlushProfilingEnabled() {
+		return isFlushProfilingEnabled;
+	}
+
+	@Override
+	public void setFlushProfilingEnabled(boolean enabled) {
+		isFlushProfilingEnabled = enabled;
+	}
+
 
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
@@ -250,6 +319,21 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		);
 	}
 
+	@Override
+	public FlushStatisticsImpl getFlushStatistics(String entityName) {
+		return NullnessUtil.castNonNull(
+				flushStatsMap.getOrCompute(
+						entityName,
+						this::instantiateFlushStatistics
+				)
+		);
+	}
+
+	@Override
+	public void flushProfiled(String entityName, FlushStatistics statistics) {
+		getFlushStatistics( entityName ).add( statistics );
+	}
+
 	@Override
 	public long getEntityLoadCount() {
 		return entityLoadCount.sum();
@@ -292,6 +376,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getEntityStatistics( entityName ).incrementFetchCount();
 	}
 
+	@Override
+	public void batchFetchEntity(String entityName, int batchSize) {
+		getEntityStatistics( entityName ).setBatchFetchSize( batchSize );
+	}
+
+	@Override
+	public void prefetchLazyFetchGroups(String entityName, int fetchGroupCount) {
+		getEntityStatistics( entityName ).incrementLazyFetchGroupPrefetchCount( fetchGroupCount );
+	}
+
 	@Override
 	public void updateEntity(String entityName) {
 		entityUpdateCount.increment();
@@ -393,6 +487,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		getCollectionStatistics( role ).incrementFetchCount();
 	}
 
+	@Override
+	public void batchFetchCollection(String role, int batchSize) {
+		getCollectionStatistics( role ).setBatchFetchSize( batchSize );
+	}
+
 	@Override
 	public void updateCollection(String role) {
 		collectionUpdateCount.increment();
@@ -665,6 +764,61 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		);
 	}
 
+	@Override
+	public String[] getSlowQueries() {
+		return slowQueryStatsMap.keysAsArray();
+	}
+
+	@Override
+	public @Nullable QueryStatisticsImpl getSlowQueryStatistics(String sql) {
+		return slowQueryStatsMap.get( sql );
+	}
+
+	@Override
+	public List<SlowQuerySample> getSlowQuerySamples() {
+		final int capacity = slowQuerySamples.length();
+		final long count = slowQuerySampleCount.get();
+		final List<SlowQuerySample> samples = new ArrayList<>( (int) Math.min( count, capacity ) );
+		for ( long n = Math.max( count - capacity, 0 ); n < count; n++ ) {
+			final SlowQuerySample sample = slowQuerySamples.get( (int) ( n % capacity ) );
+			if ( sample != null ) {
+				samples.add( sample );
+			}
+		}
+		return samples;
+	}
+
+	@Override
+	public void slowQueryExecuted(String sql, List<String> parameterValues, long time, @Nullable String executionPlan) {
+		NullnessUtil.castNonNull( slowQueryStatsMap.getOrCompute( normalizeSlowQuery( sql ), QueryStatisticsImpl::new ) )
+				.executed( 0, time );
+
+		final int capacity = slowQuerySamples.length();
+		if ( capacity > 0 ) {
+			final long n = slowQuerySampleCount.getAndIncrement();
+			slowQuerySamples.set(
+					(int) ( n % capacity ),
+					new SlowQuerySampleImpl( sql, parameterValues, Instant.now(), time, executionPlan )
+			);
+		}
+	}
+
+	@Override
+	public boolean isSlowQueryExplainDue(String sql) {
+		final long now = System.nanoTime();
+		final AtomicLong lastExplainNanos = NullnessUtil.castNonNull( slowQueryExplainNanos.getOrCompute(
+				normalizeSlowQuery( sql ),
+				s -> new AtomicLong( now - SLOW_QUERY_EXPLAIN_INTERVAL_NANOS )
+		) );
+		final long last = lastExplainNanos.get();
+		return now - last >= SLOW_QUERY_EXPLAIN_INTERVAL_NANOS
+				&& lastExplainNanos.compareAndSet( last, now );
+	}
+
+	private static String normalizeSlowQuery(String sql) {
+		return PARAMETER_LIST.matcher( sql ).replaceAll( "(?)" );
+	}
+
 	@Override
 	public long getQueryExecutionCount() {
 		return queryExecutionCount.sum();
@@ -845,6 +999,25 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return prepareStatementCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
+	@Override
+	public @Nullable ConnectionPoolStatistics getConnectionPoolStatistics() {
+		if ( connectionProvider != null
+				&& connectionProvider.isUnwrappableAs( DriverManagerConnectionProviderImpl.class ) ) {
+			return connectionProvider.unwrap( DriverManagerConnectionProviderImpl.class ).getConnectionPoolStatistics();
+		}
+		return null;
+	}
+
 	@Override
 	public void openSession() {
 		sessionOpenCount.increment();
@@ -875,6 +1048,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		closeStatementCount.increment();
 	}
 
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
 	@Override
 	public void endTransaction(boolean success) {
 		transactionCount.increment();
@@ -939,6 +1122,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",connections obtained=" + connectCount +
 				",statements prepared=" + prepareStatementCount +
 				",statements closed=" + closeStatementCount +
+				",statement cache hits=" + preparedStatementCacheHitCount +
+				",statement cache misses=" + preparedStatementCacheMissCount +
 				",second level cache puts=" + secondLevelCachePutCount +
 				",second level cache hits=" + secondLevelCacheHitCount +
 				",second level cache misses=" + secondLevelCacheMissCount +
@@ -974,6 +1159,12 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return new EntityStatisticsImpl( metamodel.getEntityDescriptor( entityName ) );
 	}
 
+	private FlushStatisticsImpl instantiateFlushStatistics(final String entityName) {
+		// validates the entity name
+		metamodel.getEntityDescriptor( entityName );
+		return new FlushStatisticsImpl();
+	}
+
 	private CollectionStatisticsImpl instantiateCollectionStatistics(final String role) {
 		return new CollectionStatisticsImpl( metamodel.getCollectionDescriptor( role ) );
 	}
@@ -6,11 +6,15 @@
  */
 package org.hibernate.stat.internal;
 
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 import org.hibernate.service.spi.SessionFactoryServiceInitiator;
 import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
@@ -42,11 +46,15 @@ public class StatisticsInitiator implements SessionFactoryServiceInitiator<Stati
 
 	@Override
 	public StatisticsImplementor initiateService(SessionFactoryServiceInitiatorContext context) {
-		final Object configValue = context.getServiceRegistry()
+		final Map<String, Object> settings = context.getServiceRegistry()
 				.getService( ConfigurationService.class )
-				.getSettings()
-				.get( STATS_BUILDER );
-		return initiateServiceInternal( context.getSessionFactory(), configValue, context.getServiceRegistry() );
+				.getSettings();
+		final StatisticsImplementor statistics =
+				initiateServiceInternal( context.getSessionFactory(), settings.get( STATS_BUILDER ), context.getServiceRegistry() );
+		if ( ConfigurationHelper.getBoolean( AvailableSettings.FLUSH_PROFILING, settings ) ) {
+			statistics.setFlushProfilingEnabled( true );
+		}
+		return statistics;
 	}
 
 	private StatisticsImplementor initiateServiceInternal(
@@ -6,10 +6,15 @@
  */
 package org.hibernate.stat.spi;
 
+import java.util.List;
+
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.FlushStatistics;
 import org.hibernate.stat.Statistics;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * A service SPI for collecting statistics about various events that occur at runtime.
  *
@@ -46,6 +51,22 @@ public interface StatisticsImplementor extends Statistics, Service {
 	 */
 	void closeStatement();
 
+	/**
+	 * Callback indicating a prepared statement was reused from the
+	 * statement cache of a session.
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a prepared statement was not found in the
+	 * statement cache of a session.
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback about a transaction completing.
 	 *
@@ -274,4 +295,75 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating a batch fetch of entities.
+	 *
+	 * @param entityName The name of the entity
+	 * @param batchSize The batch size used by the batch fetch
+	 */
+	default void batchFetchEntity(String entityName, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating lazy fetch groups of an entity were loaded
+	 * along with the fetch group being accessed.
+	 *
+	 * @param entityName The name of the entity
+	 * @param fetchGroupCount The number of fetch groups loaded ahead
+	 */
+	default void prefetchLazyFetchGroups(String entityName, int fetchGroupCount) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a batch fetch of collections.
+	 *
+	 * @param role The collection role
+	 * @param batchSize The batch size used by the batch fetch
+	 */
+	default void batchFetchCollection(String role, int batchSize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the end of a profiled flush.
+	 *
+	 * @param entityName The name of the entity
+	 * @param statistics The cost of flushing the instances of the entity
+	 *
+	 * @see org.hibernate.stat.Statistics#isFlushProfilingEnabled()
+	 */
+	default void flushProfiled(String entityName, FlushStatistics statistics) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating the execution of a SQL query took longer than the
+	 * {@linkplain org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY slow query threshold}.
+	 *
+	 * @param sql The SQL query
+	 * @param parameterValues The values bound to the parameters of the query
+	 * @param time The time taken, in milliseconds
+	 * @param executionPlan The execution plan of the query, if it was obtained
+	 *
+	 * @see org.hibernate.stat.Statistics#getSlowQuerySamples()
+	 */
+	default void slowQueryExecuted(String sql, List<String> parameterValues, long time, @Nullable String executionPlan) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Whether the execution plan of a slow execution of the given SQL query should
+	 * be obtained. Implementations limit how often the plan of the same query is
+	 * obtained, so that slow queries do not add much load to the database.
+	 *
+	 * @param sql The SQL query
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_EXPLAIN
+	 */
+	default boolean isSlowQueryExplainDue(String sql) {
+		return false;
+	}
 }
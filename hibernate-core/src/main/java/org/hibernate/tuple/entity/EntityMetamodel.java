@@ -195,6 +195,7 @@ public class EntityMetamodel implements Serializable {
 					idAttributeNames,
 					nonAggregatedCidMapper,
 					collectionsInDefaultFetchGroupEnabled,
+					creationContext.getSessionFactoryOptions().isAdaptiveLazyFetchGroupsEnabled(),
 					creationContext.getMetadata()
 			);
 		}
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.BATCH_OVERLAP;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = BATCH_OVERLAP, value = "true" )
+} )
+@DomainModel( annotatedClasses = {
+		BatchOverlapTest.Customer.class,
+		BatchOverlapTest.Product.class,
+		BatchOverlapTest.PurchaseOrder.class
+} )
+@SessionFactory( useCollectingStatementInspector = true )
+public class BatchOverlapTest {
+
+	@Test
+	public void testIndependentBatchesStayOpen(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.persist( new Customer( i, "customer " + i ) );
+				session.persist( new Product( i, "product " + i ) );
+			}
+		} );
+
+		// one insert batch per table, although the inserts alternate between them
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "from Customer", Customer.class ).list() ).hasSize( 5 );
+			assertThat( session.createSelectionQuery( "from Product", Product.class ).list() ).hasSize( 5 );
+		} );
+	}
+
+	@Test
+	public void testDependentBatchesAreExecutedInOrder(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Customer customer = new Customer( i, "customer " + i );
+				session.persist( customer );
+				session.persist( new PurchaseOrder( i, customer ) );
+			}
+		} );
+
+		// orders reference customers, so each switch executes the open batch
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 6 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.createSelectionQuery( "from PurchaseOrder", PurchaseOrder.class ).list() ).hasSize( 3 );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete PurchaseOrder" ).executeUpdate();
+			session.createMutationQuery( "delete Customer" ).executeUpdate();
+			session.createMutationQuery( "delete Product" ).executeUpdate();
+		} );
+	}
+
+	@Entity( name = "Customer" )
+	public static class Customer {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Product" )
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "PurchaseOrder" )
+	public static class PurchaseOrder {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Customer customer;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERT_SIZE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
+
+@RequiresDialectFeature( feature = DialectFeatureChecks.SupportsValuesListForInsert.class )
+@ServiceRegistry( settings = {
+		@Setting( name = STATEMENT_BATCH_SIZE, value = "10" ),
+		@Setting( name = MULTI_ROW_INSERT_SIZE, value = "4" )
+} )
+@DomainModel( annotatedClasses = MultiRowInsertTest.Item.class )
+@SessionFactory( useCollectingStatementInspector = true )
+public class MultiRowInsertTest {
+
+	@Test
+	public void testInsertsAreFolded(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Item( i, "item " + i ) );
+			}
+		} );
+
+		// two statements with 4 rows each, the remaining 2 rows use the single-row statement
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 2 );
+		assertThat( sqlQueries.get( 0 ).split( "\\),\\(" ) ).hasSize( 4 );
+		assertThat( sqlQueries.get( 1 ) ).doesNotContain( "),(" );
+
+		scope.inTransaction( (session) -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class ).list();
+			assertThat( items ).hasSize( 10 );
+			for ( Item item : items ) {
+				assertThat( item.name ).isEqualTo( "item " + item.id );
+			}
+		} );
+	}
+
+	@Test
+	public void testCollectionRowInsertsAreFolded(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+
+		scope.inTransaction( (session) -> {
+			final Item item = new Item( 1, "item" );
+			item.tags = Set.of( "a", "b", "c", "d", "e", "f", "g", "h" );
+			session.persist( item );
+		} );
+
+		// one insert for the item, two statements with 4 rows each for the tags
+		final List<String> sqlQueries = statementInspector.getSqlQueries();
+		assertThat( sqlQueries ).hasSize( 2 );
+		assertThat( sqlQueries.get( 1 ).split( "\\),\\(" ) ).hasSize( 4 );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.find( Item.class, 1 ).tags ).containsExactlyInAnyOrder( "a", "b", "c", "d", "e", "f", "g", "h" );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createSelectionQuery( "from Item", Item.class ).list().forEach( session::remove );
+		} );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		private Set<String> tags;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
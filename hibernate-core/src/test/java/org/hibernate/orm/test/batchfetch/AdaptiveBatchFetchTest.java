@@ -0,0 +1,166 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batchfetch;
+
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = {
+		AdaptiveBatchFetchTest.Author.class,
+		AdaptiveBatchFetchTest.Book.class,
+		AdaptiveBatchFetchTest.Reviewer.class,
+		AdaptiveBatchFetchTest.Review.class
+} )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, value = "4" ),
+		@Setting( name = AvailableSettings.ADAPTIVE_BATCH_FETCH_MAX_SIZE, value = "64" )
+} )
+public class AdaptiveBatchFetchTest {
+	private static final int COUNT = 40;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( long i = 0; i < COUNT; i++ ) {
+				final Author author = new Author( i, "author " + i );
+				session.persist( author );
+				session.persist( new Book( i, author ) );
+				final Reviewer reviewer = new Reviewer( i, "reviewer " + i );
+				session.persist( reviewer );
+				session.persist( new Review( i, reviewer ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "delete from Review" ).executeUpdate();
+			session.createMutationQuery( "delete from Reviewer" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchSizeIsWidenedWhenAllKeysAreFetched(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final EntityStatistics authorStatistics = statistics.getEntityStatistics( Author.class.getName() );
+
+		scope.inTransaction( (session) -> {
+			final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).list();
+			Hibernate.initialize( books.get( 0 ).author );
+		} );
+		assertThat( authorStatistics.getBatchFetchSize() ).isEqualTo( 4 );
+
+		for ( int i = 0; i < 8; i++ ) {
+			scope.inTransaction( (session) -> {
+				for ( Book book : session.createSelectionQuery( "from Book", Book.class ).list() ) {
+					Hibernate.initialize( book.author );
+				}
+			} );
+		}
+		assertThat( authorStatistics.getBatchFetchSize() ).isGreaterThan( 4 );
+	}
+
+	@Test
+	public void testBatchSizeIsNarrowedWhenKeysAreLeft(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final EntityStatistics reviewerStatistics = statistics.getEntityStatistics( Reviewer.class.getName() );
+
+		for ( int i = 0; i < 40; i++ ) {
+			scope.inTransaction( (session) -> {
+				final List<Review> reviews = session.createSelectionQuery( "from Review", Review.class ).list();
+				Hibernate.initialize( reviews.get( 0 ).reviewer );
+			} );
+		}
+		assertThat( reviewerStatistics.getBatchFetchSize() ).isLessThan( 4 );
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Long id;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+
+	@Entity( name = "Reviewer" )
+	public static class Reviewer {
+		@Id
+		private Long id;
+		private String name;
+
+		public Reviewer() {
+		}
+
+		public Reviewer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Review" )
+	public static class Review {
+		@Id
+		private Long id;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Reviewer reviewer;
+
+		public Review() {
+		}
+
+		public Review(Long id, Reviewer reviewer) {
+			this.id = id;
+			this.reviewer = reviewer;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap.scanning;
+
+import java.io.File;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.boot.archive.internal.ByteArrayInputStreamAccess;
+import org.hibernate.boot.archive.scan.internal.CachingScanner;
+import org.hibernate.boot.archive.scan.internal.ClassDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.MappingFileDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.PackageDescriptorImpl;
+import org.hibernate.boot.archive.scan.internal.ScanResultImpl;
+import org.hibernate.boot.archive.scan.internal.StandardScanOptions;
+import org.hibernate.boot.archive.scan.internal.StandardScanParameters;
+import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
+import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
+import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
+import org.hibernate.boot.archive.scan.spi.ScanOptions;
+import org.hibernate.boot.archive.scan.spi.ScanParameters;
+import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.scan.spi.Scanner;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ServiceRegistry
+public class CachingScannerTest {
+	private static final String MAPPING_FILE = "org/hibernate/orm/test/bootstrap/binding/hbm/cacheable/SimpleEntity.hbm.xml";
+
+	@Test
+	public void testScanResultsAreCached(ServiceRegistryScope scope, @TempDir File tempDir) throws Exception {
+		final Path archive = Files.createDirectories( tempDir.toPath().resolve( "archive" ) );
+		Files.write( Files.createDirectories( archive.resolve( "org/example" ) ).resolve( "Entity.class" ), new byte[] { 1 } );
+		final Path cacheDirectory = tempDir.toPath().resolve( "cache" );
+
+		final CountingScanner delegate = new CountingScanner();
+		final ClassLoaderService classLoaderService = scope.getRegistry().getService( ClassLoaderService.class );
+		final ScanEnvironment environment = new Environment( archive.toUri().toURL() );
+		final ScanOptions options = new StandardScanOptions();
+
+		final ScanResult scanned = new CachingScanner( delegate, cacheDirectory, classLoaderService )
+				.scan( environment, options, StandardScanParameters.INSTANCE );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+		assertThat( cacheDirectory.toFile().list() ).hasSize( 1 );
+
+		// a later boot reads the cached results
+		final ScanResult cached = new CachingScanner( delegate, cacheDirectory, classLoaderService )
+				.scan( environment, options, StandardScanParameters.INSTANCE );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+		assertThat( cached.getLocatedClasses() ).hasSize( 1 );
+		final ClassDescriptor classDescriptor = cached.getLocatedClasses().iterator().next();
+		assertThat( classDescriptor.getName() ).isEqualTo( CachingScannerTest.class.getName() );
+		assertThat( classDescriptor.getCategorization() ).isEqualTo( ClassDescriptor.Categorization.MODEL );
+		assertThat( cached.getLocatedPackages() ).hasSize( 1 );
+		assertThat( cached.getLocatedPackages().iterator().next().getName() )
+				.isEqualTo( CachingScannerTest.class.getPackage().getName() );
+		assertThat( cached.getLocatedMappingFiles() ).hasSize( 1 );
+		final MappingFileDescriptor mappingFile = cached.getLocatedMappingFiles().iterator().next();
+		assertThat( mappingFile.getName() ).isEqualTo( MAPPING_FILE );
+		try ( InputStream stream = mappingFile.getStreamAccess().accessInputStream() ) {
+			assertThat( stream ).isNotNull();
+		}
+		assertThat( scanned.getLocatedClasses() ).isEqualTo( cached.getLocatedClasses() );
+
+		// adding a class to the archive leads to a new scan
+		Files.write( archive.resolve( "org/example/Other.class" ), new byte[] { 1 } );
+		new CachingScanner( delegate, cacheDirectory, classLoaderService )
+				.scan( environment, options, StandardScanParameters.INSTANCE );
+		assertThat( delegate.scans ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testClassChangedInPlaceIsScanned(ServiceRegistryScope scope, @TempDir File tempDir) throws Exception {
+		final Path archive = Files.createDirectories( tempDir.toPath().resolve( "archive" ) );
+		final Path classFile = Files.write(
+				Files.createDirectories( archive.resolve( "org/example" ) ).resolve( "Entity.class" ),
+				new byte[] { 1 }
+		);
+		final Path cacheDirectory = tempDir.toPath().resolve( "cache" );
+
+		final CountingScanner delegate = new CountingScanner();
+		final Scanner scanner = new CachingScanner(
+				delegate,
+				cacheDirectory,
+				scope.getRegistry().getService( ClassLoaderService.class )
+		);
+		final ScanEnvironment environment = new Environment( archive.toUri().toURL() );
+
+		scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+		scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+
+		// recompiling the class rewrites the file without changing any directory
+		final FileTime directoryTime = Files.getLastModifiedTime( classFile.getParent() );
+		Files.write( classFile, new byte[] { 2 } );
+		Files.setLastModifiedTime( classFile, FileTime.fromMillis( Files.getLastModifiedTime( classFile ).toMillis() + 1000 ) );
+		assertThat( Files.getLastModifiedTime( classFile.getParent() ) ).isEqualTo( directoryTime );
+		scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+		assertThat( delegate.scans ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testChangedArchiveFileIsScanned(ServiceRegistryScope scope, @TempDir File tempDir) throws Exception {
+		final Path archive = Files.write( tempDir.toPath().resolve( "archive.jar" ), new byte[] { 1 } );
+		final Path cacheDirectory = tempDir.toPath().resolve( "cache" );
+
+		final CountingScanner delegate = new CountingScanner();
+		final Scanner scanner = new CachingScanner(
+				delegate,
+				cacheDirectory,
+				scope.getRegistry().getService( ClassLoaderService.class )
+		);
+		final ScanEnvironment environment = new Environment( archive.toUri().toURL() );
+
+		scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+		scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+		assertThat( delegate.scans ).isEqualTo( 1 );
+
+		Files.write( archive, new byte[] { 1, 2 } );
+		scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+		assertThat( delegate.scans ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testArchivesWhichAreNotFilesAreNotCached(ServiceRegistryScope scope, @TempDir File tempDir) throws Exception {
+		final Path cacheDirectory = tempDir.toPath().resolve( "cache" );
+		final CountingScanner delegate = new CountingScanner();
+		final ScanEnvironment environment = new Environment( new URL( "http://localhost/archive.jar" ) );
+		final Scanner scanner = new CachingScanner(
+				delegate,
+				cacheDirectory,
+				scope.getRegistry().getService( ClassLoaderService.class )
+		);
+
+		scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+		scanner.scan( environment, new StandardScanOptions(), StandardScanParameters.INSTANCE );
+		assertThat( delegate.scans ).isEqualTo( 2 );
+		assertThat( cacheDirectory.toFile() ).doesNotExist();
+	}
+
+	private static class CountingScanner implements Scanner {
+		private int scans;
+
+		@Override
+		public ScanResult scan(ScanEnvironment environment, ScanOptions options, ScanParameters params) {
+			scans++;
+			final ByteArrayInputStreamAccess streamAccess = new ByteArrayInputStreamAccess( "dummy", new byte[0] );
+			return new ScanResultImpl(
+					Set.of( new PackageDescriptorImpl( CachingScannerTest.class.getPackage().getName(), streamAccess ) ),
+					Set.of( new ClassDescriptorImpl(
+							CachingScannerTest.class.getName(),
+							ClassDescriptor.Categorization.MODEL,
+							streamAccess
+					) ),
+					Set.of( new MappingFileDescriptorImpl( MAPPING_FILE, streamAccess ) )
+			);
+		}
+	}
+
+	private static class Environment implements ScanEnvironment {
+		private final URL rootUrl;
+
+		private Environment(URL rootUrl) {
+			this.rootUrl = rootUrl;
+		}
+
+		@Override
+		public URL getRootUrl() {
+			return rootUrl;
+		}
+
+		@Override
+		public List<URL> getNonRootUrls() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedClassNames() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getExplicitlyListedMappingFiles() {
+			return Collections.emptyList();
+		}
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bulkid;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.MutationQuery;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.mutation.internal.AdaptiveMutationStrategy;
+import org.hibernate.query.sqm.mutation.internal.inline.InlineMutationStrategy;
+import org.hibernate.query.sqm.mutation.spi.SqmMultiTableMutationStrategy;
+import org.hibernate.query.sqm.tree.SqmDeleteOrUpdateStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = { AdaptiveMutationStrategyTest.Vehicle.class, AdaptiveMutationStrategyTest.Car.class } )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.QUERY_MULTI_TABLE_MUTATION_STRATEGY_ADAPTIVE, value = "true" ) )
+@SessionFactory
+public class AdaptiveMutationStrategyTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Car( i, i % 2 == 0 ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Vehicle" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStrategyIsChosenPerStatement(SessionFactoryScope scope) {
+		final SqmMultiTableMutationStrategy strategy = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Car.class )
+				.getSqmMultiTableMutationStrategy();
+		assertThat( strategy ).isInstanceOf( AdaptiveMutationStrategy.class );
+		final AdaptiveMutationStrategy adaptiveStrategy = (AdaptiveMutationStrategy) strategy;
+
+		scope.inTransaction( (session) -> {
+			final String byId = "update Car c set c.electric = true where c.id = :id";
+			assertThat( resolveStrategy( adaptiveStrategy, session.createMutationQuery( byId ) ) )
+					.isInstanceOf( InlineMutationStrategy.class );
+
+			final String byIds = "update Car c set c.electric = true where c.id in (1, 2, 3) and c.electric = false";
+			assertThat( resolveStrategy( adaptiveStrategy, session.createMutationQuery( byIds ) ) )
+					.isInstanceOf( InlineMutationStrategy.class );
+
+			final String byState = "update Car c set c.seats = 4 where c.electric = false";
+			assertThat( resolveStrategy( adaptiveStrategy, session.createMutationQuery( byState ) ) )
+					.isNotInstanceOf( InlineMutationStrategy.class );
+			assertThat( session.createMutationQuery( byState ).executeUpdate() ).isEqualTo( 5 );
+			// the plan affected few rows
+			assertThat( resolveStrategy( adaptiveStrategy, session.createMutationQuery( byState ) ) )
+					.isInstanceOf( InlineMutationStrategy.class );
+
+			final String byIdList = "update Car c set c.electric = true where c.id in :ids";
+			assertThat( resolveStrategy(
+					adaptiveStrategy,
+					session.createMutationQuery( byIdList ).setParameterList( "ids", ids( 3 ) )
+			) ).isInstanceOf( InlineMutationStrategy.class );
+			assertThat( resolveStrategy(
+					adaptiveStrategy,
+					session.createMutationQuery( byIdList ).setParameterList( "ids", ids( 50_000 ) )
+			) ).isNotInstanceOf( InlineMutationStrategy.class );
+
+			final String all = "update Car c set c.seats = 2";
+			assertThat( resolveStrategy( adaptiveStrategy, session.createMutationQuery( all ) ) )
+					.isNotInstanceOf( InlineMutationStrategy.class );
+		} );
+	}
+
+	@Test
+	public void testBoundFromParametersTakesPrecedenceOverObservedRowCounts(SessionFactoryScope scope) {
+		final AdaptiveMutationStrategy adaptiveStrategy = (AdaptiveMutationStrategy) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Car.class )
+				.getSqmMultiTableMutationStrategy();
+
+		scope.inTransaction( (session) -> {
+			// the strategy of the dialect, used when nothing bounds the affected rows
+			final SqmMultiTableMutationStrategy tableStrategy =
+					resolveStrategy( adaptiveStrategy, session.createMutationQuery( "update Car c set c.seats = 3" ) );
+			assertThat( tableStrategy ).isNotInstanceOf( InlineMutationStrategy.class );
+
+			final String byIdList = "update Car c set c.seats = 5 where c.id in :ids";
+			assertThat( session.createMutationQuery( byIdList ).setParameterList( "ids", ids( 3 ) ).executeUpdate() )
+					.isEqualTo( 3 );
+			assertThat( resolveStrategy(
+					adaptiveStrategy,
+					session.createMutationQuery( byIdList ).setParameterList( "ids", ids( 50_000 ) )
+			) ).isSameAs( tableStrategy );
+
+			final String byIdRange = "update Car c set c.seats = 5 where c.id between :first and :last";
+			assertThat( session.createMutationQuery( byIdRange )
+								.setParameter( "first", 0 )
+								.setParameter( "last", 2 )
+								.executeUpdate() ).isEqualTo( 3 );
+			assertThat( resolveStrategy(
+					adaptiveStrategy,
+					session.createMutationQuery( byIdRange )
+							.setParameter( "first", 0 )
+							.setParameter( "last", 49_999 )
+			) ).isSameAs( tableStrategy );
+		} );
+	}
+
+	@Test
+	public void testMutationsAffectTheMatchingRows(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			assertThat( session.createMutationQuery( "update Car c set c.seats = 7 where c.id = :id" )
+								.setParameter( "id", 3 )
+								.executeUpdate() ).isEqualTo( 1 );
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.createMutationQuery( "update Car c set c.seats = c.seats + 1 where c.electric = true" )
+									.executeUpdate() ).isEqualTo( 5 );
+			}
+			assertThat( session.createMutationQuery( "delete from Car c where c.electric = true" ).executeUpdate() )
+					.isEqualTo( 5 );
+		} );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.find( Car.class, 3 ).seats ).isEqualTo( 7 );
+			assertThat( session.createSelectionQuery( "select count(*) from Vehicle", Long.class ).getSingleResult() )
+					.isEqualTo( 5L );
+		} );
+	}
+
+	private static SqmMultiTableMutationStrategy resolveStrategy(
+			AdaptiveMutationStrategy adaptiveStrategy,
+			MutationQuery mutationQuery) {
+		final QuerySqmImpl<?> query = (QuerySqmImpl<?>) mutationQuery;
+		return adaptiveStrategy.resolveStrategy(
+				(SqmDeleteOrUpdateStatement<?>) query.getSqmStatement(),
+				query.getDomainParameterXref(),
+				query
+		);
+	}
+
+	private static List<Integer> ids(int count) {
+		final List<Integer> ids = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			ids.add( i );
+		}
+		return ids;
+	}
+
+	@Entity( name = "Vehicle" )
+	@Inheritance( strategy = InheritanceType.JOINED )
+	public static class Vehicle {
+		@Id
+		Integer id;
+		boolean electric;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, boolean electric) {
+			this.id = id;
+			this.electric = electric;
+		}
+	}
+
+	@Entity( name = "Car" )
+	public static class Car extends Vehicle {
+		int seats = 4;
+
+		public Car() {
+		}
+
+		public Car(Integer id, boolean electric) {
+			super( id, electric );
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = EntityStateOptimizerTest.Thing.class )
+@SessionFactory( generateStatistics = true )
+public class EntityStateOptimizerTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Thing( 1, 5, 10L, true, "thing", 0.5, "T1", new byte[] { 1, 2 } ) ) );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Thing" ).executeUpdate() );
+	}
+
+	@Test
+	public void testFindDirty(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Thing.class );
+		scope.inTransaction( (session) -> {
+			final Thing thing = session.find( Thing.class, 1 );
+			final Object[] loadedState = session.getPersistenceContextInternal().getEntry( thing ).getLoadedState();
+			final Object[] state = persister.getValues( thing );
+			assertThat( persister.findDirty( state, loadedState, thing, session ) ).isNull();
+
+			thing.quantity = 6;
+			thing.label = "other";
+			thing.ratio = null;
+			thing.code = "T2";
+			thing.bytes[0] = 3;
+			final int[] dirty = persister.findDirty( persister.getValues( thing ), loadedState, thing, session );
+			assertThat( dirty ).containsExactly(
+					persister.getPropertyIndex( "bytes" ),
+					persister.getPropertyIndex( "label" ),
+					persister.getPropertyIndex( "quantity" ),
+					persister.getPropertyIndex( "ratio" )
+			);
+
+			final Object[] unfetchedState = state.clone();
+			unfetchedState[persister.getPropertyIndex( "label" )] = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			assertThat( persister.findDirty( unfetchedState, state, thing, session ) ).isNull();
+			assertThat( persister.findDirty( state, unfetchedState, thing, session ) )
+					.containsExactly( persister.getPropertyIndex( "label" ) );
+		} );
+	}
+
+	@Test
+	public void testOnlyChangesAreFlushed(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			final Thing thing = session.find( Thing.class, 1 );
+			thing.quantity = 5;
+			thing.active = Boolean.TRUE;
+			thing.code = "T2";
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 0 );
+
+		scope.inTransaction( (session) -> {
+			final Thing thing = session.find( Thing.class, 1 );
+			thing.amount = 11L;
+			thing.bytes[1] = 4;
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( (session) -> {
+			final Thing thing = session.find( Thing.class, 1 );
+			assertThat( thing.amount ).isEqualTo( 11L );
+			assertThat( thing.bytes ).containsExactly( (byte) 1, (byte) 4 );
+			assertThat( thing.code ).isEqualTo( "T1" );
+
+			// the snapshot taken after the update is a copy, too
+			thing.bytes[0] = 7;
+			session.flush();
+			thing.bytes[0] = 8;
+		} );
+		assertThat( statistics.getEntityUpdateCount() ).isEqualTo( 3 );
+	}
+
+	@Entity( name = "Thing" )
+	public static class Thing {
+		@Id
+		Integer id;
+		int quantity;
+		long amount;
+		Boolean active;
+		String label;
+		Double ratio;
+		@Column( updatable = false )
+		String code;
+		byte[] bytes;
+
+		public Thing() {
+		}
+
+		public Thing(Integer id, int quantity, long amount, Boolean active, String label, Double ratio, String code, byte[] bytes) {
+			this.id = id;
+			this.quantity = quantity;
+			this.amount = amount;
+			this.active = active;
+			this.label = label;
+			this.ratio = ratio;
+			this.code = code;
+			this.bytes = bytes;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
+import org.hibernate.bytecode.internal.bytebuddy.ClassPregenerator;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = PregeneratedClassesTest.Book.class )
+@SessionFactory
+public class PregeneratedClassesTest {
+	private static final String PROXY_NAME = Book.class.getName() + "$HibernateProxy";
+	private static final String INSTANTIATOR_NAME = Book.class.getName() + "$HibernateInstantiator";
+
+	@BeforeAll
+	public static void pregenerate() throws Exception {
+		final byte[] bytecode;
+		try ( InputStream stream = Book.class.getClassLoader()
+				.getResourceAsStream( Book.class.getName().replace( '.', '/' ) + ".class" ) ) {
+			bytecode = stream.readAllBytes();
+		}
+		final Map<String, byte[]> generatedClasses = new ClassPregenerator( Book.class.getClassLoader() )
+				.pregenerate( Book.class.getName(), bytecode );
+		assertThat( generatedClasses ).containsKeys( PROXY_NAME, INSTANTIATOR_NAME );
+
+		// simulate the generated classes being packaged next to the entity class
+		final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn( Book.class, MethodHandles.lookup() );
+		for ( Map.Entry<String, byte[]> generatedClass : generatedClasses.entrySet() ) {
+			if ( !isDefined( generatedClass.getKey() ) ) {
+				lookup.defineClass( generatedClass.getValue() );
+			}
+		}
+	}
+
+	private static boolean isDefined(String className) {
+		try {
+			Class.forName( className, false, Book.class.getClassLoader() );
+			return true;
+		}
+		catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testPregeneratedProxyIsUsed(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.persist( new Book( 1, "Hibernate in Action" ) ) );
+
+		scope.inTransaction( (session) -> {
+			final Book book = session.getReference( Book.class, 1 );
+			assertThat( book.getClass().getName() ).isEqualTo( PROXY_NAME );
+			assertThat( Hibernate.isInitialized( book ) ).isFalse();
+			assertThat( book.getTitle() ).isEqualTo( "Hibernate in Action" );
+			assertThat( Hibernate.isInitialized( book ) ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testPregeneratedInstantiatorIsUsed() {
+		final ReflectionOptimizer optimizer = new BytecodeProviderImpl().getReflectionOptimizer( Book.class, Map.of() );
+		assertThat( optimizer ).isNotNull();
+		assertThat( optimizer.getInstantiationOptimizer().getClass().getName() ).isEqualTo( INSTANTIATOR_NAME );
+		assertThat( optimizer.getInstantiationOptimizer().newInstance() ).isInstanceOf( Book.class );
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.lazy.group;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.LazyGroup;
+import org.hibernate.bytecode.enhance.spi.interceptor.LazyFetchGroupCoAccessTracker;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.EntityStatistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(BytecodeEnhancerRunner.class)
+public class AdaptiveLazyGroupTest extends BaseCoreFunctionalTestCase {
+	private static final int DOCUMENT_COUNT = LazyFetchGroupCoAccessTracker.MIN_ACCESS_COUNT + 2;
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Document.class };
+	}
+
+	@Override
+	protected void configure(Configuration configuration) {
+		configuration.setProperty( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+		configuration.setProperty( AvailableSettings.ADAPTIVE_LAZY_FETCH_GROUPS, "true" );
+	}
+
+	@Before
+	public void setUp() {
+		inTransaction( session -> {
+			for ( long id = 1; id <= DOCUMENT_COUNT; id++ ) {
+				session.persist( new Document( id, "summary " + id, "body " + id, "notes " + id ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testCoAccessedGroupsAreLoadedTogether() {
+		final EntityStatistics statistics = sessionFactory().getStatistics()
+				.getEntityStatistics( Document.class.getName() );
+
+		// learn that the body is read along with the summary
+		for ( long id = 1; id <= LazyFetchGroupCoAccessTracker.MIN_ACCESS_COUNT; id++ ) {
+			final long documentId = id;
+			inTransaction( session -> {
+				final Document document = session.get( Document.class, documentId );
+				assertThat( document.getSummary(), is( "summary " + documentId ) );
+				assertFalse( Hibernate.isPropertyInitialized( document, "body" ) );
+				assertThat( document.getBody(), is( "body " + documentId ) );
+			} );
+		}
+		assertThat( statistics.getLazyFetchGroupPrefetchCount(), is( 0L ) );
+		assertThat(
+				statistics.getCoAccessedLazyFetchGroups(),
+				is( Map.of( "summary", Set.of( "body" ), "body", Set.of( "summary" ) ) )
+		);
+
+		inTransaction( session -> {
+			final Document document = session.get( Document.class, (long) DOCUMENT_COUNT );
+			assertThat( document.getSummary(), is( "summary " + DOCUMENT_COUNT ) );
+			assertTrue( Hibernate.isPropertyInitialized( document, "body" ) );
+			assertFalse( Hibernate.isPropertyInitialized( document, "notes" ) );
+			assertThat( document.getBody(), is( "body " + DOCUMENT_COUNT ) );
+			assertThat( document.getNotes(), is( "notes " + DOCUMENT_COUNT ) );
+		} );
+		assertThat( statistics.getLazyFetchGroupPrefetchCount(), is( 1L ) );
+	}
+
+	@Entity(name = "Document")
+	public static class Document {
+		@Id
+		private Long id;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("summary")
+		private String summary;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("body")
+		private String body;
+
+		@Basic(fetch = FetchType.LAZY)
+		@LazyGroup("notes")
+		private String notes;
+
+		public Document() {
+		}
+
+		public Document(Long id, String summary, String body, String notes) {
+			this.id = id;
+			this.summary = summary;
+			this.body = body;
+			this.notes = notes;
+		}
+
+		public String getSummary() {
+			return summary;
+		}
+
+		public String getBody() {
+			return body;
+		}
+
+		public String getNotes() {
+			return notes;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.cache;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SessionFactory
+@DomainModel( annotatedClasses = {
+		CompactEntityCacheTest.Account.class,
+		CompactEntityCacheTest.SavingsAccount.class,
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" ),
+		@Setting( name = AvailableSettings.USE_COMPACT_CACHE_ENTRIES, value = "true" ),
+} )
+public class CompactEntityCacheTest {
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Account account = new Account( 1L, "checking" );
+			account.balance = -12.5d;
+			account.overdraft = true;
+			account.category = 'c';
+			session.persist( account );
+			final SavingsAccount savingsAccount = new SavingsAccount( 2L, "savings" );
+			savingsAccount.balance = 1000d;
+			savingsAccount.rate = 0.25f;
+			savingsAccount.term = (short) 12;
+			session.persist( savingsAccount );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Account" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStructure(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( SavingsAccount.class );
+		assertThat( persister.getCacheEntryStructure() ).isInstanceOf( CompactCacheEntry.class );
+
+		scope.inTransaction( session -> {
+			final SavingsAccount savingsAccount = session.get( SavingsAccount.class, 2L );
+			final CacheEntry entry = persister.buildCacheEntry(
+					savingsAccount,
+					persister.getValues( savingsAccount ),
+					null,
+					session
+			);
+			final Object structured = persister.getCacheEntryStructure().structure( entry );
+			assertThat( structured ).isNotSameAs( entry );
+
+			// a cache hit assembles the packed entry directly
+			final CacheEntry destructured = (CacheEntry) persister.getCacheEntryStructure()
+					.destructure( structured, scope.getSessionFactory() );
+			assertThat( destructured ).isSameAs( structured );
+			assertThat( destructured.getSubclass() ).isEqualTo( entry.getSubclass() );
+			assertThat( destructured.getDisassembledState() ).containsExactly( entry.getDisassembledState() );
+		} );
+	}
+
+	@Test
+	public void testCacheHits(SessionFactoryScope scope) {
+		scope.getSessionFactory().getCache().evictAllRegions();
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		final EntityStatistics entityStatistics = statistics.getEntityStatistics( Account.class.getName() );
+
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final Account account = session.get( Account.class, 1L );
+				assertThat( account.name ).isEqualTo( "checking" );
+				assertThat( account.balance ).isEqualTo( -12.5d );
+				assertThat( account.overdraft ).isTrue();
+				assertThat( account.category ).isEqualTo( 'c' );
+
+				final SavingsAccount savingsAccount = session.get( SavingsAccount.class, 2L );
+				assertThat( savingsAccount.name ).isEqualTo( "savings" );
+				assertThat( savingsAccount.balance ).isEqualTo( 1000d );
+				assertThat( savingsAccount.overdraft ).isNull();
+				assertThat( savingsAccount.category ).isNull();
+				assertThat( savingsAccount.rate ).isEqualTo( 0.25f );
+				assertThat( savingsAccount.term ).isEqualTo( (short) 12 );
+			} );
+		}
+
+		assertThat( entityStatistics.getCacheMissCount() ).isEqualTo( 2 );
+		assertThat( entityStatistics.getCachePutCount() ).isEqualTo( 2 );
+		assertThat( entityStatistics.getCacheHitCount() ).isEqualTo( 2 );
+	}
+
+	@Entity( name = "Account" )
+	@Inheritance( strategy = InheritanceType.SINGLE_TABLE )
+	@Cache( usage = CacheConcurrencyStrategy.READ_WRITE )
+	public static class Account {
+		@Id
+		private Long id;
+		private String name;
+		private double balance;
+		private Boolean overdraft;
+		private Character category;
+
+		public Account() {
+		}
+
+		public Account(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "SavingsAccount" )
+	public static class SavingsAccount extends Account {
+		private float rate;
+		private Short term;
+
+		public SavingsAccount() {
+		}
+
+		public SavingsAccount(Long id, String name) {
+			super( id, name );
+		}
+	}
+}
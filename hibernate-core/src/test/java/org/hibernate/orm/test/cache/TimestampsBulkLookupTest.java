@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SessionFactory( generateStatistics = true )
+@DomainModel( annotatedClasses = {
+		TimestampsBulkLookupTest.Author.class,
+		TimestampsBulkLookupTest.Book.class
+} )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting(
+				name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.cache.TimestampsBulkLookupTest$CountingRegionFactory"
+		)
+} )
+public class TimestampsBulkLookupTest {
+	private static final String QUERY = "select b from Book b join b.author a where a.name = :name";
+
+	private static final AtomicInteger singleLookups = new AtomicInteger();
+	private static final AtomicInteger bulkLookups = new AtomicInteger();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Author author = new Author( 1L, "Tolkien" );
+			session.persist( author );
+			session.persist( new Book( 1L, "The Hobbit", author ) );
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testQuerySpacesAreCheckedInOneRead(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		runQuery( scope );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+
+		singleLookups.set( 0 );
+		bulkLookups.set( 0 );
+		runQuery( scope );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		// both query spaces are read at once
+		assertThat( bulkLookups.get() ).isEqualTo( 1 );
+		assertThat( singleLookups.get() ).isEqualTo( 2 );
+
+		// the local update is known to make the cached result stale without reading the region
+		scope.inTransaction( (session) -> session.find( Author.class, 1L ).name = "J.R.R. Tolkien" );
+		scope.inTransaction( (session) -> session.find( Author.class, 1L ).name = "Tolkien" );
+		bulkLookups.set( 0 );
+		runQuery( scope );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+		assertThat( bulkLookups.get() ).isEqualTo( 0 );
+	}
+
+	private static void runQuery(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( QUERY, Book.class )
+						.setParameter( "name", "Tolkien" )
+						.setCacheable( true )
+						.list()
+		).hasSize( 1 ) );
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		@Override
+		protected StorageAccess createTimestampsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl() {
+				@Override
+				public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+					singleLookups.incrementAndGet();
+					return super.getFromCache( key, session );
+				}
+
+				@Override
+				public Object[] getAllFromCache(Object[] keys, SharedSessionContractImplementor session) {
+					bulkLookups.incrementAndGet();
+					return super.getAllFromCache( keys, session );
+				}
+			};
+		}
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.connection;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+import org.hibernate.internal.util.PropertiesHelper;
+import org.hibernate.stat.ConnectionPoolStatistics;
+
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DriverManagerConnectionPoolTest {
+	private DriverManagerConnectionProviderImpl provider;
+
+	private void configure(long acquisitionTimeout) {
+		configure( acquisitionTimeout, 30, new DriverManagerConnectionProviderImpl() );
+	}
+
+	private void configure(long acquisitionTimeout, long validationInterval, DriverManagerConnectionProviderImpl provider) {
+		final Properties properties = Environment.getProperties();
+		properties.put( AvailableSettings.POOL_SIZE, "1" );
+		properties.put( DriverManagerConnectionProviderImpl.MIN_SIZE, "1" );
+		properties.put( DriverManagerConnectionProviderImpl.ACQUISITION_TIMEOUT, Long.toString( acquisitionTimeout ) );
+		properties.put( DriverManagerConnectionProviderImpl.VALIDATION_INTERVAL, Long.toString( validationInterval ) );
+		this.provider = provider;
+		provider.configure( PropertiesHelper.map( properties ) );
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if ( provider != null ) {
+			provider.stop();
+		}
+	}
+
+	@Test
+	public void testWaitingThreadObtainsReturnedConnection() throws Exception {
+		configure( 10_000 );
+		final ConnectionPoolStatistics statistics = provider.getConnectionPoolStatistics();
+
+		final Connection connection = provider.getConnection();
+		assertThat( statistics.getIdleConnectionCount() ).isEqualTo( 0 );
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final Future<Connection> waiting = executor.submit( provider::getConnection );
+			while ( statistics.getPendingAcquisitionCount() == 0 ) {
+				Thread.sleep( 10 );
+			}
+			Thread.sleep( 50 );
+
+			provider.closeConnection( connection );
+			final Connection handedOff = waiting.get( 10, TimeUnit.SECONDS );
+			assertThat( handedOff ).isSameAs( connection );
+			provider.closeConnection( handedOff );
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertThat( statistics.getConnectionCount() ).isEqualTo( 1 );
+		assertThat( statistics.getIdleConnectionCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPendingAcquisitionCount() ).isEqualTo( 0 );
+		assertThat( statistics.getAcquisitionCount() ).isEqualTo( 2 );
+		assertThat( statistics.getAcquisitionTimeoutCount() ).isEqualTo( 0 );
+		assertThat( Arrays.stream( statistics.getAcquisitionTimeHistogram() ).sum() ).isEqualTo( 2 );
+		assertThat( statistics.getMaxAcquisitionTime() ).isGreaterThanOrEqualTo( TimeUnit.MILLISECONDS.toMicros( 50 ) );
+	}
+
+	@Test
+	public void testAcquisitionTimesOut() throws Exception {
+		configure( 100 );
+		final ConnectionPoolStatistics statistics = provider.getConnectionPoolStatistics();
+
+		final Connection connection = provider.getConnection();
+		try {
+			assertThatThrownBy( provider::getConnection )
+					.isInstanceOf( HibernateException.class )
+					.hasMessageContaining( "has reached its maximum size" );
+		}
+		finally {
+			provider.closeConnection( connection );
+		}
+
+		assertThat( statistics.getAcquisitionCount() ).isEqualTo( 1 );
+		assertThat( statistics.getAcquisitionTimeoutCount() ).isEqualTo( 1 );
+
+		// the returned connection is reused
+		final Connection reused = provider.getConnection();
+		assertThat( reused ).isSameAs( connection );
+		provider.closeConnection( reused );
+	}
+
+	@Test
+	@RequiresDialect( H2Dialect.class )
+	public void testIdleConnectionClosedByTheDatabaseIsReplaced() throws Exception {
+		final List<Connection> keptAlive = new CopyOnWriteArrayList<>();
+		final Thread testThread = Thread.currentThread();
+		configure( 0, 1, new DriverManagerConnectionProviderImpl() {
+			@Override
+			public boolean isValid(Connection connection) throws SQLException {
+				if ( Thread.currentThread() != testThread ) {
+					keptAlive.add( connection );
+				}
+				return super.isValid( connection );
+			}
+		} );
+
+		final Connection connection = provider.getConnection();
+		final int sessionId;
+		try ( Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery( "select session_id()" ) ) {
+			resultSet.next();
+			sessionId = resultSet.getInt( 1 );
+		}
+		provider.closeConnection( connection );
+
+		// the database closes the idle connection, without the driver noticing
+		final Properties properties = Environment.getProperties();
+		try ( Connection admin = DriverManager.getConnection(
+					properties.getProperty( AvailableSettings.URL ),
+					properties.getProperty( AvailableSettings.USER ),
+					properties.getProperty( AvailableSettings.PASS ) );
+				Statement statement = admin.createStatement() ) {
+			statement.execute( "call abort_session(" + sessionId + ")" );
+		}
+
+		// the validation replaces it, and keeps the new connection alive
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( keptAlive.stream().allMatch( (kept) -> kept == connection ) && System.nanoTime() < deadline ) {
+			Thread.sleep( 50 );
+		}
+		assertThat( keptAlive ).anyMatch( (kept) -> kept != connection );
+
+		final Connection replacement = provider.getConnection();
+		try {
+			assertThat( replacement ).isNotSameAs( connection );
+			assertThat( replacement.isValid( 1 ) ).isTrue();
+		}
+		finally {
+			provider.closeConnection( replacement );
+		}
+	}
+}
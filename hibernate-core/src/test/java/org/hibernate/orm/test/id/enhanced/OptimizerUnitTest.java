@@ -6,6 +6,17 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -17,6 +28,7 @@ import org.hibernate.testing.orm.junit.BaseUnitTest;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@inheritDoc}
@@ -304,6 +316,59 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPooledStripedOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = buildPooledStripedOptimizer( -1, 10 );
+
+		// the values are not handed out in ascending order, but without gaps
+		final Set<Long> values = new HashSet<>();
+		for ( int i = 1; i <= 21; i++ ) {
+			values.add( (Long) optimizer.generate( sequence ) );
+		}
+		assertEquals( 21, values.size() );
+		assertEquals( 1L, Collections.min( values ) );
+		assertEquals( 21L, Collections.max( values ) );
+		// the ranges 1, 2-11 and 12-21, plus the prefetched range 22-31
+		assertEquals( 4, sequence.getTimesCalled() );
+		assertEquals( 31, sequence.getCurrentValue() );
+
+		// the prefetched range is used without calling the sequence again
+		final Long next = (Long) optimizer.generate( sequence );
+		assertTrue( next >= 22 && next <= 31 );
+		assertEquals( 4, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testConcurrentPooledStripedOptimizerUsage() throws Exception {
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = buildPooledStripedOptimizer( -1, 50 );
+
+		final int threads = 8;
+		final int valuesPerThread = 10_000;
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						values.add( (Long) optimizer.generate( sequence ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		assertEquals( threads * valuesPerThread, values.size() );
+		assertTrue( Collections.max( values ) <= sequence.getCurrentValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +389,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPooledStripedOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_STRIPED, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
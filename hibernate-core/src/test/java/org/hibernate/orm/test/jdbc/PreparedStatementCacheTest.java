@@ -0,0 +1,111 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = PreparedStatementCacheTest.Item.class )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "8" ) )
+@SessionFactory( generateStatistics = true )
+public class PreparedStatementCacheTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Item( 1, "first" ) );
+			session.persist( new Item( 2, "second" ) );
+		} );
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testLoadsReuseStatement(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.find( Item.class, 1 ).name ).isEqualTo( "first" );
+			session.clear();
+			assertThat( session.find( Item.class, 2 ).name ).isEqualTo( "second" );
+			session.clear();
+			assertThat( session.find( Item.class, 3 ) ).isNull();
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+
+		// the cached statements were closed along with the connection
+		scope.inTransaction( (session) -> assertThat( session.find( Item.class, 1 ) ).isNotNull() );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testReusedStatementIsCleanedUp(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			final String hql = "select i.name from Item i where i.id >= :id order by i.id";
+			assertThat( session.createSelectionQuery( hql, String.class )
+								.setParameter( "id", 1 )
+								.setFetchSize( 1 )
+								.setTimeout( 10 )
+								.list() ).containsExactly( "first", "second" );
+			assertThat( session.createSelectionQuery( hql, String.class )
+								.setParameter( "id", 2 )
+								.list() ).containsExactly( "second" );
+		} );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 1 );
+
+		scope.inTransaction( (session) -> {
+			session.persist( new Item( 3, "third" ) );
+			session.flush();
+			session.persist( new Item( 4, "fourth" ) );
+			session.flush();
+		} );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 2 );
+
+		scope.inTransaction( (session) -> assertThat(
+				session.createSelectionQuery( "select i.name from Item i order by i.id", String.class ).list()
+		).containsExactly( "first", "second", "third", "fourth" ) );
+	}
+
+	@Entity( name = "Item" )
+	public static class Item {
+		@Id
+		Integer id;
+		String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
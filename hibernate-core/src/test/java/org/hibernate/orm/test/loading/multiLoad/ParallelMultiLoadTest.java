@@ -0,0 +1,173 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.loading.multiLoad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = {
+		ParallelMultiLoadTest.Category.class,
+		ParallelMultiLoadTest.Product.class
+} )
+@SessionFactory( generateStatistics = true )
+public class ParallelMultiLoadTest {
+	private static final int COUNT = 300;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Category category = new Category( 1, "books" );
+			session.persist( category );
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Product( i, "product " + i, category ) );
+			}
+			for ( int i = 2; i <= COUNT; i++ ) {
+				session.persist( new Category( i, "category " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Product" ).executeUpdate();
+			session.createMutationQuery( "delete from Category" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testImmutableEntitiesAreLoadedInParallel(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			final Product managed = session.find( Product.class, 7 );
+
+			final List<Integer> ids = new ArrayList<>();
+			for ( int i = COUNT + 10; i > 0; i-- ) {
+				ids.add( i );
+			}
+			final List<Product> products = session.byMultipleIds( Product.class )
+					.withParallelism( 4 )
+					.multiLoad( ids );
+
+			assertThat( statistics.getSessionOpenCount() ).isEqualTo( 5 );
+			assertThat( products ).hasSize( COUNT + 10 );
+			assertThat( products.subList( 0, 10 ) ).containsOnlyNulls();
+			for ( int i = 10; i < products.size(); i++ ) {
+				final Product product = products.get( i );
+				assertThat( product.id ).isEqualTo( ids.get( i ) );
+				assertThat( session.contains( product ) ).isTrue();
+			}
+			assertThat( products.get( products.size() - 7 ) ).isSameAs( managed );
+
+			final Product product = products.get( 10 );
+			assertThat( Hibernate.isInitialized( product.category ) ).isFalse();
+			assertThat( ( (Category) Hibernate.unproxy( product.category ) ).name ).isEqualTo( "books" );
+		} );
+	}
+
+	@Test
+	public void testMutableEntitiesAreLoadedBySession(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			final List<Category> categories = session.byMultipleIds( Category.class )
+					.withParallelism( 4 )
+					.multiLoad( categoryIds() );
+
+			assertThat( categories ).hasSize( COUNT );
+			assertThat( statistics.getSessionOpenCount() ).isEqualTo( 1 );
+			assertThat( session.isReadOnly( categories.get( 0 ) ) ).isFalse();
+		} );
+	}
+
+	@Test
+	public void testReadOnlyEntitiesAreLoadedInParallel(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			session.getLoadQueryInfluencers().setReadOnly( true );
+			final List<Category> categories = session.byMultipleIds( Category.class )
+					.withParallelism( 4 )
+					.multiLoad( categoryIds() );
+
+			assertThat( categories ).hasSize( COUNT );
+			assertThat( statistics.getSessionOpenCount() ).isEqualTo( 5 );
+			for ( Category category : categories ) {
+				assertThat( session.isReadOnly( category ) ).isTrue();
+			}
+			categories.get( 1 ).name = "changed";
+		} );
+
+		scope.inTransaction( (session) -> {
+			assertThat( session.find( Category.class, 2 ).name ).isEqualTo( "category 2" );
+		} );
+	}
+
+	private static List<Integer> categoryIds() {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 1; i <= COUNT; i++ ) {
+			ids.add( i );
+		}
+		return ids;
+	}
+
+	@Entity( name = "Category" )
+	public static class Category {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Category() {
+		}
+
+		public Category(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Product" )
+	@Immutable
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne( fetch = FetchType.LAZY )
+		private Category category;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, Category category) {
+			this.id = id;
+			this.name = name;
+			this.category = category;
+		}
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.SelectionQuery;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = { StreamingQueryTest.Author.class, StreamingQueryTest.Document.class } )
+@SessionFactory
+public class StreamingQueryTest {
+	private static final int COUNT = 50;
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Author author = new Author( 1L, "author" );
+			session.persist( author );
+			for ( long i = 0; i < COUNT; i++ ) {
+				final Document document = new Document( i, "document " + i );
+				document.author = author;
+				document.tags.add( "tag " + i );
+				session.persist( document );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createQuery( "from Document", Document.class ).list().forEach( session::remove );
+			session.createQuery( "from Author", Author.class ).list().forEach( session::remove );
+		} );
+	}
+
+	@Test
+	public void testStreamedEntitiesAreEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final List<Document> documents = new ArrayList<>();
+			try ( Stream<Document> stream = session
+					.createSelectionQuery( "from Document d join fetch d.tags order by d.id", Document.class )
+					.setHint( HibernateHints.HINT_STREAMING, true )
+					.stream() ) {
+				stream.forEach( (document) -> {
+					assertThat( session.contains( document ) ).isTrue();
+					assertThat( document.tags ).containsExactly( "tag " + document.id );
+					if ( !documents.isEmpty() ) {
+						assertThat( session.contains( documents.get( documents.size() - 1 ) ) ).isFalse();
+					}
+					assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+					documents.add( document );
+				} );
+			}
+
+			assertThat( documents ).hasSize( COUNT );
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isZero();
+			assertThat( session.getPersistenceContextInternal().getLoadContexts().isLoadingFinished() ).isTrue();
+		} );
+	}
+
+	@Test
+	public void testManagedEntitiesAreNotEvicted(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Document first = session.find( Document.class, 0L );
+			try ( Stream<Document> stream = session
+					.createSelectionQuery( "from Document d order by d.id", Document.class )
+					.setHint( HibernateHints.HINT_STREAMING, true )
+					.stream() ) {
+				assertThat( stream.count() ).isEqualTo( COUNT );
+			}
+			assertThat( session.contains( first ) ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testEvictionDoesNotCascade(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final Author author = session.find( Author.class, 1L );
+			try ( Stream<Document> stream = session
+					.createSelectionQuery( "from Document d order by d.id", Document.class )
+					.setHint( HibernateHints.HINT_STREAMING, true )
+					.stream() ) {
+				stream.forEach( (document) -> assertThat( document.author ).isSameAs( author ) );
+			}
+			assertThat( session.contains( author ) ).isTrue();
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( 1 );
+		} );
+	}
+
+	@Test
+	public void testStreamingFetchSizeOnlyAppliesToExecution(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			final SelectionQuery<Document> query = session
+					.createSelectionQuery( "from Document d order by d.id", Document.class )
+					.setHint( HibernateHints.HINT_STREAMING, true );
+			try ( Stream<Document> stream = query.stream() ) {
+				assertThat( stream.count() ).isEqualTo( COUNT );
+			}
+			assertThat( query.getFetchSize() ).isNull();
+		} );
+	}
+
+	@Test
+	public void testEntitiesStayManagedWithoutHint(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			try ( Stream<Document> stream = session
+					.createSelectionQuery( "from Document d order by d.id", Document.class )
+					.stream() ) {
+				assertThat( stream.count() ).isEqualTo( COUNT );
+			}
+			assertThat( session.getPersistenceContextInternal().getNumberOfManagedEntities() ).isEqualTo( COUNT );
+		} );
+	}
+
+	@Entity( name = "Author" )
+	public static class Author {
+		@Id
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity( name = "Document" )
+	public static class Document {
+		@Id
+		private Long id;
+		private String title;
+		@ManyToOne( fetch = FetchType.LAZY, cascade = CascadeType.DETACH )
+		private Author author;
+		@ElementCollection( fetch = FetchType.LAZY )
+		private List<String> tags = new ArrayList<>();
+
+		public Document() {
+		}
+
+		public Document(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.named;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.QUERY_STARTUP_CHECKING, value = "false" ),
+		@Setting( name = AvailableSettings.QUERY_STARTUP_WARM_UP, value = "true" ),
+		@Setting( name = AvailableSettings.GENERATE_STATISTICS, value = "true" )
+} )
+@DomainModel( annotatedClasses = NamedQueryWarmUpTest.Book.class )
+@SessionFactory
+public class NamedQueryWarmUpTest {
+
+	@Test
+	public void testNamedQueriesAreInterpretedAtStartup(SessionFactoryScope scope) {
+		final QueryInterpretationCache interpretationCache = scope.getSessionFactory()
+				.getQueryEngine()
+				.getInterpretationCache();
+		// the broken query is not cached, and did not prevent the SessionFactory from starting
+		assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 4 );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( (session) -> {
+			session.createNamedQuery( "all" ).list();
+			session.createNamedQuery( "byTitle" ).setParameter( "title", "title" ).list();
+			session.createNamedQuery( "byIsbn" ).setParameter( "isbn", "isbn" ).list();
+			session.createNamedQuery( "count" ).getSingleResult();
+		} );
+		// one hit for each HQL interpretation and one for each select plan, which was translated at startup
+		assertThat( statistics.getQueryPlanCacheHitCount() ).isEqualTo( 8 );
+		assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+		assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 4 );
+
+		scope.inTransaction( (session) -> {
+			assertThatThrownBy( () -> session.createNamedQuery( "broken" ) ).isInstanceOf( IllegalArgumentException.class );
+		} );
+	}
+
+	@Test
+	public void testTranslatedNamedQueriesAreExecutedWithTheirBindings(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.persist( new Book( 1L, "Hibernate in Action", "1932394-15-X" ) );
+			session.persist( new Book( 2L, "Java Persistence with Hibernate", "1932394-88-5" ) );
+		} );
+		try {
+			final Statistics statistics = scope.getSessionFactory().getStatistics();
+			statistics.clear();
+			scope.inTransaction( (session) -> {
+				assertThat( session.createNamedQuery( "byTitle" ).setParameter( "title", "Hibernate in Action" ).list() )
+						.extracting( "id" ).containsExactly( 1L );
+				assertThat( session.createNamedQuery( "byIsbn" ).setParameter( "isbn", "1932394-88-5" ).list() )
+						.extracting( "id" ).containsExactly( 2L );
+				assertThat( session.createNamedQuery( "count" ).getSingleResult() ).isEqualTo( 2L );
+			} );
+			assertThat( statistics.getQueryPlanCacheMissCount() ).isEqualTo( 0 );
+		}
+		finally {
+			scope.inTransaction( (session) -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+		}
+	}
+
+	@Entity( name = "Book" )
+	@NamedQuery( name = "all", query = "from Book" )
+	@NamedQuery( name = "byTitle", query = "from Book where title = :title" )
+	@NamedQuery( name = "byIsbn", query = "from Book where isbn = :isbn" )
+	@NamedQuery( name = "count", query = "select count(*) from Book" )
+	@NamedQuery( name = "broken", query = "from Book where author = :author" )
+	public static class Book {
+		@Id
+		private Long id;
+		private String title;
+		private String isbn;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, String isbn) {
+			this.id = id;
+			this.title = title;
+			this.isbn = isbn;
+		}
+	}
+}
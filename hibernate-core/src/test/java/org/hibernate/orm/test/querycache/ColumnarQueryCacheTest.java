@@ -0,0 +1,167 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.cache.internal.QueryResultsCacheImpl;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.sql.results.caching.internal.ColumnarCachedResults;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = ColumnarQueryCacheTest.Measurement.class )
+@SessionFactory( generateStatistics = true )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true" ),
+		@Setting( name = AvailableSettings.USE_QUERY_CACHE, value = "true" ),
+		@Setting(
+				name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.querycache.ColumnarQueryCacheTest$RecordingRegionFactory"
+		)
+} )
+public class ColumnarQueryCacheTest {
+	private static final String QUERY = "select m.id, m.sampleCount, m.reading, m.validated, m.station, m.measuredOn"
+			+ " from Measurement m order by m.id";
+
+	private static final List<List<?>> cachedResults = new CopyOnWriteArrayList<>();
+
+	@BeforeAll
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			for ( long i = 1; i <= 20; i++ ) {
+				final Measurement measurement = new Measurement();
+				measurement.id = i;
+				measurement.sampleCount = i % 3 == 0 ? null : (int) i * 10;
+				measurement.reading = i % 4 == 0 ? null : i / 8d;
+				measurement.validated = i % 5 == 0 ? null : i % 2 == 0;
+				measurement.station = i % 6 == 0 ? null : "station " + i % 3;
+				measurement.measuredOn = LocalDate.of( 2023, 1, (int) i );
+				session.persist( measurement );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Measurement" ).executeUpdate() );
+	}
+
+	@Test
+	public void testCachedResultsAreReadFromColumns(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		cachedResults.clear();
+
+		final List<Object[]> fromDatabase = scope.fromTransaction( (session) -> session
+				.createSelectionQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.list() );
+		assertThat( statistics.getQueryCachePutCount() ).isEqualTo( 1 );
+		assertThat( cachedResults ).hasSize( 1 );
+		final List<?> cached = cachedResults.get( 0 );
+		assertThat( cached.get( cached.size() - 1 ) ).isInstanceOf( ColumnarCachedResults.class );
+
+		final List<Object[]> fromCache = scope.fromTransaction( (session) -> session
+				.createSelectionQuery( QUERY, Object[].class )
+				.setCacheable( true )
+				.list() );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+
+		assertThat( fromCache ).hasSize( 20 );
+		for ( int i = 0; i < fromDatabase.size(); i++ ) {
+			assertThat( fromCache.get( i ) ).containsExactly( fromDatabase.get( i ) );
+		}
+	}
+
+	@Test
+	public void testColumnarLayout() {
+		final List<Object[]> rows = new ArrayList<>();
+		rows.add( new Object[] { 1, 1L, 1.5d, true, "a", 'x', null } );
+		rows.add( new Object[] { null, 2L, null, false, "a", 'y', null } );
+		rows.add( new Object[] { 3, null, 3.5d, null, null, null, null } );
+		rows.add( new Object[] { 4, 4L, 4.5d, true, "a", 'z', null } );
+
+		final ColumnarCachedResults results = ColumnarCachedResults.from( rows, 7 );
+		assertThat( results.getRowCount() ).isEqualTo( 4 );
+		assertThat( results.getColumnCount() ).isEqualTo( 7 );
+		for ( int row = 0; row < rows.size(); row++ ) {
+			assertThat( results.getRow( row ) ).containsExactly( rows.get( row ) );
+			for ( int column = 0; column < 7; column++ ) {
+				assertThat( results.getValue( row, column ) ).isEqualTo( rows.get( row )[column] );
+			}
+		}
+	}
+
+	@Test
+	public void testBooleanColumn() {
+		// deserialized values are not the canonical instances
+		final Boolean deserializedTrue = (Boolean) SerializationHelper.clone( Boolean.TRUE );
+		final Boolean deserializedFalse = (Boolean) SerializationHelper.clone( Boolean.FALSE );
+		assertThat( deserializedTrue ).isNotSameAs( Boolean.TRUE );
+
+		final List<Object[]> rows = new ArrayList<>();
+		rows.add( new Object[] { deserializedTrue } );
+		rows.add( new Object[] { deserializedFalse } );
+		rows.add( new Object[] { null } );
+		rows.add( new Object[] { Boolean.TRUE } );
+
+		final ColumnarCachedResults results = ColumnarCachedResults.from( rows, 1 );
+		assertThat( results.getValue( 0, 0 ) ).isEqualTo( true );
+		assertThat( results.getValue( 1, 0 ) ).isEqualTo( false );
+		assertThat( results.getValue( 2, 0 ) ).isNull();
+		assertThat( results.getValue( 3, 0 ) ).isEqualTo( true );
+	}
+
+	public static class RecordingRegionFactory extends CachingRegionFactory {
+		@Override
+		protected StorageAccess createQueryResultsRegionStorageAccess(
+				String regionName,
+				SessionFactoryImplementor sessionFactory) {
+			return new MapStorageAccessImpl() {
+				@Override
+				public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+					cachedResults.add( ( (QueryResultsCacheImpl.CacheItem) value ).getResults() );
+					super.putIntoCache( key, value, session );
+				}
+			};
+		}
+	}
+
+	@Entity( name = "Measurement" )
+	public static class Measurement {
+		@Id
+		private Long id;
+		private Integer sampleCount;
+		private Double reading;
+		private Boolean validated;
+		private String station;
+		private LocalDate measuredOn;
+	}
+}
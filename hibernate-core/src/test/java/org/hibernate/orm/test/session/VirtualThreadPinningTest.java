@@ -0,0 +1,147 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.session;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cfg.AvailableSettings.SHOW_SQL;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs thousands of sessions on virtual threads and verifies that JFR does not
+ * report any virtual thread being pinned to its carrier thread.
+ * <p>
+ * The virtual thread API is looked up reflectively, the test is skipped on JDKs
+ * without virtual threads.
+ */
+@RequiresDialect( H2Dialect.class )
+@ServiceRegistry( settings = @Setting( name = SHOW_SQL, value = "false" ) )
+@DomainModel( annotatedClasses = VirtualThreadPinningTest.Ticket.class )
+@SessionFactory
+public class VirtualThreadPinningTest {
+	private static final int SESSION_COUNT = 2_000;
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	@Test
+	public void testNoPinningWithConcurrentSessions(SessionFactoryScope scope) throws Exception {
+		final ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		assumeTrue( executor != null, "Virtual threads are not available" );
+
+		// the connection pool of the test environment does not wait for a connection to become available
+		final Semaphore connections = new Semaphore( 4 );
+		final Path dump = Files.createTempFile( "virtual-thread-pinning", ".jfr" );
+		try ( Recording recording = new Recording() ) {
+			recording.enable( PINNED_EVENT ).withoutThreshold().withStackTrace();
+			recording.start();
+
+			final List<Future<?>> futures = new ArrayList<>( SESSION_COUNT );
+			for ( int i = 0; i < SESSION_COUNT; i++ ) {
+				final int number = i;
+				futures.add( executor.submit( () -> {
+					connections.acquireUninterruptibly();
+					try {
+						scope.inTransaction( (session) -> {
+							final Ticket ticket = new Ticket( "ticket " + number );
+							session.persist( ticket );
+							session.flush();
+							session.clear();
+							assertThat( session.find( Ticket.class, ticket.id ) ).isNotNull();
+						} );
+					}
+					finally {
+						connections.release();
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 1, TimeUnit.MINUTES );
+			}
+
+			recording.stop();
+			recording.dump( dump );
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		final List<RecordedEvent> pinnedEvents;
+		try {
+			pinnedEvents = RecordingFile.readAllEvents( dump ).stream()
+					.filter( event -> PINNED_EVENT.equals( event.getEventType().getName() ) )
+					.collect( Collectors.toList() );
+		}
+		finally {
+			Files.delete( dump );
+		}
+		assertThat( pinnedEvents ).describedAs( "Pinned virtual threads: %s", pinnedEvents ).isEmpty();
+
+		final Long count = scope.fromTransaction(
+				(session) -> session.createSelectionQuery( "select count(*) from Ticket", Long.class ).getSingleResult()
+		);
+		assertThat( count ).isEqualTo( SESSION_COUNT );
+	}
+
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			// not available (or still a preview feature) on this JDK
+			return null;
+		}
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete Ticket" ).executeUpdate() );
+	}
+
+	@Entity( name = "Ticket" )
+	public static class Ticket {
+		@Id
+		@GeneratedValue( generator = "ticket_seq" )
+		@SequenceGenerator( name = "ticket_seq", allocationSize = 10 )
+		private Long id;
+		private String name;
+
+		public Ticket() {
+		}
+
+		public Ticket(String name) {
+			this.name = name;
+		}
+	}
+}
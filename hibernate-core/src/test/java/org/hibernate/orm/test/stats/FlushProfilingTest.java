@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.FlushStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DomainModel( annotatedClasses = { FlushProfilingTest.Parent.class, FlushProfilingTest.Child.class } )
+@ServiceRegistry( settings = @Setting( name = AvailableSettings.FLUSH_PROFILING, value = "true" ) )
+@SessionFactory( generateStatistics = true )
+public class FlushProfilingTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.getSessionFactory().getStatistics().setFlushProfilingEnabled( true );
+		scope.inTransaction( (session) -> {
+			session.createMutationQuery( "delete from Child" ).executeUpdate();
+			session.createMutationQuery( "delete from Parent" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFlushIsProfiledPerEntityType(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.isFlushProfilingEnabled() ).isTrue();
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			final Parent parent = new Parent( 1 );
+			parent.addChild( new Child( 1 ) );
+			parent.addChild( new Child( 2 ) );
+			session.persist( parent );
+			session.flush();
+
+			final Map<String, FlushStatistics> flushStatistics = session.getStatistics().getFlushStatistics();
+			assertThat( flushStatistics ).containsOnlyKeys( "Parent", "Child" );
+
+			final FlushStatistics parentStatistics = flushStatistics.get( "Parent" );
+			assertThat( parentStatistics.getCascadeCount() ).isEqualTo( 1 );
+			assertThat( parentStatistics.getDirtyCheckCount() ).isEqualTo( 1 );
+			assertThat( parentStatistics.getCollectionFlushCount() ).isEqualTo( 1 );
+			assertThat( parentStatistics.getExecutionCount() ).isGreaterThanOrEqualTo( 1 );
+			assertThat( parentStatistics.getExecutionTime() ).isPositive();
+
+			final FlushStatistics childStatistics = flushStatistics.get( "Child" );
+			assertThat( childStatistics.getCascadeCount() ).isEqualTo( 2 );
+			assertThat( childStatistics.getDirtyCheckCount() ).isEqualTo( 2 );
+			assertThat( childStatistics.getCollectionFlushCount() ).isEqualTo( 0 );
+			assertThat( childStatistics.getExecutionCount() ).isEqualTo( 2 );
+		} );
+
+		// the flush at commit checks the entities again
+		assertThat( statistics.getFlushStatistics( "Parent" ).getDirtyCheckCount() ).isEqualTo( 2 );
+		assertThat( statistics.getFlushStatistics( "Child" ).getDirtyCheckCount() ).isEqualTo( 4 );
+		assertThat( statistics.getFlushStatistics( "Child" ).getExecutionCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testFlushProfilingCanBeDisabled(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.setFlushProfilingEnabled( false );
+		statistics.clear();
+
+		scope.inTransaction( (session) -> {
+			session.persist( new Parent( 2 ) );
+			session.flush();
+			assertThat( session.getStatistics().getFlushStatistics() ).isEmpty();
+		} );
+
+		assertThat( statistics.getFlushStatistics( "Parent" ).getDirtyCheckCount() ).isEqualTo( 0 );
+	}
+
+	@Entity( name = "Parent" )
+	public static class Parent {
+		@Id
+		Integer id;
+		@OneToMany( mappedBy = "parent", cascade = CascadeType.PERSIST )
+		List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Integer id) {
+			this.id = id;
+		}
+
+		void addChild(Child child) {
+			child.parent = this;
+			children.add( child );
+		}
+	}
+
+	@Entity( name = "Child" )
+	public static class Child {
+		@Id
+		Integer id;
+		@ManyToOne
+		Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stats;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.SlowQuerySample;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RequiresDialect( H2Dialect.class )
+@DomainModel( annotatedClasses = SlowQuerySamplingTest.Book.class )
+@ServiceRegistry( settings = {
+		@Setting( name = AvailableSettings.LOG_SLOW_QUERY, value = "10" ),
+		@Setting( name = AvailableSettings.SLOW_QUERY_SAMPLE_SIZE, value = "2" ),
+		@Setting( name = AvailableSettings.SLOW_QUERY_EXPLAIN, value = "true" )
+} )
+@SessionFactory( generateStatistics = true )
+public class SlowQuerySamplingTest {
+	private static final String SLOW_QUERY =
+			"select b from Book b where b.id in :ids and function('test_sleep', 20) = 20";
+
+	public static int sleep(int millis) throws InterruptedException {
+		Thread.sleep( millis );
+		return millis;
+	}
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createNativeMutationQuery(
+					"create alias if not exists test_sleep for \"" + SlowQuerySamplingTest.class.getName() + ".sleep\""
+			).executeUpdate();
+			for ( int id = 1; id <= 3; id++ ) {
+				session.persist( new Book( id, "Book #" + id ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSlowQueriesAreSampled(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createSelectionQuery( SLOW_QUERY, Book.class ).setParameter( "ids", List.of( 1 ) ).list();
+			session.createSelectionQuery( SLOW_QUERY, Book.class ).setParameter( "ids", List.of( 1, 2 ) ).list();
+			session.createSelectionQuery( SLOW_QUERY, Book.class ).setParameter( "ids", List.of( 1, 2, 3 ) ).list();
+			// not slow
+			session.createSelectionQuery( "select b from Book b where b.id = 1", Book.class ).list();
+		} );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+
+		// the lists of parameters are collapsed
+		assertThat( statistics.getSlowQueries() ).hasSize( 1 );
+		final QueryStatistics slowQueryStatistics = statistics.getSlowQueryStatistics( statistics.getSlowQueries()[0] );
+		assertThat( slowQueryStatistics.getExecutionCount() ).isEqualTo( 3 );
+		assertThat( slowQueryStatistics.getExecutionMinTime() ).isGreaterThan( 10 );
+		assertThat( Arrays.stream( slowQueryStatistics.getExecutionTimeHistogram() ).sum() ).isEqualTo( 3 );
+
+		// only the most recent executions are kept
+		final List<SlowQuerySample> samples = statistics.getSlowQuerySamples();
+		assertThat( samples ).hasSize( 2 );
+		assertThat( samples.get( 0 ).getParameterValues() ).containsExactly( "1", "2" );
+		assertThat( samples.get( 1 ).getParameterValues() ).containsExactly( "1", "2", "3" );
+		assertThat( samples.get( 1 ).getExecutionTime() ).isGreaterThan( 10 );
+		// only the first execution was explained
+		assertThat( samples.get( 0 ).getExecutionPlan() ).isNull();
+		assertThat( samples.get( 1 ).getExecutionPlan() ).isNull();
+
+		assertThat( Arrays.stream( statistics.getQueryStatistics( SLOW_QUERY ).getExecutionTimeHistogram() ).sum() )
+				.isEqualTo( 3 );
+	}
+
+	@Test
+	public void testSlowQueriesAreExplained(SessionFactoryScope scope) {
+		scope.inTransaction( (session) -> {
+			session.createSelectionQuery( SLOW_QUERY, Book.class ).setParameter( "ids", List.of( 1 ) ).list();
+		} );
+
+		final List<SlowQuerySample> samples = scope.getSessionFactory().getStatistics().getSlowQuerySamples();
+		assertThat( samples ).hasSize( 1 );
+		assertThat( samples.get( 0 ).getExecutionPlan() ).containsIgnoringCase( "book" );
+	}
+
+	@Entity( name = "Book" )
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
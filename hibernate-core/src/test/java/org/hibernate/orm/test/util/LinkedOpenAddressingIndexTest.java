@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.LinkedOpenAddressingIndex;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LinkedOpenAddressingIndexTest {
+	@Test
+	public void testInsertionOrder() {
+		final Index index = new Index();
+		assertTrue( index.isEmpty() );
+		index.put( "a", 1, "a".hashCode() );
+		index.put( "b", 2, "b".hashCode() );
+		index.put( "c", 3, "c".hashCode() );
+		index.put( "a", 4, "a".hashCode() );
+		assertEquals( List.of( "a", "b", "c" ), keys( index ) );
+		assertEquals( 4, index.valueAt( index.indexOf( "a".hashCode(), "a" ) ) );
+
+		index.remove( "b".hashCode(), "b" );
+		assertEquals( -1, index.indexOf( "b".hashCode(), "b" ) );
+		assertEquals( List.of( "a", "c" ), keys( index ) );
+		index.put( "b", 5, "b".hashCode() );
+		assertEquals( List.of( "a", "c", "b" ), keys( index ) );
+
+		index.remove( "a".hashCode(), "a" );
+		index.remove( "b".hashCode(), "b" );
+		index.remove( "c".hashCode(), "c" );
+		assertTrue( index.isEmpty() );
+		assertEquals( 0, index.end() );
+	}
+
+	@Test
+	public void testCollidingHashes() {
+		final Index index = new Index();
+		for ( int i = 0; i < 100; i++ ) {
+			index.put( "key" + i, i, i % 3 );
+		}
+		for ( int i = 0; i < 100; i += 2 ) {
+			index.remove( i % 3, "key" + i );
+		}
+		assertEquals( 50, index.size() );
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( i % 2 == 1, index.indexOf( i % 3, "key" + i ) >= 0 );
+		}
+	}
+
+	@Test
+	public void testRandomOperationsAgainstLinkedHashMap() {
+		final Random random = new Random( 42 );
+		final Index index = new Index();
+		final Map<String, Integer> expected = new LinkedHashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			final String key = Integer.toString( random.nextInt( 500 ) );
+			if ( random.nextInt( 3 ) == 0 ) {
+				index.remove( key.hashCode(), key );
+				expected.remove( key );
+			}
+			else {
+				index.put( key, i, key.hashCode() );
+				expected.put( key, i );
+			}
+		}
+		assertEquals( expected.size(), index.size() );
+		assertEquals( new ArrayList<>( expected.keySet() ), keys( index ) );
+		for ( Map.Entry<String, Integer> entry : expected.entrySet() ) {
+			final int position = index.indexOf( entry.getKey().hashCode(), entry.getKey() );
+			assertEquals( entry.getKey(), index.keyAt( position ) );
+			assertEquals( entry.getValue(), index.valueAt( position ) );
+		}
+		assertFalse( index.indexOf( "missing".hashCode(), "missing" ) >= 0 );
+	}
+
+	private static List<String> keys(Index index) {
+		final List<String> keys = new ArrayList<>();
+		for ( int position = index.start(); position < index.end(); position++ ) {
+			if ( index.keyAt( position ) != null ) {
+				keys.add( index.keyAt( position ) );
+			}
+		}
+		return keys;
+	}
+
+	private static class Index extends LinkedOpenAddressingIndex<String, Integer> {
+		@Override
+		protected boolean matches(String storedKey, Object probe) {
+			return storedKey.equals( probe );
+		}
+	}
+}
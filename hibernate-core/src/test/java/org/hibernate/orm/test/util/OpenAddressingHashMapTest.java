@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenAddressingHashMapTest {
+	@Test
+	public void testPutGetRemove() {
+		final OpenAddressingHashMap<String, Integer> map = new OpenAddressingHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( 1, map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( 3, map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertTrue( map.containsValue( 2 ) );
+		assertEquals( 2, map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertFalse( map.containsKey( "b" ) );
+		assertNull( map.get( null ) );
+		assertEquals( 1, map.size() );
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( "a" ) );
+	}
+
+	@Test
+	public void testCollidingKeys() {
+		final OpenAddressingHashMap<CollidingKey, Integer> map = new OpenAddressingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( new CollidingKey( i ), i );
+		}
+		assertEquals( 100, map.size() );
+		// removing from the middle of the cluster must keep the rest reachable
+		for ( int i = 0; i < 100; i += 2 ) {
+			assertEquals( i, map.remove( new CollidingKey( i ) ) );
+		}
+		assertEquals( 50, map.size() );
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( i % 2 == 0 ? null : i, map.get( new CollidingKey( i ) ) );
+		}
+	}
+
+	@Test
+	public void testAgainstHashMap() {
+		final Random random = new Random( 42 );
+		final OpenAddressingHashMap<Integer, Integer> map = new OpenAddressingHashMap<>();
+		final Map<Integer, Integer> expected = new HashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			final Integer key = random.nextInt( 5_000 );
+			if ( random.nextInt( 3 ) == 0 ) {
+				assertEquals( expected.remove( key ), map.remove( key ) );
+			}
+			else {
+				assertEquals( expected.put( key, i ), map.put( key, i ) );
+			}
+		}
+		assertEquals( expected, map );
+		assertEquals( expected.keySet(), map.keySet() );
+		assertEquals( expected.entrySet(), map.entrySet() );
+		final int[] count = { 0 };
+		map.forEach( (k, v) -> {
+			assertEquals( expected.get( k ), v );
+			count[0]++;
+		} );
+		assertEquals( expected.size(), count[0] );
+	}
+
+	@Test
+	public void testFailFastIteration() {
+		final OpenAddressingHashMap<Integer, Integer> map = new OpenAddressingHashMap<>();
+		map.put( 1, 1 );
+		map.put( 2, 2 );
+		final Iterator<Integer> iterator = map.values().iterator();
+		iterator.next();
+		map.put( 3, 3 );
+		assertThrows( ConcurrentModificationException.class, iterator::next );
+		assertThrows( UnsupportedOperationException.class, () -> map.values().iterator().remove() );
+	}
+
+	private static final class CollidingKey {
+		private final int value;
+
+		private CollidingKey(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof CollidingKey && ( (CollidingKey) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 1;
+		}
+	}
+}
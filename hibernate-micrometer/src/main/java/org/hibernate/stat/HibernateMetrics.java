@@ -9,6 +9,7 @@ package org.hibernate.stat;
 import io.micrometer.common.lang.NonNullApi;
 import io.micrometer.common.lang.NonNullFields;
 import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
@@ -22,6 +23,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A {@link MeterBinder} implementation that provides Hibernate metrics. It exposes the
@@ -332,6 +334,49 @@ public class HibernateMetrics implements MeterBinder {
 		counter(registry, "hibernate.cache.query.plan", "The global number of query plans lookups not found in cache",
 				Statistics::getQueryPlanCacheMissCount, "result", "miss"
 		);
+
+		// Flush profiling
+		if ( statistics.isFlushProfilingEnabled() ) {
+			for ( String entityName : statistics.getEntityNames() ) {
+				flushTimer( registry, entityName, "cascade", "The time spent cascading from flushed entities",
+						FlushStatistics::getCascadeCount, FlushStatistics::getCascadeTime
+				);
+				flushTimer( registry, entityName, "dirty-check", "The time spent dirty checking flushed entities",
+						FlushStatistics::getDirtyCheckCount, FlushStatistics::getDirtyCheckTime
+				);
+				flushTimer( registry, entityName, "collections", "The time spent flushing the collections of flushed entities",
+						FlushStatistics::getCollectionFlushCount, FlushStatistics::getCollectionFlushTime
+				);
+				flushTimer( registry, entityName, "execution", "The time spent executing the actions of flushed entities",
+						FlushStatistics::getExecutionCount, FlushStatistics::getExecutionTime
+				);
+			}
+		}
+	}
+
+	private void flushTimer(
+			MeterRegistry registry,
+			String entityName,
+			String phase,
+			String description,
+			ToLongFunction<FlushStatistics> count,
+			ToDoubleFunction<FlushStatistics> totalTime) {
+		if ( this.statistics == null ) {
+			return;
+		}
+
+		// look the flush statistics up on each read, since clearing the statistics replaces them
+		FunctionTimer.builder(
+				"hibernate.flush.phase",
+				statistics,
+				s -> count.applyAsLong( s.getFlushStatistics( entityName ) ),
+				s -> totalTime.applyAsDouble( s.getFlushStatistics( entityName ) ),
+				TimeUnit.NANOSECONDS
+		)
+				.tags( tags )
+				.tags( "entity", entityName, "phase", phase )
+				.description( description )
+				.register( registry );
 	}
 
 	private boolean hasDomainDataRegionStatistics(String regionName) {
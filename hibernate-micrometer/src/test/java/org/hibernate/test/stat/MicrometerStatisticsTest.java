@@ -111,6 +111,9 @@ public class MicrometerStatisticsTest extends BaseCoreFunctionalTestCase {
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "hit").functionCounter());
 		Assert.assertNotNull(registry.get("hibernate.cache.query.plan").tags("result", "miss").functionCounter());
 
+		// Flush profiling disabled
+		verifyMeterNotFoundException("hibernate.flush.phase");
+
 		// prepare some test data...
 		Session session = openSession();
 		session.beginTransaction();
@@ -15,9 +15,11 @@ import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
@@ -38,6 +40,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.ClassPregenerator;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 
 import org.sonatype.plexus.build.incremental.BuildContext;
@@ -82,8 +85,12 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "enablePregeneration", defaultValue = "false")
+	private boolean enablePregeneration;
+
 	private boolean shouldApply() {
-		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
+		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement
+				|| enablePregeneration;
 	}
 
 	@Override
@@ -159,18 +166,21 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		final BytecodeProvider bytecodeProvider = buildDefaultBytecodeProvider();
 		try {
 			final Enhancer enhancer = bytecodeProvider.getEnhancer( enhancementContext );
+			final ClassPregenerator pregenerator = enablePregeneration ? new ClassPregenerator( classLoader ) : null;
 
 			for ( File file : sourceSet ) {
 
 				final byte[] enhancedBytecode = doEnhancement( file, enhancer );
 
-				if ( enhancedBytecode == null ) {
-					continue;
+				if ( enhancedBytecode != null ) {
+					writeOutEnhancedClass( enhancedBytecode, file );
+					if ( log.isDebugEnabled() ) {
+						log.debug( "Successfully enhanced class [" + file + "]" );
+					}
 				}
 
-				writeOutEnhancedClass( enhancedBytecode, file );
-				if ( log.isDebugEnabled() ) {
-					log.debug( "Successfully enhanced class [" + file + "]" );
+				if ( pregenerator != null ) {
+					pregenerate( file, pregenerator );
 				}
 			}
 		}
@@ -222,12 +232,16 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		return new URLClassLoader( urls.toArray( new URL[urls.size()] ), Enhancer.class.getClassLoader() );
 	}
 
+	private String determineClassName(File javaClassFile) {
+		return javaClassFile.getAbsolutePath().substring(
+				base.length() + 1,
+				javaClassFile.getAbsolutePath().length() - ".class".length()
+		).replace( File.separatorChar, '.' );
+	}
+
 	private byte[] doEnhancement(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
 		try {
-			String className = javaClassFile.getAbsolutePath().substring(
-					base.length() + 1,
-					javaClassFile.getAbsolutePath().length() - ".class".length()
-			).replace( File.separatorChar, '.' );
+			String className = determineClassName( javaClassFile );
 			ByteArrayOutputStream originalBytes = new ByteArrayOutputStream();
 			FileInputStream fileInputStream = new FileInputStream( javaClassFile );
 			try {
@@ -252,6 +266,42 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	private void pregenerate(File javaClassFile, ClassPregenerator pregenerator) throws MojoExecutionException {
+		final Map<String, byte[]> generatedClasses;
+		try {
+			generatedClasses = pregenerator.pregenerate(
+					determineClassName( javaClassFile ),
+					Files.readAllBytes( javaClassFile.toPath() )
+			);
+		}
+		catch (Exception e) {
+			String msg = "Unable to generate classes for class: " + javaClassFile.getName();
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+
+		for ( Map.Entry<String, byte[]> generatedClass : generatedClasses.entrySet() ) {
+			final File file = new File( base, generatedClass.getKey().replace( '.', File.separatorChar ) + ".class" );
+			try ( OutputStream outputStream = buildContext.newFileOutputStream( file ) ) {
+				outputStream.write( generatedClass.getValue() );
+			}
+			catch (IOException e) {
+				String msg = String.format( "Error writing generated class [%s] to file [%s]", generatedClass.getKey(), file.getAbsolutePath() );
+				if ( failOnError ) {
+					throw new MojoExecutionException( msg, e );
+				}
+				buildContext.addMessage( file, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+				continue;
+			}
+			if ( getLog().isDebugEnabled() ) {
+				getLog().debug( "Successfully generated class [" + file + "]" );
+			}
+		}
+	}
+
 	/**
 	 * Expects a directory.
 	 */
@@ -10,6 +10,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Map;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
@@ -22,6 +23,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.ClassPregenerator;
 import org.hibernate.cfg.Environment;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
 
@@ -48,20 +50,31 @@ public class EnhancementHelper {
 			project.getLogger().warn( "The 'enableDirtyTracking' configuration is deprecated and will be removed. Set the value to 'true' to get rid of this warning" );
 		}
 		final Enhancer enhancer = generateEnhancer( classLoader, ormDsl );
+		final ClassPregenerator pregenerator = enhancementDsl.getEnablePregeneration().get()
+				? new ClassPregenerator( classLoader )
+				: null;
 
-		walk( classesDir, classesDir, enhancer, project );
+		walk( classesDir, classesDir, enhancer, pregenerator, project );
 	}
 
-	private static void walk(File classesDir, File dir, Enhancer enhancer, Project project) {
+	private static void walk(
+			File classesDir,
+			File dir,
+			Enhancer enhancer,
+			ClassPregenerator pregenerator,
+			Project project) {
 		for ( File subLocation : dir.listFiles() ) {
 			if ( subLocation.isDirectory() ) {
-				walk( classesDir, subLocation, enhancer, project );
+				walk( classesDir, subLocation, enhancer, pregenerator, project );
 			}
 			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
 				final String className = determineClassName( classesDir, subLocation );
 				final long lastModified = subLocation.lastModified();
 
 				enhance( subLocation, className, enhancer, project );
+				if ( pregenerator != null ) {
+					pregenerate( classesDir, subLocation, className, pregenerator, project );
+				}
 
 				final boolean timestampReset = subLocation.setLastModified( lastModified );
 				if ( !timestampReset ) {
@@ -87,6 +100,32 @@ public class EnhancementHelper {
 		}
 	}
 
+	private static void pregenerate(
+			File classesDir,
+			File javaClassFile,
+			String className,
+			ClassPregenerator pregenerator,
+			Project project) {
+		final Map<String, byte[]> generatedClasses;
+		try {
+			generatedClasses = pregenerator.pregenerate( className, Files.readAllBytes( javaClassFile.toPath() ) );
+		}
+		catch (Exception e) {
+			throw new GradleException( "Unable to generate classes for class : " + className, e );
+		}
+
+		generatedClasses.forEach( (generatedClassName, bytecode) -> {
+			final File file = new File( classesDir, generatedClassName.replace( '.', File.separatorChar ) + ".class" );
+			try {
+				Files.write( file.toPath(), bytecode );
+			}
+			catch (IOException e) {
+				throw new GradleException( "Error writing generated class to file [" + file.getAbsolutePath() + "]", e );
+			}
+			project.getLogger().info( "Successfully generated class : " + generatedClassName );
+		} );
+	}
+
 	private static byte[] doEnhancement(File javaClassFile, String className, Enhancer enhancer) {
 		try {
 			return enhancer.enhance( className, Files.readAllBytes( javaClassFile.toPath() ) );
@@ -28,6 +28,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
+	private final Property<Boolean> enablePregeneration;
 
 
 	@Inject
@@ -38,6 +39,7 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project ).convention( false );
 		enableExtendedEnhancement = makeProperty( project ).convention( false );
+		enablePregeneration = makeProperty( project ).convention( false );
 	}
 
 	@SuppressWarnings( "UnstableApiUsage" )
@@ -52,7 +54,8 @@ public class EnhancementSpec {
 		return enableLazyInitialization.get()
 				|| enableDirtyTracking.get()
 				|| enableAssociationManagement.get()
-				|| enableExtendedEnhancement.get();
+				|| enableExtendedEnhancement.get()
+				|| enablePregeneration.get();
 	}
 
 	/**
@@ -83,6 +86,14 @@ public class EnhancementSpec {
 		return enableExtendedEnhancement;
 	}
 
+	/**
+	 * Whether the proxy and instantiator classes of entities and embeddables should be generated
+	 * at build time, rather than when the {@code SessionFactory} is built
+	 */
+	public Property<Boolean> getEnablePregeneration() {
+		return enablePregeneration;
+	}
+
 
 	/**
 	 * @deprecated See the Gradle property naming <a href="https://docs.gradle.org/current/userguide/lazy_configuration.html#lazy_configuration_faqs">guidelines</a>